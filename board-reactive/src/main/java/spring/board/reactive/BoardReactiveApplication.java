@@ -0,0 +1,23 @@
+package spring.board.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+import spring.board.global.exception.GlobalExceptionHandler;
+import spring.board.global.jwt.service.JwtService;
+import spring.board.global.login.ratelimit.LoginRateLimiter;
+
+//== 로그인, 게시글 API의 non-blocking 버전 ==//
+//Netty의 이벤트 루프 스레드 몇 개로 요청을 처리하고, DB는 R2DBC로 기다리지 않고 조회한다.
+//bcrypt처럼 CPU를 오래 쓰는 작업만 크기가 정해진 별도 스레드(password-hash)에서 실행함
+//JWT 발급/검증, 예외 응답, 로그인 시도 횟수 제한은 서블릿 버전의 클래스를 그대로 사용함
+@Import({JwtService.class, GlobalExceptionHandler.class, LoginRateLimiter.class})
+@SpringBootApplication
+public class BoardReactiveApplication {
+	
+	public static void main(String[] args) {
+		SpringApplication.run(BoardReactiveApplication.class, args);
+	}
+
+}
@@ -0,0 +1,62 @@
+package spring.board.reactive.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import spring.board.global.password.BCryptCostCalibrator;
+import spring.board.global.password.CostAwareBCryptPasswordEncoder;
+
+//== 비밀번호 해시 설정, 서버 버전과 같은 형식({bcrypt})과 cost를 사용 ==//
+@Configuration
+public class PasswordHashConfig {
+	
+	private static final String BCRYPT_ID = "bcrypt";
+	
+	@Value("${password.bcrypt.strength:0}")
+	private int strength;
+	
+	@Value("${password.bcrypt.target-latency:250ms}")
+	private Duration targetLatency;
+	
+	@Value("${password.bcrypt.min-strength:10}")
+	private int minStrength;
+	
+	@Value("${password.bcrypt.max-strength:14}")
+	private int maxStrength;
+	
+	//== 해시를 계산하는 스레드 수와 기다릴 수 있는 작업 수, 0이면 CPU 코어 수 ==//
+	@Value("${password.hash.max-concurrent:0}")
+	private int maxConcurrent;
+	
+	@Value("${password.hash.max-queued:1000}")
+	private int maxQueued;
+	
+	//서블릿 버전은 semaphore로 동시 해시 수를 제한하지만, 여기서는 이벤트 루프를 막지 않도록 해시를 이 scheduler로 넘김
+	@Bean
+	public PasswordEncoder passwordEncoder() {
+		int bcryptStrength = strength > 0 ? strength : BCryptCostCalibrator.calibrate(targetLatency, minStrength, maxStrength);
+		
+		Map<String, PasswordEncoder> encoders = new HashMap<>();
+		encoders.put(BCRYPT_ID, new CostAwareBCryptPasswordEncoder(bcryptStrength));
+		DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(BCRYPT_ID, encoders);
+		delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+		return delegatingPasswordEncoder;
+	}
+	
+	//스레드는 maxConcurrent개까지, 기다리는 작업이 maxQueued개를 넘으면 거절함(RejectedExecutionException)
+	@Bean(destroyMethod = "dispose")
+	public Scheduler passwordHashScheduler() {
+		int threads = maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors();
+		return Schedulers.newBoundedElastic(threads, maxQueued, "password-hash");
+	}
+}
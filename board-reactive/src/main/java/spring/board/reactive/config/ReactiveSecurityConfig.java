@@ -0,0 +1,115 @@
+package spring.board.reactive.config;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.boot.actuate.autoconfigure.security.reactive.EndpointRequest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.savedrequest.NoOpServerRequestCache;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import spring.board.domain.member.Role;
+import spring.board.global.jwt.service.JwtService;
+import spring.board.global.login.ratelimit.LoginRateLimiter;
+import spring.board.reactive.jwt.JwtServerAuthenticationConverter;
+import spring.board.reactive.jwt.ReactiveTokenRevocationCache;
+import spring.board.reactive.login.JsonLoginAuthenticationConverter;
+import spring.board.reactive.login.JsonLoginFailureHandler;
+import spring.board.reactive.login.JwtLoginSuccessHandler;
+import spring.board.reactive.login.ReactiveLoginAuditor;
+import spring.board.reactive.login.ReactiveLoginService;
+
+//== SecurityConfig의 non-blocking 버전 ==//
+//1. POST /login: JSON body로 로그인하고 JWT를 발급함, 서블릿 버전과 같이 시도 횟수를 제한하고 감사 기록을 남김
+//2. 나머지 요청: access token으로 인증, 세션과 요청 캐시를 사용하지 않음
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+	
+	private static final String LOGIN_URL = "/login";
+	
+	private final ObjectMapper objectMapper;
+	private final JwtService jwtService;
+	private final ReactiveLoginService loginService;
+	private final ReactiveTokenRevocationCache tokenRevocationCache;
+	private final PasswordEncoder passwordEncoder;
+	private final Scheduler passwordHashScheduler;
+	private final LoginRateLimiter loginRateLimiter;
+	private final ReactiveLoginAuditor loginAuditor;
+	
+	@Bean
+	public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+		return http.formLogin().disable()
+				   .httpBasic().disable()
+				   .csrf().disable()
+				   .logout().disable()
+				   .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+				   .requestCache().requestCache(NoOpServerRequestCache.getInstance())
+				
+				   //인증되지 않은 요청은 서블릿 버전과 같이 403
+				   .and()
+				   .exceptionHandling().authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN))
+				
+				   .and()
+				   .authorizeExchange()
+				   .pathMatchers(HttpMethod.POST, LOGIN_URL).permitAll()
+				   .pathMatchers(HttpMethod.GET, "/posts", "/posts/**").permitAll()
+				   .matchers(EndpointRequest.to("health", "prometheus")).permitAll()
+				   .matchers(EndpointRequest.toAnyEndpoint()).hasRole(Role.ADMIN.name())
+				   .anyExchange().authenticated()
+				
+				   .and()
+				   .addFilterAt(jsonLoginFilter(), SecurityWebFiltersOrder.AUTHENTICATION)
+				   .addFilterAt(jwtAuthenticationFilter(), SecurityWebFiltersOrder.AUTHENTICATION)
+				   .build();
+	}
+	
+	//== 로그인 인증 ==//
+	//비밀번호 확인(bcrypt)은 이벤트 루프가 아니라 passwordHashScheduler에서 실행함
+	//scheduler의 대기열이 가득 차면 기다리지 않고 로그인 실패로 응답함
+	@Bean
+	public ReactiveAuthenticationManager loginAuthenticationManager() {
+		UserDetailsRepositoryReactiveAuthenticationManager authenticationManager = new UserDetailsRepositoryReactiveAuthenticationManager(loginService);
+		authenticationManager.setPasswordEncoder(passwordEncoder);
+		authenticationManager.setUserDetailsPasswordService(loginService);
+		authenticationManager.setScheduler(passwordHashScheduler);
+		return authentication -> authenticationManager.authenticate(authentication)
+													  .onErrorMap(RejectedExecutionException.class,
+															  	  e -> new AuthenticationServiceException("Password hash queue is full", e));
+	}
+	
+	private AuthenticationWebFilter jsonLoginFilter() {
+		AuthenticationWebFilter filter = new AuthenticationWebFilter(loginAuthenticationManager());
+		filter.setRequiresAuthenticationMatcher(ServerWebExchangeMatchers.pathMatchers(HttpMethod.POST, LOGIN_URL));
+		filter.setServerAuthenticationConverter(new JsonLoginAuthenticationConverter(objectMapper, loginRateLimiter));
+		filter.setAuthenticationSuccessHandler(new JwtLoginSuccessHandler(jwtService, objectMapper, loginAuditor));
+		filter.setAuthenticationFailureHandler(new JsonLoginFailureHandler(loginAuditor));
+		return filter;
+	}
+	
+	//== JWT 인증, 토큰은 converter에서 이미 검증했으므로 manager는 그대로 통과시킴 ==//
+	private AuthenticationWebFilter jwtAuthenticationFilter() {
+		AuthenticationWebFilter filter = new AuthenticationWebFilter((ReactiveAuthenticationManager) Mono::just);
+		filter.setServerAuthenticationConverter(new JwtServerAuthenticationConverter(jwtService, tokenRevocationCache));
+		return filter;
+	}
+}
@@ -0,0 +1,27 @@
+package spring.board.reactive.exception;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import spring.board.global.exception.ErrorResponse;
+
+//== GlobalExceptionHandler에 없는 WebFlux 예외 ==//
+//WebFlux의 @Valid 검증 실패는 BindException이 아니라 WebExchangeBindException이므로 같은 형식으로 따로 응답함
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+	
+	@ExceptionHandler(WebExchangeBindException.class)
+	public ResponseEntity<ErrorResponse> handleWebExchangeBindException(WebExchangeBindException e) {
+		String message = e.getFieldErrors().isEmpty() 
+					   ? e.getReason() 
+					   : e.getFieldErrors().get(0).getDefaultMessage();
+		return ResponseEntity.badRequest()
+							 .body(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), message));
+	}
+}
@@ -0,0 +1,33 @@
+package spring.board.reactive.jwt;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.web.server.ServerWebExchange;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import spring.board.global.jwt.service.JwtService;
+
+//== JwtAuthenticationProcessingFilter의 non-blocking 버전 ==//
+//access token의 claim만으로 인증 정보를 만들고, 무효화된 토큰은 ReactiveTokenRevocationCache로 확인함
+//토큰이 없거나 유효하지 않으면 빈 Mono를 반환해서 인증되지 않은 요청으로 처리함
+@RequiredArgsConstructor
+public class JwtServerAuthenticationConverter implements ServerAuthenticationConverter {
+	
+	private static final String BEARER = "Bearer ";
+	
+	private final JwtService jwtService;
+	private final ReactiveTokenRevocationCache tokenRevocationCache;
+	
+	@Override
+	public Mono<Authentication> convert(ServerWebExchange exchange) {
+		String header = exchange.getRequest().getHeaders().getFirst(jwtService.getAccessHeader());
+		if (header == null || !header.startsWith(BEARER)) {
+			return Mono.empty();
+		}
+		return Mono.justOrEmpty(jwtService.verifyAccessToken(header.substring(BEARER.length())))
+				   .filter(principal -> !tokenRevocationCache.isRevoked(principal))
+				   .map(principal -> new UsernamePasswordAuthenticationToken(principal, null, principal.getRole().getAuthorities()));
+	}
+}
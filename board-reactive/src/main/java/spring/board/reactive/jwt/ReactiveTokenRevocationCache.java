@@ -0,0 +1,109 @@
+package spring.board.reactive.jwt;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import spring.board.global.jwt.MemberPrincipal;
+import spring.board.global.jwt.revocation.LongLongHashMap;
+import spring.board.global.jwt.revocation.TokenDenylist;
+
+//== 서블릿 버전에서 무효화한 토큰(로그아웃, 비밀번호 변경) 목록 ==//
+//서블릿 버전이 저장한 TOKEN_WATERMARK, REVOKED_TOKEN 테이블을 주기적으로 다시 읽어서 통째로 바꾸고, 요청마다 메모리에서만 확인한다.
+//다시 읽는 주기만큼 늦게 반영되고, 읽지 못하면 이전 목록을 계속 사용함
+//시간은 서블릿 버전(Hibernate)과 같이 서버의 시간대로 저장되어 있다고 보고 변환함
+@Slf4j
+@Component
+public class ReactiveTokenRevocationCache {
+	
+	private static final String WATERMARKS_SQL = "select member_id, revoked_before from TOKEN_WATERMARK where revoked_before > :oldest";
+	private static final String REVOKED_TOKENS_SQL = "select token_id, expires_at from REVOKED_TOKEN where expires_at > :now";
+	
+	private final DatabaseClient databaseClient;
+	private final Duration refreshInterval;
+	private final Duration maxTokenLifetime;
+	private final Duration bucketSize;
+	
+	private volatile Snapshot snapshot;
+	private Disposable refresher;
+	
+	public ReactiveTokenRevocationCache(DatabaseClient databaseClient,
+										@Value("${jwt.revocation.refresh-interval:5s}") Duration refreshInterval,
+										@Value("${jwt.refresh.expiration:14d}") Duration maxTokenLifetime,
+										@Value("${jwt.revocation.bucket-size:10m}") Duration bucketSize) {
+		this.databaseClient = databaseClient;
+		this.refreshInterval = refreshInterval;
+		this.maxTokenLifetime = maxTokenLifetime;
+		this.bucketSize = bucketSize;
+		this.snapshot = new Snapshot(new LongLongHashMap(16), new TokenDenylist(bucketSize));
+	}
+	
+	@PostConstruct
+	public void start() {
+		refresher = Flux.interval(Duration.ZERO, refreshInterval)
+						.concatMap(tick -> refresh().onErrorResume(e -> {
+							log.warn("무효화된 토큰 목록을 읽지 못했습니다. 이전 목록을 사용합니다. {}", e.getMessage());
+							return Mono.empty();
+						}))
+						.subscribe();
+	}
+	
+	@PreDestroy
+	public void stop() {
+		refresher.dispose();
+	}
+	
+	public boolean isRevoked(MemberPrincipal token) {
+		Snapshot current = snapshot;
+		return token.getIssuedAt() < current.watermarks.get(token.getMemberId(), Long.MIN_VALUE)
+			|| current.denylist.contains(token.getTokenId(), token.getExpiresAt());
+	}
+	
+	public Mono<Void> refresh() {
+		LocalDateTime now = LocalDateTime.now();
+		
+		Mono<LongLongHashMap> watermarks = databaseClient.sql(WATERMARKS_SQL)
+														 .bind("oldest", now.minus(maxTokenLifetime))
+														 .map((row, metadata) -> Map.entry(row.get("member_id", Long.class), epochSecond(row.get("revoked_before", LocalDateTime.class))))
+														 .all()
+														 .collect(() -> new LongLongHashMap(16), (map, watermark) -> map.putIfGreater(watermark.getKey(), watermark.getValue()));
+		
+		Mono<TokenDenylist> denylist = databaseClient.sql(REVOKED_TOKENS_SQL)
+													 .bind("now", now)
+													 .map((row, metadata) -> Map.entry(row.get("token_id", String.class), epochSecond(row.get("expires_at", LocalDateTime.class))))
+													 .all()
+													 .collect(() -> new TokenDenylist(bucketSize), (list, token) -> list.add(token.getKey(), token.getValue()));
+		
+		return Mono.zip(watermarks, denylist)
+				   .doOnNext(loaded -> snapshot = new Snapshot(loaded.getT1(), loaded.getT2()))
+				   .then();
+	}
+	
+	private static long epochSecond(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+	}
+	
+	//한 번에 읽은 두 목록을 함께 바꿈
+	private static class Snapshot {
+		
+		private final LongLongHashMap watermarks;
+		private final TokenDenylist denylist;
+		
+		Snapshot(LongLongHashMap watermarks, TokenDenylist denylist) {
+			this.watermarks = watermarks;
+			this.denylist = denylist;
+		}
+	}
+}
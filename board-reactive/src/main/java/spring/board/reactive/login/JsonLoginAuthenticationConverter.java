@@ -0,0 +1,100 @@
+package spring.board.reactive.login;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import spring.board.global.login.ratelimit.LoginRateLimitExceededException;
+import spring.board.global.login.ratelimit.LoginRateLimiter;
+
+//== JsonUsernamePasswordAuthenticationFilter의 non-blocking 버전 ==//
+//body를 InputStream으로 기다리며 읽지 않고, 도착한 DataBuffer를 최대 크기까지 모은 뒤 username, password만 꺼낸다.
+//읽을 수 없는 요청은 AuthenticationServiceException으로 실패 처리함
+//서블릿 버전과 같이 body를 읽기 전에 IP, 읽은 후 DB 조회와 비밀번호 해시 전에 username 기준 시도 횟수를 확인함
+@RequiredArgsConstructor
+public class JsonLoginAuthenticationConverter implements ServerAuthenticationConverter {
+	
+	//로그인 요청 body의 최대 크기, 아이디와 비밀번호만 있으면 되므로 크게 잡지 않음
+	private static final int MAX_BODY_SIZE = 4 * 1024;
+	
+	private static final String USERNAME_KEY = "username";
+	private static final String PASSWORD_KEY = "password";
+	
+	private final ObjectMapper objectMapper;
+	private final LoginRateLimiter loginRateLimiter;
+	
+	@Override
+	public Mono<Authentication> convert(ServerWebExchange exchange) {
+		exchange.getAttributes().put(ReactiveLoginAuditor.START_TIME_ATTRIBUTE, System.nanoTime());
+		
+		MediaType contentType = exchange.getRequest().getHeaders().getContentType();
+		if (contentType == null || !MediaType.APPLICATION_JSON.isCompatibleWith(contentType)) {
+			return Mono.error(new AuthenticationServiceException("Authentication Content-Type not supported: " + contentType));
+		}
+		
+		//IP 기준 시도 횟수는 body를 읽기 전에 확인
+		String ip = ReactiveLoginAuditor.remoteAddress(exchange);
+		try {
+			if (ip != null) {
+				loginRateLimiter.checkIp(ip);
+			}
+		} catch (LoginRateLimitExceededException e) {
+			return Mono.error(e);
+		}
+		
+		return DataBufferUtils.join(exchange.getRequest().getBody(), MAX_BODY_SIZE)
+							  .switchIfEmpty(Mono.error(() -> new AuthenticationServiceException("Authentication request body is empty")))
+							  .onErrorMap(DataBufferLimitException.class, e -> new AuthenticationServiceException("Authentication request body too large", e))
+							  .map(this::parse)
+							  .doOnNext(authentication -> {
+								  String username = authentication.getName();
+								  exchange.getAttributes().put(ReactiveLoginAuditor.USERNAME_ATTRIBUTE, username);
+								  loginRateLimiter.checkUsername(username);
+							  });
+	}
+	
+	//필요 없는 필드는 객체나 배열이어도 통째로 건너뜀
+	private Authentication parse(DataBuffer body) {
+		String username = null;
+		String password = null;
+		try (InputStream inputStream = body.asInputStream(true);
+			 JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new AuthenticationServiceException("Authentication request body must be a JSON object");
+			}
+			
+			while ((username == null || password == null) && parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.getCurrentName();
+				JsonToken value = parser.nextToken();
+				
+				if (USERNAME_KEY.equals(fieldName) && value == JsonToken.VALUE_STRING) {
+					username = parser.getText();
+				} else if (PASSWORD_KEY.equals(fieldName) && value == JsonToken.VALUE_STRING) {
+					password = parser.getText();
+				} else {
+					parser.skipChildren();
+				}
+			}
+		} catch (IOException e) {
+			throw new AuthenticationServiceException("Authentication request body could not be read", e);
+		}
+		
+		//UserDetailsRepositoryReactiveAuthenticationManager는 null 아이디, 비밀번호를 확인하지 않으므로 빈 문자열로 바꿈
+		return new UsernamePasswordAuthenticationToken(username == null ? "" : username, password == null ? "" : password);
+	}
+}
@@ -0,0 +1,62 @@
+package spring.board.reactive.login;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.security.web.server.authentication.ServerAuthenticationFailureHandler;
+import org.springframework.web.server.ServerWebExchange;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import spring.board.global.login.audit.LoginOutcome;
+import spring.board.global.login.ratelimit.LoginRateLimitExceededException;
+
+//== LoginFailureHandler의 non-blocking 버전, 서블릿 버전과 같이 200 "fail"로 응답 ==//
+//시도 횟수를 초과한 경우 429와 다시 시도할 수 있는 시간을 응답함
+@Slf4j
+@RequiredArgsConstructor
+public class JsonLoginFailureHandler implements ServerAuthenticationFailureHandler {
+	
+	private static final byte[] FAIL = "fail".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] TOO_MANY_REQUESTS = "too many requests".getBytes(StandardCharsets.UTF_8);
+	
+	private final ReactiveLoginAuditor loginAuditor;
+	
+	@Override
+	public Mono<Void> onAuthenticationFailure(WebFilterExchange webFilterExchange, AuthenticationException exception) {
+		ServerWebExchange exchange = webFilterExchange.getExchange();
+		loginAuditor.record(exchange, exchange.getAttribute(ReactiveLoginAuditor.USERNAME_ATTRIBUTE), outcomeOf(exception));
+		
+		ServerHttpResponse response = exchange.getResponse();
+		if (exception instanceof LoginRateLimitExceededException rateLimitExceeded) {
+			log.info("로그인 시도 횟수를 초과했습니다.");
+			response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+			response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(rateLimitExceeded.getRetryAfterSeconds()));
+			return response.writeWith(Mono.just(response.bufferFactory().wrap(TOO_MANY_REQUESTS)));
+		}
+		
+		log.info("로그인에 실패했습니다. {}", exception.getMessage());
+		response.setStatusCode(HttpStatus.OK);
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(FAIL)));
+	}
+	
+	private static LoginOutcome outcomeOf(AuthenticationException exception) {
+		if (exception instanceof LoginRateLimitExceededException) {
+			return LoginOutcome.RATE_LIMITED;
+		}
+		if (exception instanceof InternalAuthenticationServiceException) {
+			return LoginOutcome.ERROR;
+		}
+		if (exception instanceof AuthenticationServiceException) {
+			return LoginOutcome.INVALID_REQUEST;
+		}
+		return LoginOutcome.BAD_CREDENTIALS;
+	}
+}
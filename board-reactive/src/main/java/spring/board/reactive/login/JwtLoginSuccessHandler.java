@@ -0,0 +1,60 @@
+package spring.board.reactive.login;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.security.web.server.authentication.ServerAuthenticationSuccessHandler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import spring.board.domain.member.service.MemberDetails;
+import spring.board.global.jwt.service.JwtService;
+import spring.board.global.login.audit.LoginOutcome;
+
+//== LoginSuccessJWTProvideHandler의 non-blocking 버전, 응답 형식(헤더, body)이 같음 ==//
+@Slf4j
+@RequiredArgsConstructor
+public class JwtLoginSuccessHandler implements ServerAuthenticationSuccessHandler {
+	
+	private static final String BEARER = "Bearer ";
+	
+	private final JwtService jwtService;
+	private final ObjectMapper objectMapper;
+	private final ReactiveLoginAuditor loginAuditor;
+	
+	@Override
+	public Mono<Void> onAuthenticationSuccess(WebFilterExchange webFilterExchange, Authentication authentication) {
+		MemberDetails memberDetails = (MemberDetails) authentication.getPrincipal();
+		loginAuditor.record(webFilterExchange.getExchange(), memberDetails.getUsername(), LoginOutcome.SUCCESS);
+		log.info("로그인에 성공합니다. JWT를 발급합니다. username: {}", memberDetails.getUsername());
+		
+		String accessToken = jwtService.createAccessToken(memberDetails.getMemberId(), memberDetails.getUsername(), memberDetails.getRole());
+		String refreshToken = jwtService.createRefreshToken(memberDetails.getMemberId(), memberDetails.getUsername(), memberDetails.getRole());
+		
+		ServerHttpResponse response = webFilterExchange.getExchange().getResponse();
+		response.setStatusCode(HttpStatus.OK);
+		response.getHeaders().set(jwtService.getAccessHeader(), BEARER + accessToken);
+		response.getHeaders().set(jwtService.getRefreshHeader(), BEARER + refreshToken);
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		try {
+			byte[] body = objectMapper.writeValueAsBytes(new TokenResponse(accessToken, refreshToken));
+			return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+		} catch (JsonProcessingException e) {
+			return Mono.error(e);
+		}
+	}
+	
+	@Getter
+	@RequiredArgsConstructor
+	private static class TokenResponse {
+		private final String accessToken;
+		private final String refreshToken;
+	}
+}
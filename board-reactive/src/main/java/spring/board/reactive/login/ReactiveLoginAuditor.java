@@ -0,0 +1,164 @@
+package spring.board.reactive.login;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import spring.board.global.login.audit.LoginAuditEvent;
+import spring.board.global.login.audit.LoginAuditRingBuffer;
+import spring.board.global.login.audit.LoginOutcome;
+
+//== LoginAuditor의 non-blocking 버전 ==//
+//로그인 핸들러는 서블릿 버전과 같은 lock-free 큐에 이벤트를 넣기만 하고, flush-interval마다 큐에서 꺼내서 R2DBC로 저장한다.
+//큐가 가득 차면 로그인을 기다리게 하지 않고 이벤트를 버리며 login.audit.dropped로 센다.
+//batch 하나는 한 트랜잭션으로 저장하므로 재시도해도 일부만 중복 저장되지 않음
+@Slf4j
+@Component
+public class ReactiveLoginAuditor {
+	
+	private static final String INSERT_SQL = "insert into LOGIN_AUDIT (username, ip, user_agent, outcome, latency_millis, occurred_at) "
+										   + "values (:username, :ip, :userAgent, :outcome, :latencyMillis, :occurredAt)";
+	
+	//== JsonLoginAuthenticationConverter가 남기는 exchange attribute ==//
+	public static final String START_TIME_ATTRIBUTE = ReactiveLoginAuditor.class.getName() + ".START_TIME";
+	public static final String USERNAME_ATTRIBUTE = ReactiveLoginAuditor.class.getName() + ".USERNAME";
+	
+	private final DatabaseClient databaseClient;
+	private final TransactionalOperator transactionalOperator;
+	private final LoginAuditRingBuffer<LoginAuditEvent> queue;
+	private final int batchSize;
+	private final Duration flushInterval;
+	private final int maxRetries;
+	
+	//== metrics ==//
+	private final Counter written;
+	private final Counter droppedQueueFull;
+	private final Counter droppedWriteFailed;
+	
+	private Disposable writer;
+	
+	public ReactiveLoginAuditor(DatabaseClient databaseClient,
+								TransactionalOperator transactionalOperator,
+								MeterRegistry meterRegistry,
+								@Value("${login.audit.capacity:8192}") int capacity,
+								@Value("${login.audit.batch-size:500}") int batchSize,
+								@Value("${login.audit.flush-interval:200ms}") Duration flushInterval,
+								@Value("${login.audit.max-retries:3}") int maxRetries) {
+		this.databaseClient = databaseClient;
+		this.transactionalOperator = transactionalOperator;
+		this.queue = new LoginAuditRingBuffer<>(capacity);
+		this.batchSize = batchSize;
+		this.flushInterval = flushInterval;
+		this.maxRetries = maxRetries;
+		
+		this.written = meterRegistry.counter("login.audit.written");
+		this.droppedQueueFull = meterRegistry.counter("login.audit.dropped", "reason", "queue-full");
+		this.droppedWriteFailed = meterRegistry.counter("login.audit.dropped", "reason", "write-failed");
+		Gauge.builder("login.audit.queue.size", queue, LoginAuditRingBuffer::size).register(meterRegistry);
+	}
+	
+	//== 이벤트 루프에서 호출, DB에 접근하거나 기다리지 않음 ==//
+	//걸린 시간은 JsonLoginAuthenticationConverter가 요청을 읽기 시작한 시간부터 계산함
+	public void record(ServerWebExchange exchange, String username, LoginOutcome outcome) {
+		Long startNanos = exchange.getAttribute(START_TIME_ATTRIBUTE);
+		long latencyMillis = startNanos == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+		record(new LoginAuditEvent(username, remoteAddress(exchange), exchange.getRequest().getHeaders().getFirst(HttpHeaders.USER_AGENT),
+								   outcome, latencyMillis, LocalDateTime.now()));
+	}
+	
+	public void record(LoginAuditEvent event) {
+		if (!queue.offer(event)) {
+			droppedQueueFull.increment();
+		}
+	}
+	
+	//concatMap으로 이전 저장이 끝난 후에 다음 저장을 시작하므로 큐에서 꺼내는 쪽은 항상 하나임
+	@PostConstruct
+	public void start() {
+		writer = Flux.interval(flushInterval)
+					 .onBackpressureDrop()
+					 .concatMap(tick -> flush(), 1)
+					 .subscribe();
+	}
+	
+	//서버가 종료될 때 큐에 남은 이벤트를 저장함
+	@PreDestroy
+	public void stop() {
+		writer.dispose();
+		flush().block(Duration.ofSeconds(10));
+	}
+	
+	//큐가 빌 때까지 batch 단위로 꺼내서 저장
+	public Mono<Void> flush() {
+		return Mono.fromSupplier(this::drain)
+				   .repeat()
+				   .takeWhile(batch -> !batch.isEmpty())
+				   .concatMap(this::write, 1)
+				   .then();
+	}
+	
+	private List<LoginAuditEvent> drain() {
+		List<LoginAuditEvent> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+		queue.drainTo(batch, batchSize);
+		return batch;
+	}
+	
+	//DB 장애 중에는 재시도하는 동안 큐가 차고, 가득 차면 새 이벤트를 버림(로그인은 계속 처리됨)
+	private Mono<Void> write(List<LoginAuditEvent> batch) {
+		return Flux.fromIterable(batch)
+				   .concatMap(this::insert)
+				   .then()
+				   .as(transactionalOperator::transactional)
+				   .retryWhen(Retry.backoff(maxRetries, flushInterval))
+				   .doOnSuccess(done -> written.increment(batch.size()))
+				   .onErrorResume(e -> {
+					   log.warn("로그인 감사 기록 {}건을 저장하지 못했습니다.", batch.size(), e);
+					   droppedWriteFailed.increment(batch.size());
+					   return Mono.empty();
+				   });
+	}
+	
+	private Mono<Void> insert(LoginAuditEvent event) {
+		DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT_SQL)
+															   .bind("outcome", event.getOutcome().name())
+															   .bind("latencyMillis", event.getLatencyMillis())
+															   .bind("occurredAt", event.getOccurredAt());
+		spec = bindNullable(spec, "username", event.getUsername());
+		spec = bindNullable(spec, "ip", event.getIp());
+		spec = bindNullable(spec, "userAgent", event.getUserAgent());
+		return spec.then();
+	}
+	
+	private static DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, String name, String value) {
+		return value == null ? spec.bindNull(name, String.class) : spec.bind(name, value);
+	}
+	
+	static String remoteAddress(ServerWebExchange exchange) {
+		InetSocketAddress address = exchange.getRequest().getRemoteAddress();
+		if (address == null) {
+			return null;
+		}
+		return address.getAddress() == null ? address.getHostString() : address.getAddress().getHostAddress();
+	}
+}
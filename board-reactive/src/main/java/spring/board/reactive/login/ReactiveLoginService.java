@@ -0,0 +1,37 @@
+package spring.board.reactive.login;
+
+import org.springframework.security.core.userdetails.ReactiveUserDetailsPasswordService;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import spring.board.domain.member.service.MemberDetails;
+import spring.board.reactive.member.ReactiveMemberRepository;
+
+//== LoginService의 non-blocking 버전 ==//
+//아이디로 회원을 조회해서 MemberDetails(회원 id, 권한 포함)로 반환함, 없으면 빈 Mono(인증 실패)
+//bcrypt cost가 바뀐 비밀번호는 로그인에 성공했을 때 새 cost로 다시 해시해서 저장함(updatePassword)
+//UserDetailsRepositoryReactiveAuthenticationManager는 비밀번호를 지우기 전의 UserDetails를 넘기므로 조회한 해시와 비교할 수 있음
+@Service
+@RequiredArgsConstructor
+public class ReactiveLoginService implements ReactiveUserDetailsService, ReactiveUserDetailsPasswordService {
+	
+	private final ReactiveMemberRepository memberRepository;
+	
+	@Override
+	public Mono<UserDetails> findByUsername(String username) {
+		return memberRepository.findByUsername(username)
+							   .map(MemberDetails::from);
+	}
+	
+	@Override
+	public Mono<UserDetails> updatePassword(UserDetails user, String newPassword) {
+		MemberDetails memberDetails = (MemberDetails) user;
+		//로그인하는 동안 비밀번호가 바뀌었으면 저장하지 않고 조회한 그대로 반환
+		return memberRepository.updatePassword(memberDetails.getMemberId(), memberDetails.getPassword(), newPassword)
+							   .map(updated -> updated == 0 ? user
+									   		 : new MemberDetails(memberDetails.getMemberId(), memberDetails.getUsername(), newPassword, memberDetails.getRole()));
+	}
+}
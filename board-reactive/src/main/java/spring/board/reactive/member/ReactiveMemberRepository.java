@@ -0,0 +1,56 @@
+package spring.board.reactive.member;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+
+//== MEMBER 테이블 조회, 테이블은 서블릿 버전(JPA)이 만든 것을 함께 사용함 ==//
+//Member는 JPA 엔티티이므로 Spring Data R2DBC로 매핑하지 않고 SQL 결과로 직접 만듦
+@Repository
+@RequiredArgsConstructor
+public class ReactiveMemberRepository {
+	
+	private static final String FIND_BY_USERNAME_SQL = 
+			"select member_id, username, password, name, nick_name, age, role from MEMBER where username = :username";
+	
+	//JPA로 수정하는 서블릿 버전과 같이 version을 올려서, 동시에 읽은 JPA 쪽 수정이 이 변경을 덮어쓰지 않도록 함
+	//로그인할 때 읽은 비밀번호가 그대로일 때만 바꿔서, 그 사이에 변경된 비밀번호를 이전 비밀번호의 해시로 되돌리지 않음
+	private static final String UPDATE_PASSWORD_SQL = 
+			"update MEMBER set password = :password, version = version + 1 where member_id = :memberId and password = :oldPassword";
+	
+	private final DatabaseClient databaseClient;
+	
+	public Mono<Member> findByUsername(String username) {
+		return databaseClient.sql(FIND_BY_USERNAME_SQL)
+							 .bind("username", username)
+							 .map((row, metadata) -> toMember(row))
+							 .one();
+	}
+	
+	//비밀번호가 이미 바뀌었으면 0을 반환
+	public Mono<Integer> updatePassword(Long memberId, String oldPassword, String encodedPassword) {
+		return databaseClient.sql(UPDATE_PASSWORD_SQL)
+							 .bind("password", encodedPassword)
+							 .bind("memberId", memberId)
+							 .bind("oldPassword", oldPassword)
+							 .fetch()
+							 .rowsUpdated();
+	}
+	
+	private static Member toMember(Row row) {
+		return Member.builder()
+					 .id(row.get("member_id", Long.class))
+					 .username(row.get("username", String.class))
+					 .password(row.get("password", String.class))
+					 .name(row.get("name", String.class))
+					 .nickName(row.get("nick_name", String.class))
+					 .age(row.get("age", Integer.class))
+					 .role(Role.valueOf(row.get("role", String.class)))
+					 .build();
+	}
+}
@@ -0,0 +1,57 @@
+package spring.board.reactive.post;
+
+import java.net.URI;
+
+import javax.validation.Valid;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import spring.board.domain.post.dto.PostInfoDto;
+import spring.board.domain.post.dto.PostSaveDto;
+import spring.board.domain.post.dto.PostSliceDto;
+import spring.board.domain.post.dto.PostViewsDto;
+import spring.board.domain.post.service.PostService;
+import spring.board.global.jwt.MemberPrincipal;
+
+//PostController와 같은 URL, 같은 응답
+@RestController
+@RequiredArgsConstructor
+public class ReactivePostController {
+	
+	private final ReactivePostService postService;
+	
+	//== 게시글 작성, 로그인한 회원만 가능 ==//
+	@PostMapping("/posts")
+	public Mono<ResponseEntity<Void>> save(@AuthenticationPrincipal MemberPrincipal principal, @Valid @RequestBody PostSaveDto postSaveDto) {
+		return postService.save(principal.getMemberId(), postSaveDto)
+						  .map(postId -> ResponseEntity.created(URI.create("/posts/" + postId)).build());
+	}
+	
+	//== 게시글 목록, cursor가 없으면 최신 게시글부터 조회 ==//
+	@GetMapping("/posts")
+	public Mono<PostSliceDto> getPosts(@RequestParam(required = false) String cursor,
+									   @RequestParam(defaultValue = "" + PostService.DEFAULT_PAGE_SIZE) int size) {
+		return postService.getPosts(cursor, size);
+	}
+	
+	//== 게시글 상세 조회 ==//
+	@GetMapping("/posts/{postId}")
+	public Mono<PostInfoDto> getPost(@PathVariable Long postId) {
+		return postService.getPost(postId);
+	}
+	
+	//== 게시글 조회수 ==//
+	@GetMapping("/posts/{postId}/views")
+	public Mono<PostViewsDto> getViews(@PathVariable Long postId) {
+		return postService.getViews(postId);
+	}
+}
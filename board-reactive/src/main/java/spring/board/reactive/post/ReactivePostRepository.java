@@ -0,0 +1,97 @@
+package spring.board.reactive.post;
+
+import java.time.LocalDateTime;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import spring.board.domain.post.dto.PostInfoDto;
+import spring.board.domain.post.dto.PostSummaryDto;
+
+//== POST 테이블 조회, PostRepository의 쿼리를 SQL로 옮김 ==//
+//목록은 (created_date, post_id) keyset 페이징, 작성자는 join으로 함께 조회함
+@Repository
+@RequiredArgsConstructor
+public class ReactivePostRepository {
+	
+	private static final String SUMMARY_COLUMNS = "select p.post_id, p.title, p.created_date, p.last_modified_date, m.nick_name from POST p join MEMBER m on m.member_id = p.writer_id ";
+	private static final String ORDER_BY = "order by p.created_date desc, p.post_id desc limit :limit";
+	
+	private static final String FIRST_PAGE_SQL = SUMMARY_COLUMNS + ORDER_BY;
+	private static final String NEXT_PAGE_SQL = SUMMARY_COLUMNS
+											  + "where p.created_date <= :createdDate and (p.created_date < :createdDate or p.post_id < :id) "
+											  + ORDER_BY;
+	
+	private static final String FIND_BY_ID_SQL = 
+			"select p.post_id, p.title, p.content, p.created_date, p.last_modified_date, m.member_id, m.nick_name "
+		  + "from POST p join MEMBER m on m.member_id = p.writer_id where p.post_id = :id";
+	
+	private static final String FIND_VIEWS_SQL = "select views from POST where post_id = :id";
+	
+	private static final String INSERT_SQL = 
+			"insert into POST (writer_id, title, content, views, created_date, last_modified_date) "
+		  + "values (:writerId, :title, :content, 0, :now, :now)";
+	
+	private final DatabaseClient databaseClient;
+	
+	public Flux<PostSummaryDto> findFirstPage(int limit) {
+		return databaseClient.sql(FIRST_PAGE_SQL)
+							 .bind("limit", limit)
+							 .map((row, metadata) -> toSummary(row))
+							 .all();
+	}
+	
+	public Flux<PostSummaryDto> findNextPage(LocalDateTime createdDate, Long id, int limit) {
+		return databaseClient.sql(NEXT_PAGE_SQL)
+							 .bind("createdDate", createdDate)
+							 .bind("id", id)
+							 .bind("limit", limit)
+							 .map((row, metadata) -> toSummary(row))
+							 .all();
+	}
+	
+	public Mono<PostInfoDto> findInfoById(Long id) {
+		return databaseClient.sql(FIND_BY_ID_SQL)
+							 .bind("id", id)
+							 .map((row, metadata) -> new PostInfoDto(row.get("post_id", Long.class),
+																	 row.get("title", String.class),
+																	 row.get("content", String.class),
+																	 row.get("member_id", Long.class),
+																	 row.get("nick_name", String.class),
+																	 row.get("created_date", LocalDateTime.class),
+																	 row.get("last_modified_date", LocalDateTime.class)))
+							 .one();
+	}
+	
+	//DB에 반영된 조회수
+	public Mono<Long> findViewsById(Long id) {
+		return databaseClient.sql(FIND_VIEWS_SQL)
+							 .bind("id", id)
+							 .map((row, metadata) -> row.get("views", Long.class))
+							 .one();
+	}
+	
+	//생성된 게시글 id를 반환함
+	public Mono<Long> save(Long writerId, String title, String content) {
+		return databaseClient.sql(INSERT_SQL)
+							 .bind("writerId", writerId)
+							 .bind("title", title)
+							 .bind("content", content)
+							 .bind("now", LocalDateTime.now())
+							 .filter(statement -> statement.returnGeneratedValues("post_id"))
+							 .map((row, metadata) -> row.get("post_id", Long.class))
+							 .one();
+	}
+	
+	private static PostSummaryDto toSummary(Row row) {
+		return new PostSummaryDto(row.get("post_id", Long.class),
+								  row.get("title", String.class),
+								  row.get("nick_name", String.class),
+								  row.get("created_date", LocalDateTime.class),
+								  row.get("last_modified_date", LocalDateTime.class));
+	}
+}
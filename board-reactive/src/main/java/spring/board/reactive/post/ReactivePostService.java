@@ -0,0 +1,59 @@
+package spring.board.reactive.post;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import spring.board.domain.post.dto.PostCursor;
+import spring.board.domain.post.dto.PostInfoDto;
+import spring.board.domain.post.dto.PostSaveDto;
+import spring.board.domain.post.dto.PostSliceDto;
+import spring.board.domain.post.dto.PostSummaryDto;
+import spring.board.domain.post.dto.PostViewsDto;
+import spring.board.domain.post.exception.PostNotFoundException;
+import spring.board.domain.post.service.PostService;
+
+//== PostService의 non-blocking 버전 ==//
+//조회수는 서블릿 버전의 PostViewCounter(메모리)에 모이므로 여기서는 증가시키지 않고 DB에 반영된 값만 응답함
+@Service
+@RequiredArgsConstructor
+public class ReactivePostService {
+	
+	private final ReactivePostRepository postRepository;
+	
+	public Mono<Long> save(Long writerId, PostSaveDto postSaveDto) {
+		return postRepository.save(writerId, postSaveDto.getTitle(), postSaveDto.getContent());
+	}
+	
+	public Mono<PostInfoDto> getPost(Long postId) {
+		return postRepository.findInfoById(postId)
+							 .switchIfEmpty(Mono.error(PostNotFoundException::new));
+	}
+	
+	public Mono<PostViewsDto> getViews(Long postId) {
+		return postRepository.findViewsById(postId)
+							 .map(views -> new PostViewsDto(postId, views))
+							 .switchIfEmpty(Mono.error(PostNotFoundException::new));
+	}
+	
+	//cursor가 없으면 첫 번째 페이지, 다음 페이지가 있는지 확인하기 위해 size + 1개를 조회함
+	public Mono<PostSliceDto> getPosts(String cursor, int size) {
+		int pageSize = Math.min(Math.max(size, 1), PostService.MAX_PAGE_SIZE);
+		
+		//cursor가 잘못되면 InvalidCursorException
+		Flux<PostSummaryDto> posts = cursor == null || cursor.isEmpty()
+				? postRepository.findFirstPage(pageSize + 1)
+				: Mono.fromCallable(() -> PostCursor.decode(cursor))
+					  .flatMapMany(postCursor -> postRepository.findNextPage(postCursor.getCreatedDate(), postCursor.getId(), pageSize + 1));
+		
+		return posts.collectList().map(list -> {
+			boolean hasNext = list.size() > pageSize;
+			if (hasNext) {
+				list = list.subList(0, pageSize);
+			}
+			String nextCursor = hasNext ? PostCursor.of(list.get(list.size() - 1)).encode() : null;
+			return new PostSliceDto(list, hasNext, nextCursor);
+		});
+	}
+}
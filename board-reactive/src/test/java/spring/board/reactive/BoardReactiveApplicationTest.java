@@ -0,0 +1,254 @@
+package spring.board.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import spring.board.domain.post.dto.PostSliceDto;
+import spring.board.reactive.jwt.ReactiveTokenRevocationCache;
+import spring.board.reactive.login.ReactiveLoginAuditor;
+import spring.board.reactive.member.ReactiveMemberRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+				properties = {"spring.r2dbc.url=r2dbc:h2:mem:///reactive-test;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+							  "spring.r2dbc.username=sa", "spring.r2dbc.password=",
+							  "spring.sql.init.mode=always",
+							  "password.bcrypt.strength=4",
+							  "jwt.revocation.refresh-interval=1h",
+							  "login.rate-limit.username.refill-interval=1h",
+							  "login.audit.flush-interval=1h"})	//테스트에서 직접 flush()를 호출함
+class BoardReactiveApplicationTest {
+	
+	private static final String USERNAME = "reactiveUser";
+	private static final String PASSWORD = "reactivePassword123";
+	private static final String ACCESS_HEADER = "Authorization";
+	
+	@Autowired WebTestClient webTestClient;
+	@Autowired DatabaseClient databaseClient;
+	@Autowired ReactiveTokenRevocationCache tokenRevocationCache;
+	@Autowired ReactiveMemberRepository memberRepository;
+	@Autowired ReactiveLoginAuditor loginAuditor;
+	@SpyBean PasswordEncoder passwordEncoder;
+	
+	@BeforeEach
+	private void init() {
+		databaseClient.sql("insert into MEMBER (username, password, name, nick_name, age, role) values (:username, :password, 'Member1', 'NickName1', 22, 'USER')")
+					  .bind("username", USERNAME)
+					  .bind("password", passwordEncoder.encode(PASSWORD))
+					  .then()
+					  .block();
+	}
+	
+	@AfterEach
+	private void after() {
+		loginAuditor.flush().block();
+		databaseClient.sql("delete from POST").then().block();
+		databaseClient.sql("delete from TOKEN_WATERMARK").then().block();
+		databaseClient.sql("delete from MEMBER").then().block();
+		databaseClient.sql("delete from LOGIN_AUDIT").then().block();
+		tokenRevocationCache.refresh().block();
+	}
+	
+	private WebTestClient.ResponseSpec login(String password) {
+		return login(USERNAME, password);
+	}
+	
+	private WebTestClient.ResponseSpec login(String username, String password) {
+		return webTestClient.post().uri("/login")
+							.contentType(MediaType.APPLICATION_JSON)
+							.bodyValue("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}")
+							.exchange();
+	}
+	
+	private Long memberId() {
+		return databaseClient.sql("select member_id from MEMBER where username = :username")
+							 .bind("username", USERNAME)
+							 .map((row, metadata) -> row.get("member_id", Long.class))
+							 .one()
+							 .block();
+	}
+	
+	private String accessToken() {
+		return login(PASSWORD).expectStatus().isOk()
+							  .returnResult(String.class)
+							  .getResponseHeaders()
+							  .getFirst(ACCESS_HEADER);
+	}
+	
+	private WebTestClient.ResponseSpec savePost(String accessToken, String title) {
+		WebTestClient.RequestBodySpec request = webTestClient.post().uri("/posts").contentType(MediaType.APPLICATION_JSON);
+		if (accessToken != null) {
+			request.header(ACCESS_HEADER, accessToken);
+		}
+		return request.bodyValue("{\"title\":\"" + title + "\",\"content\":\"content\"}").exchange();
+	}
+	
+	@Test
+	public void 로그인_성공_시_토큰_발급() throws Exception {
+		//given, when
+		WebTestClient.ResponseSpec response = login(PASSWORD);
+		
+		//then
+		response.expectStatus().isOk()
+				.expectHeader().value(ACCESS_HEADER, token -> assertThat(token).startsWith("Bearer "))
+				.expectBody().jsonPath("$.accessToken").isNotEmpty();
+	}
+	
+	@Test
+	public void 비밀번호가_틀리면_로그인_실패() throws Exception {
+		//given, when
+		WebTestClient.ResponseSpec response = login(PASSWORD + "1");
+		
+		//then
+		response.expectStatus().isOk()
+				.expectHeader().doesNotExist(ACCESS_HEADER)
+				.expectBody(String.class).isEqualTo("fail");
+	}
+	
+	@Test
+	public void 비밀번호_확인은_이벤트_루프가_아닌_별도_스레드에서_실행() throws Exception {
+		//given
+		AtomicReference<String> thread = new AtomicReference<>();
+		doAnswer(invocation -> {
+			thread.set(Thread.currentThread().getName());
+			return invocation.callRealMethod();
+		}).when(passwordEncoder).matches(any(), any());
+		
+		//when
+		login(PASSWORD).expectStatus().isOk();
+		
+		//then
+		assertThat(thread.get()).startsWith("password-hash");
+	}
+	
+	@Test
+	public void 게시글_작성_후_목록과_상세_조회() throws Exception {
+		//given
+		String accessToken = accessToken();
+		for (int i = 1; i <= 3; i++) {
+			savePost(accessToken, "title" + i).expectStatus().isCreated();
+		}
+		
+		//when
+		PostSliceDto first = webTestClient.get().uri("/posts?size=2").exchange()
+										  .expectStatus().isOk()
+										  .expectBody(PostSliceDto.class).returnResult().getResponseBody();
+		
+		//then
+		assertThat(first.isHasNext()).isTrue();
+		assertThat(first.getPosts()).hasSize(2);
+		assertThat(first.getPosts().get(0).getWriterNickName()).isEqualTo("NickName1");
+		
+		webTestClient.get().uri("/posts?size=2&cursor=" + first.getNextCursor()).exchange()
+					 .expectStatus().isOk()
+					 .expectBody().jsonPath("$.posts.length()").isEqualTo(1)
+					 			  .jsonPath("$.hasNext").isEqualTo(false);
+		
+		webTestClient.get().uri("/posts/" + first.getPosts().get(0).getPostId()).exchange()
+					 .expectStatus().isOk()
+					 .expectBody().jsonPath("$.title").isEqualTo(first.getPosts().get(0).getTitle());
+	}
+	
+	@Test
+	public void 없는_게시글과_잘못된_요청() throws Exception {
+		//given
+		String accessToken = accessToken();
+		
+		//when, then
+		webTestClient.get().uri("/posts/999999").exchange().expectStatus().isNotFound();
+		webTestClient.get().uri("/posts?cursor=wrong").exchange().expectStatus().isBadRequest();
+		savePost(accessToken, "").expectStatus().isBadRequest();
+	}
+	
+	@Test
+	public void 토큰이_없으면_게시글을_작성할_수_없음() throws Exception {
+		//given, when
+		WebTestClient.ResponseSpec response = savePost(null, "title");
+		
+		//then
+		response.expectStatus().isForbidden();
+	}
+	
+	@Test
+	public void 무효화된_토큰은_사용할_수_없음() throws Exception {
+		//given
+		String accessToken = accessToken();
+		Long memberId = memberId();
+		
+		//when : 서블릿 버전에서 비밀번호를 변경한 것과 같음
+		databaseClient.sql("insert into TOKEN_WATERMARK (member_id, revoked_before) values (:memberId, :revokedBefore)")
+					  .bind("memberId", memberId)
+					  .bind("revokedBefore", LocalDateTime.now().plusSeconds(1))
+					  .then()
+					  .block();
+		tokenRevocationCache.refresh().block();
+		
+		//then
+		savePost(accessToken, "title").expectStatus().isForbidden();
+		webTestClient.get().uri("/posts").header(HttpHeaders.AUTHORIZATION, accessToken).exchange().expectStatus().isOk();
+	}
+	
+	@Test
+	public void 같은_아이디로_시도_횟수를_넘으면_429() throws Exception {
+		//given : username별 허용 횟수(10)만큼 실패
+		for (int i = 0; i < 10; i++) {
+			login("limitedUser", PASSWORD).expectStatus().isOk();
+		}
+		
+		//when
+		WebTestClient.ResponseSpec response = login("limitedUser", PASSWORD);
+		
+		//then
+		response.expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+				.expectHeader().exists(HttpHeaders.RETRY_AFTER);
+	}
+	
+	@Test
+	public void 로그인_결과를_감사_기록으로_저장() throws Exception {
+		//given
+		login(PASSWORD).expectStatus().isOk();
+		login(PASSWORD + "1").expectStatus().isOk();
+		
+		//when
+		loginAuditor.flush().block();
+		
+		//then
+		List<String> outcomes = databaseClient.sql("select outcome from LOGIN_AUDIT where username = :username order by login_audit_id")
+											  .bind("username", USERNAME)
+											  .map((row, metadata) -> row.get("outcome", String.class))
+											  .all()
+											  .collectList()
+											  .block();
+		assertThat(outcomes).containsExactly("SUCCESS", "BAD_CREDENTIALS");
+	}
+	
+	@Test
+	public void 로그인하는_동안_비밀번호가_바뀌면_다시_해시하지_않음() throws Exception {
+		//given
+		Long memberId = memberId();
+		
+		//when : 로그인할 때 읽은 해시가 아닌 다른 해시로 바꾸려고 함
+		Integer updated = memberRepository.updatePassword(memberId, "{bcrypt}stale", passwordEncoder.encode("newPassword")).block();
+		
+		//then
+		assertThat(updated).isZero();
+		login(PASSWORD).expectStatus().isOk().expectHeader().exists(ACCESS_HEADER);
+	}
+}
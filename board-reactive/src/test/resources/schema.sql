@@ -0,0 +1,44 @@
+-- 서블릿 버전(JPA)이 만드는 테이블 중 이 모듈이 사용하는 테이블
+create table if not exists MEMBER (
+	member_id bigint auto_increment primary key,
+	created_date timestamp,
+	last_modified_date timestamp,
+	username varchar(30) not null unique,
+	password varchar(255),
+	name varchar(30) not null,
+	nick_name varchar(30) not null,
+	age integer not null,
+	role varchar(255),
+	version bigint default 0 not null
+);
+
+create table if not exists POST (
+	post_id bigint auto_increment primary key,
+	created_date timestamp,
+	last_modified_date timestamp,
+	writer_id bigint not null,
+	title varchar(100) not null,
+	content varchar(4000) not null,
+	views bigint not null
+);
+
+create table if not exists TOKEN_WATERMARK (
+	member_id bigint primary key,
+	revoked_before timestamp not null
+);
+
+create table if not exists REVOKED_TOKEN (
+	token_id varchar(36) primary key,
+	member_id bigint not null,
+	expires_at timestamp not null
+);
+
+create table if not exists LOGIN_AUDIT (
+	login_audit_id bigint auto_increment primary key,
+	username varchar(100),
+	ip varchar(45),
+	user_agent varchar(255),
+	outcome varchar(20) not null,
+	latency_millis bigint not null,
+	occurred_at timestamp not null
+);
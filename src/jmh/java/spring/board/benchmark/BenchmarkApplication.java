@@ -0,0 +1,30 @@
+package spring.board.benchmark;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import spring.board.SpringBoardApplication;
+
+//벤치마크에서 사용할 애플리케이션을 메모리 DB(H2)로 실행한다.
+//application.yml의 MariaDB 설정보다 우선하도록 command line 인자로 전달함
+//SecurityConfig가 웹 환경에서만 동작하므로 내장 서버도 함께 실행함(포트는 임의로 할당)
+final class BenchmarkApplication {
+	
+	private BenchmarkApplication() {
+	}
+	
+	static ConfigurableApplicationContext start(String name) {
+		return new SpringApplicationBuilder(SpringBoardApplication.class)
+				.run("--server.port=0",
+					 "--spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1",
+					 "--spring.datasource.driver-class-name=org.h2.Driver",
+					 "--spring.datasource.username=sa",
+					 "--spring.datasource.password=",
+					 "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+					 "--spring.jpa.show-sql=false",
+					 "--logging.level.root=warn",
+					 "--login.rate-limit.enabled=false",
+					 "--password.bcrypt.strength=4",
+					 "--search.rebuild.on-startup=false");
+	}
+}
@@ -0,0 +1,78 @@
+package spring.board.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.Filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.repository.MemberRepository;
+
+//Spring Security 필터 체인 전체를 MockMvc로 통과하는 비용
+//login: JSON 로그인(bcrypt cost 4) + JWT 발급, authenticated: JWT 검증 후 컨트롤러까지
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FilterChainBenchmark {
+	
+	private static final String USERNAME = "benchmarkUser";
+	private static final String PASSWORD = "benchmarkPassword123";
+	private static final String LOGIN_BODY = "{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}";
+	
+	private ConfigurableApplicationContext context;
+	private MockMvc mockMvc;
+	private String accessToken;
+	
+	@Setup
+	public void setup() throws Exception {
+		context = BenchmarkApplication.start("filter-chain");
+		PasswordEncoder passwordEncoder = context.getBean(PasswordEncoder.class);
+		context.getBean(MemberRepository.class).save(Member.builder()
+															.username(USERNAME)
+															.password(passwordEncoder.encode(PASSWORD))
+															.name("benchmark")
+															.nickName("benchmark")
+															.role(Role.USER)
+															.age(20)
+															.build());
+		
+		mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+								 .addFilters(context.getBean("springSecurityFilterChain", Filter.class))
+								 .build();
+		accessToken = login().getResponse().getHeader("Authorization");
+	}
+	
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+	
+	@Benchmark
+	public MvcResult login() throws Exception {
+		return mockMvc.perform(post("/login").contentType(MediaType.APPLICATION_JSON).content(LOGIN_BODY)).andReturn();
+	}
+	
+	@Benchmark
+	public MvcResult authenticated() throws Exception {
+		return mockMvc.perform(get("/search/members").param("q", "benchmark").header("Authorization", accessToken)).andReturn();
+	}
+}
@@ -0,0 +1,50 @@
+package spring.board.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import spring.board.global.login.filter.JsonUsernamePasswordAuthenticationFilter;
+import spring.board.global.login.ratelimit.LoginRateLimiter;
+
+//로그인 요청 본문(JSON)을 읽어서 인증 토큰을 만드는 비용
+//AuthenticationManager는 받은 토큰을 그대로 돌려주므로 bcrypt와 DB 조회는 포함하지 않는다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonLoginFilterBenchmark {
+	
+	private static final byte[] BODY = "{\"username\":\"benchmarkUser\",\"password\":\"benchmarkPassword123\"}".getBytes(StandardCharsets.UTF_8);
+	
+	private JsonUsernamePasswordAuthenticationFilter filter;
+	
+	@Setup
+	public void setup() {
+		LoginRateLimiter loginRateLimiter = new LoginRateLimiter(new SimpleMeterRegistry(), false,
+																 100, Duration.ofMillis(500), 10, Duration.ofSeconds(6), 100_000);
+		filter = new JsonUsernamePasswordAuthenticationFilter(new ObjectMapper(), loginRateLimiter);
+		filter.setAuthenticationManager(authentication -> authentication);
+	}
+	
+	@Benchmark
+	public Authentication attemptAuthentication() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+		request.setContentType("application/json");
+		request.setContent(BODY);
+		return filter.attemptAuthentication(request, new MockHttpServletResponse());
+	}
+}
@@ -0,0 +1,64 @@
+package spring.board.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.cache.MemberUserDetailsCache;
+import spring.board.domain.member.repository.MemberRepository;
+import spring.board.domain.member.service.LoginService;
+
+//LoginService.loadUserByUsername의 비용, 캐시에 있는 경우와 매번 DB(H2)에서 조회하는 경우를 비교함
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoginServiceBenchmark {
+	
+	private static final String USERNAME = "benchmarkUser";
+	
+	private ConfigurableApplicationContext context;
+	private LoginService loginService;
+	private MemberUserDetailsCache memberUserDetailsCache;
+	
+	@Setup
+	public void setup() {
+		context = BenchmarkApplication.start("login-service");
+		context.getBean(MemberRepository.class).save(Member.builder()
+															.username(USERNAME)
+															.password("{noop}benchmarkPassword123")
+															.name("benchmark")
+															.nickName("benchmark")
+															.role(Role.USER)
+															.age(20)
+															.build());
+		loginService = context.getBean(LoginService.class);
+		memberUserDetailsCache = context.getBean(MemberUserDetailsCache.class);
+	}
+	
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+	
+	@Benchmark
+	public UserDetails cached() {
+		return loginService.loadUserByUsername(USERNAME);
+	}
+	
+	@Benchmark
+	public UserDetails uncached() {
+		memberUserDetailsCache.evictAll();
+		return loginService.loadUserByUsername(USERNAME);
+	}
+}
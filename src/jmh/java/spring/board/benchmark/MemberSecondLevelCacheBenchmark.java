@@ -0,0 +1,79 @@
+package spring.board.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Cache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.repository.MemberRepository;
+
+//회원 조회의 비용, 2차 캐시(JCache + Caffeine)에 있는 경우와 매번 캐시를 비우고 DB(H2)에서 조회하는 경우를 비교함
+//트랜잭션 없이 호출하므로 조회마다 새 영속성 컨텍스트를 사용하고, 1차 캐시의 영향을 받지 않음
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemberSecondLevelCacheBenchmark {
+	
+	private static final String USERNAME = "benchmarkUser";
+	
+	private ConfigurableApplicationContext context;
+	private MemberRepository memberRepository;
+	private Cache secondLevelCache;
+	private Long memberId;
+	
+	@Setup
+	public void setup() {
+		context = BenchmarkApplication.start("member-second-level-cache");
+		memberRepository = context.getBean(MemberRepository.class);
+		secondLevelCache = context.getBean(EntityManagerFactory.class).getCache().unwrap(Cache.class);
+		memberId = memberRepository.save(Member.builder()
+											   .username(USERNAME)
+											   .password("{noop}benchmarkPassword123")
+											   .name("benchmark")
+											   .nickName("benchmark")
+											   .role(Role.USER)
+											   .age(20)
+											   .build())
+								   .getId();
+	}
+	
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+	
+	@Benchmark
+	public Member findByIdCached() {
+		return memberRepository.findById(memberId).get();
+	}
+	
+	@Benchmark
+	public Member findByIdUncached() {
+		secondLevelCache.evictAllRegions();
+		return memberRepository.findById(memberId).get();
+	}
+	
+	//natural id 캐시로 id를 찾은 후 엔티티 캐시에서 읽음
+	@Benchmark
+	public Member findByUsernameCached() {
+		return memberRepository.findByUsername(USERNAME).get();
+	}
+	
+	@Benchmark
+	public Member findByUsernameUncached() {
+		secondLevelCache.evictAllRegions();
+		return memberRepository.findByUsername(USERNAME).get();
+	}
+}
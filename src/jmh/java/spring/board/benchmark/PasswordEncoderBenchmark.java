@@ -0,0 +1,41 @@
+package spring.board.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+//로그인마다 한 번씩 실행되는 DelegatingPasswordEncoder.matches의 bcrypt cost별 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+	
+	private static final String PASSWORD = "benchmarkPassword123";
+	
+	@Param({"4", "8", "10", "12"})
+	private int strength;
+	
+	private DelegatingPasswordEncoder passwordEncoder;
+	private String encoded;
+	
+	@Setup
+	public void setup() {
+		passwordEncoder = new DelegatingPasswordEncoder("bcrypt", Collections.singletonMap("bcrypt", new BCryptPasswordEncoder(strength)));
+		encoded = passwordEncoder.encode(PASSWORD);
+	}
+	
+	@Benchmark
+	public boolean matches() {
+		return passwordEncoder.matches(PASSWORD, encoded);
+	}
+}
@@ -0,0 +1,91 @@
+package spring.board.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.Filter;
+import javax.servlet.GenericServlet;
+import javax.servlet.Servlet;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.context.WebApplicationContext;
+
+//로그인 없이 사용하는 요청(GET /posts/1) 하나가 보안 필터를 통과하는 비용, 컨트롤러는 실행하지 않음
+//none: 필터 없음(요청 객체를 만드는 비용)
+//api: 전체 체인, 체인을 나누기 전에는 모든 요청이 이 필터들을 통과했음
+//public: 로그인 없이 사용하는 경로의 체인
+//proxy: FilterChainProxy를 통과, 체인을 고르는 비용까지 포함한 실제 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SecurityFilterChainBenchmark {
+	
+	private static final Servlet NO_OP_SERVLET = new GenericServlet() {
+		
+		private static final long serialVersionUID = 1L;
+		
+		@Override
+		public void service(ServletRequest request, ServletResponse response) {
+		}
+	};
+	
+	@Param({"none", "api", "public", "proxy"})
+	private String chain;
+	
+	private ConfigurableApplicationContext context;
+	private ServletContext servletContext;
+	private Filter[] filters;
+	
+	@Setup
+	public void setup() {
+		context = BenchmarkApplication.start("security-filter-chain");
+		servletContext = ((WebApplicationContext) context).getServletContext();
+		
+		FilterChainProxy filterChainProxy = context.getBean(FilterChainProxy.class);
+		List<SecurityFilterChain> chains = filterChainProxy.getFilterChains();
+		switch (chain) {
+			case "none":
+				filters = new Filter[0];
+				break;
+			case "api":
+				filters = chains.get(chains.size() - 1).getFilters().toArray(new Filter[0]);
+				break;
+			case "public":
+				filters = chains.get(0).getFilters().toArray(new Filter[0]);
+				break;
+			default:
+				filters = new Filter[] {filterChainProxy};
+		}
+	}
+	
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+	
+	@Benchmark
+	public MockHttpServletResponse publicRequest() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", "/posts/1");
+		request.setServletPath("/posts/1");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		new MockFilterChain(NO_OP_SERVLET, filters).doFilter(request, response);
+		return response;
+	}
+}
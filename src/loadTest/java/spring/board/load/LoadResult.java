@@ -0,0 +1,43 @@
+package spring.board.load;
+
+import java.util.Arrays;
+
+//== 한 번의 부하 측정 결과 ==//
+//maxInFlight: 서버에서 동시에 처리 중이던 요청 수의 최대값
+//peakThreads: 측정하는 동안 JVM의 플랫폼 스레드 수의 최대값(가상 스레드는 포함되지 않음)
+class LoadResult {
+	
+	private final long[] latencies;
+	private final int failures;
+	private final double throughput;
+	private final int maxInFlight;
+	private final int peakThreads;
+	
+	LoadResult(long[] latencies, int failures, double throughput, int maxInFlight, int peakThreads) {
+		this.latencies = latencies.clone();
+		Arrays.sort(this.latencies);
+		this.failures = failures;
+		this.throughput = throughput;
+		this.maxInFlight = maxInFlight;
+		this.peakThreads = peakThreads;
+	}
+	
+	int failures() {
+		return failures;
+	}
+	
+	double percentile(double p) {
+		int index = (int) Math.ceil(p * latencies.length) - 1;
+		return latencies[Math.max(index, 0)] / 1_000_000.0;
+	}
+	
+	static void printHeader() {
+		System.out.printf("%10s %10s %10s %10s %10s %14s %12s %8s%n",
+						  "mode", "p50(ms)", "p99(ms)", "max(ms)", "req/s", "max in-flight", "peak threads", "failed");
+	}
+	
+	void print(String mode) {
+		System.out.printf("%10s %10.2f %10.2f %10.2f %10.1f %14d %12d %8d%n",
+						  mode, percentile(0.5), percentile(0.99), percentile(1.0), throughput, maxInFlight, peakThreads, failures);
+	}
+}
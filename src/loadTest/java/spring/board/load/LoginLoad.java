@@ -0,0 +1,80 @@
+package spring.board.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//== 로그인 부하 클라이언트, 가상 스레드로 concurrency개의 요청을 동시에 보냄 ==//
+//서버의 스레드 수를 비교할 수 있도록 HttpClient도 가상 스레드에서 응답을 처리함
+class LoginLoad {
+	
+	private final HttpClient client = HttpClient.newBuilder()
+												.version(HttpClient.Version.HTTP_1_1)
+												.connectTimeout(Duration.ofSeconds(10))
+												.executor(Executors.newVirtualThreadPerTaskExecutor())
+												.build();
+	private final HttpRequest request;
+	private final int concurrency;
+	private final AtomicInteger failures = new AtomicInteger();
+	
+	LoginLoad(URI uri, String username, String password, int concurrency) {
+		String body = "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}";
+		this.request = HttpRequest.newBuilder(uri)
+								  .header("Content-Type", "application/json")
+								  .timeout(Duration.ofSeconds(30))
+								  .POST(HttpRequest.BodyPublishers.ofString(body))
+								  .build();
+		this.concurrency = concurrency;
+	}
+	
+	//요청마다 응답 시간(ns)을 반환함
+	long[] send(int count) throws InterruptedException {
+		long[] latencies = new long[count];
+		Semaphore permits = new Semaphore(concurrency);
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < count; i++) {
+				permits.acquire();
+				int index = i;
+				executor.execute(() -> {
+					try {
+						latencies[index] = login();
+					} finally {
+						permits.release();
+					}
+				});
+			}
+			executor.shutdown();
+			executor.awaitTermination(5, TimeUnit.MINUTES);
+		}
+		return latencies;
+	}
+	
+	int failures() {
+		return failures.get();
+	}
+	
+	void resetFailures() {
+		failures.set(0);
+	}
+	
+	private long login() {
+		long start = System.nanoTime();
+		try {
+			HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+			if (response.statusCode() != 200 || response.headers().firstValue("Authorization").isEmpty()) {
+				failures.incrementAndGet();
+			}
+		} catch (IOException | InterruptedException e) {
+			failures.incrementAndGet();
+		}
+		return System.nanoTime() - start;
+	}
+}
@@ -0,0 +1,166 @@
+package spring.board.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import spring.board.SpringBoardApplication;
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.repository.MemberRepository;
+
+//플랫폼 스레드(Tomcat 스레드 풀)와 가상 스레드 모드에서 같은 부하로 로그인을 요청하고
+//p99 응답 시간과 서버에서 동시에 처리 중이던 요청 수, 스레드 수의 최대값을 비교한다.
+//./gradlew loadTest -Dload.concurrency=800 -Dload.requests=20000 처럼 부하를 바꿔서 실행할 수 있다.
+class LoginLoadTest {
+	
+	static final int CONCURRENCY = Integer.getInteger("load.concurrency", 400);
+	static final int REQUESTS = Integer.getInteger("load.requests", 4_000);
+	static final int WARMUP = Integer.getInteger("load.warmup", 500);
+	static final int BCRYPT_STRENGTH = Integer.getInteger("load.bcrypt-strength", 4);
+	
+	static final String USERNAME = "loadUser";
+	static final String PASSWORD = "loadPassword123";
+	
+	@Test
+	public void 플랫폼_스레드와_가상_스레드_로그인_비교() throws Exception {
+		LoadResult platform = run(false);
+		LoadResult virtual = run(true);
+		
+		System.out.printf("%n동시 요청 %d, 요청 수 %d, bcrypt cost %d%n", CONCURRENCY, REQUESTS, BCRYPT_STRENGTH);
+		LoadResult.printHeader();
+		platform.print("platform");
+		virtual.print("virtual");
+		
+		//bcrypt 자리를 password.hash.acquire-timeout 안에 얻지 못한 요청은 실패로 응답하므로 실패 수도 함께 비교함
+		assertThat(platform.failures()).isLessThan(REQUESTS);
+		assertThat(virtual.failures()).isLessThan(REQUESTS);
+	}
+	
+	private LoadResult run(boolean virtualThreads) throws Exception {
+		String mode = virtualThreads ? "virtual" : "platform";
+		ConfigurableApplicationContext context = startServer(virtualThreads, "load-" + mode);
+		try {
+			saveLoadUser(context);
+			int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+			InFlightProbe probe = context.getBean(InFlightProbe.class);
+			return measure(URI.create("http://localhost:" + port + "/login"), probe::reset, probe::maxInFlight);
+		} finally {
+			context.close();
+		}
+	}
+	
+	//== 서블릿 버전 서버를 H2(jdbc:h2:mem:{database})로 실행 ==//
+	//application.yml의 MariaDB 설정보다 우선하도록 command line 인자로 전달함
+	//loadTest 클래스패스에는 board-reactive 모듈도 있으므로 그 패키지는 component scan에서 제외하고 R2DBC 설정도 끔
+	static ConfigurableApplicationContext startServer(boolean virtualThreads, String database) {
+		return new SpringApplicationBuilder(SpringBoardApplication.class, InFlightProbe.class)
+				.initializers(context -> context.getBeanFactory().registerSingleton("reactiveModuleExcludeFilter", new ReactiveModuleExcludeFilter()))
+				.run("--server.port=0",
+					 "--spring.threads.virtual.enabled=" + virtualThreads,
+					 "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+					 "--spring.datasource.driver-class-name=org.h2.Driver",
+					 "--spring.datasource.username=sa",
+					 "--spring.datasource.password=",
+					 "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+					 "--spring.jpa.show-sql=false",
+					 "--spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration",
+					 "--logging.level.org.apache.coyote.http11=info",
+					 "--login.rate-limit.enabled=false",
+					 "--password.bcrypt.strength=" + BCRYPT_STRENGTH,
+					 "--search.rebuild.on-startup=false");
+	}
+	
+	static void saveLoadUser(ConfigurableApplicationContext context) {
+		PasswordEncoder passwordEncoder = context.getBean(PasswordEncoder.class);
+		context.getBean(MemberRepository.class).save(Member.builder()
+															.username(USERNAME)
+															.password(passwordEncoder.encode(PASSWORD))
+															.name("load")
+															.nickName("load")
+															.role(Role.USER)
+															.age(20)
+															.build());
+	}
+	
+	//워밍업 후 REQUESTS개의 로그인을 보내고 결과를 반환함, resetProbe와 maxInFlight는 서버 쪽 요청 수 측정
+	static LoadResult measure(URI uri, Runnable resetProbe, IntSupplier maxInFlight) throws InterruptedException {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		LoginLoad load = new LoginLoad(uri, USERNAME, PASSWORD, CONCURRENCY);
+		load.send(WARMUP);
+		load.resetFailures();
+		resetProbe.run();
+		threads.resetPeakThreadCount();
+		
+		long start = System.nanoTime();
+		long[] latencies = load.send(REQUESTS);
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+		
+		return new LoadResult(latencies, load.failures(), REQUESTS / seconds, maxInFlight.getAsInt(), threads.getPeakThreadCount());
+	}
+	
+	//board-reactive 모듈의 bean(WebFlux 보안 설정 등)을 서블릿 서버에 등록하지 않음
+	static class ReactiveModuleExcludeFilter extends TypeExcludeFilter {
+		
+		@Override
+		public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+			return metadataReader.getClassMetadata().getClassName().startsWith("spring.board.reactive.");
+		}
+	}
+	
+	//== 서버에서 동시에 처리 중인 요청 수를 세는 필터, Spring Security보다 먼저 실행됨 ==//
+	static class InFlightProbe extends OncePerRequestFilter {
+		
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private final AtomicInteger maxInFlight = new AtomicInteger();
+		
+		@Bean
+		static FilterRegistrationBean<InFlightProbe> inFlightProbeRegistration(InFlightProbe probe) {
+			FilterRegistrationBean<InFlightProbe> registration = new FilterRegistrationBean<>(probe);
+			registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+			return registration;
+		}
+		
+		void reset() {
+			maxInFlight.set(0);
+		}
+		
+		int maxInFlight() {
+			return maxInFlight.get();
+		}
+		
+		@Override
+		protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+				throws ServletException, IOException {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			try {
+				filterChain.doFilter(request, response);
+			} finally {
+				inFlight.decrementAndGet();
+			}
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package spring.board.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import reactor.core.publisher.Mono;
+import spring.board.reactive.BoardReactiveApplication;
+
+//서블릿 버전(Tomcat + JPA, 플랫폼 스레드)과 board-reactive 모듈(Netty + R2DBC)에 같은 부하로 로그인을 요청하고
+//p99 응답 시간, 처리량, 스레드 수의 최대값을 비교한다.
+//두 서버는 같은 H2 메모리 DB(같은 회원, 같은 bcrypt cost)를 차례로 사용함, 부하 설정은 LoginLoadTest와 같음
+//H2의 R2DBC 드라이버는 내장 DB를 호출한 스레드에서 바로 실행하므로, DB를 기다리는 시간의 차이는 MariaDB로 실행해야 드러남
+class ReactiveLoginLoadTest {
+	
+	private static final String DATABASE = "load-compare";
+	
+	@Test
+	public void 서블릿과_WebFlux_로그인_비교() throws Exception {
+		LoadResult servlet = runServlet();
+		LoadResult reactive = runReactive();
+		
+		System.out.printf("%n동시 요청 %d, 요청 수 %d, bcrypt cost %d%n",
+						  LoginLoadTest.CONCURRENCY, LoginLoadTest.REQUESTS, LoginLoadTest.BCRYPT_STRENGTH);
+		LoadResult.printHeader();
+		servlet.print("servlet");
+		reactive.print("reactive");
+		
+		//reactive는 password.hash.max-queued를 넘은 요청을 바로 실패로 응답하므로 실패 수도 함께 비교함
+		assertThat(servlet.failures()).isLessThan(LoginLoadTest.REQUESTS);
+		assertThat(reactive.failures()).isLessThan(LoginLoadTest.REQUESTS);
+	}
+	
+	//회원은 여기서 저장하고, JPA가 만든 테이블과 데이터는 DB_CLOSE_DELAY=-1로 서버를 닫은 후에도 남겨둠
+	private LoadResult runServlet() throws Exception {
+		ConfigurableApplicationContext context = LoginLoadTest.startServer(false, DATABASE);
+		try {
+			LoginLoadTest.saveLoadUser(context);
+			int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+			LoginLoadTest.InFlightProbe probe = context.getBean(LoginLoadTest.InFlightProbe.class);
+			return LoginLoadTest.measure(URI.create("http://localhost:" + port + "/login"), probe::reset, probe::maxInFlight);
+		} finally {
+			context.close();
+		}
+	}
+	
+	//루트 프로젝트의 JPA, DataSource 설정은 사용하지 않음
+	private LoadResult runReactive() throws Exception {
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(BoardReactiveApplication.class, InFlightProbe.class)
+				.web(WebApplicationType.REACTIVE)
+				.run("--server.port=0",
+					 "--spring.r2dbc.url=r2dbc:h2:mem:///" + DATABASE + ";DB_CLOSE_DELAY=-1",
+					 "--spring.r2dbc.username=sa",
+					 "--spring.r2dbc.password=",
+					 "--spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration,"
+					 						   + "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration",
+					 "--password.bcrypt.strength=" + LoginLoadTest.BCRYPT_STRENGTH);
+		try {
+			int port = ((ReactiveWebServerApplicationContext) context).getWebServer().getPort();
+			InFlightProbe probe = context.getBean(InFlightProbe.class);
+			return LoginLoadTest.measure(URI.create("http://localhost:" + port + "/login"), probe::reset, probe::maxInFlight);
+		} finally {
+			context.close();
+		}
+	}
+	
+	//== 서버에서 동시에 처리 중인 요청 수를 세는 WebFilter, Spring Security보다 먼저 실행됨 ==//
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	static class InFlightProbe implements WebFilter {
+		
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private final AtomicInteger maxInFlight = new AtomicInteger();
+		
+		void reset() {
+			maxInFlight.set(0);
+		}
+		
+		int maxInFlight() {
+			return maxInFlight.get();
+		}
+		
+		@Override
+		public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+			return Mono.defer(() -> {
+						   maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+						   return chain.filter(exchange);
+					   })
+					   .doFinally(signal -> inFlight.decrementAndGet());
+		}
+	}
+}
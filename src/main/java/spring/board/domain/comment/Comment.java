@@ -0,0 +1,62 @@
+package spring.board.domain.comment;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import spring.board.domain.BaseTimeEntity;
+import spring.board.domain.member.Member;
+import spring.board.domain.post.Post;
+
+//게시글의 댓글을 한 번에 조회하므로 (post_id, comment_id) 인덱스를 생성함
+@Table(name = "COMMENT", indexes = @Index(name = "idx_comment_post_id", columnList = "post_id, comment_id"))
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Comment extends BaseTimeEntity {
+	
+	//primary key, comment를 구별할 식별자
+	@Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "comment_id")
+	private Long id;
+	
+	//댓글이 달린 게시글
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "post_id", nullable = false)
+	private Post post;
+	
+	//작성자
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "writer_id", nullable = false)
+	private Member writer;
+	
+	//부모 댓글, 대댓글이 아니면 null
+	//자식 댓글 목록은 매핑하지 않고, 조회한 댓글들을 parent id로 묶어서 트리를 만듦
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "parent_id")
+	private Comment parent;
+	
+	//내용
+	@Column(nullable = false, length = 1000)
+	private String content;
+	
+	//== 정보 수정 메서드 == //
+	//내용 수정
+	public void updateContent(String content) {
+		this.content = content;
+	}
+}
@@ -0,0 +1,42 @@
+package spring.board.domain.comment.controller;
+
+import java.net.URI;
+import java.util.List;
+
+import javax.validation.Valid;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import spring.board.domain.comment.dto.CommentInfoDto;
+import spring.board.domain.comment.dto.CommentSaveDto;
+import spring.board.domain.comment.service.CommentService;
+import spring.board.global.jwt.MemberPrincipal;
+
+@RestController
+@RequiredArgsConstructor
+public class CommentController {
+	
+	private final CommentService commentService;
+	
+	//== 댓글 작성, parentId가 있으면 대댓글 ==//
+	@PostMapping("/posts/{postId}/comments")
+	public ResponseEntity<Void> save(@AuthenticationPrincipal MemberPrincipal principal,
+									 @PathVariable Long postId,
+									 @Valid @RequestBody CommentSaveDto commentSaveDto) {
+		Long commentId = commentService.save(principal.getMemberId(), postId, commentSaveDto);
+		return ResponseEntity.created(URI.create("/posts/" + postId + "/comments/" + commentId)).build();
+	}
+	
+	//== 게시글의 댓글 전체를 트리 형태로 조회 ==//
+	@GetMapping("/posts/{postId}/comments")
+	public List<CommentInfoDto> getComments(@PathVariable Long postId) {
+		return commentService.getComments(postId);
+	}
+}
@@ -0,0 +1,27 @@
+package spring.board.domain.comment.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+
+//댓글 조회 응답, 대댓글은 children에 담김
+@Getter
+public class CommentInfoDto {
+	
+	private final Long commentId;
+	private final String content;
+	private final Long writerId;
+	private final String writerNickName;
+	private final LocalDateTime createdDate;
+	private final List<CommentInfoDto> children = new ArrayList<>();
+	
+	public CommentInfoDto(CommentQueryDto comment) {
+		this.commentId = comment.getCommentId();
+		this.content = comment.getContent();
+		this.writerId = comment.getWriterId();
+		this.writerNickName = comment.getWriterNickName();
+		this.createdDate = comment.getCreatedDate();
+	}
+}
@@ -0,0 +1,20 @@
+package spring.board.domain.comment.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//댓글 목록을 조회할 때 JPQL의 new 연산자로 바로 만드는 DTO
+//엔티티를 조회하지 않으므로 작성자나 부모 댓글의 지연 로딩이 발생하지 않는다.
+@Getter
+@AllArgsConstructor
+public class CommentQueryDto {
+	
+	private final Long commentId;
+	private final Long parentId;
+	private final String content;
+	private final Long writerId;
+	private final String writerNickName;
+	private final LocalDateTime createdDate;
+}
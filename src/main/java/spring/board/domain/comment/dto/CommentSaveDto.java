@@ -0,0 +1,22 @@
+package spring.board.domain.comment.dto;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+//댓글 작성 요청, parentId가 있으면 대댓글
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CommentSaveDto {
+	
+	@NotBlank(message = "내용을 입력해주세요")
+	@Size(max = 1000, message = "댓글은 1000자 이하로 입력해주세요")
+	private String content;
+	
+	private Long parentId;
+}
@@ -0,0 +1,14 @@
+package spring.board.domain.comment.exception;
+
+import org.springframework.http.HttpStatus;
+
+import spring.board.global.exception.BaseException;
+
+public class CommentNotFoundException extends BaseException {
+
+	private static final long serialVersionUID = 1L;
+
+	public CommentNotFoundException() {
+		super(HttpStatus.NOT_FOUND, "댓글이 없습니다");
+	}
+}
@@ -0,0 +1,20 @@
+package spring.board.domain.comment.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import spring.board.domain.comment.Comment;
+import spring.board.domain.comment.dto.CommentQueryDto;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+	
+	//게시글의 모든 댓글을 작성자 정보와 함께 쿼리 한 번으로 조회함
+	//id 순서가 작성 순서이므로 부모 댓글이 항상 자식 댓글보다 먼저 나옴
+	@Query("select new spring.board.domain.comment.dto.CommentQueryDto(c.id, p.id, c.content, w.id, w.nickName, c.createdDate) "
+		 + "from Comment c join c.writer w left join c.parent p "
+		 + "where c.post.id = :postId order by c.id")
+	List<CommentQueryDto> findThreadByPostId(@Param("postId") Long postId);
+}
@@ -0,0 +1,84 @@
+package spring.board.domain.comment.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import spring.board.domain.comment.Comment;
+import spring.board.domain.comment.dto.CommentInfoDto;
+import spring.board.domain.comment.dto.CommentQueryDto;
+import spring.board.domain.comment.dto.CommentSaveDto;
+import spring.board.domain.comment.exception.CommentNotFoundException;
+import spring.board.domain.comment.repository.CommentRepository;
+import spring.board.domain.member.repository.MemberRepository;
+import spring.board.domain.post.Post;
+import spring.board.domain.post.exception.PostNotFoundException;
+import spring.board.domain.post.ranking.HotPostEvent;
+import spring.board.domain.post.ranking.HotPostRanking;
+import spring.board.domain.post.repository.PostRepository;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentService {
+	
+	private final CommentRepository commentRepository;
+	private final PostRepository postRepository;
+	private final MemberRepository memberRepository;
+	private final HotPostRanking hotPostRanking;
+	
+	@Transactional
+	public Long save(Long writerId, Long postId, CommentSaveDto commentSaveDto) {
+		Post post = postRepository.findById(postId).orElseThrow(PostNotFoundException::new);
+		
+		//대댓글이면 부모 댓글이 같은 게시글에 있는지 확인
+		Comment parent = null;
+		if (commentSaveDto.getParentId() != null) {
+			parent = commentRepository.findById(commentSaveDto.getParentId())
+									  .filter(comment -> comment.getPost().getId().equals(postId))
+									  .orElseThrow(CommentNotFoundException::new);
+		}
+		
+		Comment comment = Comment.builder()
+								 .post(post)
+								 .writer(memberRepository.getReferenceById(writerId))
+								 .parent(parent)
+								 .content(commentSaveDto.getContent())
+								 .build();
+		Long commentId = commentRepository.save(comment).getId();
+		
+		//인기 게시글 점수, 롤백되는 경우는 드물고 점수가 조금 높아질 뿐이므로 커밋을 기다리지 않음
+		hotPostRanking.record(postId, HotPostEvent.COMMENT);
+		return commentId;
+	}
+	
+	//게시글 존재 확인 1번, 댓글 조회 1번으로 댓글 수와 상관없이 쿼리 2번으로 조회함
+	public List<CommentInfoDto> getComments(Long postId) {
+		if (!postRepository.existsById(postId)) {
+			throw new PostNotFoundException();
+		}
+		
+		List<CommentQueryDto> comments = commentRepository.findThreadByPostId(postId);
+		
+		//부모 댓글이 먼저 조회되므로 한 번만 순회하면서 트리를 만들 수 있음
+		Map<Long, CommentInfoDto> commentMap = new HashMap<>(comments.size() * 2);
+		List<CommentInfoDto> roots = new ArrayList<>();
+		for (CommentQueryDto comment : comments) {
+			CommentInfoDto info = new CommentInfoDto(comment);
+			commentMap.put(comment.getCommentId(), info);
+			
+			CommentInfoDto parent = comment.getParentId() == null ? null : commentMap.get(comment.getParentId());
+			if (parent == null) {
+				roots.add(info);
+			} else {
+				parent.getChildren().add(info);
+			}
+		}
+		return roots;
+	}
+}
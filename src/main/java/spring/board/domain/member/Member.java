@@ -2,13 +2,21 @@ package spring.board.domain.member;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import javax.persistence.Version;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import lombok.AccessLevel;
@@ -17,22 +25,33 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import spring.board.domain.BaseTimeEntity;
+import spring.board.domain.member.cache.MemberCacheEvictListener;
+import spring.board.domain.search.listener.MemberSearchIndexListener;
  
-@Table(name = "MEMBER")
+@Table(name = "MEMBER", uniqueConstraints = @UniqueConstraint(name = Member.USERNAME_UNIQUE_KEY, columnNames = "username"))
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member") //2차 캐시, region 설정은 application.conf
+@NaturalIdCache(region = "member-natural-id")
+@EntityListeners({MemberCacheEvictListener.class, MemberSearchIndexListener.class}) //정보가 수정되면 로그인 캐시를 비우고 검색 색인에 반영함
+@DynamicUpdate //변경 감지로 update할 때 바뀐 컬럼만 씀(기본은 모든 컬럼)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Member extends BaseTimeEntity {
 	
+	//username의 unique 제약조건 이름, 회원가입에서 아이디 중복인지 구분할 때 사용함
+	public static final String USERNAME_UNIQUE_KEY = "uk_member_username";
+	
 	//primary key, member을 구별할 식별자
 	@Id @GeneratedValue(strategy = GenerationType.IDENTITY)
 	@Column(name = "member_id")
 	private Long id;
 	
 	//사용자의 아이디, 비밀번호, NotNull, Unique, 길이 30
-	@Column(nullable = false, unique = true, length = 30)
+	//아이디는 바뀌지 않으므로 natural id로 지정해서 아이디로 조회할 때도 2차 캐시를 사용함
+	@NaturalId
+	@Column(nullable = false, length = 30)
 	private String username;
 	private String password;
 	
@@ -54,6 +73,12 @@ public class Member extends BaseTimeEntity {
 	@Enumerated(EnumType.STRING)
 	private Role role;
 	
+	//낙관적 락, 수정할 때마다 1씩 증가하며 읽은 후에 다른 트랜잭션이 먼저 수정했으면 update가 실패함
+	//프로필 수정의 ETag(If-Match)로도 사용함
+	@Version
+	@Column(nullable = false)
+	private long version;
+	
 	//간단한 비즈니스 로직이 있으므로 도메인 객체라고도 할 수 있나?
 	//== 비밀번호 암호화 ==//
 	//Spring Security가 가지고 있는 passwordEncoder 인터페이스를 사용함.
@@ -1,5 +1,19 @@
 package spring.board.domain.member;
 
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
 public enum Role {
-	USER, ADMIN
+	USER, ADMIN;
+	
+	//Spring Security의 권한 이름은 ROLE_ 접두사를 사용함
+	//요청마다 새로 만들지 않도록 권한 목록을 미리 만들어둠
+	private final List<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + name()));
+	
+	public List<GrantedAuthority> getAuthorities() {
+		return authorities;
+	}
 }
@@ -0,0 +1,75 @@
+package spring.board.domain.member.bulk;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import spring.board.domain.member.dto.MemberImportDto;
+
+//첫 줄은 헤더(username,password,name,nickName,age,role), 열 순서는 헤더를 따름
+//큰따옴표로 감싼 값에는 쉼표와 ""(큰따옴표)를 쓸 수 있고, 한 값이 여러 줄에 걸치는 경우는 지원하지 않음
+class CsvMemberRecordParser implements MemberRecordParser {
+	
+	private Map<String, Integer> columns;
+	
+	@Override
+	public MemberImportDto parse(String line) {
+		List<String> values = split(line);
+		if (columns == null) {
+			columns = new HashMap<>();
+			for (int i = 0; i < values.size(); i++) {
+				columns.put(values.get(i).trim(), i);
+			}
+			return null;
+		}
+		
+		String age = value(values, "age");
+		try {
+			return new MemberImportDto(value(values, "username"),
+									   value(values, "password"),
+									   value(values, "name"),
+									   value(values, "nickName"),
+									   age == null || age.isEmpty() ? null : Integer.valueOf(age.trim()),
+									   value(values, "role"));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("나이는 숫자여야 합니다");
+		}
+	}
+	
+	private String value(List<String> values, String column) {
+		Integer index = columns.get(column);
+		return index == null || index >= values.size() ? null : values.get(index);
+	}
+	
+	private static List<String> split(String line) {
+		List<String> values = new ArrayList<>();
+		StringBuilder value = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					value.append('"');
+					i++;
+				} else if (c == '"') {
+					quoted = false;
+				} else {
+					value.append(c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				values.add(value.toString());
+				value.setLength(0);
+			} else {
+				value.append(c);
+			}
+		}
+		if (quoted) {
+			throw new IllegalArgumentException("큰따옴표가 닫히지 않았습니다");
+		}
+		values.add(value.toString());
+		return values;
+	}
+}
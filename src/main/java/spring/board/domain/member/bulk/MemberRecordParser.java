@@ -0,0 +1,29 @@
+package spring.board.domain.member.bulk;
+
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import spring.board.domain.member.dto.MemberImportDto;
+import spring.board.domain.member.exception.UnsupportedImportFormatException;
+
+//일괄 등록 파일을 한 줄씩 MemberImportDto로 바꾼다.
+//한 줄씩 처리하므로 파일 전체를 메모리에 올리지 않고, 잘못된 줄이 있어도 다음 줄부터 계속 읽을 수 있다.
+public interface MemberRecordParser {
+	
+	MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+	MediaType CSV = MediaType.parseMediaType("text/csv");
+	
+	//헤더처럼 회원이 아닌 줄이면 null을 반환함, 형식이 잘못된 줄은 IllegalArgumentException
+	MemberImportDto parse(String line);
+	
+	static MemberRecordParser of(MediaType contentType, ObjectMapper objectMapper) {
+		if (contentType != null && NDJSON.isCompatibleWith(contentType)) {
+			return new NdjsonMemberRecordParser(objectMapper);
+		}
+		if (contentType != null && CSV.isCompatibleWith(contentType)) {
+			return new CsvMemberRecordParser();
+		}
+		throw new UnsupportedImportFormatException();
+	}
+}
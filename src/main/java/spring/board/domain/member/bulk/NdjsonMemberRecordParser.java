@@ -0,0 +1,28 @@
+package spring.board.domain.member.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import spring.board.domain.member.dto.MemberImportDto;
+
+//한 줄에 JSON 객체 하나, 모르는 필드는 무시함
+class NdjsonMemberRecordParser implements MemberRecordParser {
+	
+	private final ObjectReader reader;
+	
+	NdjsonMemberRecordParser(ObjectMapper objectMapper) {
+		this.reader = objectMapper.readerFor(MemberImportDto.class)
+								  .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+	}
+	
+	@Override
+	public MemberImportDto parse(String line) {
+		try {
+			return reader.readValue(line);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("JSON 형식이 잘못되었습니다");
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package spring.board.domain.member.cache;
+
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import lombok.RequiredArgsConstructor;
+import spring.board.domain.member.Member;
+
+//Member의 updatePassword, updateName, updateNickName, updateAge 등의 변경이 DB에 반영(flush)될 때 호출된다.
+//Hibernate가 Spring의 BeanContainer를 사용하므로 생성자를 통해 캐시를 주입받을 수 있다.
+//로그인 캐시는 모든 서버에서 바로 지우고, 2차 캐시는 커밋 후에 다른 서버에 무효화 메시지를 보냄
+@RequiredArgsConstructor
+public class MemberCacheEvictListener {
+
+	private final MemberUserDetailsCache memberUserDetailsCache;
+	private final MemberEntityCacheInvalidator memberEntityCacheInvalidator;
+
+	@PostUpdate
+	@PostRemove
+	public void evict(Member member) {
+		memberUserDetailsCache.evict(member.getUsername());
+		memberEntityCacheInvalidator.publish(member.getId());
+	}
+}
@@ -0,0 +1,68 @@
+package spring.board.domain.member.cache;
+
+import java.util.UUID;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Cache;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+import spring.board.domain.member.Member;
+import spring.board.domain.member.repository.MemberRepositoryCustom;
+import spring.board.global.cache.CacheInvalidation;
+import spring.board.global.cache.InvalidationBus;
+
+//== 회원 2차 캐시(member region)의 서버 간 무효화 ==//
+//Hibernate는 자신의 서버에 있는 2차 캐시만 갱신하므로 다른 서버에는 수정 전 회원이 남는다.
+//커밋 후에 회원 id로 무효화 메시지를 발행하고, 메시지를 받은 서버는 그 회원과 회원 쿼리 캐시를 지움
+//username(natural id)은 바뀌지 않으므로 natural id 캐시는 지우지 않음
+@Slf4j
+@Component
+public class MemberEntityCacheInvalidator {
+	
+	private static final String CACHE_NAME = "member";
+	
+	private final String instanceId = UUID.randomUUID().toString();
+	private final EntityManagerFactory emf;
+	private final InvalidationBus invalidationBus;
+	
+	//MemberCacheEvictListener를 통해 EntityManagerFactory를 만드는 중에 생성되므로 EntityManagerFactory는 처음 사용할 때 찾음
+	public MemberEntityCacheInvalidator(@Lazy EntityManagerFactory emf, InvalidationBus invalidationBus) {
+		this.emf = emf;
+		this.invalidationBus = invalidationBus;
+		invalidationBus.subscribe(this::onInvalidation);
+	}
+	
+	//롤백되면 다른 서버의 캐시는 맞으므로 커밋된 경우에만 발행함
+	public void publish(Long memberId) {
+		CacheInvalidation invalidation = new CacheInvalidation(CACHE_NAME, String.valueOf(memberId), instanceId);
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			invalidationBus.publish(invalidation);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				invalidationBus.publish(invalidation);
+			}
+		});
+	}
+	
+	private void onInvalidation(CacheInvalidation invalidation) {
+		if (!CACHE_NAME.equals(invalidation.getCacheName()) || instanceId.equals(invalidation.getOrigin())) {
+			return;
+		}
+		Cache cache = emf.getCache().unwrap(Cache.class);
+		if (invalidation.isAll()) {
+			cache.evictEntityData(Member.class);
+		} else {
+			cache.evictEntityData(Member.class, Long.valueOf(invalidation.getKey()));
+		}
+		cache.evictQueryRegion(MemberRepositoryCustom.MEMBER_QUERY_REGION);
+		log.debug("다른 서버에서 수정된 회원을 2차 캐시에서 지웠습니다. {}", invalidation);
+	}
+}
@@ -0,0 +1,81 @@
+package spring.board.domain.member.cache;
+
+import java.time.Duration;
+import java.util.Base64;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import spring.board.domain.member.service.MemberDetails;
+import spring.board.global.cache.EncryptingRemoteCache;
+import spring.board.global.cache.InvalidationBus;
+import spring.board.global.cache.RemoteCache;
+import spring.board.global.cache.TwoTierCache;
+
+//로그인 시 사용하는 MemberDetails를 username 기준으로 캐싱한다.
+//서버마다 가진 near cache와 서버들이 공유하는 원격 캐시 두 단계로 저장하고, 회원 정보가 바뀌면 다른 서버의 near cache도 무효화함
+//near cache의 hit/miss 통계는 Micrometer로 노출한다.
+//MemberDetails에는 비밀번호 해시가 있으므로 원격 캐시에는 암호화해서 저장한다.
+@Component
+public class MemberUserDetailsCache {
+
+	//metrics의 cache 태그로 사용할 이름, 원격 캐시의 key 공간 이름으로도 사용함
+	private static final String CACHE_NAME = "memberUserDetails";
+
+	private final TwoTierCache<MemberDetails> cache;
+
+	public MemberUserDetailsCache(ObjectMapper objectMapper,
+								  RemoteCache remoteCache,
+								  InvalidationBus invalidationBus,
+								  MeterRegistry meterRegistry,
+								  @Value("${login.user-cache.maximum-size:10000}") long maximumSize,
+								  @Value("${login.user-cache.ttl:10m}") Duration ttl,
+								  @Value("${login.user-cache.near-ttl:30s}") Duration nearTtl,
+								  @Value("${login.user-cache.encryption-key}") String encryptionKey) {
+		SecretKey key = new SecretKeySpec(Base64.getDecoder().decode(encryptionKey), "AES");
+		RemoteCache encrypted = new EncryptingRemoteCache(remoteCache, key);
+		this.cache = new TwoTierCache<>(CACHE_NAME, MemberDetails.class, objectMapper, encrypted, invalidationBus, meterRegistry, maximumSize, nearTtl, ttl);
+	}
+
+	//ProviderManager는 인증 후 UserDetails의 비밀번호를 지운다(eraseCredentials).
+	//캐시에 있는 객체가 지워지지 않도록 저장할 때와 꺼낼 때 모두 복사본을 사용한다.
+	public MemberDetails get(String username) {
+		MemberDetails cached = cache.get(username);
+		return cached == null ? null : cached.copy();
+	}
+
+	//DB에서 조회하기 전에 얻은 version으로 저장, 조회하는 동안 회원 정보가 바뀌어 무효화되었으면 저장하지 않음
+	public long version() {
+		return cache.version();
+	}
+	
+	public void put(MemberDetails memberDetails, long version) {
+		cache.put(memberDetails.getUsername(), memberDetails.copy(), version);
+	}
+
+	//즉시 제거하고, 트랜잭션 안이라면 커밋 후에 한 번 더 제거한다.
+	//커밋 전에 다른 스레드나 다른 서버가 이전 값을 다시 캐싱하는 경우를 막기 위함
+	public void evict(String username) {
+		cache.evict(username);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					cache.evict(username);
+				}
+			});
+		}
+	}
+
+	public void evictAll() {
+		cache.evictAll();
+	}
+}
@@ -0,0 +1,122 @@
+package spring.board.domain.member.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+//== 가입된 아이디의 bloom filter ==//
+//mightContain이 false면 그 아이디는 확실히 없으므로 아이디 중복 확인이 DB까지 가지 않는다.
+//true는 오탐일 수 있으므로 DB로 다시 확인함, 탈퇴한 아이디는 지울 수 없지만 오탐이 늘어날 뿐 결과가 틀리지는 않음
+//MariaDB의 기본 collation은 대소문자를 구분하지 않으므로 소문자로 바꿔서 저장함
+@Slf4j
+@Component
+public class UsernameBloomFilter {
+	
+	private static final String USERNAMES_SQL = "select username from MEMBER";
+	private static final int FETCH_SIZE = 1000;
+	
+	private final JdbcTemplate jdbcTemplate;
+	private final AtomicLongArray bits;
+	private final long bitCount;
+	private final int hashCount;
+	
+	//서버 시작 시 기존 아이디를 모두 넣기 전에는 사용하지 않음
+	private volatile boolean ready;
+	
+	//예상 아이디 수와 허용할 오탐 확률로 bit 수와 hash 함수 수를 계산함
+	public UsernameBloomFilter(JdbcTemplate jdbcTemplate,
+							   @Value("${signup.bloom-filter.expected-insertions:1000000}") long expectedInsertions,
+							   @Value("${signup.bloom-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+		this.jdbcTemplate = jdbcTemplate;
+		long bitCount = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+		this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+		this.bitCount = bits.length() * 64L;
+		this.hashCount = Math.max(1, (int) Math.round((double) this.bitCount / expectedInsertions * Math.log(2)));
+	}
+	
+	//기존 아이디를 fetch size만큼씩 읽어서 넣음
+	@Order(0)
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		long start = System.currentTimeMillis();
+		long[] count = {0};
+		jdbcTemplate.query(connection -> {
+			PreparedStatement statement = connection.prepareStatement(USERNAMES_SQL);
+			statement.setFetchSize(FETCH_SIZE);
+			return statement;
+		}, (RowCallbackHandler) rs -> {
+			put(rs.getString(1));
+			count[0]++;
+		});
+		ready = true;
+		log.info("아이디 bloom filter 준비 완료. 아이디: {}, bit: {}, hash: {}, {}ms", count[0], bitCount, hashCount, System.currentTimeMillis() - start);
+	}
+	
+	public boolean isReady() {
+		return ready;
+	}
+	
+	public void put(String username) {
+		long[] hashes = hash(username);
+		for (int i = 0; i < hashCount; i++) {
+			long bit = index(hashes, i);
+			int word = (int) (bit >>> 6);
+			long mask = 1L << bit;
+			long current;
+			do {
+				current = bits.get(word);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!bits.compareAndSet(word, current, current | mask));
+		}
+	}
+	
+	public boolean mightContain(String username) {
+		long[] hashes = hash(username);
+		for (int i = 0; i < hashCount; i++) {
+			long bit = index(hashes, i);
+			if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	//두 개의 hash로 hashCount개의 위치를 만듦(double hashing)
+	private long index(long[] hashes, int i) {
+		return Math.floorMod(hashes[0] + i * hashes[1], bitCount);
+	}
+	
+	//FNV-1a(64bit) 후 murmur3의 finalizer로 섞음
+	private static long[] hash(String username) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : username.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b;
+			hash *= 0x100000001b3L;
+		}
+		long h1 = mix(hash);
+		long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1; //0이 되지 않도록 홀수로 만듦
+		return new long[] {h1, h2};
+	}
+	
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
@@ -0,0 +1,55 @@
+package spring.board.domain.member.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import lombok.RequiredArgsConstructor;
+import spring.board.domain.member.bulk.MemberRecordParser;
+import spring.board.domain.member.dto.MemberImportResultDto;
+import spring.board.domain.member.exception.UnsupportedImportFormatException;
+import spring.board.domain.member.service.MemberExportService;
+import spring.board.domain.member.service.MemberImportService;
+
+//관리자만 사용할 수 있음(/admin/**)
+@RestController
+@RequiredArgsConstructor
+public class MemberAdminController {
+	
+	private final MemberImportService memberImportService;
+	private final MemberExportService memberExportService;
+	
+	//== 회원 일괄 등록, 요청 본문(NDJSON 또는 CSV)을 읽으면서 바로 저장함 ==//
+	@PostMapping("/admin/members/import")
+	public MemberImportResultDto importMembers(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+											   InputStream body) throws IOException {
+		return memberImportService.importMembers(body, parseContentType(contentType));
+	}
+	
+	//== 회원 내보내기(NDJSON), 응답은 요청 스레드가 아닌 비동기 스레드에서 씀 ==//
+	@GetMapping("/admin/members/export")
+	public ResponseEntity<StreamingResponseBody> exportMembers() {
+		return ResponseEntity.ok()
+							 .contentType(MemberRecordParser.NDJSON)
+							 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"members.ndjson\"")
+							 .body(memberExportService::export);
+	}
+	
+	//형식이 잘못된 Content-Type은 500이 아니라 지원하지 않는 형식(415)으로 응답함
+	private static MediaType parseContentType(String contentType) {
+		try {
+			return MediaType.parseMediaType(contentType);
+		} catch (InvalidMediaTypeException e) {
+			throw new UnsupportedImportFormatException();
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package spring.board.domain.member.controller;
+
+import javax.validation.Valid;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import spring.board.domain.member.dto.MemberPasswordUpdateDto;
+import spring.board.domain.member.dto.MemberProfileDto;
+import spring.board.domain.member.dto.MemberProfileUpdateDto;
+import spring.board.domain.member.dto.MemberSignUpDto;
+import spring.board.domain.member.dto.UsernameAvailabilityDto;
+import spring.board.domain.member.exception.MemberVersionMismatchException;
+import spring.board.domain.member.service.MemberProfileService;
+import spring.board.domain.member.service.MemberService;
+import spring.board.global.jwt.MemberPrincipal;
+
+@RestController
+@RequiredArgsConstructor
+public class MemberController {
+	
+	private final MemberService memberService;
+	private final MemberProfileService memberProfileService;
+	
+	//== 회원가입, 로그인 없이 가능 ==//
+	@PostMapping("/signUp")
+	public ResponseEntity<Void> signUp(@Valid @RequestBody MemberSignUpDto memberSignUpDto) {
+		memberService.signUp(memberSignUpDto);
+		return ResponseEntity.status(HttpStatus.CREATED).build();
+	}
+	
+	//== 아이디 중복 확인 ==//
+	@GetMapping("/signUp/available")
+	public UsernameAvailabilityDto checkUsername(@RequestParam String username) {
+		return memberService.checkUsername(username);
+	}
+	
+	//== 비밀번호 변경, 이전에 발급한 토큰은 모두 사용할 수 없음 ==//
+	@PutMapping("/members/me/password")
+	public ResponseEntity<Void> updatePassword(@AuthenticationPrincipal MemberPrincipal principal,
+											   @Valid @RequestBody MemberPasswordUpdateDto memberPasswordUpdateDto) {
+		memberService.updatePassword(principal, memberPasswordUpdateDto);
+		return ResponseEntity.noContent().build();
+	}
+	
+	//== 내 프로필 조회, ETag는 회원 정보의 version ==//
+	@GetMapping("/members/me")
+	public ResponseEntity<MemberProfileDto> getProfile(@AuthenticationPrincipal MemberPrincipal principal) {
+		MemberProfileDto profile = memberProfileService.getProfile(principal.getMemberId());
+		return ResponseEntity.ok().eTag(String.valueOf(profile.getVersion())).body(profile);
+	}
+	
+	//== 내 프로필 수정, 보낸 항목만 수정함 ==//
+	//If-Match가 있으면 그 version일 때만 수정하고(다르면 412), 없으면 다른 요청과 충돌해도 다시 시도해서 반영함
+	@PatchMapping("/members/me")
+	public ResponseEntity<MemberProfileDto> updateProfile(@AuthenticationPrincipal MemberPrincipal principal,
+														  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+														  @Valid @RequestBody MemberProfileUpdateDto memberProfileUpdateDto) {
+		MemberProfileDto profile = memberProfileService.updateProfile(principal.getMemberId(), parseVersion(ifMatch), memberProfileUpdateDto);
+		return ResponseEntity.ok().eTag(String.valueOf(profile.getVersion())).body(profile);
+	}
+	
+	//"3", W/"3", * 형식, *는 version을 확인하지 않음
+	//숫자가 아닌 ETag는 어떤 version과도 같지 않으므로 412
+	private static Long parseVersion(String ifMatch) {
+		if (ifMatch == null || ifMatch.trim().equals("*")) {
+			return null;
+		}
+		String tag = ifMatch.trim();
+		if (tag.startsWith("W/")) {
+			tag = tag.substring(2);
+		}
+		try {
+			return Long.valueOf(tag.replace("\"", ""));
+		} catch (NumberFormatException e) {
+			throw new MemberVersionMismatchException();
+		}
+	}
+}
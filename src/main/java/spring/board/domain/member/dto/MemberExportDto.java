@@ -0,0 +1,22 @@
+package spring.board.domain.member.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import spring.board.domain.member.Role;
+
+//회원 내보내기 한 줄, JPQL의 new 연산자로 바로 만들어서 영속성 컨텍스트에 엔티티가 쌓이지 않게 함
+//비밀번호 해시는 내보내지 않음
+@Getter
+@AllArgsConstructor
+public class MemberExportDto {
+	
+	private final Long id;
+	private final String username;
+	private final String name;
+	private final String nickName;
+	private final Integer age;
+	private final Role role;
+	private final LocalDateTime createdDate;
+}
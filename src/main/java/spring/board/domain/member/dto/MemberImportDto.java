@@ -0,0 +1,20 @@
+package spring.board.domain.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+//일괄 등록할 회원 한 명, NDJSON은 한 줄, CSV는 한 행
+//password가 {bcrypt}처럼 {id}로 시작하면 이미 해시된 값으로 보고 그대로 저장함(기존 시스템에서 옮겨오는 경우)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberImportDto {
+	
+	private String username;
+	private String password;
+	private String name;
+	private String nickName;
+	private Integer age;
+	private String role;
+}
@@ -0,0 +1,37 @@
+package spring.board.domain.member.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//일괄 등록 결과, 등록하지 못한 행은 처음 MAX_ERRORS개까지만 줄 번호와 사유를 알려줌
+@Getter
+public class MemberImportResultDto {
+	
+	private static final int MAX_ERRORS = 100;
+	
+	private long imported;
+	private long rejected;
+	private final List<ImportError> errors = new ArrayList<>();
+	
+	public void addImported(int count) {
+		imported += count;
+	}
+	
+	public void reject(long line, String message) {
+		rejected++;
+		if (errors.size() < MAX_ERRORS) {
+			errors.add(new ImportError(line, message));
+		}
+	}
+	
+	@Getter
+	@AllArgsConstructor
+	public static class ImportError {
+		
+		private final long line;
+		private final String message;
+	}
+}
@@ -0,0 +1,23 @@
+package spring.board.domain.member.dto;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+//비밀번호 변경 요청
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class MemberPasswordUpdateDto {
+	
+	@NotBlank(message = "현재 비밀번호를 입력해주세요")
+	private String currentPassword;
+	
+	@NotBlank(message = "새 비밀번호를 입력해주세요")
+	@Size(min = 8, max = 64, message = "비밀번호는 8자 이상 64자 이하로 입력해주세요")
+	private String newPassword;
+}
@@ -0,0 +1,29 @@
+package spring.board.domain.member.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Getter;
+import spring.board.domain.member.Member;
+
+//프로필 조회, 수정 응답, version은 본문이 아니라 ETag로 보냄
+@Getter
+public class MemberProfileDto {
+	
+	private Long memberId;
+	private String username;
+	private String name;
+	private String nickName;
+	private Integer age;
+	
+	@JsonIgnore
+	private long version;
+	
+	public MemberProfileDto(Member member) {
+		this.memberId = member.getId();
+		this.username = member.getUsername();
+		this.name = member.getName();
+		this.nickName = member.getNickName();
+		this.age = member.getAge();
+		this.version = member.getVersion();
+	}
+}
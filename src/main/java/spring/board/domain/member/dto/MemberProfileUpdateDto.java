@@ -0,0 +1,42 @@
+package spring.board.domain.member.dto;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import spring.board.domain.member.Member;
+
+//프로필 수정 요청(PATCH), null인 항목은 수정하지 않음
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class MemberProfileUpdateDto {
+	
+	@Size(max = 30, message = "이름은 30자 이하로 입력해주세요")
+	@Pattern(regexp = ".*\\S.*", message = "이름을 입력해주세요")
+	private String name;
+	
+	@Size(max = 30, message = "닉네임은 30자 이하로 입력해주세요")
+	@Pattern(regexp = ".*\\S.*", message = "닉네임을 입력해주세요")
+	private String nickName;
+	
+	@Min(value = 0, message = "나이를 확인해주세요")
+	private Integer age;
+	
+	//같은 값으로 바꾸면 변경 감지에서 제외되므로 update와 version 증가가 일어나지 않음
+	public void applyTo(Member member) {
+		if (name != null) {
+			member.updateName(name);
+		}
+		if (nickName != null) {
+			member.updateNickName(nickName);
+		}
+		if (age != null) {
+			member.updateAge(age);
+		}
+	}
+}
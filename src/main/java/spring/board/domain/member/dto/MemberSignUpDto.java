@@ -0,0 +1,51 @@
+package spring.board.domain.member.dto;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+
+//회원가입 요청
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class MemberSignUpDto {
+	
+	@NotBlank(message = "아이디를 입력해주세요")
+	@Size(max = 30, message = "아이디는 30자 이하로 입력해주세요")
+	private String username;
+	
+	@NotBlank(message = "비밀번호를 입력해주세요")
+	@Size(min = 8, max = 64, message = "비밀번호는 8자 이상 64자 이하로 입력해주세요")
+	private String password;
+	
+	@NotBlank(message = "이름을 입력해주세요")
+	@Size(max = 30, message = "이름은 30자 이하로 입력해주세요")
+	private String name;
+	
+	@NotBlank(message = "닉네임을 입력해주세요")
+	@Size(max = 30, message = "닉네임은 30자 이하로 입력해주세요")
+	private String nickName;
+	
+	@NotNull(message = "나이를 입력해주세요")
+	@Min(value = 0, message = "나이를 확인해주세요")
+	private Integer age;
+	
+	public Member toEntity() {
+		return Member.builder()
+					 .username(username)
+					 .password(password)
+					 .name(name)
+					 .nickName(nickName)
+					 .age(age)
+					 .role(Role.USER)
+					 .build();
+	}
+}
@@ -0,0 +1,13 @@
+package spring.board.domain.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//아이디 중복 확인 응답
+@Getter
+@AllArgsConstructor
+public class UsernameAvailabilityDto {
+	
+	private final String username;
+	private final boolean available;
+}
@@ -0,0 +1,14 @@
+package spring.board.domain.member.exception;
+
+import org.springframework.http.HttpStatus;
+
+import spring.board.global.exception.BaseException;
+
+public class DuplicateUsernameException extends BaseException {
+
+	private static final long serialVersionUID = 1L;
+
+	public DuplicateUsernameException() {
+		super(HttpStatus.CONFLICT, "이미 있는 아이디입니다");
+	}
+}
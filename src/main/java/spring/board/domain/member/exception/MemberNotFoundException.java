@@ -0,0 +1,14 @@
+package spring.board.domain.member.exception;
+
+import org.springframework.http.HttpStatus;
+
+import spring.board.global.exception.BaseException;
+
+public class MemberNotFoundException extends BaseException {
+
+	private static final long serialVersionUID = 1L;
+
+	public MemberNotFoundException() {
+		super(HttpStatus.NOT_FOUND, "회원이 없습니다");
+	}
+}
@@ -0,0 +1,15 @@
+package spring.board.domain.member.exception;
+
+import org.springframework.http.HttpStatus;
+
+import spring.board.global.exception.BaseException;
+
+//다시 시도해도 다른 요청이 계속 먼저 수정한 경우
+public class MemberUpdateConflictException extends BaseException {
+
+	private static final long serialVersionUID = 1L;
+
+	public MemberUpdateConflictException() {
+		super(HttpStatus.CONFLICT, "다른 요청이 회원 정보를 수정하고 있습니다. 잠시 후 다시 시도해주세요");
+	}
+}
@@ -0,0 +1,15 @@
+package spring.board.domain.member.exception;
+
+import org.springframework.http.HttpStatus;
+
+import spring.board.global.exception.BaseException;
+
+//If-Match의 version이 현재 회원 정보의 version과 다른 경우, 클라이언트가 본 이후에 다른 요청이 수정함
+public class MemberVersionMismatchException extends BaseException {
+
+	private static final long serialVersionUID = 1L;
+
+	public MemberVersionMismatchException() {
+		super(HttpStatus.PRECONDITION_FAILED, "회원 정보가 변경되었습니다. 다시 조회한 후 수정해주세요");
+	}
+}
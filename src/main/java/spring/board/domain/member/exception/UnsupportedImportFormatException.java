@@ -0,0 +1,14 @@
+package spring.board.domain.member.exception;
+
+import org.springframework.http.HttpStatus;
+
+import spring.board.global.exception.BaseException;
+
+public class UnsupportedImportFormatException extends BaseException {
+
+	private static final long serialVersionUID = 1L;
+
+	public UnsupportedImportFormatException() {
+		super(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "application/x-ndjson 또는 text/csv 형식만 등록할 수 있습니다");
+	}
+}
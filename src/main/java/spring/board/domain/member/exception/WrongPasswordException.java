@@ -0,0 +1,14 @@
+package spring.board.domain.member.exception;
+
+import org.springframework.http.HttpStatus;
+
+import spring.board.global.exception.BaseException;
+
+public class WrongPasswordException extends BaseException {
+
+	private static final long serialVersionUID = 1L;
+
+	public WrongPasswordException() {
+		super(HttpStatus.BAD_REQUEST, "비밀번호가 일치하지 않습니다");
+	}
+}
@@ -1,16 +1,29 @@
 package spring.board.domain.member.repository;
 
-import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import spring.board.domain.member.Member;
+import spring.board.domain.member.dto.MemberExportDto;
  
 //@Repository
-public interface MemberRepository extends JpaRepository<Member, Long> {
-	
-	Optional<Member> findByUsername(String username);
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
 	
+	//MEMBER 테이블이 변경되면 Hibernate가 결과를 무효화함, JDBC로 직접 변경한 경우에는 member-query region을 비워야 함
+	@QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+				 @QueryHint(name = "org.hibernate.cacheRegion", value = MEMBER_QUERY_REGION)})
 	boolean existsByUsername(String username);
+	
+	//== 회원 내보내기, 결과를 fetch size만큼씩 DB에서 가져옴(forward-only cursor) ==//
+	//MariaDB 드라이버는 fetch size가 있으면 결과 전체를 메모리에 올리지 않고 나눠서 읽음
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+	@Query("select new spring.board.domain.member.dto.MemberExportDto(m.id, m.username, m.name, m.nickName, m.age, m.role, m.createdDate) "
+		 + "from Member m order by m.id")
+	Stream<MemberExportDto> streamAllForExport();
 
 }
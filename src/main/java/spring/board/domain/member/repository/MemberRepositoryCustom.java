@@ -0,0 +1,17 @@
+package spring.board.domain.member.repository;
+
+import java.util.Optional;
+
+import spring.board.domain.member.Member;
+
+public interface MemberRepositoryCustom {
+	
+	//회원 쿼리 결과를 캐싱하는 region
+	String MEMBER_QUERY_REGION = "member-query";
+	
+	//아이디(natural id)로 조회, 쿼리를 실행하지 않고 natural id 캐시와 엔티티 캐시에서 먼저 찾음
+	Optional<Member> findByUsername(String username);
+	
+	//JDBC로 회원을 추가한 후 호출, 새 행은 엔티티 캐시에 없으므로 쿼리 결과만 비움
+	void evictQueryCache();
+}
@@ -0,0 +1,37 @@
+package spring.board.domain.member.repository;
+
+import java.util.Optional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import spring.board.domain.member.Member;
+import spring.board.global.datasource.ReplicationRoutingDataSource;
+
+//Spring Data는 메서드 이름으로 쿼리를 만드는 것보다 이 구현을 먼저 사용함
+@RequiredArgsConstructor
+public class MemberRepositoryImpl implements MemberRepositoryCustom {
+	
+	private final EntityManager em;
+	private final EntityManagerFactory emf;
+	
+	//트랜잭션 밖에서는 unwrap한 Session이 바로 닫히므로 읽기 전용 트랜잭션 안에서 조회
+	//결과가 natural id 캐시, 엔티티 캐시, 로그인 캐시에 오래 남으므로 복제가 늦을 수 있는 replica가 아니라 primary에서 읽음
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<Member> findByUsername(String username) {
+		return ReplicationRoutingDataSource.readFromPrimary(() -> em.unwrap(Session.class)
+																   .bySimpleNaturalId(Member.class)
+																   .loadOptional(username));
+	}
+	
+	@Override
+	public void evictQueryCache() {
+		emf.getCache().unwrap(Cache.class).evictQueryRegion(MEMBER_QUERY_REGION);
+	}
+}
@@ -1,6 +1,5 @@
 package spring.board.domain.member.service;
 
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -8,21 +7,43 @@ import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import spring.board.domain.member.Member;
+import spring.board.domain.member.cache.MemberUserDetailsCache;
 import spring.board.domain.member.repository.MemberRepository;
+import spring.board.global.login.metrics.LoginStage;
+import spring.board.global.login.metrics.LoginStageTimers;
 
 @Service
 @RequiredArgsConstructor
 public class LoginService implements UserDetailsService {
 
 	private final MemberRepository memberRepository;
+	private final MemberUserDetailsCache memberUserDetailsCache;
+	private final LoginStageTimers loginStageTimers;
 
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+		long start = loginStageTimers.start();
+		try {
+			return findMemberDetails(username);
+		} finally {
+			loginStageTimers.stop(LoginStage.USER_LOOKUP, start);
+		}
+	}
+	
+	private MemberDetails findMemberDetails(String username) {
+		//캐시에 있으면 DB를 조회하지 않음
+		MemberDetails cached = memberUserDetailsCache.get(username);
+		if (cached != null) {
+			return cached;
+		}
+		
+		//조회하는 동안 비밀번호 변경 등으로 무효화되면 조회한 값을 캐시에 저장하지 않도록 조회 전의 버전을 기억함
+		long cacheVersion = memberUserDetailsCache.version();
 		Member member = memberRepository.findByUsername(username).orElseThrow(() -> new UsernameNotFoundException("아이디가 없습니다"));
 		
-		return User.builder().username(member.getUsername())
-							 .password(member.getPassword())
-							 .roles(member.getRole().name())
-							 .build();
+		//JWT 발급에 필요한 회원 id와 권한을 함께 담아서 반환
+		MemberDetails memberDetails = MemberDetails.from(member);
+		memberUserDetailsCache.put(memberDetails, cacheVersion);
+		return memberDetails;
 	}
 }
@@ -0,0 +1,40 @@
+package spring.board.domain.member.service;
+
+import org.springframework.security.core.userdetails.User;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+
+//로그인 성공 시 JWT에 회원 id와 권한을 담기 위해 User에 memberId, role을 추가한 클래스
+//원격 캐시에는 memberId, username, password, role만 JSON으로 저장하고 권한은 role에서 다시 만듦
+@Getter
+@JsonIgnoreProperties({"authorities", "accountNonExpired", "accountNonLocked", "credentialsNonExpired", "enabled"})
+public class MemberDetails extends User {
+
+	private final Long memberId;
+	private final Role role;
+
+	@JsonCreator
+	public MemberDetails(@JsonProperty("memberId") Long memberId,
+						 @JsonProperty("username") String username,
+						 @JsonProperty("password") String password,
+						 @JsonProperty("role") Role role) {
+		super(username, password, role.getAuthorities());
+		this.memberId = memberId;
+		this.role = role;
+	}
+
+	public static MemberDetails from(Member member) {
+		return new MemberDetails(member.getId(), member.getUsername(), member.getPassword(), member.getRole());
+	}
+
+	//비밀번호가 지워지기 전의 복사본
+	public MemberDetails copy() {
+		return new MemberDetails(memberId, getUsername(), getPassword(), role);
+	}
+}
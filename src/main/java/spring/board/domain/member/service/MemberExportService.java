@@ -0,0 +1,45 @@
+package spring.board.domain.member.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.RequiredArgsConstructor;
+import spring.board.domain.member.dto.MemberExportDto;
+import spring.board.domain.member.repository.MemberRepository;
+
+//== 회원 내보내기 ==//
+//전체 회원을 한 번에 조회하지 않고 cursor(fetch size)로 읽으면서 바로 NDJSON으로 쓰므로 회원 수와 관계없이 메모리 사용량이 일정하다.
+@Service
+@RequiredArgsConstructor
+public class MemberExportService {
+	
+	private final MemberRepository memberRepository;
+	private final ObjectMapper objectMapper;
+	
+	//Stream을 다 읽을 때까지 커넥션(ResultSet)이 열려 있어야 하므로 트랜잭션 안에서 씀
+	@Transactional(readOnly = true)
+	public long export(OutputStream outputStream) throws IOException {
+		//한 줄마다 flush하지 않고 응답 버퍼가 찰 때 보냄
+		ObjectWriter writer = objectMapper.writerFor(MemberExportDto.class)
+										  .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+										  .withRootValueSeparator("\n");
+		long count = 0;
+		try (Stream<MemberExportDto> members = memberRepository.streamAllForExport();
+			 SequenceWriter sequenceWriter = writer.writeValues(outputStream)) {
+			for (MemberExportDto member : (Iterable<MemberExportDto>) members::iterator) {
+				sequenceWriter.write(member);
+				count++;
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,298 @@
+package spring.board.domain.member.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.bulk.MemberRecordParser;
+import spring.board.domain.member.cache.UsernameBloomFilter;
+import spring.board.domain.member.dto.MemberImportDto;
+import spring.board.domain.member.dto.MemberImportResultDto;
+import spring.board.domain.member.repository.MemberRepository;
+import spring.board.domain.search.SearchType;
+import spring.board.domain.search.dto.SearchDocument;
+import spring.board.domain.search.index.SearchIndexer;
+import spring.board.global.password.BoundedPasswordEncoder;
+
+//== 회원 일괄 등록 ==//
+//Member는 IDENTITY 전략이라 JPA로 저장하면 insert를 batch로 묶을 수 없으므로 JdbcTemplate의 batch insert를 사용한다.
+//파일은 한 줄씩 읽어서 batchSize개씩 처리하고, batch마다 비밀번호를 병렬로 해시한 후 트랜잭션 하나로 저장한다.
+//해시는 로그인과 같은 BoundedPasswordEncoder의 자리를 사용하므로, 로그인이 기다리지 않도록 일괄 등록은 그 절반까지만 사용함
+@Slf4j
+@Service
+public class MemberImportService {
+	
+	private static final String INSERT_SQL = "insert into MEMBER (username, password, name, nick_name, age, role, created_date, last_modified_date, version) "
+										   + "values (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+	private static final String EXISTING_SQL = "select username from MEMBER where username in (:usernames)";
+	private static final String IMPORTED_SQL = "select member_id, nick_name, username, name from MEMBER where username in (:usernames)";
+	
+	//== 이미 해시된 비밀번호, 앱의 PasswordEncoder가 사용하는 bcrypt만 그대로 저장함 ==//
+	private static final String BCRYPT_PREFIX = "{bcrypt}";
+	private static final Pattern BCRYPT_HASH = Pattern.compile("\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
+	
+	//== Member의 컬럼 길이 ==//
+	private static final int MAX_LENGTH = 30;
+	
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final PasswordEncoder passwordEncoder;
+	private final ObjectMapper objectMapper;
+	private final SearchIndexer searchIndexer;
+	private final UsernameBloomFilter usernameBloomFilter;
+	private final MemberRepository memberRepository;
+	private final int batchSize;
+	private final int hashParallelism;
+	
+	//동시에 실행되는 일괄 등록 전체에서 함께 사용하는 해시 자리
+	private final Semaphore hashPermits;
+	
+	public MemberImportService(JdbcTemplate jdbcTemplate,
+							   NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+							   TransactionTemplate transactionTemplate,
+							   PasswordEncoder passwordEncoder,
+							   ObjectMapper objectMapper,
+							   SearchIndexer searchIndexer,
+							   UsernameBloomFilter usernameBloomFilter,
+							   MemberRepository memberRepository,
+							   @Value("${member.import.batch-size:1000}") int batchSize,
+							   @Value("${member.import.hash-parallelism:0}") int hashParallelism) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.passwordEncoder = passwordEncoder;
+		this.objectMapper = objectMapper;
+		this.searchIndexer = searchIndexer;
+		this.usernameBloomFilter = usernameBloomFilter;
+		this.memberRepository = memberRepository;
+		this.batchSize = batchSize;
+		int loginPermits = passwordEncoder instanceof BoundedPasswordEncoder bounded ? bounded.getMaxConcurrent() : Runtime.getRuntime().availableProcessors();
+		int maxParallelism = Math.max(1, loginPermits / 2);
+		this.hashParallelism = hashParallelism > 0 ? Math.min(hashParallelism, maxParallelism) : maxParallelism;
+		this.hashPermits = new Semaphore(this.hashParallelism);
+	}
+	
+	int getHashParallelism() {
+		return hashParallelism;
+	}
+	
+	public MemberImportResultDto importMembers(InputStream inputStream, MediaType contentType) throws IOException {
+		MemberRecordParser parser = MemberRecordParser.of(contentType, objectMapper);
+		MemberImportResultDto result = new MemberImportResultDto();
+		
+		//해시 계산용 스레드 풀, 여러 일괄 등록이 동시에 실행되어도 hashPermits만큼만 계산함
+		ForkJoinPool hashPool = new ForkJoinPool(hashParallelism);
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+			List<ImportRow> rows = new ArrayList<>(batchSize);
+			long lineNumber = 0;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				if (line.isBlank()) {
+					continue;
+				}
+				try {
+					MemberImportDto member = parser.parse(line);
+					if (member != null) {
+						rows.add(new ImportRow(lineNumber, validate(member)));
+					}
+				} catch (IllegalArgumentException e) {
+					result.reject(lineNumber, e.getMessage());
+				}
+				
+				if (rows.size() == batchSize) {
+					importBatch(rows, hashPool, result);
+					rows.clear();
+				}
+			}
+			importBatch(rows, hashPool, result);
+		} finally {
+			hashPool.shutdown();
+		}
+		
+		log.info("회원 일괄 등록 완료. 등록: {}, 거절: {}", result.getImported(), result.getRejected());
+		return result;
+	}
+	
+	private void importBatch(List<ImportRow> rows, ForkJoinPool hashPool, MemberImportResultDto result) {
+		List<ImportRow> newRows = excludeDuplicates(rows, result);
+		if (newRows.isEmpty()) {
+			return;
+		}
+		
+		List<Object[]> batch = encodePasswords(newRows, hashPool);
+		try {
+			transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch));
+			result.addImported(batch.size());
+		} catch (DuplicateKeyException e) {
+			//중복을 확인한 후에 다른 요청(회원가입)이 같은 아이디를 저장한 경우, 이 batch만 한 건씩 다시 저장함
+			insertOneByOne(newRows, batch, result);
+		}
+		
+		//existsByUsername의 캐시된 결과(query cache)가 새 회원을 모르므로 비움
+		memberRepository.evictQueryCache();
+		index(newRows);
+	}
+	
+	//파일 안에서 중복된 아이디와 이미 가입된 아이디를 제외함, DB 조회는 batch마다 한 번
+	private List<ImportRow> excludeDuplicates(List<ImportRow> rows, MemberImportResultDto result) {
+		Set<String> usernames = new HashSet<>();
+		List<ImportRow> unique = new ArrayList<>(rows.size());
+		for (ImportRow row : rows) {
+			if (usernames.add(row.member.getUsername())) {
+				unique.add(row);
+			} else {
+				result.reject(row.line, "파일 안에 중복된 아이디입니다");
+			}
+		}
+		if (unique.isEmpty()) {
+			return unique;
+		}
+		
+		Set<String> existing = new HashSet<>(namedParameterJdbcTemplate.queryForList(EXISTING_SQL, Map.of("usernames", usernames), String.class));
+		List<ImportRow> newRows = new ArrayList<>(unique.size());
+		for (ImportRow row : unique) {
+			if (existing.contains(row.member.getUsername())) {
+				result.reject(row.line, "이미 있는 아이디입니다");
+			} else {
+				newRows.add(row);
+			}
+		}
+		return newRows;
+	}
+	
+	//bcrypt는 CPU를 사용하므로 batch 안의 비밀번호를 병렬로 해시함
+	private List<Object[]> encodePasswords(List<ImportRow> rows, ForkJoinPool hashPool) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		try {
+			return hashPool.submit(() -> rows.parallelStream()
+											 .map(row -> toParameters(row.member, now))
+											 .collect(Collectors.toList()))
+						   .get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("비밀번호 해시 중 중단되었습니다", e);
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new IllegalStateException(e.getCause());
+		}
+	}
+	
+	private Object[] toParameters(MemberImportDto member, Timestamp now) {
+		String password = isEncoded(member.getPassword()) ? member.getPassword() : encode(member.getPassword());
+		return new Object[] {member.getUsername(), password, member.getName(), member.getNickName(),
+							 member.getAge(), member.getRole(), now, now};
+	}
+	
+	private String encode(String rawPassword) {
+		hashPermits.acquireUninterruptibly();
+		try {
+			return passwordEncoder.encode(rawPassword);
+		} finally {
+			hashPermits.release();
+		}
+	}
+	
+	//아이디 unique key 위반만 중복으로 거절하고, 다른 제약조건 위반은 그대로 실패시킴
+	private void insertOneByOne(List<ImportRow> rows, List<Object[]> batch, MemberImportResultDto result) {
+		int imported = 0;
+		for (int i = 0; i < rows.size(); i++) {
+			try {
+				jdbcTemplate.update(INSERT_SQL, batch.get(i));
+				imported++;
+			} catch (DuplicateKeyException e) {
+				if (!MemberService.isUsernameUniqueKey(e.getMostSpecificCause().getMessage())) {
+					throw e;
+				}
+				result.reject(rows.get(i).line, "이미 있는 아이디입니다");
+			}
+		}
+		result.addImported(imported);
+	}
+	
+	//JDBC로 저장하면 엔티티 리스너가 호출되지 않으므로 직접 검색 색인과 아이디 bloom filter에 반영함
+	private void index(List<ImportRow> rows) {
+		Set<String> usernames = rows.stream().map(row -> row.member.getUsername()).collect(Collectors.toSet());
+		usernames.forEach(usernameBloomFilter::put);
+		namedParameterJdbcTemplate.query(IMPORTED_SQL, Map.of("usernames", usernames), (rs, rowNum) -> new SearchDocument(
+				rs.getLong("member_id"), rs.getString("nick_name"), rs.getString("username"), rs.getString("name")))
+								  .forEach(document -> searchIndexer.index(SearchType.MEMBER, document));
+	}
+	
+	//== 검증, 잘못된 행은 등록하지 않고 사유를 알려줌 ==//
+	private static MemberImportDto validate(MemberImportDto member) {
+		require(member.getUsername(), "아이디를 입력해주세요", "아이디는");
+		require(member.getPassword(), "비밀번호를 입력해주세요", null);
+		//{noop}처럼 평문을 그대로 저장하거나 검증할 수 없는 형식은 받지 않음
+		if (member.getPassword().startsWith("{") && !isEncoded(member.getPassword())) {
+			throw new IllegalArgumentException("지원하지 않는 비밀번호 형식입니다. 평문이나 {bcrypt} 해시만 등록할 수 있습니다");
+		}
+		require(member.getName(), "이름을 입력해주세요", "이름은");
+		require(member.getNickName(), "닉네임을 입력해주세요", "닉네임은");
+		if (member.getAge() == null || member.getAge() < 0) {
+			throw new IllegalArgumentException("나이를 입력해주세요");
+		}
+		String role = member.getRole() == null || member.getRole().isBlank() ? Role.USER.name() : member.getRole().trim().toUpperCase(Locale.ROOT);
+		try {
+			Role.valueOf(role);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("알 수 없는 권한입니다: " + member.getRole());
+		}
+		return new MemberImportDto(member.getUsername().trim(), member.getPassword(), member.getName().trim(),
+								   member.getNickName().trim(), member.getAge(), role);
+	}
+	
+	//lengthField가 null이면 길이를 확인하지 않음(비밀번호는 해시해서 저장)
+	private static void require(String value, String blankMessage, String lengthField) {
+		if (value == null || value.isBlank()) {
+			throw new IllegalArgumentException(blankMessage);
+		}
+		if (lengthField != null && value.trim().length() > MAX_LENGTH) {
+			throw new IllegalArgumentException(lengthField + " " + MAX_LENGTH + "자 이하여야 합니다");
+		}
+	}
+	
+	//{bcrypt}로 시작하고 bcrypt 해시 형식이면 이미 해시된 비밀번호
+	private static boolean isEncoded(String password) {
+		return password.startsWith(BCRYPT_PREFIX) && BCRYPT_HASH.matcher(password.substring(BCRYPT_PREFIX.length())).matches();
+	}
+	
+	private static class ImportRow {
+		
+		private final long line;
+		private final MemberImportDto member;
+		
+		ImportRow(long line, MemberImportDto member) {
+			this.line = line;
+			this.member = member;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package spring.board.domain.member.service;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import spring.board.domain.member.Member;
+import spring.board.domain.member.dto.MemberProfileDto;
+import spring.board.domain.member.dto.MemberProfileUpdateDto;
+import spring.board.domain.member.exception.MemberNotFoundException;
+import spring.board.domain.member.exception.MemberUpdateConflictException;
+import spring.board.domain.member.exception.MemberVersionMismatchException;
+import spring.board.domain.member.repository.MemberRepository;
+
+//== 프로필(이름, 닉네임, 나이) 조회와 수정 ==//
+//Member의 version으로 낙관적 락을 사용하므로 읽은 후에 다른 요청이 먼저 수정했으면 update가 실패한다.
+//1. If-Match 없음: 수정할 항목만 바꾸는 요청이므로 다시 읽어서 같은 변경을 적용함, maxRetries번까지
+//2. If-Match 있음: 클라이언트가 본 version을 기준으로 수정하는 요청이므로 다시 시도하지 않고 412로 응답함
+//트랜잭션마다 다시 시도해야 하므로 @Transactional 대신 TransactionTemplate을 사용함
+@Slf4j
+@Service
+public class MemberProfileService {
+	
+	private final MemberRepository memberRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final EntityManagerFactory emf;
+	private final int maxRetries;
+	private final Duration retryBackoff;
+	
+	private final Counter conflicts;
+	private final Counter exhausted;
+	
+	public MemberProfileService(MemberRepository memberRepository,
+								TransactionTemplate transactionTemplate,
+								EntityManagerFactory emf,
+								MeterRegistry meterRegistry,
+								@Value("${member.profile.max-retries:3}") int maxRetries,
+								@Value("${member.profile.retry-backoff:10ms}") Duration retryBackoff) {
+		this.memberRepository = memberRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.emf = emf;
+		this.maxRetries = maxRetries;
+		this.retryBackoff = retryBackoff;
+		this.conflicts = meterRegistry.counter("member.profile.conflicts");
+		this.exhausted = meterRegistry.counter("member.profile.conflicts.exhausted");
+	}
+	
+	@Transactional(readOnly = true)
+	public MemberProfileDto getProfile(Long memberId) {
+		return new MemberProfileDto(memberRepository.findById(memberId).orElseThrow(MemberNotFoundException::new));
+	}
+	
+	//expectedVersion: If-Match로 받은 version, null이면 확인하지 않음
+	public MemberProfileDto updateProfile(Long memberId, Long expectedVersion, MemberProfileUpdateDto memberProfileUpdateDto) {
+		for (int attempt = 0; ; attempt++) {
+			try {
+				return transactionTemplate.execute(status -> update(memberId, expectedVersion, memberProfileUpdateDto));
+			} catch (OptimisticLockingFailureException e) {
+				conflicts.increment();
+				if (expectedVersion != null) {
+					throw new MemberVersionMismatchException();
+				}
+				if (attempt >= maxRetries) {
+					exhausted.increment();
+					log.info("회원 정보 수정이 계속 충돌합니다. memberId: {}, 시도: {}", memberId, attempt + 1);
+					throw new MemberUpdateConflictException();
+				}
+				//2차 캐시에 수정 전 회원이 남아 있으면 같은 version으로 다시 충돌하므로 DB에서 읽도록 지움
+				emf.getCache().evict(Member.class, memberId);
+				backoff(attempt);
+			}
+		}
+	}
+	
+	private MemberProfileDto update(Long memberId, Long expectedVersion, MemberProfileUpdateDto memberProfileUpdateDto) {
+		Member member = memberRepository.findById(memberId).orElseThrow(MemberNotFoundException::new);
+		if (expectedVersion != null && member.getVersion() != expectedVersion) {
+			throw new MemberVersionMismatchException();
+		}
+		memberProfileUpdateDto.applyTo(member);
+		
+		//충돌을 이 트랜잭션 안에서 확인하고, 응답에 증가한 version을 담기 위해 바로 반영함
+		memberRepository.flush();
+		return new MemberProfileDto(member);
+	}
+	
+	//동시에 충돌한 요청들이 같은 시점에 다시 시도하지 않도록 시도할 때마다 최대 대기 시간을 두 배로 늘리고 그 안에서 무작위로 기다림
+	private void backoff(int attempt) {
+		long maxMillis = Math.max(1, retryBackoff.toMillis() << Math.min(attempt, 10));
+		try {
+			Thread.sleep(ThreadLocalRandom.current().nextLong(maxMillis + 1));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new MemberUpdateConflictException();
+		}
+	}
+}
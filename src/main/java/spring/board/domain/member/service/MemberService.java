@@ -0,0 +1,108 @@
+package spring.board.domain.member.service;
+
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import spring.board.domain.member.Member;
+import spring.board.domain.member.cache.UsernameBloomFilter;
+import spring.board.domain.member.dto.MemberPasswordUpdateDto;
+import spring.board.domain.member.dto.MemberSignUpDto;
+import spring.board.domain.member.dto.UsernameAvailabilityDto;
+import spring.board.domain.member.exception.DuplicateUsernameException;
+import spring.board.domain.member.exception.MemberNotFoundException;
+import spring.board.domain.member.exception.WrongPasswordException;
+import spring.board.domain.member.repository.MemberRepository;
+import spring.board.global.datasource.ReplicationRoutingDataSource;
+import spring.board.global.jwt.MemberPrincipal;
+import spring.board.global.jwt.service.TokenRevocationService;
+
+@Service
+@Transactional(readOnly = true)
+public class MemberService {
+	
+	private final MemberRepository memberRepository;
+	private final PasswordEncoder passwordEncoder;
+	private final UsernameBloomFilter usernameBloomFilter;
+	private final TokenRevocationService tokenRevocationService;
+	
+	//== 아이디 중복 확인을 bloom filter로 끝냈는지, DB까지 조회했는지 ==//
+	private final Counter bloomFilterChecks;
+	private final Counter databaseChecks;
+	
+	public MemberService(MemberRepository memberRepository,
+						 PasswordEncoder passwordEncoder,
+						 UsernameBloomFilter usernameBloomFilter,
+						 TokenRevocationService tokenRevocationService,
+						 MeterRegistry meterRegistry) {
+		this.memberRepository = memberRepository;
+		this.passwordEncoder = passwordEncoder;
+		this.usernameBloomFilter = usernameBloomFilter;
+		this.tokenRevocationService = tokenRevocationService;
+		this.bloomFilterChecks = meterRegistry.counter("signup.username-check", "source", "bloom-filter");
+		this.databaseChecks = meterRegistry.counter("signup.username-check", "source", "database");
+	}
+	
+	//== 회원가입 ==//
+	//existsByUsername으로 먼저 확인하면 쿼리가 두 번이고, 확인과 저장 사이에 같은 아이디가 가입될 수 있다.
+	//username의 unique 제약조건에 맡기고 insert 한 번으로 저장하며, 이 제약조건 위반만 409로 응답하고 다른 위반은 그대로 던짐
+	@Transactional
+	public Long signUp(MemberSignUpDto memberSignUpDto) {
+		Member member = memberSignUpDto.toEntity();
+		member.encodePassword(passwordEncoder);
+		try {
+			memberRepository.saveAndFlush(member);
+		} catch (DataIntegrityViolationException e) {
+			if (isDuplicateUsername(e)) {
+				throw new DuplicateUsernameException();
+			}
+			throw e;
+		}
+		//롤백되더라도 오탐이 하나 늘어날 뿐이므로 커밋을 기다리지 않음
+		usernameBloomFilter.put(member.getUsername());
+		return member.getId();
+	}
+	
+	private static boolean isDuplicateUsername(DataIntegrityViolationException e) {
+		return e.getCause() instanceof ConstraintViolationException violation && isUsernameUniqueKey(violation.getConstraintName());
+	}
+	
+	//DB마다 제약조건 이름을 알려주는 형식이 달라서(MariaDB는 'MEMBER.uk_member_username', H2는 대문자) 포함 여부로 비교함
+	//JDBC로 저장하는 MemberImportService는 제약조건 이름 대신 SQLException의 메시지를 넘김
+	static boolean isUsernameUniqueKey(String constraintName) {
+		return constraintName != null && constraintName.toLowerCase(Locale.ROOT).contains(Member.USERNAME_UNIQUE_KEY);
+	}
+	
+	//== 아이디 중복 확인, 대부분의 새 아이디는 bloom filter에서 바로 응답함 ==//
+	public UsernameAvailabilityDto checkUsername(String username) {
+		if (usernameBloomFilter.isReady() && !usernameBloomFilter.mightContain(username)) {
+			bloomFilterChecks.increment();
+			return new UsernameAvailabilityDto(username, true);
+		}
+		databaseChecks.increment();
+		//결과를 query cache에 저장하므로, 방금 가입한 아이디를 replica가 아직 모르는 경우가 캐시에 남지 않도록 primary에서 읽음
+		boolean exists = ReplicationRoutingDataSource.readFromPrimary(() -> memberRepository.existsByUsername(username));
+		return new UsernameAvailabilityDto(username, !exists);
+	}
+	
+	//== 비밀번호 변경 ==//
+	//이전에 발급한 토큰을 모두 무효화하므로 다른 기기에서도 다시 로그인해야 함
+	@Transactional
+	public void updatePassword(MemberPrincipal principal, MemberPasswordUpdateDto memberPasswordUpdateDto) {
+		Member member = memberRepository.findById(principal.getMemberId()).orElseThrow(MemberNotFoundException::new);
+		if (!passwordEncoder.matches(memberPasswordUpdateDto.getCurrentPassword(), member.getPassword())) {
+			throw new WrongPasswordException();
+		}
+		member.updatePassword(passwordEncoder, memberPasswordUpdateDto.getNewPassword());
+		
+		//watermark는 초 단위이므로 같은 초에 발급된 요청의 토큰은 따로 무효화함
+		tokenRevocationService.revokeAll(member.getId());
+		tokenRevocationService.revoke(principal);
+	}
+}
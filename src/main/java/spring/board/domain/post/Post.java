@@ -0,0 +1,68 @@
+package spring.board.domain.post;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.Lob;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import spring.board.domain.BaseTimeEntity;
+import spring.board.domain.member.Member;
+import spring.board.domain.search.listener.PostSearchIndexListener;
+
+//목록 조회는 (createdDate, id) 기준의 keyset 페이징을 사용하므로 같은 순서의 복합 인덱스를 생성함
+@Table(name = "POST", indexes = @Index(name = "idx_post_created_date_id", columnList = "createdDate, post_id"))
+@Entity
+@EntityListeners(PostSearchIndexListener.class) //저장, 수정, 삭제되면 검색 색인에 반영함
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Post extends BaseTimeEntity {
+	
+	//primary key, post를 구별할 식별자
+	@Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "post_id")
+	private Long id;
+	
+	//작성자, 목록이나 상세 조회에서 필요할 때 fetch join으로 함께 조회함
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "writer_id", nullable = false)
+	private Member writer;
+	
+	//제목
+	@Column(nullable = false, length = 100)
+	private String title;
+	
+	//내용
+	@Lob
+	@Column(nullable = false)
+	private String content;
+	
+	//조회수, 요청마다 UPDATE하지 않고 PostViewCounter가 모아서 주기적으로 반영함
+	@Column(nullable = false)
+	private long views;
+	
+	//== 정보 수정 메서드 == //
+	//제목 수정
+	public void updateTitle(String title) {
+		this.title = title;
+	}
+	
+	//내용 수정
+	public void updateContent(String content) {
+		this.content = content;
+	}
+}
@@ -0,0 +1,123 @@
+package spring.board.domain.post.controller;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+
+import javax.validation.Valid;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import lombok.RequiredArgsConstructor;
+import spring.board.domain.post.dto.HotPostDto;
+import spring.board.domain.post.dto.PostInfoDto;
+import spring.board.domain.post.dto.PostSaveDto;
+import spring.board.domain.post.dto.PostSliceDto;
+import spring.board.domain.post.dto.PostVersion;
+import spring.board.domain.post.dto.PostViewsDto;
+import spring.board.domain.post.ranking.HotPostRanking;
+import spring.board.domain.post.service.PostService;
+import spring.board.global.jwt.MemberPrincipal;
+
+//게시글 조회(상세, 목록)는 ETag, Last-Modified를 응답하고 If-None-Match, If-Modified-Since가 같으면 본문 없이 304로 응답함
+@RestController
+@RequiredArgsConstructor
+public class PostController {
+	
+	private static final String GZIP = "gzip";
+	
+	private final PostService postService;
+	private final HotPostRanking hotPostRanking;
+	
+	//== 게시글 작성, 로그인한 회원만 가능 ==//
+	@PostMapping("/posts")
+	public ResponseEntity<Void> save(@AuthenticationPrincipal MemberPrincipal principal, @Valid @RequestBody PostSaveDto postSaveDto) {
+		Long postId = postService.save(principal.getMemberId(), postSaveDto);
+		return ResponseEntity.created(URI.create("/posts/" + postId)).build();
+	}
+	
+	//== 게시글 목록, cursor가 없으면 최신 게시글부터 조회 ==//
+	//목록 조회는 내용을 읽지 않는 DTO 조회이므로 조회한 결과로 ETag를 만들고, 같으면 ResponseEntity가 304로 바꿔서 응답함
+	@GetMapping("/posts")
+	public ResponseEntity<PostSliceDto> getPosts(@RequestParam(required = false) String cursor,
+												 @RequestParam(defaultValue = "" + PostService.DEFAULT_PAGE_SIZE) int size,
+												 ServletWebRequest request) {
+		PostSliceDto posts = postService.getPosts(cursor, size);
+		return versioned(request, PostVersion.of(posts), posts);
+	}
+	
+	//== 인기 게시글, 최근 조회와 댓글이 많은 순서 ==//
+	//메모리의 순위만 읽으므로 트랜잭션(PostService) 없이 바로 조회함
+	@GetMapping("/posts/hot")
+	public List<HotPostDto> getHotPosts(@RequestParam(defaultValue = "10") int size) {
+		return hotPostRanking.getHotPosts(size);
+	}
+	
+	//== 게시글 상세 조회 ==//
+	//조건부 요청이면 내용을 읽기 전에 버전만 조회해서 비교함
+	@GetMapping("/posts/{postId}")
+	public ResponseEntity<PostInfoDto> getPost(@PathVariable Long postId, ServletWebRequest request) {
+		if (isConditional(request)) {
+			PostVersion version = postService.getPostVersion(postId);
+			request.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			if (request.checkNotModified(eTag(request, version), version.getLastModified())) {
+				postService.countView(postId);
+				return null;
+			}
+		}
+		PostInfoDto post = postService.getPost(postId);
+		return versioned(request, PostVersion.of(post), post);
+	}
+	
+	//== 게시글 조회수, 자주 바뀌므로 상세 조회와 분리하고 캐시하지 않음 ==//
+	@GetMapping("/posts/{postId}/views")
+	public PostViewsDto getViews(@PathVariable Long postId) {
+		return postService.getViews(postId);
+	}
+	
+	//ETag, Last-Modified가 요청의 If-None-Match, If-Modified-Since와 같으면 본문을 쓰지 않고 304로 응답함(HttpEntityMethodProcessor)
+	private static <T> ResponseEntity<T> versioned(ServletWebRequest request, PostVersion version, T body) {
+		return ResponseEntity.ok()
+							 .eTag(eTag(request, version))
+							 .lastModified(version.getLastModified())
+							 .varyBy(HttpHeaders.ACCEPT_ENCODING)
+							 .body(body);
+	}
+	
+	private static boolean isConditional(ServletWebRequest request) {
+		return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+	}
+	
+	//== 압축 여부에 따라 ETag를 구분 ==//
+	//Tomcat은 strong ETag가 있는 응답은 압축하지 않으므로, gzip을 받을 수 있는 요청에는 -gzip을 붙인 weak ETag를 사용함
+	//압축하지 않는 요청은 바이트 단위로 같은 응답이므로 strong ETag를 사용함
+	//압축 기준 크기보다 작아서 압축되지 않은 응답에도 붙지만, 같은 내용에 다른 ETag가 붙는 것은 허용됨
+	private static String eTag(ServletWebRequest request, PostVersion version) {
+		return acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))
+			 ? "W/\"" + version.getETag() + "-" + GZIP + "\""
+			 : "\"" + version.getETag() + "\"";
+	}
+	
+	//q=0은 받을 수 없다는 뜻
+	static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+			String[] parts = coding.split(";");
+			if (parts[0].trim().equals(GZIP)) {
+				return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,24 @@
+package spring.board.domain.post.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+
+//인기 게시글 한 줄, 목록(PostSummaryDto)에 지금 시점의 점수를 붙임
+@Getter
+public class HotPostDto {
+	
+	private final Long postId;
+	private final String title;
+	private final String writerNickName;
+	private final LocalDateTime createdDate;
+	private final double score;
+	
+	public HotPostDto(PostSummaryDto summary, double score) {
+		this.postId = summary.getPostId();
+		this.title = summary.getTitle();
+		this.writerNickName = summary.getWriterNickName();
+		this.createdDate = summary.getCreatedDate();
+		this.score = score;
+	}
+}
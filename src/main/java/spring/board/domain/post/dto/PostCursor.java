@@ -0,0 +1,41 @@
+package spring.board.domain.post.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import spring.board.domain.post.exception.InvalidCursorException;
+
+//keyset 페이징에서 마지막으로 조회한 게시글의 (createdDate, id)
+//클라이언트에게는 "createdDate,id"를 Base64(URL-safe)로 인코딩한 문자열로 전달함
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+	
+	private static final String DELIMITER = ",";
+	
+	private final LocalDateTime createdDate;
+	private final Long id;
+	
+	public static PostCursor of(PostSummaryDto post) {
+		return new PostCursor(post.getCreatedDate(), post.getPostId());
+	}
+	
+	public String encode() {
+		String value = createdDate + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	public static PostCursor decode(String cursor) {
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int index = value.lastIndexOf(DELIMITER);
+			return new PostCursor(LocalDateTime.parse(value.substring(0, index)), Long.valueOf(value.substring(index + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+			throw new InvalidCursorException();
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package spring.board.domain.post.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import spring.board.domain.post.Post;
+
+//게시글 상세 조회 응답
+//조회수는 조회할 때마다 바뀌므로 포함하지 않음(GET /posts/{postId}/views), 그래야 수정되기 전까지 같은 ETag로 캐시할 수 있음
+@Getter
+@AllArgsConstructor
+public class PostInfoDto {
+	
+	private final Long postId;
+	private final String title;
+	private final String content;
+	private final Long writerId;
+	private final String writerNickName;
+	private final LocalDateTime createdDate;
+	private final LocalDateTime lastModifiedDate;
+	
+	public PostInfoDto(Post post) {
+		this.postId = post.getId();
+		this.title = post.getTitle();
+		this.content = post.getContent();
+		this.writerId = post.getWriter().getId();
+		this.writerNickName = post.getWriter().getNickName();
+		this.createdDate = post.getCreatedDate();
+		this.lastModifiedDate = post.getLastModifiedDate();
+	}
+}
@@ -0,0 +1,33 @@
+package spring.board.domain.post.dto;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import spring.board.domain.member.Member;
+import spring.board.domain.post.Post;
+
+//게시글 작성 요청
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PostSaveDto {
+	
+	@NotBlank(message = "제목을 입력해주세요")
+	@Size(max = 100, message = "제목은 100자 이하로 입력해주세요")
+	private String title;
+	
+	@NotBlank(message = "내용을 입력해주세요")
+	private String content;
+	
+	public Post toEntity(Member writer) {
+		return Post.builder()
+				   .writer(writer)
+				   .title(title)
+				   .content(content)
+				   .build();
+	}
+}
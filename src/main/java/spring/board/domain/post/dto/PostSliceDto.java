@@ -0,0 +1,16 @@
+package spring.board.domain.post.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//keyset 페이징 목록 응답, 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨서 조회함
+@Getter
+@AllArgsConstructor
+public class PostSliceDto {
+	
+	private final List<PostSummaryDto> posts;
+	private final boolean hasNext;
+	private final String nextCursor;
+}
@@ -0,0 +1,20 @@
+package spring.board.domain.post.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//게시글 목록의 한 줄, 내용은 포함하지 않음
+//PostRepository에서 엔티티가 아니라 이 DTO로 바로 조회함(내용 컬럼을 읽지 않음)
+//lastModifiedDate는 목록의 ETag(PostVersion)를 만들 때 사용함
+@Getter
+@AllArgsConstructor
+public class PostSummaryDto {
+	
+	private final Long postId;
+	private final String title;
+	private final String writerNickName;
+	private final LocalDateTime createdDate;
+	private final LocalDateTime lastModifiedDate;
+}
@@ -0,0 +1,73 @@
+package spring.board.domain.post.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import lombok.Getter;
+
+//== 게시글 응답(상세, 목록)의 버전, 조건부 요청(If-None-Match, If-Modified-Since)에 사용 ==//
+//eTag: 응답에 포함된 게시글마다 (id, 수정 시간, 작성자 별명)을 이어 붙여 SHA-256으로 해시한 strong ETag
+//		제목, 내용은 수정되면 수정 시간이 바뀌고, 작성자 별명은 게시글의 수정 시간과 관계없이 바뀌므로 함께 넣음
+//lastModified: 그 중 가장 최근 수정 시간(epoch ms), 없으면 -1
+@Getter
+public class PostVersion {
+	
+	private static final int ETAG_BYTES = 16;
+	
+	private final String eTag;
+	private final long lastModified;
+	
+	//상세 조회 전에 본문을 읽지 않고 버전만 조회할 때 사용(PostRepository.findVersionById)
+	public PostVersion(Long postId, LocalDateTime lastModifiedDate, String writerNickName) {
+		StringBuilder content = new StringBuilder();
+		append(content, postId, lastModifiedDate, writerNickName);
+		this.eTag = hash(content);
+		this.lastModified = epochMilli(lastModifiedDate);
+	}
+	
+	private PostVersion(String eTag, long lastModified) {
+		this.eTag = eTag;
+		this.lastModified = lastModified;
+	}
+	
+	public static PostVersion of(PostInfoDto post) {
+		return new PostVersion(post.getPostId(), post.getLastModifiedDate(), post.getWriterNickName());
+	}
+	
+	//다음 페이지 여부도 응답에 포함되므로 함께 넣음, nextCursor는 마지막 게시글의 id로 정해짐
+	public static PostVersion of(PostSliceDto slice) {
+		StringBuilder content = new StringBuilder();
+		long lastModified = -1;
+		List<PostSummaryDto> posts = slice.getPosts();
+		for (PostSummaryDto post : posts) {
+			append(content, post.getPostId(), post.getLastModifiedDate(), post.getWriterNickName());
+			lastModified = Math.max(lastModified, epochMilli(post.getLastModifiedDate()));
+		}
+		content.append(slice.isHasNext());
+		return new PostVersion(hash(content), lastModified);
+	}
+	
+	private static void append(StringBuilder content, Long postId, LocalDateTime lastModifiedDate, String writerNickName) {
+		content.append(postId).append('|').append(lastModifiedDate).append('|').append(writerNickName).append('\n');
+	}
+	
+	private static String hash(StringBuilder content) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, ETAG_BYTES));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	//BaseTimeEntity는 LocalDateTime(서버 시간대)으로 저장함
+	private static long epochMilli(LocalDateTime dateTime) {
+		return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+}
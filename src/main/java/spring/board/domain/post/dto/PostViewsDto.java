@@ -0,0 +1,13 @@
+package spring.board.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//게시글 조회수 응답, views는 DB에 반영된 조회수와 아직 반영되지 않은 조회수를 합친 값
+@Getter
+@AllArgsConstructor
+public class PostViewsDto {
+	
+	private final Long postId;
+	private final long views;
+}
@@ -0,0 +1,14 @@
+package spring.board.domain.post.exception;
+
+import org.springframework.http.HttpStatus;
+
+import spring.board.global.exception.BaseException;
+
+public class InvalidCursorException extends BaseException {
+
+	private static final long serialVersionUID = 1L;
+
+	public InvalidCursorException() {
+		super(HttpStatus.BAD_REQUEST, "잘못된 cursor입니다");
+	}
+}
@@ -0,0 +1,14 @@
+package spring.board.domain.post.exception;
+
+import org.springframework.http.HttpStatus;
+
+import spring.board.global.exception.BaseException;
+
+public class PostNotFoundException extends BaseException {
+
+	private static final long serialVersionUID = 1L;
+
+	public PostNotFoundException() {
+		super(HttpStatus.NOT_FOUND, "게시글이 없습니다");
+	}
+}
@@ -0,0 +1,131 @@
+package spring.board.domain.post.ranking;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//== 시간이 지날수록 줄어드는 점수로 상위 항목을 유지하는 구조 ==//
+//점수는 halfLife마다 절반이 되지만 모든 항목의 점수를 주기적으로 줄이지 않고,
+//기준 시간(epoch)부터 지난 시간만큼 키운 가중치를 더한다(forward decay). 같은 시점에서 보면 순서는 같고 갱신은 항목 하나만 바뀜
+//가중치가 너무 커지기 전에 기준 시간을 옮기고 모든 점수를 같은 비율로 줄임(rebase)
+//1. 순서: 점수 내림차순 skip list, 앞에서 k개를 읽으면 상위 k개이므로 조회는 O(k)이고 lock이 없음
+//2. 크기: capacity개까지만 추적하고 넘으면 점수가 가장 낮은 항목을 버림
+//변경(add)은 한 스레드씩, 조회는 변경과 동시에 가능함(갱신 중인 항목 하나가 잠깐 빠져 보일 수 있음)
+public class DecayedTopK {
+	
+	//2^REBASE_HALF_LIVES배까지 커지면 rebase, double의 최대 지수(1023)보다 충분히 작게
+	private static final int REBASE_HALF_LIVES = 512;
+	
+	private static final Comparator<Node> ORDER = Comparator.comparingDouble((Node node) -> node.raw).reversed()
+															.thenComparingLong(node -> node.id);
+	
+	private final int capacity;
+	private final double halfLifeMillis;
+	
+	//id -> 현재 노드, 변경하는 스레드만 사용함
+	private final Map<Long, Node> nodes = new HashMap<>();
+	
+	//rebase하면 목록과 기준 시간을 함께 바꿈
+	private volatile Ranking ranking;
+	
+	public DecayedTopK(int capacity, Duration halfLife, long nowMillis) {
+		this.capacity = capacity;
+		this.halfLifeMillis = halfLife.toMillis();
+		this.ranking = new Ranking(new ConcurrentSkipListSet<>(ORDER), nowMillis);
+	}
+	
+	//now(epoch ms) 시점에 weight만큼 더함, 스냅샷에서 복구할 때는 저장한 시점과 그때의 점수를 넣음
+	public synchronized void add(long id, double weight, long nowMillis) {
+		if (nowMillis - ranking.epochMillis > REBASE_HALF_LIVES * halfLifeMillis) {
+			rebase(nowMillis);
+		}
+		Node current = nodes.get(id);
+		double raw = weight * Math.pow(2, (nowMillis - ranking.epochMillis) / halfLifeMillis);
+		put(new Node(id, current == null ? raw : current.raw + raw), current);
+	}
+	
+	//점수 내림차순으로 최대 k개
+	public List<Scored> top(int k, long nowMillis) {
+		Ranking current = ranking;
+		double factor = Math.pow(2, -(nowMillis - current.epochMillis) / halfLifeMillis);
+		List<Scored> top = new ArrayList<>(Math.min(k, capacity));
+		for (Node node : current.nodes) {
+			if (top.size() == k) {
+				break;
+			}
+			top.add(new Scored(node.id, node.raw * factor));
+		}
+		return top;
+	}
+	
+	public boolean contains(long id) {
+		synchronized (this) {
+			return nodes.containsKey(id);
+		}
+	}
+	
+	public int size() {
+		return ranking.nodes.size();
+	}
+	
+	private void put(Node node, Node previous) {
+		if (previous != null) {
+			ranking.nodes.remove(previous);
+		}
+		nodes.put(node.id, node);
+		ranking.nodes.add(node);
+		
+		while (nodes.size() > capacity) {
+			Node lowest = ranking.nodes.pollLast();
+			nodes.remove(lowest.id);
+		}
+	}
+	
+	//기준 시간을 now로 옮김, 모든 점수를 같은 비율로 줄이므로 순서는 바뀌지 않음
+	//새 skip list를 만든 후에 바꾸므로 조회 중인 스레드는 이전 목록을 끝까지 읽음
+	private void rebase(long nowMillis) {
+		double factor = Math.pow(2, -(nowMillis - ranking.epochMillis) / halfLifeMillis);
+		ConcurrentSkipListSet<Node> rebased = new ConcurrentSkipListSet<>(ORDER);
+		for (Node node : ranking.nodes) {
+			Node scaled = new Node(node.id, node.raw * factor);
+			nodes.put(scaled.id, scaled);
+			rebased.add(scaled);
+		}
+		ranking = new Ranking(rebased, nowMillis);
+	}
+	
+	//skip list의 정렬 기준이 바뀌지 않도록 점수가 바뀌면 새 노드로 교체함
+	private static class Node {
+		
+		private final long id;
+		private final double raw;
+		
+		private Node(long id, double raw) {
+			this.id = id;
+			this.raw = raw;
+		}
+	}
+	
+	@AllArgsConstructor
+	private static class Ranking {
+		
+		private final ConcurrentSkipListSet<Node> nodes;
+		private final long epochMillis;
+	}
+	
+	//now 시점의 점수
+	@Getter
+	@AllArgsConstructor
+	public static class Scored {
+		
+		private final long id;
+		private final double score;
+	}
+}
@@ -0,0 +1,7 @@
+package spring.board.domain.post.ranking;
+
+//인기 게시글 점수에 반영하는 사건, 가중치는 board.hot-posts.weight에서 설정함
+public enum HotPostEvent {
+	
+	VIEW, COMMENT
+}
@@ -0,0 +1,222 @@
+package spring.board.domain.post.ranking;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import spring.board.domain.post.dto.HotPostDto;
+import spring.board.domain.post.dto.PostSummaryDto;
+import spring.board.domain.post.ranking.DecayedTopK.Scored;
+import spring.board.domain.post.ranking.repository.HotPostScoreRepository;
+import spring.board.domain.post.repository.PostRepository;
+
+//== 인기 게시글 순위 ==//
+//조회수나 댓글 수로 전체 게시글을 정렬하지 않고, 조회와 댓글이 생길 때마다 점수를 더해서 상위 게시글을 메모리에 유지한다.
+//점수는 half-life마다 절반이 되므로 최근에 조회, 댓글이 많은 게시글이 위로 올라감
+//1. 기록: 요청 스레드는 게시글별 가중치만 더하고, apply-interval마다 한 스레드가 순위(DecayedTopK)에 반영함
+//2. 조회: 순위의 앞에서 size개와 메모리에 올려둔 제목, 작성자로 응답하므로 DB를 사용하지 않음
+//   제목, 작성자는 순위에 새로 들어온 게시글만 반영할 때 한 번에 조회하고, 스냅샷마다 다시 읽어서 수정을 반영함
+//3. 스냅샷: snapshot-interval마다 점수를 HOT_POST_SCORE에 저장하고 서버가 시작될 때 읽어서 이어서 계산함
+//   서버가 여러 대이면 각 서버는 자기가 받은 요청만 순위에 반영하고, 스냅샷은 같은 시점으로 줄인 점수를 비교해서 게시글마다 더 높은 점수만 남김
+//   다른 서버의 점수를 덮어쓰지는 않지만 합치지도 않으므로, 시작할 때 복구한 점수는 서버 전체가 아니라 가장 많이 받은 서버의 점수임
+@Slf4j
+@Component
+public class HotPostRanking {
+	
+	private static final String SELECT_SQL = "select post_id, score, scored_at from HOT_POST_SCORE for update";
+	private static final String INSERT_SQL = "insert into HOT_POST_SCORE (post_id, score, scored_at) values (?, ?, ?)";
+	private static final String UPDATE_SQL = "update HOT_POST_SCORE set score = ?, scored_at = ? where post_id = ?";
+	private static final String DELETE_STALE_SQL = "delete from HOT_POST_SCORE where scored_at < ?";
+	
+	//이 횟수의 half-life 동안 어느 서버도 갱신하지 않은 점수는 1/1024 이하로 줄었으므로 지움
+	private static final int STALE_HALF_LIVES = 10;
+	
+	private final PostRepository postRepository;
+	private final HotPostScoreRepository hotPostScoreRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	
+	private final DecayedTopK topK;
+	private final int maxSize;
+	private final int maxTracked;
+	private final Duration halfLife;
+	private final double viewWeight;
+	private final double commentWeight;
+	
+	//게시글 id -> 아직 순위에 반영하지 않은 가중치
+	private final ConcurrentHashMap<Long, Double> pending = new ConcurrentHashMap<>();
+	
+	//상위 maxSize개 게시글의 목록 내용
+	private final ConcurrentHashMap<Long, PostSummaryDto> summaries = new ConcurrentHashMap<>();
+	
+	public HotPostRanking(PostRepository postRepository,
+						  HotPostScoreRepository hotPostScoreRepository,
+						  JdbcTemplate jdbcTemplate,
+						  TransactionTemplate transactionTemplate,
+						  MeterRegistry meterRegistry,
+						  @Value("${board.hot-posts.max-size:50}") int maxSize,
+						  @Value("${board.hot-posts.max-tracked:1000}") int maxTracked,
+						  @Value("${board.hot-posts.half-life:6h}") Duration halfLife,
+						  @Value("${board.hot-posts.weight.view:1}") double viewWeight,
+						  @Value("${board.hot-posts.weight.comment:5}") double commentWeight) {
+		this.postRepository = postRepository;
+		this.hotPostScoreRepository = hotPostScoreRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.topK = new DecayedTopK(maxTracked, halfLife, System.currentTimeMillis());
+		this.maxSize = maxSize;
+		this.maxTracked = maxTracked;
+		this.halfLife = halfLife;
+		this.viewWeight = viewWeight;
+		this.commentWeight = commentWeight;
+		
+		Gauge.builder("board.hot-posts.tracked", topK, DecayedTopK::size).register(meterRegistry);
+		Gauge.builder("board.hot-posts.pending", pending, ConcurrentHashMap::size).register(meterRegistry);
+	}
+	
+	//== 요청마다 호출, 게시글별 가중치만 더함 ==//
+	public void record(Long postId, HotPostEvent event) {
+		pending.merge(postId, weight(event), Double::sum);
+	}
+	
+	//== 인기 게시글, 메모리에서만 읽음 ==//
+	//삭제되어서 내용을 찾지 못한 게시글은 건너뛰므로 size보다 적을 수 있음
+	public List<HotPostDto> getHotPosts(int size) {
+		int limit = Math.min(Math.max(size, 1), maxSize);
+		List<HotPostDto> hotPosts = new ArrayList<>(limit);
+		for (Scored scored : topK.top(limit, System.currentTimeMillis())) {
+			PostSummaryDto summary = summaries.get(scored.getId());
+			if (summary != null) {
+				hotPosts.add(new HotPostDto(summary, scored.getScore()));
+			}
+		}
+		return hotPosts;
+	}
+	
+	//== 모아둔 가중치를 순위에 반영 ==//
+	//remove로 꺼내므로 꺼낸 후에 더해진 가중치는 새 항목으로 남아서 다음 주기에 반영됨
+	@Scheduled(fixedDelayString = "${board.hot-posts.apply-interval:1000}")
+	public synchronized void apply() {
+		if (pending.isEmpty()) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		for (Long postId : pending.keySet()) {
+			Double weight = pending.remove(postId);
+			if (weight != null) {
+				topK.add(postId, weight, now);
+			}
+		}
+		refreshSummaries(false);
+	}
+	
+	//== 점수를 DB에 저장 ==//
+	//다른 서버가 저장한 점수를 지우지 않도록 게시글마다 지금 시점으로 줄인 점수를 비교해서 더 높을 때만 바꿈
+	//비교하는 동안 다른 서버가 바꾸지 못하도록 읽은 행을 잠그며, 실패하면 이전 스냅샷이 남음
+	@Scheduled(fixedDelayString = "${board.hot-posts.snapshot-interval:60000}")
+	public synchronized void snapshot() {
+		long now = System.currentTimeMillis();
+		Timestamp scoredAt = Timestamp.from(Instant.ofEpochMilli(now));
+		List<Scored> scores = topK.top(maxTracked, now);
+		
+		try {
+			int written = transactionTemplate.execute(status -> {
+				Map<Long, Double> stored = new HashMap<>();
+				jdbcTemplate.query(SELECT_SQL, rs -> {
+					stored.put(rs.getLong("post_id"), decay(rs.getDouble("score"), rs.getTimestamp("scored_at").getTime(), now));
+				});
+				
+				List<Object[]> inserts = new ArrayList<>();
+				List<Object[]> updates = new ArrayList<>();
+				for (Scored scored : scores) {
+					Double current = stored.get(scored.getId());
+					if (current == null) {
+						inserts.add(new Object[] {scored.getId(), scored.getScore(), scoredAt});
+					} else if (current < scored.getScore()) {
+						updates.add(new Object[] {scored.getScore(), scoredAt, scored.getId()});
+					}
+				}
+				jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+				jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+				jdbcTemplate.update(DELETE_STALE_SQL, Timestamp.from(Instant.ofEpochMilli(now).minus(halfLife.multipliedBy(STALE_HALF_LIVES))));
+				return inserts.size() + updates.size();
+			});
+			refreshSummaries(true);
+			log.debug("인기 게시글 점수를 저장했습니다. 추적: {}, 저장: {}", scores.size(), written);
+		} catch (DataAccessException e) {
+			log.warn("인기 게시글 점수를 저장하지 못했습니다. 게시글 수: {}", scores.size(), e);
+		}
+	}
+	
+	//== 서버 시작 시 마지막 스냅샷에서 복구 ==//
+	//저장한 시점의 점수를 그 시점에 더하므로 서버가 내려가 있던 시간만큼 줄어든 점수가 됨
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void restore() {
+		List<HotPostScore> scores = hotPostScoreRepository.findAll();
+		for (HotPostScore score : scores) {
+			topK.add(score.getPostId(), score.getScore(), score.getScoredAt().toEpochMilli());
+		}
+		refreshSummaries(true);
+		log.info("인기 게시글 점수를 읽었습니다. 게시글 수: {}", scores.size());
+	}
+	
+	//서버가 종료될 때 반영하지 않은 가중치까지 저장함
+	@PreDestroy
+	public void snapshotOnShutdown() {
+		apply();
+		snapshot();
+	}
+	
+	//상위 maxSize개의 목록 내용을 메모리에 맞춤, all이면 이미 있는 것도 다시 읽어서 제목, 작성자 닉네임의 변경을 반영함
+	private void refreshSummaries(boolean all) {
+		Set<Long> top = new HashSet<>();
+		for (Scored scored : topK.top(maxSize, System.currentTimeMillis())) {
+			top.add(scored.getId());
+		}
+		summaries.keySet().retainAll(top);
+		
+		Set<Long> missing = new HashSet<>(top);
+		if (!all) {
+			missing.removeAll(summaries.keySet());
+		}
+		if (missing.isEmpty()) {
+			return;
+		}
+		for (PostSummaryDto summary : postRepository.findSummariesByIdIn(missing)) {
+			summaries.put(summary.getPostId(), summary);
+			missing.remove(summary.getPostId());
+		}
+		//삭제된 게시글
+		summaries.keySet().removeAll(missing);
+	}
+	
+	//scoredAt 시점의 점수를 now 시점으로 줄임
+	private double decay(double score, long scoredAtMillis, long nowMillis) {
+		return score * Math.pow(2, -(double) (nowMillis - scoredAtMillis) / halfLife.toMillis());
+	}
+	
+	private double weight(HotPostEvent event) {
+		return event == HotPostEvent.COMMENT ? commentWeight : viewWeight;
+	}
+}
@@ -0,0 +1,34 @@
+package spring.board.domain.post.ranking;
+
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+//인기 게시글 점수의 스냅샷, 서버가 다시 시작되면 이 점수에서 이어서 계산함
+//HotPostRanking이 JDBC batch로 게시글마다 더 높은 점수만 바꿔 쓰고, JPA로는 시작할 때 읽기만 함
+@Table(name = "HOT_POST_SCORE")
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class HotPostScore {
+	
+	@Id
+	@Column(name = "post_id")
+	private Long postId;
+	
+	//scoredAt 시점의 점수
+	@Column(nullable = false)
+	private double score;
+	
+	@Column(nullable = false)
+	private Instant scoredAt;
+}
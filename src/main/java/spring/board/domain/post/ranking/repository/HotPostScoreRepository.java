@@ -0,0 +1,8 @@
+package spring.board.domain.post.ranking.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import spring.board.domain.post.ranking.HotPostScore;
+
+public interface HotPostScoreRepository extends JpaRepository<HotPostScore, Long> {
+}
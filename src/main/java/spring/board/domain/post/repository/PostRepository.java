@@ -0,0 +1,54 @@
+package spring.board.domain.post.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import spring.board.domain.post.Post;
+import spring.board.domain.post.dto.PostSummaryDto;
+import spring.board.domain.post.dto.PostVersion;
+
+public interface PostRepository extends JpaRepository<Post, Long> {
+	
+	//목록은 엔티티가 아니라 DTO로 바로 조회함, 내용(content)을 읽지 않고 영속성 컨텍스트에도 올리지 않음
+	String SUMMARY_SELECT = "select new spring.board.domain.post.dto.PostSummaryDto(p.id, p.title, w.nickName, p.createdDate, p.lastModifiedDate) "
+						  + "from Post p join p.writer w ";
+	
+	@Query("select p from Post p join fetch p.writer where p.id = :id")
+	Optional<Post> findWithWriterById(@Param("id") Long id);
+	
+	//== 조건부 요청에서 본문을 읽기 전에 버전만 확인 ==//
+	@Query("select new spring.board.domain.post.dto.PostVersion(p.id, p.lastModifiedDate, w.nickName) from Post p join p.writer w where p.id = :id")
+	Optional<PostVersion> findVersionById(@Param("id") Long id);
+	
+	//DB에 반영된 조회수
+	@Query("select p.views from Post p where p.id = :id")
+	Optional<Long> findViewsById(@Param("id") Long id);
+	
+	//인기 게시글 목록에 표시할 내용, 순위가 바뀔 때 메모리에 올려두기 위해 한 번에 조회함
+	@Query(SUMMARY_SELECT + "where p.id in :ids")
+	List<PostSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+	
+	//== keyset(seek) 페이징 ==//
+	//OFFSET을 사용하지 않고 마지막으로 조회한 (createdDate, id) 다음부터 조회하므로 몇 번째 페이지든 비용이 같다.
+	//개수는 Pageable의 size로만 제한함(첫 번째 페이지 요청만 사용)
+	@Query(SUMMARY_SELECT + "order by p.createdDate desc, p.id desc")
+	List<PostSummaryDto> findFirstPage(Pageable pageable);
+	
+	//createdDate <= :createdDate 조건으로 인덱스 범위 검색을 하고, 같은 시간인 경우 id로 구분함
+	@Query(SUMMARY_SELECT
+		 + "where p.createdDate <= :createdDate and (p.createdDate < :createdDate or p.id < :id) "
+		 + "order by p.createdDate desc, p.id desc")
+	List<PostSummaryDto> findNextPage(@Param("createdDate") LocalDateTime createdDate, @Param("id") Long id, Pageable pageable);
+	
+	//== OFFSET 페이징, keyset 페이징과 성능을 비교하기 위해 남겨둠 ==//
+	@Query(SUMMARY_SELECT + "order by p.createdDate desc, p.id desc")
+	Slice<PostSummaryDto> findSliceByOffset(Pageable pageable);
+}
@@ -0,0 +1,94 @@
+package spring.board.domain.post.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import spring.board.domain.member.Member;
+import spring.board.domain.member.repository.MemberRepository;
+import spring.board.domain.post.Post;
+import spring.board.domain.post.dto.PostCursor;
+import spring.board.domain.post.dto.PostInfoDto;
+import spring.board.domain.post.dto.PostSaveDto;
+import spring.board.domain.post.dto.PostSliceDto;
+import spring.board.domain.post.dto.PostSummaryDto;
+import spring.board.domain.post.dto.PostVersion;
+import spring.board.domain.post.dto.PostViewsDto;
+import spring.board.domain.post.exception.PostNotFoundException;
+import spring.board.domain.post.ranking.HotPostEvent;
+import spring.board.domain.post.ranking.HotPostRanking;
+import spring.board.domain.post.repository.PostRepository;
+import spring.board.domain.post.view.PostViewCounter;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostService {
+	
+	//== 한 페이지에서 조회할 수 있는 게시글 수 ==//
+	public static final int DEFAULT_PAGE_SIZE = 20;
+	public static final int MAX_PAGE_SIZE = 100;
+	
+	private final PostRepository postRepository;
+	private final MemberRepository memberRepository;
+	private final PostViewCounter postViewCounter;
+	private final HotPostRanking hotPostRanking;
+	
+	//작성자는 JWT의 회원 id로 프록시만 만들어서 연결함(회원 조회 쿼리 없음)
+	@Transactional
+	public Long save(Long writerId, PostSaveDto postSaveDto) {
+		Member writer = memberRepository.getReferenceById(writerId);
+		return postRepository.save(postSaveDto.toEntity(writer)).getId();
+	}
+	
+	//조회수와 인기 게시글 점수는 메모리에서만 증가시킴
+	public PostInfoDto getPost(Long postId) {
+		Post post = postRepository.findWithWriterById(postId).orElseThrow(PostNotFoundException::new);
+		postViewCounter.increment(postId);
+		hotPostRanking.record(postId, HotPostEvent.VIEW);
+		return new PostInfoDto(post);
+	}
+	
+	//== 조건부 요청, 본문을 읽지 않고 버전만 조회 ==//
+	public PostVersion getPostVersion(Long postId) {
+		return postRepository.findVersionById(postId).orElseThrow(PostNotFoundException::new);
+	}
+	
+	//304(Not Modified)로 응답한 조회도 조회수에 포함함
+	public void countView(Long postId) {
+		postViewCounter.increment(postId);
+		hotPostRanking.record(postId, HotPostEvent.VIEW);
+	}
+	
+	//DB에 반영된 조회수와 아직 반영되지 않은 조회수를 합쳐서 응답함
+	public PostViewsDto getViews(Long postId) {
+		long views = postRepository.findViewsById(postId).orElseThrow(PostNotFoundException::new);
+		return new PostViewsDto(postId, views + postViewCounter.getPendingViews(postId));
+	}
+	
+	//cursor가 없으면 첫 번째 페이지, 있으면 cursor 다음부터 조회
+	//다음 페이지가 있는지 확인하기 위해 size + 1개를 조회함
+	public PostSliceDto getPosts(String cursor, int size) {
+		int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+		PageRequest limit = PageRequest.of(0, pageSize + 1);
+		
+		List<PostSummaryDto> posts;
+		if (cursor == null || cursor.isEmpty()) {
+			posts = postRepository.findFirstPage(limit);
+		} else {
+			PostCursor postCursor = PostCursor.decode(cursor);
+			posts = postRepository.findNextPage(postCursor.getCreatedDate(), postCursor.getId(), limit);
+		}
+		
+		boolean hasNext = posts.size() > pageSize;
+		if (hasNext) {
+			posts = posts.subList(0, pageSize);
+		}
+		
+		String nextCursor = hasNext ? PostCursor.of(posts.get(posts.size() - 1)).encode() : null;
+		return new PostSliceDto(posts, hasNext, nextCursor);
+	}
+}
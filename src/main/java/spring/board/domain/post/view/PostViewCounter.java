@@ -0,0 +1,125 @@
+package spring.board.domain.post.view;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+//게시글 조회수를 요청마다 UPDATE하면 인기 게시글 한 행에 lock이 몰리므로
+//메모리(LongAdder)에서 증가시키고 주기적으로 JDBC batch update 한 번으로 DB에 반영한다(write-behind).
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+	
+	private static final String FLUSH_SQL = "update POST set views = views + ? where post_id = ?";
+	
+	private final JdbcTemplate jdbcTemplate;
+	
+	private final ConcurrentHashMap<Long, PendingViews> pendingViews = new ConcurrentHashMap<>();
+	
+	public void increment(Long postId) {
+		while (true) {
+			PendingViews views = pendingViews.get(postId);
+			if (views == null) {
+				views = pendingViews.computeIfAbsent(postId, id -> new PendingViews());
+			}
+			views.count.increment();
+			if (!views.retired) {
+				return;
+			}
+			//flush()가 제거하려는 PendingViews이면 증가를 취소하고 새로 찾아서 다시 증가시킴
+			views.count.decrement();
+			Thread.onSpinWait();
+		}
+	}
+	
+	//아직 DB에 반영되지 않은 조회수
+	public long getPendingViews(Long postId) {
+		PendingViews views = pendingViews.get(postId);
+		return views == null ? 0 : views.pending();
+	}
+	
+	//== 모아둔 조회수를 DB에 반영 ==//
+	//LongAdder를 reset하면 그 사이에 증가한 값이 사라질 수 있으므로, 반영한 누적값(flushed)을 따로 기록하고 차이만 반영함
+	@Scheduled(fixedDelayString = "${board.view-count.flush-interval:5000}")
+	public synchronized void flush() {
+		List<Object[]> batch = new ArrayList<>();
+		List<PendingViews> flushing = new ArrayList<>();
+		List<Long> totals = new ArrayList<>();
+		
+		for (Map.Entry<Long, PendingViews> entry : pendingViews.entrySet()) {
+			PendingViews views = entry.getValue();
+			long total = views.count.sum();
+			long delta = total - views.flushed;
+			if (delta > 0) {
+				batch.add(new Object[] {delta, entry.getKey()});
+				flushing.add(views);
+				totals.add(total);
+			} else {
+				removeIdle(entry.getKey(), views);
+			}
+		}
+		
+		if (batch.isEmpty()) {
+			return;
+		}
+		
+		try {
+			jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+		} catch (DataAccessException e) {
+			//반영하지 못한 조회수는 그대로 남겨두고 다음 주기에 다시 시도함
+			log.warn("조회수를 DB에 반영하지 못했습니다. 게시글 수: {}", batch.size(), e);
+			return;
+		}
+		
+		for (int i = 0; i < flushing.size(); i++) {
+			flushing.get(i).flushed = totals.get(i);
+		}
+	}
+	
+	//서버가 종료될 때 남은 조회수를 반영함
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+	
+	//한 주기 동안 조회되지 않은 게시글은 메모리에서 제거함
+	//retired를 먼저 기록한 뒤 누적값을 읽으므로, 그 사이에 증가시킨 스레드는 누적값에 보이거나 retired를 보고 다시 시도함
+	//누적값이 반영한 값과 다르면 증가 중인 스레드가 있으므로 제거하지 않고 다음 주기에 반영함
+	private void removeIdle(Long postId, PendingViews views) {
+		views.retired = true;
+		if (views.count.sum() == views.flushed) {
+			pendingViews.remove(postId, views);
+		} else {
+			views.retired = false;
+		}
+	}
+	
+	private static class PendingViews {
+		
+		//요청 스레드가 증가시키는 누적 조회수
+		private final LongAdder count = new LongAdder();
+		
+		//DB에 반영한 누적 조회수, flush()에서만 변경함
+		private volatile long flushed;
+		
+		//flush()가 맵에서 제거하는 중, 이 값을 본 스레드는 증가를 취소함
+		private volatile boolean retired;
+		
+		long pending() {
+			return count.sum() - flushed;
+		}
+	}
+}
@@ -0,0 +1,6 @@
+package spring.board.domain.search;
+
+//검색 색인의 종류, 종류마다 별도의 역색인을 사용함
+public enum SearchType {
+	POST, MEMBER
+}
@@ -0,0 +1,41 @@
+package spring.board.domain.search.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import spring.board.domain.search.SearchType;
+import spring.board.domain.search.dto.SearchRebuildDto;
+import spring.board.domain.search.dto.SearchSliceDto;
+import spring.board.domain.search.service.SearchService;
+
+@RestController
+@RequiredArgsConstructor
+public class SearchController {
+	
+	private final SearchService searchService;
+	
+	//== 게시글 검색, 로그인 없이 가능 ==//
+	@GetMapping("/search/posts")
+	public SearchSliceDto searchPosts(@RequestParam(defaultValue = "") String q,
+									  @RequestParam(required = false) String cursor,
+									  @RequestParam(defaultValue = "" + SearchService.DEFAULT_PAGE_SIZE) int size) {
+		return searchService.search(SearchType.POST, q, cursor, size);
+	}
+	
+	//== 회원 검색, 로그인한 회원만 가능 ==//
+	@GetMapping("/search/members")
+	public SearchSliceDto searchMembers(@RequestParam(defaultValue = "") String q,
+										@RequestParam(required = false) String cursor,
+										@RequestParam(defaultValue = "" + SearchService.DEFAULT_PAGE_SIZE) int size) {
+		return searchService.search(SearchType.MEMBER, q, cursor, size);
+	}
+	
+	//== 재색인, 관리자만 가능 ==//
+	@PostMapping("/admin/search/rebuild")
+	public SearchRebuildDto rebuild() {
+		return searchService.rebuild();
+	}
+}
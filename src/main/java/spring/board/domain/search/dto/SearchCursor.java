@@ -0,0 +1,44 @@
+package spring.board.domain.search.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import spring.board.domain.search.exception.InvalidSearchCursorException;
+
+//검색 결과는 (score 내림차순, id 내림차순)으로 정렬하므로 마지막으로 조회한 결과의 (score, id)를 cursor로 사용함
+//클라이언트에게는 "score,id"를 Base64(URL-safe)로 인코딩한 문자열로 전달함
+@Getter
+@AllArgsConstructor
+public class SearchCursor {
+	
+	private static final String DELIMITER = ",";
+	
+	private final double score;
+	private final Long id;
+	
+	public static SearchCursor of(SearchHitDto hit) {
+		return new SearchCursor(hit.getScore(), hit.getId());
+	}
+	
+	//정렬 순서에서 cursor보다 뒤에 있는 결과인지 확인
+	public boolean isBefore(double score, Long id) {
+		return score < this.score || (score == this.score && id < this.id);
+	}
+	
+	public String encode() {
+		String value = score + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	public static SearchCursor decode(String cursor) {
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int index = value.lastIndexOf(DELIMITER);
+			return new SearchCursor(Double.parseDouble(value.substring(0, index)), Long.valueOf(value.substring(index + 1)));
+		} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+			throw new InvalidSearchCursorException();
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package spring.board.domain.search.dto;
+
+import lombok.Getter;
+
+//색인할 문서 한 건, 엔티티 리스너와 재색인에서 함께 사용함
+//재색인에서는 JPQL의 new 연산자로 바로 만들어서 엔티티가 영속성 컨텍스트에 쌓이지 않게 함
+@Getter
+public class SearchDocument {
+	
+	private final Long id;
+	private final String title;
+	private final String[] texts;
+	
+	//게시글: 제목과 내용을 색인
+	public SearchDocument(Long id, String title, String content) {
+		this.id = id;
+		this.title = title;
+		this.texts = new String[] {title, content};
+	}
+	
+	//회원: 닉네임, 아이디, 이름을 색인하고 닉네임을 결과에 보여줌
+	public SearchDocument(Long id, String nickName, String username, String name) {
+		this.id = id;
+		this.title = nickName;
+		this.texts = new String[] {nickName, username, name};
+	}
+}
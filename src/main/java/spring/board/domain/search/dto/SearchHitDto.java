@@ -0,0 +1,14 @@
+package spring.board.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//검색 결과 한 건, title은 게시글 제목 또는 회원 닉네임
+@Getter
+@AllArgsConstructor
+public class SearchHitDto {
+	
+	private final Long id;
+	private final String title;
+	private final double score;
+}
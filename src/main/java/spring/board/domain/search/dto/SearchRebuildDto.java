@@ -0,0 +1,13 @@
+package spring.board.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//재색인한 문서 수
+@Getter
+@AllArgsConstructor
+public class SearchRebuildDto {
+	
+	private final long posts;
+	private final long members;
+}
@@ -0,0 +1,16 @@
+package spring.board.domain.search.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//검색 결과 목록 응답, 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨서 조회함
+@Getter
+@AllArgsConstructor
+public class SearchSliceDto {
+	
+	private final List<SearchHitDto> hits;
+	private final boolean hasNext;
+	private final String nextCursor;
+}
@@ -0,0 +1,147 @@
+package spring.board.domain.search.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import spring.board.domain.search.dto.SearchCursor;
+import spring.board.domain.search.dto.SearchHitDto;
+
+//색인어 -> (문서 id -> 등장 횟수) 형태의 메모리 역색인
+//쓰기(put, remove)는 문서 단위로 synchronized 처리하고, 검색은 lock 없이 ConcurrentHashMap을 읽는다.
+public class InvertedIndex {
+	
+	//점수 내림차순, 같은 점수는 id 내림차순(최신 문서 먼저)
+	static final Comparator<SearchHitDto> RANKING = Comparator.comparingDouble(SearchHitDto::getScore)
+															  .thenComparing(SearchHitDto::getId)
+															  .reversed();
+	
+	private final ConcurrentHashMap<String, ConcurrentHashMap<Long, Integer>> postings = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, IndexedDocument> documents = new ConcurrentHashMap<>();
+	
+	//재색인 중에 엔티티 리스너가 변경한 문서 id, 재색인이 읽은 이전 값으로 덮어쓰지 않기 위해 기록함
+	private Set<Long> changedDuringLoad;
+	
+	//재색인용 색인으로 만들 때 사용
+	static InvertedIndex forLoad() {
+		InvertedIndex index = new InvertedIndex();
+		index.changedDuringLoad = new HashSet<>();
+		return index;
+	}
+	
+	public synchronized void put(Long id, String title, Map<String, Integer> terms) {
+		markChanged(id);
+		replace(id, title, terms);
+	}
+	
+	public synchronized void remove(Long id) {
+		markChanged(id);
+		delete(id);
+	}
+	
+	//재색인에서 DB로부터 읽은 문서를 추가, 그 사이 리스너가 변경한 문서는 건너뜀
+	synchronized void load(Long id, String title, Map<String, Integer> terms) {
+		if (changedDuringLoad == null || !changedDuringLoad.contains(id)) {
+			replace(id, title, terms);
+		}
+	}
+	
+	//재색인이 끝나면 더 이상 변경을 기록하지 않음
+	synchronized void finishLoad() {
+		changedDuringLoad = null;
+	}
+	
+	public int size() {
+		return documents.size();
+	}
+	
+	//== TF-IDF 점수로 정렬한 검색 ==//
+	//점수 = sum(tf * log(1 + N / df)) / sqrt(문서의 색인어 수)
+	//cursor 다음 결과 중 상위 limit개만 크기가 limit인 heap으로 골라내므로 전체 결과를 정렬하지 않는다.
+	public List<SearchHitDto> search(Collection<String> queryTerms, SearchCursor cursor, int limit) {
+		int documentCount = documents.size();
+		if (documentCount == 0 || limit <= 0) {
+			return new ArrayList<>();
+		}
+		
+		Map<Long, Double> scores = new HashMap<>();
+		for (String term : queryTerms) {
+			Map<Long, Integer> ids = postings.get(term);
+			if (ids == null || ids.isEmpty()) {
+				continue;
+			}
+			double idf = Math.log(1 + (double) documentCount / ids.size());
+			ids.forEach((id, frequency) -> scores.merge(id, frequency * idf, Double::sum));
+		}
+		
+		PriorityQueue<SearchHitDto> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+		scores.forEach((id, score) -> {
+			IndexedDocument document = documents.get(id);
+			if (document == null) {
+				return; //검색하는 사이에 삭제된 문서
+			}
+			double normalized = score / Math.sqrt(document.length);
+			if (cursor != null && !cursor.isBefore(normalized, id)) {
+				return;
+			}
+			top.offer(new SearchHitDto(id, document.title, normalized));
+			if (top.size() > limit) {
+				top.poll();
+			}
+		});
+		
+		List<SearchHitDto> hits = new ArrayList<>(top);
+		hits.sort(RANKING);
+		return hits;
+	}
+	
+	private void markChanged(Long id) {
+		if (changedDuringLoad != null) {
+			changedDuringLoad.add(id);
+		}
+	}
+	
+	private void replace(Long id, String title, Map<String, Integer> terms) {
+		delete(id);
+		if (terms.isEmpty()) {
+			return;
+		}
+		int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+		terms.forEach((term, frequency) -> postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(id, frequency));
+		documents.put(id, new IndexedDocument(title, terms.keySet().toArray(new String[0]), length));
+	}
+	
+	private void delete(Long id) {
+		IndexedDocument document = documents.remove(id);
+		if (document == null) {
+			return;
+		}
+		for (String term : document.terms) {
+			postings.computeIfPresent(term, (t, ids) -> {
+				ids.remove(id);
+				return ids.isEmpty() ? null : ids;
+			});
+		}
+	}
+	
+	//삭제할 때 postings에서 지울 색인어 목록과 점수 정규화에 사용할 길이를 함께 저장함
+	private static class IndexedDocument {
+		
+		private final String title;
+		private final String[] terms;
+		private final int length;
+		
+		IndexedDocument(String title, String[] terms, int length) {
+			this.title = title;
+			this.terms = terms;
+			this.length = length;
+		}
+	}
+}
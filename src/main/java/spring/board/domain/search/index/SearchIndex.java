@@ -0,0 +1,91 @@
+package spring.board.domain.search.index;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import spring.board.domain.search.SearchType;
+import spring.board.domain.search.dto.SearchCursor;
+import spring.board.domain.search.dto.SearchDocument;
+import spring.board.domain.search.dto.SearchHitDto;
+
+//SearchType별 역색인을 관리한다.
+//재색인은 새 색인을 따로 만든 후 교체하므로 재색인 중에도 기존 색인으로 검색할 수 있다.
+@Component
+public class SearchIndex {
+	
+	private final Map<SearchType, InvertedIndex> live = new ConcurrentHashMap<>();
+	
+	//재색인 중인 색인, 재색인 중에 발생한 변경은 기존 색인과 새 색인 모두에 반영함
+	private final Map<SearchType, InvertedIndex> loading = new ConcurrentHashMap<>();
+	
+	public SearchIndex() {
+		for (SearchType type : SearchType.values()) {
+			live.put(type, new InvertedIndex());
+		}
+	}
+	
+	//재색인 중인 색인에 먼저 반영하고 기존 색인에 반영함
+	public void put(SearchType type, SearchDocument document) {
+		Map<String, Integer> terms = Tokenizer.tokenize(document.getTexts());
+		InvertedIndex target = loading.get(type);
+		if (target != null) {
+			target.put(document.getId(), document.getTitle(), terms);
+		}
+		live.get(type).put(document.getId(), document.getTitle(), terms);
+	}
+	
+	public void remove(SearchType type, Long id) {
+		InvertedIndex target = loading.get(type);
+		if (target != null) {
+			target.remove(id);
+		}
+		live.get(type).remove(id);
+	}
+	
+	public List<SearchHitDto> search(SearchType type, Set<String> queryTerms, SearchCursor cursor, int limit) {
+		return live.get(type).search(queryTerms, cursor, limit);
+	}
+	
+	public int size(SearchType type) {
+		return live.get(type).size();
+	}
+	
+	//== 재색인 ==//
+	//새 색인을 먼저 등록해야 이후의 변경이 새 색인에도 반영됨
+	public Loader startLoad(SearchType type) {
+		InvertedIndex target = InvertedIndex.forLoad();
+		loading.put(type, target);
+		return new Loader(type, target);
+	}
+	
+	public class Loader {
+		
+		private final SearchType type;
+		private final InvertedIndex target;
+		
+		private Loader(SearchType type, InvertedIndex target) {
+			this.type = type;
+			this.target = target;
+		}
+		
+		public void load(SearchDocument document) {
+			target.load(document.getId(), document.getTitle(), Tokenizer.tokenize(document.getTexts()));
+		}
+		
+		//새 색인으로 교체, put과 remove는 loading을 먼저 확인하므로 교체한 후에 loading에서 제거해야 변경이 누락되지 않음
+		public void finish() {
+			live.put(type, target);
+			loading.remove(type, target);
+			target.finishLoad();
+		}
+		
+		//실패하면 기존 색인을 그대로 사용
+		public void cancel() {
+			loading.remove(type, target);
+		}
+	}
+}
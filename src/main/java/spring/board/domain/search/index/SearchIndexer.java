@@ -0,0 +1,39 @@
+package spring.board.domain.search.index;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import spring.board.domain.search.SearchType;
+import spring.board.domain.search.dto.SearchDocument;
+
+//엔티티 리스너에서 호출하며, 트랜잭션 안이라면 커밋된 후에 색인에 반영한다.
+//롤백된 변경이 검색되거나 커밋 전에 다른 요청에서 검색되는 경우를 막기 위함
+@Component
+@RequiredArgsConstructor
+public class SearchIndexer {
+	
+	private final SearchIndex searchIndex;
+	
+	public void index(SearchType type, SearchDocument document) {
+		afterCommit(() -> searchIndex.put(type, document));
+	}
+	
+	public void remove(SearchType type, Long id) {
+		afterCommit(() -> searchIndex.remove(type, id));
+	}
+	
+	private void afterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,56 @@
+package spring.board.domain.search.index;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+//문자와 숫자가 아닌 문자로 단어를 나누고, 단어마다 등장 횟수(term frequency)를 센다.
+//한글은 띄어쓰기 단위에 조사가 붙으므로("게시판에", "게시판을") 두 글자씩 자른 bigram을 색인어로 사용하고
+//그 외의 문자(영어, 숫자)는 소문자로 바꾼 단어 전체를 색인어로 사용한다.
+public final class Tokenizer {
+	
+	private Tokenizer() {
+	}
+	
+	public static Map<String, Integer> tokenize(String... texts) {
+		Map<String, Integer> terms = new HashMap<>();
+		for (String text : texts) {
+			if (text != null) {
+				tokenize(text.toLowerCase(Locale.ROOT), terms);
+			}
+		}
+		return terms;
+	}
+	
+	//같은 종류(한글, 그 외)의 문자가 이어지는 구간을 하나의 단어로 봄
+	private static void tokenize(String text, Map<String, Integer> terms) {
+		int start = -1;
+		boolean hangul = false;
+		for (int i = 0; i <= text.length(); i++) {
+			char c = i < text.length() ? text.charAt(i) : ' ';
+			boolean letter = Character.isLetterOrDigit(c);
+			if (start >= 0 && (!letter || isHangul(c) != hangul)) {
+				addWord(text.substring(start, i), hangul, terms);
+				start = -1;
+			}
+			if (letter && start < 0) {
+				start = i;
+				hangul = isHangul(c);
+			}
+		}
+	}
+	
+	private static void addWord(String word, boolean hangul, Map<String, Integer> terms) {
+		if (!hangul || word.length() == 1) {
+			terms.merge(word, 1, Integer::sum);
+			return;
+		}
+		for (int i = 0; i + 2 <= word.length(); i++) {
+			terms.merge(word.substring(i, i + 2), 1, Integer::sum);
+		}
+	}
+	
+	private static boolean isHangul(char c) {
+		return Character.UnicodeBlock.of(c) == Character.UnicodeBlock.HANGUL_SYLLABLES;
+	}
+}
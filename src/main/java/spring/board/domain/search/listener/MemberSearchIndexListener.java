@@ -0,0 +1,29 @@
+package spring.board.domain.search.listener;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import lombok.RequiredArgsConstructor;
+import spring.board.domain.member.Member;
+import spring.board.domain.search.SearchType;
+import spring.board.domain.search.dto.SearchDocument;
+import spring.board.domain.search.index.SearchIndexer;
+
+//회원이 가입, 수정, 탈퇴할 때 검색 색인에 반영한다.
+@RequiredArgsConstructor
+public class MemberSearchIndexListener {
+
+	private final SearchIndexer searchIndexer;
+
+	@PostPersist
+	@PostUpdate
+	public void index(Member member) {
+		searchIndexer.index(SearchType.MEMBER, new SearchDocument(member.getId(), member.getNickName(), member.getUsername(), member.getName()));
+	}
+
+	@PostRemove
+	public void remove(Member member) {
+		searchIndexer.remove(SearchType.MEMBER, member.getId());
+	}
+}
@@ -0,0 +1,30 @@
+package spring.board.domain.search.listener;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import lombok.RequiredArgsConstructor;
+import spring.board.domain.post.Post;
+import spring.board.domain.search.SearchType;
+import spring.board.domain.search.dto.SearchDocument;
+import spring.board.domain.search.index.SearchIndexer;
+
+//게시글이 저장, 수정, 삭제될 때 검색 색인에 반영한다.
+//커밋 후에 색인하므로 지금의 제목과 내용을 SearchDocument로 복사해둠
+@RequiredArgsConstructor
+public class PostSearchIndexListener {
+
+	private final SearchIndexer searchIndexer;
+
+	@PostPersist
+	@PostUpdate
+	public void index(Post post) {
+		searchIndexer.index(SearchType.POST, new SearchDocument(post.getId(), post.getTitle(), post.getContent()));
+	}
+
+	@PostRemove
+	public void remove(Post post) {
+		searchIndexer.remove(SearchType.POST, post.getId());
+	}
+}
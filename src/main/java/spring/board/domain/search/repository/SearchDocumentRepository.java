@@ -0,0 +1,35 @@
+package spring.board.domain.search.repository;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import spring.board.domain.search.dto.SearchDocument;
+
+//재색인할 때 id 순서로 batchSize개씩 읽는다(keyset).
+//엔티티가 아닌 DTO로 조회하므로 요청 동안 영속성 컨텍스트가 열려 있어도(open-in-view) 메모리에 쌓이지 않는다.
+@Repository
+@RequiredArgsConstructor
+public class SearchDocumentRepository {
+	
+	private final EntityManager em;
+	
+	public List<SearchDocument> findPostsAfter(Long lastId, int batchSize) {
+		return em.createQuery("select new spring.board.domain.search.dto.SearchDocument(p.id, p.title, p.content) "
+							+ "from Post p where p.id > :lastId order by p.id", SearchDocument.class)
+				 .setParameter("lastId", lastId)
+				 .setMaxResults(batchSize)
+				 .getResultList();
+	}
+	
+	public List<SearchDocument> findMembersAfter(Long lastId, int batchSize) {
+		return em.createQuery("select new spring.board.domain.search.dto.SearchDocument(m.id, m.nickName, m.username, m.name) "
+							+ "from Member m where m.id > :lastId order by m.id", SearchDocument.class)
+				 .setParameter("lastId", lastId)
+				 .setMaxResults(batchSize)
+				 .getResultList();
+	}
+}
@@ -0,0 +1,117 @@
+package spring.board.domain.search.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import spring.board.domain.search.SearchType;
+import spring.board.domain.search.dto.SearchCursor;
+import spring.board.domain.search.dto.SearchDocument;
+import spring.board.domain.search.dto.SearchHitDto;
+import spring.board.domain.search.dto.SearchRebuildDto;
+import spring.board.domain.search.dto.SearchSliceDto;
+import spring.board.domain.search.index.SearchIndex;
+import spring.board.domain.search.index.Tokenizer;
+import spring.board.domain.search.repository.SearchDocumentRepository;
+
+@Slf4j
+@Service
+public class SearchService {
+	
+	//== 한 페이지에서 조회할 수 있는 검색 결과 수 ==//
+	public static final int DEFAULT_PAGE_SIZE = 20;
+	public static final int MAX_PAGE_SIZE = 100;
+	
+	//검색어가 길어도 색인어 수만큼만 postings를 읽도록 제한함
+	private static final int MAX_QUERY_LENGTH = 100;
+	
+	private final SearchIndex searchIndex;
+	private final SearchDocumentRepository searchDocumentRepository;
+	private final int rebuildBatchSize;
+	private final boolean rebuildOnStartup;
+	
+	//DB를 읽는 동안 lock을 잡고 있으므로 synchronized 대신 ReentrantLock을 사용함(가상 스레드가 carrier 스레드에 고정되지 않음)
+	private final ReentrantLock rebuildLock = new ReentrantLock();
+	
+	public SearchService(SearchIndex searchIndex,
+						 SearchDocumentRepository searchDocumentRepository,
+						 @Value("${search.rebuild.batch-size:500}") int rebuildBatchSize,
+						 @Value("${search.rebuild.on-startup:true}") boolean rebuildOnStartup) {
+		this.searchIndex = searchIndex;
+		this.searchDocumentRepository = searchDocumentRepository;
+		this.rebuildBatchSize = rebuildBatchSize;
+		this.rebuildOnStartup = rebuildOnStartup;
+	}
+	
+	//cursor가 없으면 점수가 가장 높은 결과부터, 있으면 cursor 다음부터 조회
+	//다음 페이지가 있는지 확인하기 위해 size + 1개를 조회함
+	public SearchSliceDto search(SearchType type, String query, String cursor, int size) {
+		int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+		String trimmed = query.length() > MAX_QUERY_LENGTH ? query.substring(0, MAX_QUERY_LENGTH) : query;
+		Set<String> terms = Tokenizer.tokenize(trimmed).keySet();
+		SearchCursor searchCursor = cursor == null || cursor.isEmpty() ? null : SearchCursor.decode(cursor);
+		
+		List<SearchHitDto> hits = searchIndex.search(type, terms, searchCursor, pageSize + 1);
+		
+		boolean hasNext = hits.size() > pageSize;
+		if (hasNext) {
+			hits = hits.subList(0, pageSize);
+		}
+		
+		String nextCursor = hasNext ? SearchCursor.of(hits.get(hits.size() - 1)).encode() : null;
+		return new SearchSliceDto(hits, hasNext, nextCursor);
+	}
+	
+	//== 재색인 ==//
+	//메모리 색인이므로 서버가 시작될 때 DB의 내용으로 다시 만듦
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildOnStartup() {
+		if (rebuildOnStartup) {
+			SearchRebuildDto result = rebuild();
+			log.info("검색 색인 생성 완료. 게시글: {}, 회원: {}", result.getPosts(), result.getMembers());
+		}
+	}
+	
+	//재색인이 동시에 실행되지 않도록 lock을 사용함
+	public SearchRebuildDto rebuild() {
+		rebuildLock.lock();
+		try {
+			long posts = rebuild(SearchType.POST, searchDocumentRepository::findPostsAfter);
+			long members = rebuild(SearchType.MEMBER, searchDocumentRepository::findMembersAfter);
+			return new SearchRebuildDto(posts, members);
+		} finally {
+			rebuildLock.unlock();
+		}
+	}
+	
+	//id 순서로 batch 단위로 읽어서 새 색인에 넣으므로 테이블 전체를 메모리에 올리지 않음
+	private long rebuild(SearchType type, BiFunction<Long, Integer, List<SearchDocument>> findAfter) {
+		SearchIndex.Loader loader = searchIndex.startLoad(type);
+		try {
+			long count = 0;
+			Long lastId = 0L;
+			List<SearchDocument> batch;
+			do {
+				batch = findAfter.apply(lastId, rebuildBatchSize);
+				for (SearchDocument document : batch) {
+					loader.load(document);
+					lastId = document.getId();
+				}
+				count += batch.size();
+			} while (batch.size() == rebuildBatchSize);
+			
+			loader.finish();
+			return count;
+		} catch (RuntimeException e) {
+			loader.cancel();
+			throw e;
+		}
+	}
+}
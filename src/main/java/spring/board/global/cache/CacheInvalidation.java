@@ -0,0 +1,28 @@
+package spring.board.global.cache;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+//== 캐시 무효화 메시지 ==//
+@Getter
+@ToString
+@AllArgsConstructor
+public class CacheInvalidation implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private String cacheName;
+	
+	//null이면 cacheName의 모든 항목
+	private String key;
+	
+	//발행한 캐시의 id, 자신이 보낸 메시지는 이미 반영했으므로 무시함
+	private String origin;
+	
+	public boolean isAll() {
+		return key == null;
+	}
+}
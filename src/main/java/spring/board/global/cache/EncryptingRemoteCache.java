@@ -0,0 +1,104 @@
+package spring.board.global.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+
+import lombok.extern.slf4j.Slf4j;
+
+//== 값을 AES-GCM으로 암호화해서 원격 캐시에 저장 ==//
+//비밀번호 해시처럼 원격 캐시(Redis 등)에 평문으로 두면 안 되는 값에 사용함
+//cacheName과 key를 AAD로 사용하므로 다른 key에 저장된 값을 옮겨 놓아도 복호화되지 않음
+//키가 바뀌었거나 변조되어 복호화할 수 없는 값은 없는 것으로 봄
+@Slf4j
+public class EncryptingRemoteCache implements RemoteCache {
+	
+	private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+	private static final int IV_LENGTH = 12;
+	private static final int TAG_BITS = 128;
+	
+	private final RemoteCache delegate;
+	private final SecretKey key;
+	private final SecureRandom random = new SecureRandom();
+	
+	public EncryptingRemoteCache(RemoteCache delegate, SecretKey key) {
+		int length = key.getEncoded().length;
+		if (length != 16 && length != 24 && length != 32) {
+			throw new IllegalArgumentException("AES 키는 16, 24, 32 byte여야 합니다. length: " + length);
+		}
+		this.delegate = delegate;
+		this.key = key;
+	}
+	
+	@Override
+	public byte[] get(String cacheName, String key) {
+		byte[] stored = delegate.get(cacheName, key);
+		return stored == null ? null : decrypt(cacheName, key, stored);
+	}
+	
+	@Override
+	public void put(String cacheName, String key, byte[] value, Duration ttl) {
+		delegate.put(cacheName, key, encrypt(cacheName, key, value), ttl);
+	}
+	
+	@Override
+	public boolean putIfVersion(String cacheName, String key, byte[] value, Duration ttl, long version) {
+		return delegate.putIfVersion(cacheName, key, encrypt(cacheName, key, value), ttl, version);
+	}
+	
+	@Override
+	public long version(String cacheName) {
+		return delegate.version(cacheName);
+	}
+	
+	@Override
+	public void evict(String cacheName, String key) {
+		delegate.evict(cacheName, key);
+	}
+	
+	@Override
+	public void evictAll(String cacheName) {
+		delegate.evictAll(cacheName);
+	}
+	
+	//IV(12 byte) + 암호문 + tag
+	private byte[] encrypt(String cacheName, String key, byte[] value) {
+		byte[] iv = new byte[IV_LENGTH];
+		random.nextBytes(iv);
+		try {
+			Cipher cipher = cipher(Cipher.ENCRYPT_MODE, cacheName, key, iv);
+			ByteBuffer buffer = ByteBuffer.allocate(IV_LENGTH + cipher.getOutputSize(value.length));
+			buffer.put(iv);
+			cipher.doFinal(ByteBuffer.wrap(value), buffer);
+			return buffer.array();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("원격 캐시에 저장할 값을 암호화하지 못했습니다. cache: " + cacheName, e);
+		}
+	}
+	
+	private byte[] decrypt(String cacheName, String key, byte[] stored) {
+		if (stored.length < IV_LENGTH) {
+			return null;
+		}
+		try {
+			Cipher cipher = cipher(Cipher.DECRYPT_MODE, cacheName, key, stored);
+			return cipher.doFinal(stored, IV_LENGTH, stored.length - IV_LENGTH);
+		} catch (GeneralSecurityException e) {
+			log.warn("원격 캐시의 값을 복호화하지 못했습니다. cache: {}", cacheName);
+			return null;
+		}
+	}
+	
+	private Cipher cipher(int mode, String cacheName, String key, byte[] iv) throws GeneralSecurityException {
+		Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+		cipher.init(mode, this.key, new GCMParameterSpec(TAG_BITS, iv, 0, IV_LENGTH));
+		cipher.updateAAD((cacheName + ":" + key).getBytes(StandardCharsets.UTF_8));
+		return cipher;
+	}
+}
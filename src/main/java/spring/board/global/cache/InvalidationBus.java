@@ -0,0 +1,16 @@
+package spring.board.global.cache;
+
+import java.util.function.Consumer;
+
+//== 서버 간 캐시 무효화 메시지를 전달하는 pub/sub(Redis pub/sub, Kafka 등) ==//
+//발행한 서버도 메시지를 받으므로 받는 쪽에서 origin으로 자신의 메시지를 걸러야 함
+//전달은 보장되지 않으므로 메시지를 놓쳐도 near cache의 TTL이 지나면 맞춰짐
+public interface InvalidationBus {
+	
+	void publish(CacheInvalidation invalidation);
+	
+	void subscribe(Consumer<CacheInvalidation> listener);
+	
+	//subscribe에 넘긴 것과 같은 listener
+	void unsubscribe(Consumer<CacheInvalidation> listener);
+}
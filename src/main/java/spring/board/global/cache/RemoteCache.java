@@ -0,0 +1,25 @@
+package spring.board.global.cache;
+
+import java.time.Duration;
+
+//== 여러 서버가 함께 사용하는 원격 캐시(Redis 등) ==//
+//값은 직렬화한 byte[]로 주고받으므로 구현은 값의 타입을 알 필요가 없음
+//cacheName으로 key 공간을 나눔
+//evict, evictAll은 cacheName의 버전을 올림, DB에서 읽은 값은 읽기 전의 버전으로 putIfVersion해서 그 사이에 무효화되었으면 버림
+public interface RemoteCache {
+	
+	//없거나 만료되었으면 null
+	byte[] get(String cacheName, String key);
+	
+	void put(String cacheName, String key, byte[] value, Duration ttl);
+	
+	//cacheName의 버전이 version과 같을 때만 저장하고 true를 반환(Redis는 Lua script로 비교와 저장을 한 번에 실행)
+	boolean putIfVersion(String cacheName, String key, byte[] value, Duration ttl, long version);
+	
+	//한 번도 지운 적이 없으면 0
+	long version(String cacheName);
+	
+	void evict(String cacheName, String key);
+	
+	void evictAll(String cacheName);
+}
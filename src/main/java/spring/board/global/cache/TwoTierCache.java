@@ -0,0 +1,161 @@
+package spring.board.global.cache;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+//== near cache(서버 heap) + 원격 캐시(여러 서버가 공유) ==//
+//1. 조회: near -> 원격 순서로 찾고, 원격에서 찾은 값은 near에 저장
+//2. 저장: near와 원격 모두 저장, DB에서 읽은 값은 읽기 전에 얻은 version으로 저장해서 그 사이에 무효화되었으면 버림
+//3. 제거: near와 원격에서 지우고 무효화 메시지를 발행, 다른 서버는 메시지를 받아 자신의 near에서 지움
+//메시지를 놓친 서버도 near의 TTL이 지나면 원격에서 다시 읽으므로 near의 TTL은 짧게 둠
+//값은 Jackson으로 정해진 type의 JSON으로 원격에 저장함
+//JSON에 클래스 정보를 담지 않으므로 원격 캐시에 저장된 값으로 다른 클래스의 객체를 만들 수 없음(Java 직렬화를 사용하지 않는 이유)
+@Slf4j
+public class TwoTierCache<V> {
+	
+	private final String name;
+	private final String instanceId = UUID.randomUUID().toString();
+	
+	private final Class<V> type;
+	private final ObjectMapper objectMapper;
+	
+	private final Cache<String, V> near;
+	private final RemoteCache remote;
+	private final InvalidationBus invalidationBus;
+	private final Duration remoteTtl;
+	
+	//무효화할 때마다 증가, 원격이나 DB에서 읽는 동안 무효화되었으면 읽은 값을 near에 저장하지 않음
+	private final AtomicLong generation = new AtomicLong();
+	
+	private final Counter remoteHits;
+	private final Counter remoteMisses;
+	
+	public TwoTierCache(String name, Class<V> type, ObjectMapper objectMapper,
+						RemoteCache remote, InvalidationBus invalidationBus, MeterRegistry meterRegistry,
+						long nearMaximumSize, Duration nearTtl, Duration remoteTtl) {
+		this.name = name;
+		this.type = type;
+		this.objectMapper = objectMapper;
+		this.remote = remote;
+		this.invalidationBus = invalidationBus;
+		this.remoteTtl = remoteTtl;
+		this.near = Caffeine.newBuilder()
+							.maximumSize(nearMaximumSize)
+							.expireAfterWrite(nearTtl)
+							.recordStats()
+							.build();
+		
+		CaffeineCacheMetrics.monitor(meterRegistry, near, name);
+		this.remoteHits = meterRegistry.counter("cache.remote.gets", "cache", name, "result", "hit");
+		this.remoteMisses = meterRegistry.counter("cache.remote.gets", "cache", name, "result", "miss");
+		
+		invalidationBus.subscribe(this::onInvalidation);
+	}
+	
+	public V get(String key) {
+		V value = near.getIfPresent(key);
+		if (value != null) {
+			return value;
+		}
+		
+		long readGeneration = generation.get();
+		byte[] bytes = remote.get(name, key);
+		if (bytes == null) {
+			remoteMisses.increment();
+			return null;
+		}
+		remoteHits.increment();
+		value = deserialize(bytes);
+		if (value != null) {
+			putNear(key, value, readGeneration);
+		}
+		return value;
+	}
+	
+	public void put(String key, V value) {
+		near.put(key, value);
+		remote.put(name, key, serialize(value), remoteTtl);
+	}
+	
+	//DB에서 읽기 전에 호출해서 put(key, value, version)에 넘김
+	public long version() {
+		return remote.version(name);
+	}
+	
+	//version을 얻은 후 어느 서버에서든 무효화되었으면 저장하지 않음
+	//커밋 전의 값을 읽은 조회가 커밋 후의 무효화보다 늦게 저장해서 이전 값이 원격에 남는 것을 막음
+	//버전은 캐시 이름 단위이므로 다른 key가 무효화되어도 저장하지 않음, 다음 조회 때 다시 저장함
+	public boolean put(String key, V value, long version) {
+		long readGeneration = generation.get();
+		if (!remote.putIfVersion(name, key, serialize(value), remoteTtl, version)) {
+			return false;
+		}
+		putNear(key, value, readGeneration);
+		return true;
+	}
+	
+	public void evict(String key) {
+		generation.incrementAndGet();
+		near.invalidate(key);
+		remote.evict(name, key);
+		invalidationBus.publish(new CacheInvalidation(name, key, instanceId));
+	}
+	
+	public void evictAll() {
+		generation.incrementAndGet();
+		near.invalidateAll();
+		remote.evictAll(name);
+		invalidationBus.publish(new CacheInvalidation(name, null, instanceId));
+	}
+	
+	//다른 서버의 변경, 원격은 보낸 서버가 이미 지웠으므로 near만 지움
+	private void onInvalidation(CacheInvalidation invalidation) {
+		if (!name.equals(invalidation.getCacheName()) || instanceId.equals(invalidation.getOrigin())) {
+			return;
+		}
+		generation.incrementAndGet();
+		if (invalidation.isAll()) {
+			near.invalidateAll();
+		} else {
+			near.invalidate(invalidation.getKey());
+		}
+	}
+	
+	//저장한 후에 무효화 여부를 확인해서, 확인과 저장 사이에 무효화되어도 이전 값이 near에 남지 않음
+	private void putNear(String key, V value, long readGeneration) {
+		near.put(key, value);
+		if (generation.get() != readGeneration) {
+			near.invalidate(key);
+		}
+	}
+	
+	private byte[] serialize(V value) {
+		try {
+			return objectMapper.writeValueAsBytes(value);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("원격 캐시에 저장할 수 없는 값입니다. cache: " + name, e);
+		}
+	}
+	
+	//배포로 클래스가 바뀌어서 읽을 수 없는 값은 없는 것으로 봄, 다시 저장하면 덮어씀
+	private V deserialize(byte[] bytes) {
+		try {
+			return objectMapper.readValue(bytes, type);
+		} catch (IOException e) {
+			log.warn("원격 캐시의 값을 읽지 못했습니다. cache: {}", name, e);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package spring.board.global.cache.embedded;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+import spring.board.global.cache.CacheInvalidation;
+import spring.board.global.cache.InvalidationBus;
+
+//== 한 JVM 안에서 pub/sub을 대신하는 구현 ==//
+//발행한 스레드에서 구독자를 차례로 호출하므로 publish가 끝나면 모든 구독자에 반영되어 있음
+//구독자 하나가 실패해도 나머지에는 전달함
+@Slf4j
+public class EmbeddedInvalidationBus implements InvalidationBus {
+	
+	private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+	
+	@Override
+	public void publish(CacheInvalidation invalidation) {
+		for (Consumer<CacheInvalidation> listener : listeners) {
+			try {
+				listener.accept(invalidation);
+			} catch (RuntimeException e) {
+				log.warn("캐시 무효화 메시지를 처리하지 못했습니다. {}", invalidation, e);
+			}
+		}
+	}
+	
+	@Override
+	public void subscribe(Consumer<CacheInvalidation> listener) {
+		listeners.add(listener);
+	}
+	
+	@Override
+	public void unsubscribe(Consumer<CacheInvalidation> listener) {
+		listeners.remove(listener);
+	}
+}
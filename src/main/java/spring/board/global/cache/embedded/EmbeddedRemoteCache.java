@@ -0,0 +1,114 @@
+package spring.board.global.cache.embedded;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import spring.board.global.cache.RemoteCache;
+
+//== 한 JVM 안에서 원격 캐시를 대신하는 구현, 서버가 하나이거나 테스트할 때 사용 ==//
+//항목마다 TTL이 다르므로 Caffeine의 Expiry로 만료시키고 크기를 제한함
+//원격 캐시처럼 값을 복사해서 저장하고 돌려주므로 호출한 쪽에서 배열을 바꿔도 캐시에 영향이 없음
+//버전 비교와 저장, 버전 증가와 제거는 캐시 이름별 버전 객체로 동기화함
+public class EmbeddedRemoteCache implements RemoteCache {
+	
+	private final long maximumSize;
+	private final Map<String, Cache<String, Entry>> caches = new ConcurrentHashMap<>();
+	private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+	
+	public EmbeddedRemoteCache(long maximumSize) {
+		this.maximumSize = maximumSize;
+	}
+	
+	@Override
+	public byte[] get(String cacheName, String key) {
+		Entry entry = cache(cacheName).getIfPresent(key);
+		return entry == null ? null : entry.value.clone();
+	}
+	
+	@Override
+	public void put(String cacheName, String key, byte[] value, Duration ttl) {
+		cache(cacheName).put(key, new Entry(value.clone(), ttl.toNanos()));
+	}
+	
+	@Override
+	public boolean putIfVersion(String cacheName, String key, byte[] value, Duration ttl, long version) {
+		AtomicLong current = versionOf(cacheName);
+		synchronized (current) {
+			if (current.get() != version) {
+				return false;
+			}
+			put(cacheName, key, value, ttl);
+			return true;
+		}
+	}
+	
+	@Override
+	public long version(String cacheName) {
+		return versionOf(cacheName).get();
+	}
+	
+	@Override
+	public void evict(String cacheName, String key) {
+		AtomicLong current = versionOf(cacheName);
+		synchronized (current) {
+			current.incrementAndGet();
+			cache(cacheName).invalidate(key);
+		}
+	}
+	
+	@Override
+	public void evictAll(String cacheName) {
+		AtomicLong current = versionOf(cacheName);
+		synchronized (current) {
+			current.incrementAndGet();
+			cache(cacheName).invalidateAll();
+		}
+	}
+	
+	private AtomicLong versionOf(String cacheName) {
+		return versions.computeIfAbsent(cacheName, name -> new AtomicLong());
+	}
+	
+	private Cache<String, Entry> cache(String cacheName) {
+		return caches.computeIfAbsent(cacheName, name -> Caffeine.newBuilder()
+																 .maximumSize(maximumSize)
+																 .expireAfter(new EntryExpiry())
+																 .build());
+	}
+	
+	private static class Entry {
+		
+		private final byte[] value;
+		private final long ttlNanos;
+		
+		private Entry(byte[] value, long ttlNanos) {
+			this.value = value;
+			this.ttlNanos = ttlNanos;
+		}
+	}
+	
+	//저장할 때 받은 TTL로 만료, 읽어도 연장하지 않음
+	private static class EntryExpiry implements Expiry<String, Entry> {
+		
+		@Override
+		public long expireAfterCreate(String key, Entry entry, long currentTime) {
+			return entry.ttlNanos;
+		}
+		
+		@Override
+		public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+			return entry.ttlNanos;
+		}
+		
+		@Override
+		public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
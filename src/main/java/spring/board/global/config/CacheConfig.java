@@ -0,0 +1,31 @@
+package spring.board.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import spring.board.global.cache.InvalidationBus;
+import spring.board.global.cache.RemoteCache;
+import spring.board.global.cache.embedded.EmbeddedInvalidationBus;
+import spring.board.global.cache.embedded.EmbeddedRemoteCache;
+
+//== 원격 캐시와 무효화 메시지 전달, cache.remote.type=embedded(기본값) 일 때 JVM 안의 구현을 사용 ==//
+//서버가 여러 대라면 Redis 등의 구현을 다른 type으로 등록해서 교체함, TwoTierCache는 인터페이스만 사용하므로 바꿀 필요가 없음
+@Configuration
+@ConditionalOnProperty(name = "cache.remote.type", havingValue = "embedded", matchIfMissing = true)
+public class CacheConfig {
+	
+	@Value("${cache.remote.maximum-size:100000}")
+	private long maximumSize;
+	
+	@Bean
+	public RemoteCache remoteCache() {
+		return new EmbeddedRemoteCache(maximumSize);
+	}
+	
+	@Bean
+	public InvalidationBus invalidationBus() {
+		return new EmbeddedInvalidationBus();
+	}
+}
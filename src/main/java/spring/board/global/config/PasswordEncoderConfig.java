@@ -0,0 +1,58 @@
+package spring.board.global.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import spring.board.global.password.BCryptCostCalibrator;
+import spring.board.global.password.BoundedPasswordEncoder;
+import spring.board.global.password.CostAwareBCryptPasswordEncoder;
+
+//SecurityConfig와 PasswordRehashService가 서로를 참조하지 않도록 PasswordEncoder 설정을 분리함
+@Configuration
+public class PasswordEncoderConfig {
+	
+	private static final String BCRYPT_ID = "bcrypt";
+	
+	//== bcrypt cost 설정, strength가 0보다 크면 측정하지 않고 그 값을 사용 ==//
+	@Value("${password.bcrypt.strength:0}")
+	private int strength;
+	
+	@Value("${password.bcrypt.target-latency:250ms}")
+	private Duration targetLatency;
+	
+	@Value("${password.bcrypt.min-strength:10}")
+	private int minStrength;
+	
+	@Value("${password.bcrypt.max-strength:14}")
+	private int maxStrength;
+	
+	//== 동시에 해시를 계산할 수 있는 개수, 0이면 CPU 코어 수 ==//
+	@Value("${password.hash.max-concurrent:0}")
+	private int maxConcurrent;
+	
+	@Value("${password.hash.acquire-timeout:2s}")
+	private Duration acquireTimeout;
+	
+	@Bean
+	public PasswordEncoder passwordEncoder() {
+		int bcryptStrength = strength > 0 ? strength : BCryptCostCalibrator.calibrate(targetLatency, minStrength, maxStrength);
+		
+		Map<String, PasswordEncoder> encoders = new HashMap<>();
+		encoders.put(BCRYPT_ID, new CostAwareBCryptPasswordEncoder(bcryptStrength));
+		DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(BCRYPT_ID, encoders);
+		
+		//bcrypt가 아닌 기존 비밀번호({noop}, {pbkdf2} 등)도 검증할 수 있도록 기본 DelegatingPasswordEncoder에 맡김
+		delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+		
+		int permits = maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors();
+		return new BoundedPasswordEncoder(delegatingPasswordEncoder, permits, acquireTimeout);
+	}
+}
@@ -0,0 +1,109 @@
+package spring.board.global.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import spring.board.global.datasource.ReplicaDataSource;
+import spring.board.global.datasource.ReplicaLagMonitor;
+import spring.board.global.datasource.ReplicationRoutingDataSource;
+
+//== 읽기/쓰기 분리, datasource.replica.enabled=true 일 때만 사용 ==//
+//게시글 조회처럼 @Transactional(readOnly = true)인 요청을 replica로 보내서 primary의 부하를 줄인다.
+//로그인, 아이디 중복 확인처럼 결과를 캐시에 오래 두는 조회는 ReplicationRoutingDataSource.readFromPrimary로 primary에서 읽음
+//primary는 spring.datasource, replica는 datasource.replica의 URL을 사용하고 커넥션 풀 설정(spring.datasource.hikari)은 함께 사용함
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicationDataSourceConfig {
+	
+	private final DataSourceProperties dataSourceProperties;
+	private final Environment environment;
+	
+	//쉼표로 구분한 replica JDBC URL
+	@Value("${datasource.replica.urls}")
+	private List<String> replicaUrls;
+	
+	@Value("${datasource.replica.username:${spring.datasource.username}}")
+	private String replicaUsername;
+	
+	@Value("${datasource.replica.password:${spring.datasource.password}}")
+	private String replicaPassword;
+	
+	//이보다 복제가 늦은 replica는 따라잡을 때까지 사용하지 않음
+	@Value("${datasource.replica.max-lag:2s}")
+	private Duration maxLag;
+	
+	@Bean
+	public ReplicationRoutingDataSource routingDataSource() {
+		HikariDataSource primary = createPool(ReplicationRoutingDataSource.PRIMARY,
+											  dataSourceProperties.determineUrl(),
+											  dataSourceProperties.determineUsername(),
+											  dataSourceProperties.determinePassword());
+		
+		List<ReplicaDataSource> replicas = new ArrayList<>();
+		for (int i = 0; i < replicaUrls.size(); i++) {
+			String name = "replica-" + (i + 1);
+			replicas.add(new ReplicaDataSource(name, createPool(name, replicaUrls.get(i).trim(), replicaUsername, replicaPassword)));
+		}
+		log.info("읽기 전용 트랜잭션을 replica {}개로 보냅니다. 허용하는 복제 지연: {}", replicas.size(), maxLag);
+		return new ReplicationRoutingDataSource(primary, replicas);
+	}
+	
+	//JPA, JdbcTemplate이 사용하는 DataSource
+	//트랜잭션이 시작될 때가 아니라 첫 쿼리를 실행할 때 커넥션을 얻으므로 그 시점에는 readOnly 여부를 알 수 있음
+	@Bean
+	@Primary
+	public DataSource dataSource(ReplicationRoutingDataSource routingDataSource) {
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+	
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(ReplicationRoutingDataSource routingDataSource) {
+		return new ReplicaLagMonitor(routingDataSource.getPrimary(), routingDataSource.getReplicas(), maxLag);
+	}
+	
+	//커넥션 풀이 bean이 아니므로 Spring Boot 대신 metrics(hikaricp.*, pool 태그로 구분)를 등록함
+	@Bean
+	public MeterBinder routingDataSourcePoolMetrics(ReplicationRoutingDataSource routingDataSource) {
+		return registry -> routingDataSource.getResolvedDataSources().values().forEach(dataSource -> {
+			HikariDataSource hikari = (HikariDataSource) dataSource;
+			if (hikari.getMetricsTrackerFactory() == null) {
+				hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+			}
+		});
+	}
+	
+	//spring.datasource.hikari의 커넥션 풀 설정을 primary, replica 모두에 적용함
+	private HikariDataSource createPool(String poolName, String url, String username, String password) {
+		HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+														  .type(HikariDataSource.class)
+														  .url(url)
+														  .username(username)
+														  .password(password)
+														  .build();
+		Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+		dataSource.setPoolName(poolName);
+		return dataSource;
+	}
+}
@@ -1,61 +1,126 @@
 package spring.board.global.config;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
-import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.logout.HttpStatusReturningLogoutSuccessHandler;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
+import spring.board.domain.member.Role;
 import spring.board.domain.member.service.LoginService;
+import spring.board.global.jwt.filter.JwtAuthenticationProcessingFilter;
+import spring.board.global.jwt.handler.TokenRevocationLogoutHandler;
+import spring.board.global.jwt.service.JwtService;
+import spring.board.global.jwt.service.TokenRevocationService;
+import spring.board.global.login.provider.RehashingDaoAuthenticationProvider;
+import spring.board.global.login.audit.LoginAuditor;
 import spring.board.global.login.filter.JsonUsernamePasswordAuthenticationFilter;
 import spring.board.global.login.handler.LoginFailureHandler;
 import spring.board.global.login.handler.LoginSuccessJWTProvideHandler;
+import spring.board.global.login.metrics.LoginStageTimers;
+import spring.board.global.login.ratelimit.LoginRateLimiter;
+import spring.board.global.password.PasswordRehashService;
 
+//== 필터 체인을 두 개로 나눔, 요청은 순서대로 처음 일치하는 체인 하나만 통과함 ==//
+//1. 로그인 없이 사용하는 경로: 인증 필터(JSON 로그인, JWT) 없이 최소한의 필터만 통과
+//2. 나머지 API: 로그인, JWT 인증, 권한 검사
 @Configuration
 @RequiredArgsConstructor // final , @NonNull 이 붙은 필드를 인자로 받는 생성자
-public class SecurityConfig extends WebSecurityConfigurerAdapter {
+public class SecurityConfig {
 	
-	//== ObjectMapper, LoginService, 생성자를 통해 주입함 ==//
+	//== ObjectMapper, LoginService, JwtService, PasswordEncoder, PasswordRehashService, LoginRateLimiter, LoginAuditor, LoginStageTimers, TokenRevocationService 생성자를 통해 주입함 ==//
 	private final ObjectMapper objectMapper;
 	private final LoginService loginService;
+	private final JwtService jwtService;
+	private final PasswordEncoder passwordEncoder;
+	private final PasswordRehashService passwordRehashService;
+	private final LoginRateLimiter loginRateLimiter;
+	private final LoginAuditor loginAuditor;
+	private final LoginStageTimers loginStageTimers;
+	private final TokenRevocationService tokenRevocationService;
 	
-	@Override
-	protected void configure(HttpSecurity http) throws Exception {
+	//== 로그인 없이 사용하는 경로 ==//
+	//토큰을 검증하거나 세션, 요청 캐시를 확인하지 않고 보안 헤더만 추가함
+	@Bean
+	@Order(1)
+	public SecurityFilterChain publicFilterChain(HttpSecurity http) throws Exception {
+		http.requestMatchers(matchers -> matchers
+				.requestMatchers(PathRequest.toStaticResources().atCommonLocations())
+				.requestMatchers(EndpointRequest.to("health", "prometheus")) //운영 환경에서는 관리 포트로만 노출함
+				.antMatchers("/", "/signUp", "/signUp/**")
+				.antMatchers(HttpMethod.GET, "/posts", "/posts/**", "/search/posts")) //게시글 조회, 검색은 로그인 없이 가능
+			.formLogin().disable()
+			.httpBasic().disable()
+			.csrf().disable()
+			.logout().disable()
+			.requestCache().disable()
+			.anonymous().disable()
+			.servletApi().disable()
+			.exceptionHandling().disable()
+			.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+			
+			.and()
+			.authorizeHttpRequests()
+			.anyRequest().permitAll();
+		
+		return http.build();
+	}
+	
+	//== 나머지 API ==//
+	@Bean
+	@Order(2)
+	public SecurityFilterChain apiFilterChain(HttpSecurity http) throws Exception {
 		http.formLogin().disable()
 			.httpBasic().disable()
 			.csrf().disable()
 			.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
 			
+			//로그아웃하면 요청의 토큰을 무효화하고 200으로 응답함
+			.and()
+			.logout()
+			.logoutRequestMatcher(new AntPathRequestMatcher("/logout", HttpMethod.POST.name()))
+			.addLogoutHandler(new TokenRevocationLogoutHandler(jwtService, tokenRevocationService))
+			.logoutSuccessHandler(new HttpStatusReturningLogoutSuccessHandler())
+			
 			.and()
 			.authorizeRequests()
-			.antMatchers("/login", "/signUp","/").permitAll()
+			.antMatchers("/login").permitAll()
+			.antMatchers(HttpMethod.POST, JwtAuthenticationProcessingFilter.REFRESH_URL).permitAll()
+			.antMatchers("/admin/**").hasRole(Role.ADMIN.name())
+			.requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole(Role.ADMIN.name())
 			.anyRequest()
 			.authenticated();
 		
 		//추가한 부분//
 		http.addFilterAfter(jsonUsernamePasswordLoginFilter(), LogoutFilter.class);
+		
+		//로그인 이후의 요청은 JWT로 인증함, 서블릿 필터로 중복 등록되지 않도록 Bean으로 만들지 않음
+		http.addFilterAfter(new JwtAuthenticationProcessingFilter(jwtService, tokenRevocationService), JsonUsernamePasswordAuthenticationFilter.class);
+		
+		return http.build();
 	}
 	
 	
-	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return PasswordEncoderFactories.createDelegatingPasswordEncoder();
-	}
-	
 	//== AuthenticationManager 등록 ==//
+	//PasswordEncoder는 PasswordEncoderConfig에서 등록함
 	@Bean
 	public AuthenticationManager authenticationManager(){
-		DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
-		provider.setPasswordEncoder(passwordEncoder());
+		RehashingDaoAuthenticationProvider provider = new RehashingDaoAuthenticationProvider(passwordRehashService, loginStageTimers);
+		provider.setPasswordEncoder(passwordEncoder);
 		provider.setUserDetailsService(loginService);
 		return new ProviderManager(provider);
 	}
@@ -63,26 +128,35 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 	//== LoginSuccessJWTProvideHandler 생성 코드 ==//
 	@Bean
 	public LoginSuccessJWTProvideHandler loginSuccessJWTProvideHandler() {
-		return new LoginSuccessJWTProvideHandler();
+		return new LoginSuccessJWTProvideHandler(jwtService, loginAuditor, loginStageTimers);
 	}
 	
 	//== LoginFailureHandler 생성 코드 ==//
 	@Bean
 	public LoginFailureHandler loginFailureHandler() {
-		return new LoginFailureHandler();
+		return new LoginFailureHandler(loginAuditor, loginStageTimers);
 	}
 	
 	//== JsonUsernamePasswordAuthenticationFilter 등록 ==//
 	@Bean
 	public JsonUsernamePasswordAuthenticationFilter jsonUsernamePasswordLoginFilter() {
-		JsonUsernamePasswordAuthenticationFilter jsonUsernamePasswordLoginFilter = new JsonUsernamePasswordAuthenticationFilter(objectMapper);
+		JsonUsernamePasswordAuthenticationFilter jsonUsernamePasswordLoginFilter = new JsonUsernamePasswordAuthenticationFilter(objectMapper, loginRateLimiter);
 		jsonUsernamePasswordLoginFilter.setAuthenticationManager(authenticationManager());
 		jsonUsernamePasswordLoginFilter.setAuthenticationSuccessHandler(loginSuccessJWTProvideHandler());
 		jsonUsernamePasswordLoginFilter.setAuthenticationFailureHandler(loginFailureHandler());
+		jsonUsernamePasswordLoginFilter.setLoginStageTimers(loginStageTimers);
 		return jsonUsernamePasswordLoginFilter;
 	
 	}
 	
+	//Filter 타입의 Bean은 Spring Boot가 서블릿 필터로도 등록하므로, 모든 요청에서 로그인 URL을 한 번 더 검사하지 않도록 등록을 끔
+	@Bean
+	public FilterRegistrationBean<JsonUsernamePasswordAuthenticationFilter> jsonUsernamePasswordLoginFilterRegistration() {
+		FilterRegistrationBean<JsonUsernamePasswordAuthenticationFilter> registration = new FilterRegistrationBean<>(jsonUsernamePasswordLoginFilter());
+		registration.setEnabled(false);
+		return registration;
+	}
+	
 	
 	
 }
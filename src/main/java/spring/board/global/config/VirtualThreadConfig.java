@@ -0,0 +1,39 @@
+package spring.board.global.config;
+
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import lombok.extern.slf4j.Slf4j;
+
+//== 가상 스레드 실행 모드, spring.threads.virtual.enabled=true 일 때만 사용 ==//
+//로그인은 findByUsername(JDBC)과 bcrypt를 기다리는 동안 스레드를 붙잡고 있으므로
+//Tomcat의 요청 처리와 비동기 작업을 가상 스레드에서 실행해서 동시에 처리할 수 있는 요청 수가 스레드 풀 크기에 묶이지 않게 한다.
+//bcrypt는 CPU를 사용하므로 BoundedPasswordEncoder가 계속 동시 계산 수를 제한하고, 비밀번호 재해시도 기존 스레드 풀을 사용한다.
+//Spring Boot 3.2의 설정 이름과 같게 만들어서 버전을 올리면 이 설정 없이 그대로 사용할 수 있음
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+	
+	//요청마다 가상 스레드를 만들어서 처리함, server.tomcat.threads.max는 더 이상 동시 요청 수를 제한하지 않음
+	@Bean
+	public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+		log.info("Tomcat 요청을 가상 스레드에서 처리합니다.");
+		return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+	}
+	
+	//@Async, MVC 비동기 요청(Callable, StreamingResponseBody)에서 사용하는 executor
+	@Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+				  AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+	public AsyncTaskExecutor applicationTaskExecutor() {
+		return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+	}
+}
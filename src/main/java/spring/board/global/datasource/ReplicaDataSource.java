@@ -0,0 +1,40 @@
+package spring.board.global.datasource;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+//replica 하나와 마지막으로 측정한 복제 지연, ReplicaLagMonitor가 갱신하고 ReplicationRoutingDataSource가 읽음
+@Slf4j
+@Getter
+public class ReplicaDataSource {
+	
+	public static final long UNKNOWN_LAG = -1;
+	
+	private final String name;
+	private final DataSource dataSource;
+	
+	//처음에는 지연을 모르므로 확인될 때까지 사용하지 않음
+	private volatile boolean available;
+	private volatile long lagMillis = UNKNOWN_LAG;
+	
+	public ReplicaDataSource(String name, DataSource dataSource) {
+		this.name = name;
+		this.dataSource = dataSource;
+	}
+	
+	//측정하지 못했거나(UNKNOWN_LAG) 허용치보다 지연되면 읽기 전용 트랜잭션도 primary에서 처리함
+	void updateLag(long lagMillis, Duration maxLag) {
+		boolean nowAvailable = lagMillis != UNKNOWN_LAG && lagMillis <= maxLag.toMillis();
+		if (available && !nowAvailable) {
+			log.warn("replica {}를 사용하지 않습니다. 복제 지연: {}ms", name, lagMillis);
+		} else if (!available && nowAvailable) {
+			log.info("replica {}를 사용합니다. 복제 지연: {}ms", name, lagMillis);
+		}
+		this.lagMillis = lagMillis;
+		this.available = nowAvailable;
+	}
+}
@@ -0,0 +1,99 @@
+package spring.board.global.datasource;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+//== replica의 복제 지연 측정(heartbeat) ==//
+//primary의 REPLICATION_HEARTBEAT에 주기적으로 현재 시간을 기록하고, replica에 복제된 값과 비교한다.
+//DB 종류(SHOW SLAVE STATUS 등)에 의존하지 않으므로 복제 없이 띄운 H2 두 개로도 테스트할 수 있음
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder {
+	
+	private static final String CREATE_SQL = "create table if not exists REPLICATION_HEARTBEAT (id int not null primary key, beat bigint not null)";
+	private static final String UPDATE_SQL = "update REPLICATION_HEARTBEAT set beat = ? where id = 1";
+	private static final String INSERT_SQL = "insert into REPLICATION_HEARTBEAT (id, beat) values (1, ?)";
+	private static final String SELECT_SQL = "select beat from REPLICATION_HEARTBEAT where id = 1";
+	
+	private final JdbcTemplate primary;
+	private final List<ReplicaDataSource> replicas;
+	private final Duration maxLag;
+	
+	//primary에 마지막으로 기록한 heartbeat, 0이면 아직 기록하지 않음
+	private long lastBeat;
+	private boolean tableCreated;
+	
+	public ReplicaLagMonitor(DataSource primary, List<ReplicaDataSource> replicas, Duration maxLag) {
+		this.primary = new JdbcTemplate(primary);
+		this.replicas = replicas;
+		this.maxLag = maxLag;
+	}
+	
+	//replica를 먼저 확인한 후 다음 heartbeat를 기록함
+	@Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:1000}")
+	public synchronized void check() {
+		long now = System.currentTimeMillis();
+		for (ReplicaDataSource replica : replicas) {
+			replica.updateLag(measureLag(replica, now), maxLag);
+		}
+		writeBeat(now);
+	}
+	
+	//마지막 heartbeat까지 복제되었으면 0, 아니면 replica에 있는 heartbeat 이후로 지난 시간
+	//heartbeat는 주기마다 기록하므로 지연이 최대 한 주기만큼 크게 측정될 수 있음(primary로 더 빨리 돌아가는 쪽)
+	private long measureLag(ReplicaDataSource replica, long now) {
+		if (lastBeat == 0) {
+			return ReplicaDataSource.UNKNOWN_LAG;
+		}
+		try {
+			List<Long> beats = new JdbcTemplate(replica.getDataSource()).queryForList(SELECT_SQL, Long.class);
+			if (beats.isEmpty()) {
+				return ReplicaDataSource.UNKNOWN_LAG;
+			}
+			long replicaBeat = beats.get(0);
+			return replicaBeat >= lastBeat ? 0 : now - replicaBeat;
+		} catch (DataAccessException e) {
+			log.warn("replica {}의 복제 지연을 확인하지 못했습니다.", replica.getName(), e);
+			return ReplicaDataSource.UNKNOWN_LAG;
+		}
+	}
+	
+	private void writeBeat(long now) {
+		try {
+			if (!tableCreated) {
+				primary.execute(CREATE_SQL);
+				tableCreated = true;
+			}
+			if (primary.update(UPDATE_SQL, now) == 0) {
+				primary.update(INSERT_SQL, now);
+			}
+			lastBeat = now;
+		} catch (DataAccessException e) {
+			log.warn("primary에 heartbeat를 기록하지 못했습니다.", e);
+		}
+	}
+	
+	//replica별 복제 지연(ms, 모르면 -1)과 사용 여부
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		for (ReplicaDataSource replica : replicas) {
+			Gauge.builder("datasource.replica.lag", replica, ReplicaDataSource::getLagMillis)
+				 .tag("replica", replica.getName())
+				 .baseUnit("milliseconds")
+				 .register(registry);
+			Gauge.builder("datasource.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+				 .tag("replica", replica.getName())
+				 .register(registry);
+		}
+	}
+}
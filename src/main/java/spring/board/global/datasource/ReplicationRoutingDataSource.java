@@ -0,0 +1,110 @@
+package spring.board.global.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.Getter;
+
+//@Transactional(readOnly = true)인 트랜잭션은 replica로, 나머지는 primary로 보냄
+//트랜잭션이 시작될 때는 아직 readOnly 여부가 등록되지 않았으므로 LazyConnectionDataSourceProxy로 감싸서
+//첫 쿼리를 실행할 때 커넥션을 고르게 해야 한다.
+//replica는 max-lag만큼 늦을 수 있으므로 replica에서 읽은 값은 오래 남는 캐시에 넣지 않는다.
+//1. replica를 사용하는 트랜잭션은 2차 캐시에 저장하지 않음(CacheMode.GET), 캐시에 있는 값은 읽음
+//2. 캐시를 채우는 조회(로그인, 아이디 중복 확인)는 readFromPrimary로 readOnly여도 primary에서 읽음
+@Getter
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+	
+	public static final String PRIMARY = "primary";
+	
+	private final DataSource primary;
+	private final List<ReplicaDataSource> replicas;
+	
+	private final AtomicInteger next = new AtomicInteger();
+	
+	private static final ThreadLocal<Boolean> primaryRead = ThreadLocal.withInitial(() -> false);
+	
+	public ReplicationRoutingDataSource(DataSource primary, List<ReplicaDataSource> replicas) {
+		this.primary = primary;
+		this.replicas = List.copyOf(replicas);
+		
+		Map<Object, Object> targets = new HashMap<>();
+		targets.put(PRIMARY, primary);
+		this.replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+		setTargetDataSources(targets);
+		setDefaultTargetDataSource(primary);
+	}
+	
+	//== 복제 지연 없이 primary에서 읽음 ==//
+	//트랜잭션의 커넥션은 첫 쿼리에서 정해지므로 트랜잭션의 첫 쿼리를 감싸야 함
+	public static <T> T readFromPrimary(Supplier<T> query) {
+		if (primaryRead.get()) {
+			return query.get();
+		}
+		primaryRead.set(true);
+		try {
+			return query.get();
+		} finally {
+			primaryRead.remove();
+		}
+	}
+	
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || primaryRead.get()) {
+			return PRIMARY;
+		}
+		ReplicaDataSource replica = nextAvailableReplica();
+		if (replica == null) {
+			return PRIMARY;
+		}
+		disableCachePut();
+		return replica.getName();
+	}
+	
+	//커넥션을 얻는 시점은 조회 결과를 읽기 전이므로, 이 트랜잭션에서 읽은 엔티티, natural id, 쿼리 결과는 2차 캐시에 저장되지 않음
+	//트랜잭션이 끝나면 영속성 컨텍스트(Session)도 닫히므로 되돌리지 않아도 됨
+	private static void disableCachePut() {
+		for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+			if (resource instanceof EntityManagerHolder holder) {
+				holder.getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.GET);
+			}
+		}
+	}
+	
+	//사용할 수 있는 replica를 돌아가면서 선택, 모두 지연되고 있으면 null
+	private ReplicaDataSource nextAvailableReplica() {
+		int size = replicas.size();
+		if (size == 0) {
+			return null;
+		}
+		int start = Math.floorMod(next.getAndIncrement(), size);
+		for (int i = 0; i < size; i++) {
+			ReplicaDataSource replica = replicas.get((start + i) % size);
+			if (replica.isAvailable()) {
+				return replica;
+			}
+		}
+		return null;
+	}
+	
+	//bean으로 등록하지 않은 커넥션 풀들을 서버가 종료될 때 닫음
+	@Override
+	public void close() throws Exception {
+		for (DataSource dataSource : getResolvedDataSources().values()) {
+			if (dataSource instanceof AutoCloseable) {
+				((AutoCloseable) dataSource).close();
+			}
+		}
+	}
+}
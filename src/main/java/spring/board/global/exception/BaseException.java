@@ -0,0 +1,19 @@
+package spring.board.global.exception;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+
+//도메인에서 발생하는 예외의 부모 클래스, GlobalExceptionHandler에서 status와 message로 응답을 만든다.
+@Getter
+public abstract class BaseException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+	
+	private final HttpStatus status;
+
+	protected BaseException(HttpStatus status, String message) {
+		super(message);
+		this.status = status;
+	}
+}
@@ -0,0 +1,12 @@
+package spring.board.global.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ErrorResponse {
+
+	private final int status;
+	private final String message;
+}
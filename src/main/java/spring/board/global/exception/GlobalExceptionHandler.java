@@ -0,0 +1,42 @@
+package spring.board.global.exception;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import lombok.extern.slf4j.Slf4j;
+
+//예외를 /error로 forward하지 않고 바로 응답함
+//STATELESS 설정에서는 /error 요청에 인증 정보가 없어 403으로 바뀌기 때문
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+	@ExceptionHandler(BaseException.class)
+	public ResponseEntity<ErrorResponse> handleBaseException(BaseException e) {
+		log.info("요청 처리 중 예외가 발생했습니다. {}", e.getMessage());
+		return ResponseEntity.status(e.getStatus())
+							 .body(new ErrorResponse(e.getStatus().value(), e.getMessage()));
+	}
+	
+	//@Valid 검증 실패, MethodArgumentNotValidException은 BindException을 상속함
+	@ExceptionHandler(BindException.class)
+	public ResponseEntity<ErrorResponse> handleBindException(BindException e) {
+		String message = e.getBindingResult().getFieldErrors().isEmpty() 
+					   ? e.getMessage() 
+					   : e.getBindingResult().getFieldErrors().get(0).getDefaultMessage();
+		return ResponseEntity.badRequest()
+							 .body(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), message));
+	}
+	
+	//낙관적 락 충돌(Member의 version), 다시 시도하지 않는 수정(비밀번호 변경 등)에서 다른 요청이 먼저 수정한 경우
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+		log.info("다른 요청이 먼저 수정했습니다. {}", e.getMessage());
+		return ResponseEntity.status(HttpStatus.CONFLICT)
+							 .body(new ErrorResponse(HttpStatus.CONFLICT.value(), "다른 요청이 먼저 수정했습니다. 다시 시도해주세요"));
+	}
+}
@@ -0,0 +1,28 @@
+package spring.board.global.jwt;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import spring.board.domain.member.Role;
+
+//JWT의 claim만으로 만들어지는 인증 정보
+//요청마다 DB에서 Member를 조회하지 않기 위해 회원 id, 아이디, 권한만 가지고 있음
+//토큰 id(jti), 발급/만료 시간(epoch 초)은 토큰이 무효화되었는지 확인하는 데 사용함
+@Getter
+@RequiredArgsConstructor
+public class MemberPrincipal implements AuthenticatedPrincipal {
+
+	private final Long memberId;
+	private final String username;
+	private final Role role;
+	
+	private final String tokenId;
+	private final long issuedAt;
+	private final long expiresAt;
+
+	@Override
+	public String getName() {
+		return username;
+	}
+}
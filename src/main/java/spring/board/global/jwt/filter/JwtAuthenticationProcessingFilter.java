@@ -0,0 +1,90 @@
+package spring.board.global.jwt.filter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import lombok.RequiredArgsConstructor;
+import spring.board.global.jwt.MemberPrincipal;
+import spring.board.global.jwt.service.JwtService;
+import spring.board.global.jwt.service.TokenRevocationService;
+
+//JsonUsernamePasswordAuthenticationFilter 다음에 위치하여 요청의 access token을 검증한다.
+//토큰의 claim(회원 id, 권한)만으로 인증 정보를 만들기 때문에 DB 조회가 발생하지 않는다.
+//무효화된 토큰(로그아웃, 비밀번호 변경)인지는 TokenRevocationService가 메모리에서 확인함
+@RequiredArgsConstructor
+public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
+	
+	//로그인 요청은 JsonUsernamePasswordAuthenticationFilter에서 처리함
+	private static final String NO_CHECK_URL = "/login";
+	
+	//refresh token으로 access token과 refresh token을 재발급하는 URL
+	public static final String REFRESH_URL = "/token/refresh";
+	
+	private final JwtService jwtService;
+	private final TokenRevocationService tokenRevocationService;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		String uri = request.getRequestURI();
+		if (NO_CHECK_URL.equals(uri)) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		
+		//재발급 요청(POST)은 다음 필터로 넘기지 않고 바로 응답함
+		if (REFRESH_URL.equals(uri) && HttpMethod.POST.matches(request.getMethod())) {
+			reIssueTokens(request, response);
+			return;
+		}
+		
+		jwtService.extractAccessToken(request)
+				  .flatMap(jwtService::verifyAccessToken)
+				  .filter(token -> !tokenRevocationService.isRevoked(token))
+				  .ifPresent(this::saveAuthentication);
+		
+		filterChain.doFilter(request, response);
+	}
+	
+	private void reIssueTokens(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		Optional<MemberPrincipal> principal = jwtService.extractRefreshToken(request)
+														.flatMap(jwtService::verifyRefreshToken)
+														.filter(token -> !tokenRevocationService.isRevoked(token));
+		if (principal.isEmpty()) {
+			response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+			return;
+		}
+		
+		//사용한 refresh token은 무효화해서 다시 사용할 수 없도록 함
+		//동시에 같은 토큰으로 요청하면 무효화 insert에 성공한 요청만 새 토큰을 받음
+		MemberPrincipal member = principal.get();
+		if (!tokenRevocationService.revokeOnce(member)) {
+			response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+			return;
+		}
+		
+		jwtService.sendAccessAndRefreshToken(response,
+				jwtService.createAccessToken(member.getMemberId(), member.getUsername(), member.getRole()),
+				jwtService.createRefreshToken(member.getMemberId(), member.getUsername(), member.getRole()));
+	}
+	
+	private void saveAuthentication(MemberPrincipal principal) {
+		UsernamePasswordAuthenticationToken authentication = 
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getRole().getAuthorities());
+		
+		SecurityContext context = SecurityContextHolder.createEmptyContext();
+		context.setAuthentication(authentication);
+		SecurityContextHolder.setContext(context);
+	}
+}
@@ -0,0 +1,37 @@
+package spring.board.global.jwt.handler;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import spring.board.global.jwt.service.JwtService;
+import spring.board.global.jwt.service.TokenRevocationService;
+
+//== 로그아웃, 요청에 담긴 access token과 refresh token을 무효화함 ==//
+//LogoutFilter는 JwtAuthenticationProcessingFilter보다 앞에 있어서 인증 정보가 없으므로 헤더의 토큰을 직접 검증함
+//유효하지 않은 토큰은 무시함
+@Slf4j
+@RequiredArgsConstructor
+public class TokenRevocationLogoutHandler implements LogoutHandler {
+	
+	private final JwtService jwtService;
+	private final TokenRevocationService tokenRevocationService;
+	
+	@Override
+	public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+		jwtService.extractAccessToken(request)
+				  .flatMap(jwtService::verifyAccessToken)
+				  .ifPresent(token -> {
+					  log.info("로그아웃합니다. username: {}", token.getUsername());
+					  tokenRevocationService.revoke(token);
+				  });
+		
+		jwtService.extractRefreshToken(request)
+				  .flatMap(jwtService::verifyRefreshToken)
+				  .ifPresent(tokenRevocationService::revoke);
+	}
+}
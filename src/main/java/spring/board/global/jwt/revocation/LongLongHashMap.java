@@ -0,0 +1,164 @@
+package spring.board.global.jwt.revocation;
+
+import java.util.concurrent.locks.StampedLock;
+
+//== key, value가 모두 long인 hash map ==//
+//HashMap<Long, Long>은 항목마다 Entry와 Long 객체 두 개를 만들고 조회할 때도 key를 boxing한다.
+//long 배열 하나에 key, value를 번갈아 저장하고(open addressing, linear probing) 조회는 배열만 읽는다.
+//읽기가 대부분이므로 조회는 lock 없이(StampedLock optimistic read) 하고, 도중에 변경되었으면 read lock으로 다시 읽음
+//key 0은 빈 칸을 나타내므로 따로 저장함
+public class LongLongHashMap {
+	
+	private static final long EMPTY = 0;
+	
+	private final StampedLock lock = new StampedLock();
+	
+	//[key0, value0, key1, value1, ...], 칸 수는 2의 거듭제곱
+	private long[] table;
+	private int size;
+	
+	private boolean hasZeroKey;
+	private long zeroValue;
+	
+	public LongLongHashMap(int expectedSize) {
+		this.table = new long[tableLength(expectedSize)];
+	}
+	
+	public long get(long key, long defaultValue) {
+		long stamp = lock.tryOptimisticRead();
+		long value = find(key, defaultValue);
+		if (!lock.validate(stamp)) {
+			stamp = lock.readLock();
+			try {
+				value = find(key, defaultValue);
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+		return value;
+	}
+	
+	//기존 값보다 클 때만 저장함
+	public void putIfGreater(long key, long value) {
+		long stamp = lock.writeLock();
+		try {
+			if (key == EMPTY) {
+				if (!hasZeroKey || zeroValue < value) {
+					size += hasZeroKey ? 0 : 1;
+					hasZeroKey = true;
+					zeroValue = value;
+				}
+				return;
+			}
+			int slot = slot(table, key);
+			if (table[slot] == key) {
+				table[slot + 1] = Math.max(table[slot + 1], value);
+				return;
+			}
+			table[slot] = key;
+			table[slot + 1] = value;
+			size++;
+			//load factor 0.5
+			if (size * 4L > table.length) {
+				table = copy(table, table.length * 2, Long.MIN_VALUE);
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+	
+	//value가 threshold보다 작은 항목을 지우고 지운 개수를 반환함, 표를 새로 만드므로 주기적인 정리에만 사용
+	public int removeValuesBelow(long threshold) {
+		long stamp = lock.writeLock();
+		try {
+			int before = size;
+			if (hasZeroKey && zeroValue < threshold) {
+				hasZeroKey = false;
+				size--;
+			}
+			long[] remaining = copy(table, table.length, threshold);
+			size = (hasZeroKey ? 1 : 0) + count(remaining);
+			table = remaining;
+			return before - size;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+	
+	public int size() {
+		long stamp = lock.readLock();
+		try {
+			return size;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+	
+	//optimistic read 중에는 다른 스레드가 변경하는 중인 값을 읽을 수 있으므로 배열을 한 번만 읽고, 모든 칸을 본 뒤에는 멈춤
+	private long find(long key, long defaultValue) {
+		if (key == EMPTY) {
+			return hasZeroKey ? zeroValue : defaultValue;
+		}
+		long[] table = this.table;
+		int mask = table.length - 2;
+		int slot = hash(key) & mask;
+		for (int probes = 0; probes < table.length; probes += 2) {
+			long current = table[slot];
+			if (current == key) {
+				return table[slot + 1];
+			}
+			if (current == EMPTY) {
+				return defaultValue;
+			}
+			slot = (slot + 2) & mask;
+		}
+		return defaultValue;
+	}
+	
+	//key가 있는 칸 또는 key를 넣을 빈 칸의 위치, write lock 안에서만 호출
+	private static int slot(long[] table, long key) {
+		int mask = table.length - 2;
+		int slot = hash(key) & mask;
+		while (table[slot] != key && table[slot] != EMPTY) {
+			slot = (slot + 2) & mask;
+		}
+		return slot;
+	}
+	
+	//value가 threshold 이상인 항목만 length 크기의 새 배열로 옮김
+	private static long[] copy(long[] table, int length, long threshold) {
+		long[] copied = new long[length];
+		for (int i = 0; i < table.length; i += 2) {
+			if (table[i] != EMPTY && table[i + 1] >= threshold) {
+				int slot = slot(copied, table[i]);
+				copied[slot] = table[i];
+				copied[slot + 1] = table[i + 1];
+			}
+		}
+		return copied;
+	}
+	
+	private static int count(long[] table) {
+		int count = 0;
+		for (int i = 0; i < table.length; i += 2) {
+			if (table[i] != EMPTY) {
+				count++;
+			}
+		}
+		return count;
+	}
+	
+	//회원 id처럼 연속된 key가 한곳에 몰리지 않도록 섞은 뒤 짝수(key 칸)로 맞춤
+	private static int hash(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32)) << 1;
+	}
+	
+	private static int tableLength(int expectedSize) {
+		int slots = 16;
+		while (slots < expectedSize * 2L) {
+			slots <<= 1;
+		}
+		return slots * 2;
+	}
+}
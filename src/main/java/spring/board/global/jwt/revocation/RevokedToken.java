@@ -0,0 +1,35 @@
+package spring.board.global.jwt.revocation;
+
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+//로그아웃 등으로 하나씩 무효화한 토큰, 서버가 다시 시작될 때 TokenDenylist를 복구하는 데 사용함
+//토큰이 만료되면 지움
+@Table(name = "REVOKED_TOKEN", indexes = @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt"))
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class RevokedToken {
+	
+	//토큰의 jti(UUID)
+	@Id
+	@Column(length = 36)
+	private String tokenId;
+	
+	@Column(nullable = false)
+	private Long memberId;
+	
+	@Column(nullable = false)
+	private Instant expiresAt;
+}
@@ -0,0 +1,50 @@
+package spring.board.global.jwt.revocation;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+//== 무효화된 토큰 id(jti) 목록, 토큰의 만료 시간으로 구간(bucket)을 나눠서 저장 ==//
+//만료된 토큰은 서명 검증에서 이미 거부되므로 목록에 남겨둘 필요가 없다.
+//만료 시간이 지난 구간을 통째로 지우면 되므로 항목마다 만료를 확인하지 않고,
+//조회할 때는 토큰의 만료 시간으로 구간 하나만 찾아서 확인함
+public class TokenDenylist {
+	
+	//구간 번호(만료 시간 / 구간 길이) -> 그 구간에 만료되는 토큰 id
+	private final Map<Long, Set<String>> buckets = new ConcurrentHashMap<>();
+	private final long bucketSeconds;
+	
+	public TokenDenylist(Duration bucketSize) {
+		this.bucketSeconds = Math.max(1, bucketSize.getSeconds());
+	}
+	
+	//expiresAt: 토큰의 만료 시간(epoch 초)
+	public void add(String tokenId, long expiresAt) {
+		buckets.computeIfAbsent(expiresAt / bucketSeconds, bucket -> ConcurrentHashMap.newKeySet()).add(tokenId);
+	}
+	
+	public boolean contains(String tokenId, long expiresAt) {
+		Set<String> bucket = buckets.get(expiresAt / bucketSeconds);
+		return bucket != null && bucket.contains(tokenId);
+	}
+	
+	//now(epoch 초)까지 모두 만료된 구간을 지우고 지운 토큰 수를 반환함
+	public int expire(long now) {
+		int removed = 0;
+		for (Map.Entry<Long, Set<String>> entry : buckets.entrySet()) {
+			if ((entry.getKey() + 1) * bucketSeconds <= now && buckets.remove(entry.getKey(), entry.getValue())) {
+				removed += entry.getValue().size();
+			}
+		}
+		return removed;
+	}
+	
+	public int size() {
+		int size = 0;
+		for (Set<String> bucket : buckets.values()) {
+			size += bucket.size();
+		}
+		return size;
+	}
+}
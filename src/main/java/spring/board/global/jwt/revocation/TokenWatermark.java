@@ -0,0 +1,37 @@
+package spring.board.global.jwt.revocation;
+
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+//회원별로 이 시간 이전에 발급된 토큰은 모두 무효(비밀번호 변경 등)
+//가장 긴 토큰 유효기간(refresh token)이 지나면 이전 토큰이 모두 만료되므로 지움
+@Table(name = "TOKEN_WATERMARK")
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class TokenWatermark {
+	
+	@Id
+	@Column(name = "member_id")
+	private Long memberId;
+	
+	@Column(nullable = false)
+	private Instant revokedBefore;
+	
+	//시간은 뒤로 가지 않음
+	public void raise(Instant revokedBefore) {
+		if (revokedBefore.isAfter(this.revokedBefore)) {
+			this.revokedBefore = revokedBefore;
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package spring.board.global.jwt.revocation.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import spring.board.global.jwt.revocation.RevokedToken;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+	
+	List<RevokedToken> findByExpiresAtAfter(Instant now);
+	
+	//save는 id를 직접 정하는 엔티티를 merge(조회 후 insert)하므로 동시에 저장하면 둘 다 성공할 수 있음
+	//기본키가 이미 있으면 DataIntegrityViolationException으로 실패하도록 바로 insert함
+	@Transactional
+	@Modifying
+	@Query(value = "insert into REVOKED_TOKEN (token_id, member_id, expires_at) values (:tokenId, :memberId, :expiresAt)", nativeQuery = true)
+	int insert(@Param("tokenId") String tokenId, @Param("memberId") Long memberId, @Param("expiresAt") Instant expiresAt);
+	
+	@Modifying
+	@Query("delete from RevokedToken t where t.expiresAt <= :now")
+	int deleteExpired(@Param("now") Instant now);
+}
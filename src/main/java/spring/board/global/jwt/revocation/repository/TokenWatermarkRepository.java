@@ -0,0 +1,21 @@
+package spring.board.global.jwt.revocation.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import spring.board.global.jwt.revocation.TokenWatermark;
+
+public interface TokenWatermarkRepository extends JpaRepository<TokenWatermark, Long> {
+	
+	List<TokenWatermark> findByRevokedBeforeAfter(Instant oldestValidIssuedAt);
+	
+	//이보다 이전의 watermark는 그 전에 발급된 토큰이 모두 만료되어서 필요 없음
+	@Modifying
+	@Query("delete from TokenWatermark w where w.revokedBefore <= :oldestValidIssuedAt")
+	int deleteObsolete(@Param("oldestValidIssuedAt") Instant oldestValidIssuedAt);
+}
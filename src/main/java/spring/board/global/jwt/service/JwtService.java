@@ -0,0 +1,163 @@
+package spring.board.global.jwt.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.RegisteredClaims;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import spring.board.domain.member.Role;
+import spring.board.global.jwt.MemberPrincipal;
+
+@Slf4j
+@Service
+public class JwtService {
+
+	//== JWT claim 이름 ==//
+	private static final String USERNAME_CLAIM = "username";
+	private static final String ROLE_CLAIM = "role";
+	private static final String TYPE_CLAIM = "type";
+	
+	//== 토큰 종류, access token과 refresh token을 서로 바꿔서 사용할 수 없도록 type claim에 저장 ==//
+	private static final String ACCESS_TOKEN_TYPE = "access";
+	private static final String REFRESH_TOKEN_TYPE = "refresh";
+	
+	private static final String BEARER = "Bearer ";
+	
+	@Getter
+	private final String accessHeader;
+	@Getter
+	private final String refreshHeader;
+	private final Duration accessTokenExpiration;
+	private final Duration refreshTokenExpiration;
+	
+	//서명 키와 검증기는 생성 시 한 번만 만들어두고 모든 요청에서 재사용함
+	private final Algorithm algorithm;
+	private final JWTVerifier verifier;
+	
+	private final ObjectMapper objectMapper;
+	
+	public JwtService(ObjectMapper objectMapper,
+					  @Value("${jwt.secret}") String secret,
+					  @Value("${jwt.access.header:Authorization}") String accessHeader,
+					  @Value("${jwt.access.expiration:30m}") Duration accessTokenExpiration,
+					  @Value("${jwt.refresh.header:Authorization-refresh}") String refreshHeader,
+					  @Value("${jwt.refresh.expiration:14d}") Duration refreshTokenExpiration) {
+		this.objectMapper = objectMapper;
+		this.accessHeader = accessHeader;
+		this.accessTokenExpiration = accessTokenExpiration;
+		this.refreshHeader = refreshHeader;
+		this.refreshTokenExpiration = refreshTokenExpiration;
+		this.algorithm = Algorithm.HMAC512(secret);
+		//무효화 여부를 jti, iat로 확인하므로 둘 중 하나라도 없는 토큰은 받지 않음
+		this.verifier = JWT.require(algorithm)
+						   .withClaimPresence(RegisteredClaims.JWT_ID)
+						   .withClaimPresence(RegisteredClaims.ISSUED_AT)
+						   .build();
+	}
+	
+	//== 토큰 발급 ==//
+	public String createAccessToken(Long memberId, String username, Role role) {
+		return createToken(memberId, username, role, ACCESS_TOKEN_TYPE, accessTokenExpiration);
+	}
+	
+	public String createRefreshToken(Long memberId, String username, Role role) {
+		return createToken(memberId, username, role, REFRESH_TOKEN_TYPE, refreshTokenExpiration);
+	}
+	
+	private String createToken(Long memberId, String username, Role role, String type, Duration expiration) {
+		long now = System.currentTimeMillis();
+		return JWT.create()
+				  .withSubject(String.valueOf(memberId))
+				  .withClaim(USERNAME_CLAIM, username)
+				  .withClaim(ROLE_CLAIM, role.name())
+				  .withClaim(TYPE_CLAIM, type)
+				  .withJWTId(UUID.randomUUID().toString())	//로그아웃할 때 이 토큰만 무효화하기 위한 id
+				  .withIssuedAt(new Date(now))
+				  .withExpiresAt(new Date(now + expiration.toMillis()))
+				  .sign(algorithm);
+	}
+	
+	//== 토큰 검증 ==//
+	//서명, 만료시간, 토큰 종류를 확인하고 claim으로 인증 정보를 만듦. DB는 조회하지 않음
+	public Optional<MemberPrincipal> verifyAccessToken(String token) {
+		return verify(token, ACCESS_TOKEN_TYPE);
+	}
+	
+	public Optional<MemberPrincipal> verifyRefreshToken(String token) {
+		return verify(token, REFRESH_TOKEN_TYPE);
+	}
+	
+	private Optional<MemberPrincipal> verify(String token, String type) {
+		try {
+			DecodedJWT jwt = verifier.verify(token);
+			if (!type.equals(jwt.getClaim(TYPE_CLAIM).asString())) {
+				return Optional.empty();
+			}
+			return Optional.of(new MemberPrincipal(Long.valueOf(jwt.getSubject()),
+												   jwt.getClaim(USERNAME_CLAIM).asString(),
+												   Role.valueOf(jwt.getClaim(ROLE_CLAIM).asString()),
+												   jwt.getId(),
+												   jwt.getIssuedAt().getTime() / 1000,
+												   jwt.getExpiresAt().getTime() / 1000));
+		} catch (JWTVerificationException | IllegalArgumentException e) {
+			log.debug("유효하지 않은 토큰입니다. {}", e.getMessage());
+			return Optional.empty();
+		}
+	}
+	
+	//== 요청 헤더에서 토큰 추출, "Bearer " 접두사를 제거함 ==//
+	public Optional<String> extractAccessToken(HttpServletRequest request) {
+		return extractToken(request.getHeader(accessHeader));
+	}
+	
+	public Optional<String> extractRefreshToken(HttpServletRequest request) {
+		return extractToken(request.getHeader(refreshHeader));
+	}
+	
+	private Optional<String> extractToken(String headerValue) {
+		if (headerValue == null || !headerValue.startsWith(BEARER)) {
+			return Optional.empty();
+		}
+		return Optional.of(headerValue.substring(BEARER.length()));
+	}
+	
+	//== 응답 헤더와 body에 토큰을 담아서 전송 ==//
+	public void sendAccessAndRefreshToken(HttpServletResponse response, String accessToken, String refreshToken) throws IOException {
+		response.setStatus(HttpServletResponse.SC_OK);
+		response.setHeader(accessHeader, BEARER + accessToken);
+		response.setHeader(refreshHeader, BEARER + refreshToken);
+		
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding("UTF-8");
+		objectMapper.writeValue(response.getWriter(), new TokenResponse(accessToken, refreshToken));
+	}
+	
+	@Getter
+	private static class TokenResponse {
+		private final String accessToken;
+		private final String refreshToken;
+		
+		TokenResponse(String accessToken, String refreshToken) {
+			this.accessToken = accessToken;
+			this.refreshToken = refreshToken;
+		}
+	}
+}
@@ -0,0 +1,209 @@
+package spring.board.global.jwt.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import spring.board.global.cache.CacheInvalidation;
+import spring.board.global.cache.InvalidationBus;
+import spring.board.global.jwt.MemberPrincipal;
+import spring.board.global.jwt.revocation.LongLongHashMap;
+import spring.board.global.jwt.revocation.RevokedToken;
+import spring.board.global.jwt.revocation.TokenDenylist;
+import spring.board.global.jwt.revocation.TokenWatermark;
+import spring.board.global.jwt.revocation.repository.RevokedTokenRepository;
+import spring.board.global.jwt.revocation.repository.TokenWatermarkRepository;
+
+//== 발급한 토큰의 무효화 ==//
+//JWT는 만료 전까지 서명만으로 유효하므로, 로그아웃이나 비밀번호 변경 후에도 쓸 수 없도록 무효화 목록을 메모리에 두고 요청마다 확인한다.
+//1. watermark: 회원별로 이 시간(epoch 초) 이전에 발급된 토큰은 모두 무효, 비밀번호 변경
+//2. denylist: 토큰 하나(jti)만 무효, 로그아웃과 refresh token 재발급(revokeOnce)
+//확인은 메모리에서 조회 두 번으로 끝나고 DB에는 무효화할 때만 저장함, 서버가 시작될 때 DB에서 다시 읽음
+//다른 서버에는 커밋 후 InvalidationBus로 알리고, 메시지를 놓친 서버도 refresh-interval마다 DB를 다시 읽어서 맞춤
+@Slf4j
+@Service
+public class TokenRevocationService {
+	
+	//== 무효화 메시지, key는 "token:{jti}:{만료 시간}" 또는 "member:{회원 id}:{watermark}" ==//
+	private static final String CHANNEL = "token-revocation";
+	private static final String TOKEN_PREFIX = "token:";
+	private static final String MEMBER_PREFIX = "member:";
+	
+	private final String instanceId = UUID.randomUUID().toString();
+	private final InvalidationBus invalidationBus;
+	
+	private final RevokedTokenRepository revokedTokenRepository;
+	private final TokenWatermarkRepository tokenWatermarkRepository;
+	
+	//가장 긴 토큰 유효기간, 이보다 오래된 watermark는 필요 없음
+	private final Duration maxTokenLifetime;
+	
+	//회원 id -> 이 시간 이전에 발급된 토큰은 무효(epoch 초)
+	private final LongLongHashMap watermarks;
+	private final TokenDenylist denylist;
+	
+	private final Counter rejected;
+	
+	public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+								  TokenWatermarkRepository tokenWatermarkRepository,
+								  InvalidationBus invalidationBus,
+								  MeterRegistry meterRegistry,
+								  @Value("${jwt.refresh.expiration:14d}") Duration maxTokenLifetime,
+								  @Value("${jwt.revocation.bucket-size:10m}") Duration bucketSize,
+								  @Value("${jwt.revocation.expected-members:1024}") int expectedMembers) {
+		this.revokedTokenRepository = revokedTokenRepository;
+		this.tokenWatermarkRepository = tokenWatermarkRepository;
+		this.invalidationBus = invalidationBus;
+		this.maxTokenLifetime = maxTokenLifetime;
+		this.watermarks = new LongLongHashMap(expectedMembers);
+		this.denylist = new TokenDenylist(bucketSize);
+		
+		this.rejected = meterRegistry.counter("jwt.revocation.rejected");
+		Gauge.builder("jwt.revocation.watermarks", watermarks, LongLongHashMap::size).register(meterRegistry);
+		Gauge.builder("jwt.revocation.denylist.size", denylist, TokenDenylist::size).register(meterRegistry);
+		
+		invalidationBus.subscribe(this::onRevocation);
+	}
+	
+	//요청을 받기 전에 무효화 목록을 복구해야 하므로 ApplicationReadyEvent가 아니라 bean 생성 시 읽음
+	@PostConstruct
+	public void load() {
+		int[] loaded = merge();
+		log.info("무효화된 토큰 목록을 읽었습니다. 토큰: {}, 회원: {}", loaded[0], loaded[1]);
+	}
+	
+	//== 다른 서버의 무효화 메시지를 놓쳤을 때를 대비해서 주기적으로 DB를 다시 읽음 ==//
+	//메모리에 추가만 하므로 읽는 동안의 요청도 그대로 처리함
+	@Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval:60000}", initialDelayString = "${jwt.revocation.refresh-interval:60000}")
+	public void refresh() {
+		int[] loaded = merge();
+		log.debug("무효화된 토큰 목록을 다시 읽었습니다. 토큰: {}, 회원: {}", loaded[0], loaded[1]);
+	}
+	
+	//[토큰 수, 회원 수]
+	private int[] merge() {
+		Instant now = Instant.now();
+		int tokens = 0;
+		for (RevokedToken token : revokedTokenRepository.findByExpiresAtAfter(now)) {
+			denylist.add(token.getTokenId(), token.getExpiresAt().getEpochSecond());
+			tokens++;
+		}
+		int members = 0;
+		for (TokenWatermark watermark : tokenWatermarkRepository.findByRevokedBeforeAfter(now.minus(maxTokenLifetime))) {
+			watermarks.putIfGreater(watermark.getMemberId(), watermark.getRevokedBefore().getEpochSecond());
+			members++;
+		}
+		return new int[] {tokens, members};
+	}
+	
+	//== 요청마다 호출, DB를 조회하지 않음 ==//
+	public boolean isRevoked(MemberPrincipal token) {
+		boolean revoked = token.getIssuedAt() < watermarks.get(token.getMemberId(), Long.MIN_VALUE)
+					   || denylist.contains(token.getTokenId(), token.getExpiresAt());
+		if (revoked) {
+			rejected.increment();
+		}
+		return revoked;
+	}
+	
+	//== 토큰 하나를 무효화, 로그아웃 ==//
+	@Transactional
+	public void revoke(MemberPrincipal token) {
+		revokedTokenRepository.save(new RevokedToken(token.getTokenId(), token.getMemberId(), Instant.ofEpochSecond(token.getExpiresAt())));
+		afterCommit(() -> {
+			denylist.add(token.getTokenId(), token.getExpiresAt());
+			publish(TOKEN_PREFIX + token.getTokenId() + ":" + token.getExpiresAt());
+		});
+	}
+	
+	//== refresh token 재발급, 무효화에 성공한 요청만 새 토큰을 받음 ==//
+	//같은 refresh token으로 동시에 요청하면 기본키가 중복되어 insert 하나만 성공함
+	//예외가 트랜잭션을 rollback-only로 만들지 않도록 트랜잭션 밖에서 호출해야 함
+	public boolean revokeOnce(MemberPrincipal token) {
+		try {
+			revokedTokenRepository.insert(token.getTokenId(), token.getMemberId(), Instant.ofEpochSecond(token.getExpiresAt()));
+		} catch (DataIntegrityViolationException e) {
+			rejected.increment();
+			return false;
+		}
+		denylist.add(token.getTokenId(), token.getExpiresAt());
+		publish(TOKEN_PREFIX + token.getTokenId() + ":" + token.getExpiresAt());
+		return true;
+	}
+	
+	//== 회원의 토큰을 모두 무효화, 비밀번호 변경 ==//
+	//iat는 초 단위이므로 지금보다 이전 초에 발급된 토큰이 무효가 됨
+	//같은 초에 발급된 다른 토큰은 남을 수 있으므로 요청에 사용한 토큰은 revoke로 따로 무효화해야 함
+	@Transactional
+	public void revokeAll(Long memberId) {
+		Instant now = Instant.ofEpochSecond(Instant.now().getEpochSecond());
+		tokenWatermarkRepository.findById(memberId)
+								.ifPresentOrElse(watermark -> watermark.raise(now),
+												 () -> tokenWatermarkRepository.save(new TokenWatermark(memberId, now)));
+		afterCommit(() -> {
+			watermarks.putIfGreater(memberId, now.getEpochSecond());
+			publish(MEMBER_PREFIX + memberId + ":" + now.getEpochSecond());
+		});
+	}
+	
+	//== 만료된 항목 정리 ==//
+	@Scheduled(fixedDelayString = "${jwt.revocation.cleanup-interval:600000}")
+	@Transactional
+	public void cleanup() {
+		Instant now = Instant.now();
+		Instant oldestValidIssuedAt = now.minus(maxTokenLifetime);
+		int tokens = denylist.expire(now.getEpochSecond());
+		int members = watermarks.removeValuesBelow(oldestValidIssuedAt.getEpochSecond() + 1);
+		revokedTokenRepository.deleteExpired(now);
+		tokenWatermarkRepository.deleteObsolete(oldestValidIssuedAt);
+		log.debug("만료된 토큰 무효화 목록을 정리했습니다. 토큰: {}, 회원: {}", tokens, members);
+	}
+	
+	//== 서버 간 전달 ==//
+	private void publish(String key) {
+		invalidationBus.publish(new CacheInvalidation(CHANNEL, key, instanceId));
+	}
+	
+	//jti에 ':'가 들어 있어도 되도록 마지막 ':' 뒤를 시간으로 읽음
+	private void onRevocation(CacheInvalidation invalidation) {
+		if (!CHANNEL.equals(invalidation.getCacheName()) || instanceId.equals(invalidation.getOrigin()) || invalidation.isAll()) {
+			return;
+		}
+		String key = invalidation.getKey();
+		int separator = key.lastIndexOf(':');
+		long epochSecond = Long.parseLong(key.substring(separator + 1));
+		if (key.startsWith(TOKEN_PREFIX)) {
+			denylist.add(key.substring(TOKEN_PREFIX.length(), separator), epochSecond);
+		} else if (key.startsWith(MEMBER_PREFIX)) {
+			watermarks.putIfGreater(Long.parseLong(key.substring(MEMBER_PREFIX.length(), separator)), epochSecond);
+		}
+	}
+	
+	//롤백되면 메모리에도 반영하지 않음, 트랜잭션 밖에서 호출하면 바로 반영
+	private static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
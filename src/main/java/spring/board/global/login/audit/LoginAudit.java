@@ -0,0 +1,56 @@
+package spring.board.global.login.audit;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Immutable;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+//로그인 감사 기록, 추가만 하고 수정하지 않음
+//저장은 LoginAuditor가 JDBC batch로 하고, 엔티티는 테이블 생성(hbm2ddl)과 조회에 사용함
+@Table(name = "LOGIN_AUDIT", indexes = {
+		@Index(name = "idx_login_audit_username", columnList = "username, occurredAt"),
+		@Index(name = "idx_login_audit_occurred_at", columnList = "occurredAt")})
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LoginAudit {
+	
+	@Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "login_audit_id")
+	private Long id;
+	
+	//로그인을 시도한 아이디, body를 읽지 못한 요청은 null
+	@Column(length = LoginAuditEvent.USERNAME_LENGTH)
+	private String username;
+	
+	@Column(length = LoginAuditEvent.IP_LENGTH)
+	private String ip;
+	
+	@Column(length = LoginAuditEvent.USER_AGENT_LENGTH)
+	private String userAgent;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private LoginOutcome outcome;
+	
+	//로그인 요청을 읽기 시작해서 결과가 나올 때까지 걸린 시간
+	@Column(nullable = false)
+	private long latencyMillis;
+	
+	@Column(nullable = false)
+	private LocalDateTime occurredAt;
+}
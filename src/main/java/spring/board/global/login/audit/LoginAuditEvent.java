@@ -0,0 +1,35 @@
+package spring.board.global.login.audit;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+
+//LOGIN_AUDIT 테이블의 한 행, 요청 스레드에서 만들어서 LoginAuditor의 큐에 넣음
+@Getter
+public class LoginAuditEvent {
+	
+	//== 컬럼 길이, 넘는 값은 잘라서 저장함 ==//
+	static final int USERNAME_LENGTH = 100;
+	static final int IP_LENGTH = 45;
+	static final int USER_AGENT_LENGTH = 255;
+	
+	private final String username;
+	private final String ip;
+	private final String userAgent;
+	private final LoginOutcome outcome;
+	private final long latencyMillis;
+	private final LocalDateTime occurredAt;
+	
+	public LoginAuditEvent(String username, String ip, String userAgent, LoginOutcome outcome, long latencyMillis, LocalDateTime occurredAt) {
+		this.username = truncate(username, USERNAME_LENGTH);
+		this.ip = truncate(ip, IP_LENGTH);
+		this.userAgent = truncate(userAgent, USER_AGENT_LENGTH);
+		this.outcome = outcome;
+		this.latencyMillis = latencyMillis;
+		this.occurredAt = occurredAt;
+	}
+	
+	private static String truncate(String value, int length) {
+		return value == null || value.length() <= length ? value : value.substring(0, length);
+	}
+}
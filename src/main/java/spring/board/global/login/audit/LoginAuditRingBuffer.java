@@ -0,0 +1,95 @@
+package spring.board.global.login.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+//== 크기가 정해진 lock-free 큐(ring buffer) ==//
+//여러 요청 스레드가 offer하고 writer 스레드 하나만 drain한다.
+//칸마다 sequence를 두어서 생산자는 CAS로 자리만 차지하고, 값을 쓴 뒤 sequence를 올려서 소비자에게 알린다.
+//  sequence == 위치      : 비어 있음, 생산자가 쓸 수 있음
+//  sequence == 위치 + 1  : 값이 들어 있음, 소비자가 읽을 수 있음
+//가득 차면 기다리지 않고 false를 반환함
+public class LoginAuditRingBuffer<E> {
+	
+	private final int capacity;
+	private final int mask;
+	private final AtomicReferenceArray<E> elements;
+	private final AtomicLongArray sequences;
+	
+	//생산자가 다음에 쓸 위치
+	private final AtomicLong tail = new AtomicLong();
+	
+	//소비자가 다음에 읽을 위치, drainTo에서만 변경함
+	private final AtomicLong head = new AtomicLong();
+	
+	//capacity는 2의 거듭제곱으로 올림(위치를 나머지 연산 대신 mask로 계산)
+	public LoginAuditRingBuffer(int capacity) {
+		if (capacity < 1 || capacity > (1 << 30)) {
+			throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + capacity);
+		}
+		int size = 1;
+		while (size < capacity) {
+			size <<= 1;
+		}
+		this.capacity = size;
+		this.mask = this.capacity - 1;
+		this.elements = new AtomicReferenceArray<>(this.capacity);
+		this.sequences = new AtomicLongArray(this.capacity);
+		for (int i = 0; i < this.capacity; i++) {
+			sequences.set(i, i);
+		}
+	}
+	
+	public boolean offer(E element) {
+		long position = tail.get();
+		while (true) {
+			int index = (int) (position & mask);
+			long difference = sequences.get(index) - position;
+			if (difference == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					elements.set(index, element);
+					sequences.set(index, position + 1);
+					return true;
+				}
+				position = tail.get();
+			} else if (difference < 0) {
+				//한 바퀴 전의 값을 소비자가 아직 읽지 않음
+				return false;
+			} else {
+				//다른 생산자가 먼저 자리를 차지함
+				position = tail.get();
+			}
+		}
+	}
+	
+	//최대 maxElements개를 순서대로 꺼내서 target에 추가하고 꺼낸 개수를 반환함, 소비자 스레드 하나에서만 호출
+	public int drainTo(List<? super E> target, int maxElements) {
+		long position = head.get();
+		int count = 0;
+		while (count < maxElements) {
+			int index = (int) (position & mask);
+			if (sequences.get(index) != position + 1) {
+				//비어 있거나 생산자가 아직 값을 쓰는 중
+				break;
+			}
+			target.add(elements.get(index));
+			elements.set(index, null);
+			sequences.set(index, position + capacity);
+			position++;
+			count++;
+		}
+		head.set(position);
+		return count;
+	}
+	
+	public int size() {
+		long size = tail.get() - head.get();
+		return (int) Math.max(0, Math.min(size, capacity));
+	}
+	
+	public int capacity() {
+		return capacity;
+	}
+}
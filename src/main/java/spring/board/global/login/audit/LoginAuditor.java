@@ -0,0 +1,149 @@
+package spring.board.global.login.audit;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import spring.board.global.login.filter.JsonUsernamePasswordAuthenticationFilter;
+
+//== 로그인 감사 기록 ==//
+//로그인 핸들러(요청 스레드)는 이벤트를 lock-free 큐에 넣기만 하고, writer 스레드 하나가 모아서 JDBC batch로 저장한다.
+//큐가 가득 차면 로그인을 기다리게 하지 않고 이벤트를 버리며 login.audit.dropped로 센다.
+@Slf4j
+@Component
+public class LoginAuditor {
+	
+	private static final String INSERT_SQL = "insert into LOGIN_AUDIT (username, ip, user_agent, outcome, latency_millis, occurred_at) values (?, ?, ?, ?, ?, ?)";
+	
+	private final JdbcTemplate jdbcTemplate;
+	private final LoginAuditRingBuffer<LoginAuditEvent> queue;
+	private final int batchSize;
+	private final long flushIntervalNanos;
+	private final int maxRetries;
+	
+	//== metrics ==//
+	private final Counter written;
+	private final Counter droppedQueueFull;
+	private final Counter droppedWriteFailed;
+	
+	private volatile boolean running;
+	private Thread writer;
+	
+	public LoginAuditor(JdbcTemplate jdbcTemplate,
+						MeterRegistry meterRegistry,
+						@Value("${login.audit.capacity:8192}") int capacity,
+						@Value("${login.audit.batch-size:500}") int batchSize,
+						@Value("${login.audit.flush-interval:200ms}") Duration flushInterval,
+						@Value("${login.audit.max-retries:3}") int maxRetries) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.queue = new LoginAuditRingBuffer<>(capacity);
+		this.batchSize = batchSize;
+		this.flushIntervalNanos = flushInterval.toNanos();
+		this.maxRetries = maxRetries;
+		
+		this.written = meterRegistry.counter("login.audit.written");
+		this.droppedQueueFull = meterRegistry.counter("login.audit.dropped", "reason", "queue-full");
+		this.droppedWriteFailed = meterRegistry.counter("login.audit.dropped", "reason", "write-failed");
+		Gauge.builder("login.audit.queue.size", queue, LoginAuditRingBuffer::size).register(meterRegistry);
+	}
+	
+	//== 요청 스레드에서 호출, DB에 접근하거나 기다리지 않음 ==//
+	//걸린 시간은 JsonUsernamePasswordAuthenticationFilter가 요청을 읽기 시작한 시간부터 계산함
+	public void record(HttpServletRequest request, String username, LoginOutcome outcome) {
+		Object startNanos = request.getAttribute(JsonUsernamePasswordAuthenticationFilter.START_TIME_ATTRIBUTE);
+		long latencyMillis = startNanos == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - (Long) startNanos);
+		record(new LoginAuditEvent(username, request.getRemoteAddr(), request.getHeader(HttpHeaders.USER_AGENT),
+								   outcome, latencyMillis, LocalDateTime.now()));
+	}
+	
+	public void record(LoginAuditEvent event) {
+		if (!queue.offer(event)) {
+			droppedQueueFull.increment();
+			return;
+		}
+		//batch 하나만큼 쌓이면 flush-interval을 기다리지 않고 writer를 깨움
+		if (queue.size() >= batchSize) {
+			LockSupport.unpark(writer);
+		}
+	}
+	
+	@PostConstruct
+	public void start() {
+		running = true;
+		writer = new Thread(this::writeLoop, "login-audit-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+	
+	//서버가 종료될 때 큐에 남은 이벤트를 저장함
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		running = false;
+		LockSupport.unpark(writer);
+		writer.join(TimeUnit.SECONDS.toMillis(10));
+	}
+	
+	//== writer 스레드 ==//
+	private void writeLoop() {
+		List<LoginAuditEvent> batch = new ArrayList<>(batchSize);
+		while (running) {
+			if (queue.drainTo(batch, batchSize) == 0) {
+				LockSupport.parkNanos(this, flushIntervalNanos);
+				continue;
+			}
+			write(batch);
+			batch.clear();
+		}
+		while (queue.drainTo(batch, batchSize) > 0) {
+			write(batch);
+			batch.clear();
+		}
+	}
+	
+	//DB 장애 중에는 재시도하는 동안 큐가 차고, 가득 차면 새 이벤트를 버림(로그인은 계속 처리됨)
+	private void write(List<LoginAuditEvent> batch) {
+		for (int attempt = 0; ; attempt++) {
+			try {
+				jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), LoginAuditor::setValues);
+				written.increment(batch.size());
+				return;
+			} catch (DataAccessException e) {
+				if (attempt >= maxRetries || !running) {
+					log.warn("로그인 감사 기록 {}건을 저장하지 못했습니다.", batch.size(), e);
+					droppedWriteFailed.increment(batch.size());
+					return;
+				}
+				LockSupport.parkNanos(this, flushIntervalNanos * (attempt + 1));
+			}
+		}
+	}
+	
+	private static void setValues(PreparedStatement ps, LoginAuditEvent event) throws SQLException {
+		ps.setString(1, event.getUsername());
+		ps.setString(2, event.getIp());
+		ps.setString(3, event.getUserAgent());
+		ps.setString(4, event.getOutcome().name());
+		ps.setLong(5, event.getLatencyMillis());
+		ps.setTimestamp(6, Timestamp.valueOf(event.getOccurredAt()));
+	}
+}
@@ -0,0 +1,19 @@
+package spring.board.global.login.audit;
+
+//로그인 시도 결과
+public enum LoginOutcome {
+	
+	SUCCESS,
+	
+	//아이디가 없거나 비밀번호가 틀림
+	BAD_CREDENTIALS,
+	
+	//IP, username별 시도 횟수를 초과함
+	RATE_LIMITED,
+	
+	//JSON이 아니거나 body가 너무 큰 요청
+	INVALID_REQUEST,
+	
+	//회원 조회 중 DB 오류 등 서버 문제
+	ERROR
+}
@@ -1,8 +1,8 @@
 package spring.board.global.login.filter;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.Map;
+import java.io.InputStream;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -14,10 +14,16 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
-import org.springframework.util.StreamUtils;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import spring.board.global.login.metrics.LoginStage;
+import spring.board.global.login.metrics.LoginStageTimers;
+import spring.board.global.login.ratelimit.LoginRateLimiter;
+
 public class JsonUsernamePasswordAuthenticationFilter extends AbstractAuthenticationProcessingFilter {
 	
 	//기본 로그인 요청 URL 지정 /login
@@ -29,9 +35,15 @@ public class JsonUsernamePasswordAuthenticationFilter extends AbstractAuthentica
 	//json 타입의 데이터로만 로그인을 진행함
 	private static final String CONTENT_TYPE = "application/json";
 	
+	//로그인 요청 body의 최대 크기, 아이디와 비밀번호만 있으면 되므로 크게 잡지 않음
+	private static final int DEFAULT_MAX_BODY_SIZE = 4 * 1024;
+	
 	//ObjectMapper는 JSON 데이터와 Java 객체 간의 변환을 처리하는 Jackson 라이브러리의 핵심 클래스
 	private final ObjectMapper objectMapper;
 	
+	//IP, username별 로그인 시도 횟수 제한
+	private final LoginRateLimiter loginRateLimiter;
+	
 	//json 타입의 데이터에서 값을 가져올 때 사용할 key를 지정
 	private static final String USERNAME_KEY="username";
 	private static final String PASSWORD_KEY="password";
@@ -40,37 +52,146 @@ public class JsonUsernamePasswordAuthenticationFilter extends AbstractAuthentica
 	private static final AntPathRequestMatcher DEFAULT_LOGIN_PATH_REQUEST_MATCHER 
 					   = new AntPathRequestMatcher(DEFAULT_LOGIN_REQUEST_URL, HTTP_METHOD);
 	
+	//== 로그인 감사 기록(LoginAuditor)에서 사용하는 request attribute ==//
+	public static final String START_TIME_ATTRIBUTE = JsonUsernamePasswordAuthenticationFilter.class.getName() + ".START_TIME";
+	public static final String USERNAME_ATTRIBUTE = JsonUsernamePasswordAuthenticationFilter.class.getName() + ".USERNAME";
+	
+	private int maxBodySize = DEFAULT_MAX_BODY_SIZE;
+	
+	//body를 읽는 시간을 측정함, 설정하지 않으면 측정하지 않음
+	private LoginStageTimers loginStageTimers;
+	
 	//생성자
 	//super을 통해서 부모클래스의 생성자에게 해당 인자를 전달한다.
 	// /login GET 요청에 대해서 처리한다고 되어있는데 이해가 되지 않는다.
-	public JsonUsernamePasswordAuthenticationFilter(ObjectMapper objectMapper) {
+	public JsonUsernamePasswordAuthenticationFilter(ObjectMapper objectMapper, LoginRateLimiter loginRateLimiter) {
 		super(DEFAULT_LOGIN_PATH_REQUEST_MATCHER);
 		this.objectMapper = objectMapper;
+		this.loginRateLimiter = loginRateLimiter;
+	}
+	
+	public void setMaxBodySize(int maxBodySize) {
+		this.maxBodySize = maxBodySize;
+	}
+	
+	public void setLoginStageTimers(LoginStageTimers loginStageTimers) {
+		this.loginStageTimers = loginStageTimers;
 	}
 
 	@Override
 	public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response)
 			throws AuthenticationException, IOException, ServletException {
+		request.setAttribute(START_TIME_ATTRIBUTE, System.nanoTime());
+		
 		//Content가 json 타입인지 확인, null이거나 json타입이 아니면 오류를 생성
-		if(request.getContentType() == null || !request.getContentType().equals(CONTENT_TYPE)) {
+		//application/json;charset=UTF-8 처럼 parameter가 붙은 경우도 json 타입으로 처리함
+		if(!isJsonContentType(request.getContentType())) {
 			throw new AuthenticationServiceException("Authentication Content-Type not supported: " + request.getContentType());
 		}
 		
-		//json 타입일 경우
-		//copyToString() 메서드는 InputStream에서 문자열을 읽어와서 문자열을 반환하는 메서드
-		String messageBody = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+		//IP 기준 시도 횟수는 body를 읽기 전에 확인
+		loginRateLimiter.checkIp(request.getRemoteAddr());
 		
-		//generic 오류가 발생할 경우 import를 확인
-		//readValue() 첫번째 인자로 JSON 데이터, 두번쨰 인자로 Java로 변환될 클래스의 타입이 들어간다.
-		//JSON 데이터도 key, value 형태로 되어있기 때문에 key와 value를 가지는 Map 타입으로 쉽게 변환이 가능하다
-		Map<String, String> usernamePasswordMap = objectMapper.readValue(messageBody, Map.class);
+		//Content-Length가 최대 크기를 넘으면 body를 읽지 않고 바로 실패 처리
+		if(request.getContentLengthLong() > maxBodySize) {
+			throw new AuthenticationServiceException("Authentication request body too large: " + request.getContentLengthLong());
+		}
+		
+		//body 전체를 String이나 Map으로 변환하지 않고, InputStream에서 token 단위로 읽으면서 username, password만 꺼냄
+		String username = null;
+		String password = null;
+		long parseStart = loginStageTimers == null ? 0 : loginStageTimers.start();
+		try (JsonParser parser = objectMapper.getFactory().createParser(new LimitedInputStream(request.getInputStream(), maxBodySize))) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new AuthenticationServiceException("Authentication request body must be a JSON object");
+			}
+			
+			while ((username == null || password == null) && parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.getCurrentName();
+				JsonToken value = parser.nextToken();
+				
+				if (USERNAME_KEY.equals(fieldName) && value == JsonToken.VALUE_STRING) {
+					username = parser.getText();
+				} else if (PASSWORD_KEY.equals(fieldName) && value == JsonToken.VALUE_STRING) {
+					password = parser.getText();
+				} else {
+					//필요 없는 값이 객체나 배열이면 통째로 건너뜀
+					parser.skipChildren();
+				}
+			}
+		} catch (JsonProcessingException | BodyTooLargeException e) {
+			throw new AuthenticationServiceException("Authentication request body could not be read", e);
+		} finally {
+			if (loginStageTimers != null) {
+				loginStageTimers.stop(LoginStage.PARSE, parseStart);
+			}
+		}
 		
-		String username = usernamePasswordMap.get(USERNAME_KEY);
-		String password = usernamePasswordMap.get(PASSWORD_KEY);
+		request.setAttribute(USERNAME_ATTRIBUTE, username);
+		
+		//DB 조회와 비밀번호 해시를 하기 전에 username 기준 시도 횟수를 확인
+		loginRateLimiter.checkUsername(username);
 		
 		//Spring Security에서 제공하는 인증을 위한 토큰 클래스
 		UsernamePasswordAuthenticationToken authRequest = new UsernamePasswordAuthenticationToken(username, password);
 		
 		return this.getAuthenticationManager().authenticate(authRequest);
 	}
+	
+	//MediaType으로 파싱하지 않고 앞부분만 비교함
+	private static boolean isJsonContentType(String contentType) {
+		if (contentType == null || !contentType.regionMatches(true, 0, CONTENT_TYPE, 0, CONTENT_TYPE.length())) {
+			return false;
+		}
+		if (contentType.length() == CONTENT_TYPE.length()) {
+			return true;
+		}
+		char next = contentType.charAt(CONTENT_TYPE.length());
+		return next == ';' || next == ' ';
+	}
+	
+	//Content-Length 없이(chunked) 들어오는 요청도 최대 크기까지만 읽도록 제한하는 InputStream
+	private static class LimitedInputStream extends FilterInputStream {
+		
+		private long remaining;
+		
+		LimitedInputStream(InputStream in, long limit) {
+			super(in);
+			this.remaining = limit;
+		}
+		
+		@Override
+		public int read() throws IOException {
+			int result = super.read();
+			if (result != -1) {
+				consume(1);
+			}
+			return result;
+		}
+		
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int result = super.read(b, off, len);
+			if (result > 0) {
+				consume(result);
+			}
+			return result;
+		}
+		
+		private void consume(int count) throws BodyTooLargeException {
+			remaining -= count;
+			if (remaining < 0) {
+				throw new BodyTooLargeException();
+			}
+		}
+	}
+	
+	private static class BodyTooLargeException extends IOException {
+		
+		private static final long serialVersionUID = 1L;
+		
+		BodyTooLargeException() {
+			super("Authentication request body too large");
+		}
+	}
 }
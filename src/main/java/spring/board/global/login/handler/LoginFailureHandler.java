@@ -6,23 +6,71 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import spring.board.global.login.audit.LoginAuditor;
+import spring.board.global.login.audit.LoginOutcome;
+import spring.board.global.login.filter.JsonUsernamePasswordAuthenticationFilter;
+import spring.board.global.login.metrics.LoginStage;
+import spring.board.global.login.metrics.LoginStageTimers;
+import spring.board.global.login.ratelimit.LoginRateLimitExceededException;
 
 @Slf4j
+@RequiredArgsConstructor
 public class LoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
+	
+	private final LoginAuditor loginAuditor;
+	private final LoginStageTimers loginStageTimers;
 
 	@Override
 	public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
 			AuthenticationException exception) throws IOException, ServletException {
+		long start = loginStageTimers.start();
+		try {
+			respond(request, response, exception);
+		} finally {
+			loginStageTimers.stop(LoginStage.FAILURE_HANDLER, start);
+		}
+	}
+	
+	private void respond(HttpServletRequest request, HttpServletResponse response, AuthenticationException exception) throws IOException {
+		String username = (String) request.getAttribute(JsonUsernamePasswordAuthenticationFilter.USERNAME_ATTRIBUTE);
+		loginAuditor.record(request, username, outcomeOf(exception));
+		
+		//시도 횟수를 초과한 경우 429와 다시 시도할 수 있는 시간을 응답
+		if (exception instanceof LoginRateLimitExceededException) {
+			response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+			response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(((LoginRateLimitExceededException) exception).getRetryAfterSeconds()));
+			response.getWriter().write("too many requests");
+			log.info("로그인 시도 횟수를 초과했습니다.");
+			return;
+		}
 
 		response.setStatus(HttpServletResponse.SC_OK);
 		response.getWriter().write("fail");
 		log.info("로그인에 실패했습니다.");
 	}
 	
+	private static LoginOutcome outcomeOf(AuthenticationException exception) {
+		if (exception instanceof LoginRateLimitExceededException) {
+			return LoginOutcome.RATE_LIMITED;
+		}
+		if (exception instanceof InternalAuthenticationServiceException) {
+			return LoginOutcome.ERROR;
+		}
+		if (exception instanceof AuthenticationServiceException) {
+			return LoginOutcome.INVALID_REQUEST;
+		}
+		return LoginOutcome.BAD_CREDENTIALS;
+	}
+	
 	
 
 }
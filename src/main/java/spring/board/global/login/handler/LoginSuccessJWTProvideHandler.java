@@ -9,22 +9,46 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import spring.board.domain.member.service.MemberDetails;
+import spring.board.global.jwt.service.JwtService;
+import spring.board.global.login.audit.LoginAuditor;
+import spring.board.global.login.audit.LoginOutcome;
+import spring.board.global.login.metrics.LoginStage;
+import spring.board.global.login.metrics.LoginStageTimers;
 
 @Slf4j
+@RequiredArgsConstructor
 public class LoginSuccessJWTProvideHandler extends SimpleUrlAuthenticationSuccessHandler {
+	
+	private final JwtService jwtService;
+	private final LoginAuditor loginAuditor;
+	private final LoginStageTimers loginStageTimers;
 
 	@Override
 	public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
 			Authentication authentication) throws IOException, ServletException {
+		long start = loginStageTimers.start();
+		try {
+			provideTokens(request, response, authentication);
+		} finally {
+			loginStageTimers.stop(LoginStage.SUCCESS_HANDLER, start);
+		}
+	}
+	
+	private void provideTokens(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException {
+		//LoginService가 반환한 MemberDetails에 회원 id와 권한이 들어있음
+		MemberDetails memberDetails = (MemberDetails) authentication.getPrincipal();
+		loginAuditor.record(request, memberDetails.getUsername(), LoginOutcome.SUCCESS);
+		log.info("로그인에 성공합니다. JWT를 발급합니다. username: {}", memberDetails.getUsername());
 		
-		UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-		log.info("로그인에 성공합니다. JWT를 발급합니다. username: {}", userDetails.getUsername());
+		String accessToken = jwtService.createAccessToken(memberDetails.getMemberId(), memberDetails.getUsername(), memberDetails.getRole());
+		String refreshToken = jwtService.createRefreshToken(memberDetails.getMemberId(), memberDetails.getUsername(), memberDetails.getRole());
 		
-		response.getWriter().write("success");
+		jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken);
 	}
 
 }
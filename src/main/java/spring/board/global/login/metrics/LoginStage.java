@@ -0,0 +1,26 @@
+package spring.board.global.login.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+//로그인 처리 단계, login.stage 타이머의 stage 태그
+@Getter
+@RequiredArgsConstructor
+public enum LoginStage {
+	
+	//JsonUsernamePasswordAuthenticationFilter에서 body(JSON)를 읽는 시간
+	PARSE("parse"),
+	
+	//LoginService.loadUserByUsername, 캐시에 없으면 findByUsername 쿼리
+	USER_LOOKUP("user-lookup"),
+	
+	//입력한 비밀번호와 저장된 해시 비교(bcrypt)
+	PASSWORD("password"),
+	
+	//JWT 발급과 응답 작성
+	SUCCESS_HANDLER("success-handler"),
+	
+	FAILURE_HANDLER("failure-handler");
+	
+	private final String tag;
+}
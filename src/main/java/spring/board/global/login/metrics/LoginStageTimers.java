@@ -0,0 +1,58 @@
+package spring.board.global.login.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+//== 로그인 단계별 소요 시간(login.stage) ==//
+//단계마다 Timer를 미리 등록해두고 배열에서 꺼내 쓰므로 요청마다 태그를 만들거나 registry에서 찾지 않는다.
+//백분위수, 히스토그램은 application.yml의 management.metrics.distribution에서 설정함
+//끄면 System.nanoTime()도 호출하지 않음, 실행 중에 /actuator/logintimers로 켜고 끌 수 있다.
+//  long start = loginStageTimers.start();
+//  ...
+//  loginStageTimers.stop(LoginStage.PARSE, start);
+@Component
+public class LoginStageTimers {
+	
+	//꺼져 있을 때 start()가 반환하는 값
+	private static final long NOT_STARTED = 0;
+	
+	//LoginStage.ordinal() 순서
+	private final Timer[] timers;
+	
+	private volatile boolean enabled;
+	
+	public LoginStageTimers(MeterRegistry meterRegistry, @Value("${login.stage-timers.enabled:true}") boolean enabled) {
+		LoginStage[] stages = LoginStage.values();
+		this.timers = new Timer[stages.length];
+		for (LoginStage stage : stages) {
+			timers[stage.ordinal()] = Timer.builder("login.stage")
+										   .description("Time spent in each stage of the login pipeline")
+										   .tag("stage", stage.getTag())
+										   .register(meterRegistry);
+		}
+		this.enabled = enabled;
+	}
+	
+	public long start() {
+		return enabled ? System.nanoTime() : NOT_STARTED;
+	}
+	
+	public void stop(LoginStage stage, long startNanos) {
+		if (startNanos != NOT_STARTED) {
+			timers[stage.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+		}
+	}
+	
+	public boolean isEnabled() {
+		return enabled;
+	}
+	
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+}
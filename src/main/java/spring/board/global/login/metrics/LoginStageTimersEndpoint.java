@@ -0,0 +1,31 @@
+package spring.board.global.login.metrics;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+//== 로그인 단계별 타이머를 실행 중에 켜고 끄는 actuator endpoint ==//
+//GET /actuator/logintimers, POST /actuator/logintimers {"enabled": false}, 관리자만 가능(SecurityConfig)
+@Component
+@Endpoint(id = "logintimers")
+@RequiredArgsConstructor
+public class LoginStageTimersEndpoint {
+	
+	private final LoginStageTimers loginStageTimers;
+	
+	@ReadOperation
+	public Map<String, Boolean> status() {
+		return Map.of("enabled", loginStageTimers.isEnabled());
+	}
+	
+	@WriteOperation
+	public Map<String, Boolean> update(boolean enabled) {
+		loginStageTimers.setEnabled(enabled);
+		return status();
+	}
+}
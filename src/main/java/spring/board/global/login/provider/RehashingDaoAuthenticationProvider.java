@@ -0,0 +1,41 @@
+package spring.board.global.login.provider;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import lombok.RequiredArgsConstructor;
+import spring.board.global.login.metrics.LoginStage;
+import spring.board.global.login.metrics.LoginStageTimers;
+import spring.board.global.password.PasswordRehashService;
+
+//DaoAuthenticationProvider는 UserDetailsPasswordService가 있으면 요청 스레드에서 바로 다시 해시한다.
+//로그인 응답이 늦어지지 않도록 PasswordRehashService를 통해 별도 스레드에서 처리한다.
+@RequiredArgsConstructor
+public class RehashingDaoAuthenticationProvider extends DaoAuthenticationProvider {
+	
+	private final PasswordRehashService passwordRehashService;
+	private final LoginStageTimers loginStageTimers;
+	
+	//비밀번호 비교 시간, 회원 조회 시간은 LoginService에서 측정함(retrieveUser는 final)
+	@Override
+	protected void additionalAuthenticationChecks(UserDetails userDetails, UsernamePasswordAuthenticationToken authentication) throws AuthenticationException {
+		long start = loginStageTimers.start();
+		try {
+			super.additionalAuthenticationChecks(userDetails, authentication);
+		} finally {
+			loginStageTimers.stop(LoginStage.PASSWORD, start);
+		}
+	}
+
+	@Override
+	protected Authentication createSuccessAuthentication(Object principal, Authentication authentication, UserDetails user) {
+		//인증 후 ProviderManager가 credentials를 지우기 전에 입력한 비밀번호를 넘겨줌
+		if (authentication.getCredentials() != null && getPasswordEncoder().upgradeEncoding(user.getPassword())) {
+			passwordRehashService.rehashLater(user.getUsername(), authentication.getCredentials().toString());
+		}
+		return super.createSuccessAuthentication(principal, authentication, user);
+	}
+}
@@ -0,0 +1,62 @@
+package spring.board.global.login.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+//key마다 token bucket을 하나의 long(TAT, 다음 토큰이 생기는 이론상 시간)으로 표현하는 GCRA 방식의 rate limiter
+//lock 없이 AtomicLong의 CAS로만 갱신하므로 여러 요청이 동시에 들어와도 경합이 적다.
+//TAT가 현재 시간보다 과거이면 bucket이 가득 찬 상태와 같으므로 삭제해도 결과가 달라지지 않는다.
+//bucket은 크기가 제한된 Caffeine 캐시에 두므로, key가 가득 차도 새 key를 거절하지 않고 오래된 key를 버림
+//무작위 key로 캐시를 채워도 다른 사용자의 로그인을 막을 수 없고, 정리는 Caffeine이 조금씩 나눠서 하므로 요청마다 전체를 훑지 않음
+class KeyedRateLimiter {
+	
+	//토큰 하나가 다시 채워지는 시간
+	private final long emissionIntervalNanos;
+	
+	//한 번에 연속으로 허용하는 요청 수(capacity)만큼의 여유 시간
+	private final long burstToleranceNanos;
+	
+	private final Cache<String, AtomicLong> buckets;
+	
+	KeyedRateLimiter(int capacity, long emissionIntervalNanos, int maxKeys) {
+		this(capacity, emissionIntervalNanos, maxKeys, Ticker.systemTicker());
+	}
+	
+	KeyedRateLimiter(int capacity, long emissionIntervalNanos, int maxKeys, Ticker ticker) {
+		this.emissionIntervalNanos = emissionIntervalNanos;
+		this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+		//마지막 요청 후 이 시간이 지나면 bucket이 가득 찬 상태이므로 지워도 됨
+		this.buckets = Caffeine.newBuilder()
+							   .maximumSize(maxKeys)
+							   .expireAfterAccess(Duration.ofNanos(burstToleranceNanos + emissionIntervalNanos))
+							   .executor(Runnable::run)
+							   .ticker(ticker)
+							   .build();
+	}
+	
+	//허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간(nanos)을 반환
+	long tryAcquire(String key, long now) {
+		AtomicLong bucket = buckets.get(key, k -> new AtomicLong(now));
+		while (true) {
+			long tat = bucket.get();
+			long allowAt = tat - burstToleranceNanos;
+			if (now < allowAt) {
+				return allowAt - now;
+			}
+			long newTat = Math.max(tat, now) + emissionIntervalNanos;
+			if (bucket.compareAndSet(tat, newTat)) {
+				return 0;
+			}
+		}
+	}
+	
+	//만료된 bucket을 정리한 후의 key 수, metrics에서 사용함
+	int size() {
+		buckets.cleanUp();
+		return (int) buckets.estimatedSize();
+	}
+}
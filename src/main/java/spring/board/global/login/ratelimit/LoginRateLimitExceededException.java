@@ -0,0 +1,20 @@
+package spring.board.global.login.ratelimit;
+
+import org.springframework.security.core.AuthenticationException;
+
+import lombok.Getter;
+
+//로그인 시도 횟수를 넘었을 때 발생, LoginFailureHandler에서 429 응답으로 변환함
+@Getter
+public class LoginRateLimitExceededException extends AuthenticationException {
+
+	private static final long serialVersionUID = 1L;
+	
+	//다시 시도할 수 있을 때까지 남은 시간(초), Retry-After 헤더에 사용
+	private final long retryAfterSeconds;
+
+	public LoginRateLimitExceededException(long retryAfterSeconds) {
+		super("로그인 시도 횟수를 초과했습니다.");
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+}
@@ -0,0 +1,77 @@
+package spring.board.global.login.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+//무차별 대입(brute-force) 공격을 막기 위해 IP와 username별로 로그인 시도 횟수를 제한한다.
+//JsonUsernamePasswordAuthenticationFilter에서 AuthenticationManager를 호출하기 전에 사용하므로
+//거절된 요청은 DB 조회와 비밀번호 해시 비용이 들지 않는다.
+@Component
+public class LoginRateLimiter {
+	
+	private static final String REJECTED_METRIC = "login.rate-limit.rejected";
+	private static final String REQUESTS_METRIC = "login.rate-limit.requests";
+	private static final String KEYS_METRIC = "login.rate-limit.keys";
+	
+	private final boolean enabled;
+	private final KeyedRateLimiter ipLimiter;
+	private final KeyedRateLimiter usernameLimiter;
+	
+	//== 거절 비율을 계산할 수 있도록 전체 요청 수와 거절 수를 기록 ==//
+	private final Counter requests;
+	private final Counter ipRejected;
+	private final Counter usernameRejected;
+	
+	public LoginRateLimiter(MeterRegistry meterRegistry,
+							@Value("${login.rate-limit.enabled:true}") boolean enabled,
+							@Value("${login.rate-limit.ip.capacity:100}") int ipCapacity,
+							@Value("${login.rate-limit.ip.refill-interval:500ms}") Duration ipRefillInterval,
+							@Value("${login.rate-limit.username.capacity:10}") int usernameCapacity,
+							@Value("${login.rate-limit.username.refill-interval:6s}") Duration usernameRefillInterval,
+							@Value("${login.rate-limit.max-keys:100000}") int maxKeys) {
+		this.enabled = enabled;
+		this.ipLimiter = new KeyedRateLimiter(ipCapacity, ipRefillInterval.toNanos(), maxKeys);
+		this.usernameLimiter = new KeyedRateLimiter(usernameCapacity, usernameRefillInterval.toNanos(), maxKeys);
+		
+		this.requests = meterRegistry.counter(REQUESTS_METRIC);
+		this.ipRejected = meterRegistry.counter(REJECTED_METRIC, "key", "ip");
+		this.usernameRejected = meterRegistry.counter(REJECTED_METRIC, "key", "username");
+		Gauge.builder(KEYS_METRIC, ipLimiter, KeyedRateLimiter::size).tag("key", "ip").register(meterRegistry);
+		Gauge.builder(KEYS_METRIC, usernameLimiter, KeyedRateLimiter::size).tag("key", "username").register(meterRegistry);
+	}
+	
+	//body를 읽기 전에 IP 기준으로 먼저 확인
+	public void checkIp(String ip) {
+		if (!enabled) {
+			return;
+		}
+		requests.increment();
+		long waitNanos = ipLimiter.tryAcquire(ip, System.nanoTime());
+		if (waitNanos > 0) {
+			ipRejected.increment();
+			throw new LoginRateLimitExceededException(toRetryAfterSeconds(waitNanos));
+		}
+	}
+	
+	public void checkUsername(String username) {
+		if (!enabled || username == null) {
+			return;
+		}
+		long waitNanos = usernameLimiter.tryAcquire(username, System.nanoTime());
+		if (waitNanos > 0) {
+			usernameRejected.increment();
+			throw new LoginRateLimitExceededException(toRetryAfterSeconds(waitNanos));
+		}
+	}
+	
+	private static long toRetryAfterSeconds(long waitNanos) {
+		return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+	}
+}
@@ -0,0 +1,44 @@
+package spring.board.global.password;
+
+import java.time.Duration;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import lombok.extern.slf4j.Slf4j;
+
+//서버가 시작될 때 bcrypt 해시 한 번에 걸리는 시간을 측정하여 목표 시간에 가장 가까운 cost를 계산한다.
+//cost가 1 증가할 때마다 해시 시간은 약 2배가 되므로, 다음 cost의 예상 시간이 목표를 넘지 않을 때까지 올린다.
+@Slf4j
+public final class BCryptCostCalibrator {
+	
+	//측정에 사용할 비밀번호, 길이만 의미가 있음
+	private static final String SAMPLE_PASSWORD = "bcrypt-calibration-password";
+	
+	private BCryptCostCalibrator() {
+	}
+
+	public static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+		long targetNanos = targetLatency.toNanos();
+		
+		//JIT 워밍업
+		measure(minStrength);
+		
+		int strength = minStrength;
+		long elapsed = measure(strength);
+		while (strength < maxStrength && elapsed * 2 <= targetNanos) {
+			strength++;
+			elapsed = measure(strength);
+		}
+		
+		log.info("bcrypt cost를 {}로 설정합니다. 해시 시간: {}ms, 목표 시간: {}ms", 
+				strength, Duration.ofNanos(elapsed).toMillis(), targetLatency.toMillis());
+		return strength;
+	}
+	
+	private static long measure(int strength) {
+		String salt = BCrypt.gensalt(strength);
+		long start = System.nanoTime();
+		BCrypt.hashpw(SAMPLE_PASSWORD, salt);
+		return System.nanoTime() - start;
+	}
+}
@@ -0,0 +1,68 @@
+package spring.board.global.password;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+//해시 계산(encode, matches)을 동시에 수행할 수 있는 개수를 제한하는 PasswordEncoder
+//로그인 요청이 몰려도 bcrypt 계산이 모든 CPU를 차지하여 다른 API가 느려지지 않도록 한다.
+//허용 개수를 넘으면 acquireTimeout 동안 기다리고, 그래도 자리가 없으면 인증 실패로 처리한다.
+public class BoundedPasswordEncoder implements PasswordEncoder {
+	
+	private final PasswordEncoder delegate;
+	private final int maxConcurrent;
+	private final Semaphore permits;
+	private final long acquireTimeoutNanos;
+	
+	public BoundedPasswordEncoder(PasswordEncoder delegate, int maxConcurrent, Duration acquireTimeout) {
+		this.delegate = delegate;
+		this.maxConcurrent = maxConcurrent;
+		this.permits = new Semaphore(maxConcurrent);
+		this.acquireTimeoutNanos = acquireTimeout.toNanos();
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		acquire();
+		try {
+			return delegate.encode(rawPassword);
+		} finally {
+			permits.release();
+		}
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		acquire();
+		try {
+			return delegate.matches(rawPassword, encodedPassword);
+		} finally {
+			permits.release();
+		}
+	}
+	
+	//로그인 외의 대량 해시(회원 일괄 등록)가 자리를 모두 차지하지 않도록 나눌 때 사용
+	public int getMaxConcurrent() {
+		return maxConcurrent;
+	}
+	
+	//해시 계산을 하지 않으므로 제한하지 않음
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+	
+	private void acquire() {
+		try {
+			if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+				throw new AuthenticationServiceException("비밀번호 해시 요청이 너무 많습니다.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AuthenticationServiceException("비밀번호 해시 대기 중 인터럽트가 발생했습니다.", e);
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package spring.board.global.password;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+//BCryptPasswordEncoder는 저장된 cost가 현재 cost보다 낮을 때만 upgradeEncoding이 true를 반환한다.
+//서버 성능에 맞춰 cost를 낮추는 경우도 다시 해시하기 위해 cost가 다르면 true를 반환한다.
+public class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+	
+	//$2a$10$... 형식에서 cost가 위치하는 인덱스
+	private static final int COST_BEGIN_INDEX = 4;
+	private static final int COST_END_INDEX = 6;
+	
+	private final int strength;
+	
+	public CostAwareBCryptPasswordEncoder(int strength) {
+		super(strength);
+		this.strength = strength;
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		if (encodedPassword == null || encodedPassword.length() < COST_END_INDEX + 1 || encodedPassword.charAt(COST_END_INDEX) != '$') {
+			return false;
+		}
+		try {
+			return Integer.parseInt(encodedPassword.substring(COST_BEGIN_INDEX, COST_END_INDEX)) != strength;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+	
+	public int getStrength() {
+		return strength;
+	}
+}
@@ -0,0 +1,87 @@
+package spring.board.global.password;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import spring.board.domain.member.repository.MemberRepository;
+
+//저장된 비밀번호의 cost가 현재 설정과 다를 때, 로그인 응답을 늦추지 않도록 별도 스레드에서 다시 해시한다.
+//스레드 풀을 Executor 빈으로 등록하면 Spring Boot가 기본 applicationTaskExecutor를 만들지 않으므로 이 서비스 안에서만 사용함
+@Slf4j
+@Service
+public class PasswordRehashService {
+	
+	private final MemberRepository memberRepository;
+	private final PasswordEncoder passwordEncoder;
+	private final ThreadPoolTaskExecutor passwordRehashExecutor;
+	private final TransactionTemplate transactionTemplate;
+	
+	//같은 회원이 연속으로 로그인해도 한 번만 다시 해시하도록 진행 중인 username을 기록함
+	private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+	
+	public PasswordRehashService(MemberRepository memberRepository, 
+								 PasswordEncoder passwordEncoder,
+								 PlatformTransactionManager transactionManager) {
+		this.memberRepository = memberRepository;
+		this.passwordEncoder = passwordEncoder;
+		this.passwordRehashExecutor = createExecutor();
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+	
+	//== 다시 해시할 때 사용하는 스레드 풀 ==//
+	//큐가 가득 차면 작업을 거절하고, 다음 로그인 때 다시 시도함
+	private static ThreadPoolTaskExecutor createExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(2);
+		executor.setQueueCapacity(100);
+		executor.setThreadNamePrefix("password-rehash-");
+		executor.initialize();
+		return executor;
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		passwordRehashExecutor.shutdown();
+	}
+	
+	public void rehashLater(String username, String rawPassword) {
+		if (!inProgress.add(username)) {
+			return;
+		}
+		try {
+			passwordRehashExecutor.execute(() -> {
+				try {
+					rehash(username, rawPassword);
+				} finally {
+					inProgress.remove(username);
+				}
+			});
+		} catch (TaskRejectedException e) {
+			//다시 해시하는 작업은 다음 로그인 때 다시 시도해도 되므로 버림
+			inProgress.remove(username);
+			log.debug("비밀번호 재해시 작업이 거절되었습니다. username: {}", username);
+		}
+	}
+	
+	private void rehash(String username, String rawPassword) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> 
+				memberRepository.findByUsername(username)
+								.filter(member -> passwordEncoder.upgradeEncoding(member.getPassword()))
+								.ifPresent(member -> member.updatePassword(passwordEncoder, rawPassword)));
+		} catch (RuntimeException e) {
+			log.warn("비밀번호 재해시에 실패했습니다. username: {}", username, e);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package spring.board.domain.comment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import spring.board.domain.comment.dto.CommentInfoDto;
+import spring.board.domain.comment.dto.CommentSaveDto;
+import spring.board.domain.comment.exception.CommentNotFoundException;
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.repository.MemberRepository;
+import spring.board.domain.post.dto.PostSaveDto;
+import spring.board.domain.post.service.PostService;
+
+@Transactional
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CommentServiceTest {
+	
+	@Autowired CommentService commentService;
+	@Autowired PostService postService;
+	@Autowired MemberRepository memberRepository;
+	@Autowired EntityManager em;
+	@Autowired EntityManagerFactory emf;
+	
+	private Member[] writers = new Member[3];
+	private Long postId;
+	
+	private void clear() {
+		em.flush();
+		em.clear();
+	}
+	
+	@BeforeEach
+	private void init() {
+		for (int i = 0; i < writers.length; i++) {
+			writers[i] = memberRepository.save(Member.builder()
+													 .username("commentWriter" + i)
+													 .password("1234567890")
+													 .name("Member" + i)
+													 .nickName("NickName" + i)
+													 .role(Role.USER)
+													 .age(22)
+													 .build());
+		}
+		postId = postService.save(writers[0].getId(), new PostSaveDto("제목", "내용"));
+		clear();
+	}
+	
+	@Test
+	public void 대댓글을_트리로_조회() throws Exception {
+		//given
+		Long parentId = commentService.save(writers[0].getId(), postId, new CommentSaveDto("댓글", null));
+		Long childId = commentService.save(writers[1].getId(), postId, new CommentSaveDto("대댓글", parentId));
+		commentService.save(writers[2].getId(), postId, new CommentSaveDto("대대댓글", childId));
+		commentService.save(writers[2].getId(), postId, new CommentSaveDto("댓글2", null));
+		clear();
+
+		//when
+		List<CommentInfoDto> comments = commentService.getComments(postId);
+
+		//then
+		assertThat(comments).extracting(CommentInfoDto::getContent).containsExactly("댓글", "댓글2");
+		CommentInfoDto child = comments.get(0).getChildren().get(0);
+		assertThat(child.getContent()).isEqualTo("대댓글");
+		assertThat(child.getWriterNickName()).isEqualTo("NickName1");
+		assertThat(child.getChildren()).extracting(CommentInfoDto::getContent).containsExactly("대대댓글");
+	}
+	
+	@Test
+	public void 댓글_수와_상관없이_쿼리_2번으로_조회() throws Exception {
+		//given
+		for (int i = 0; i < 30; i++) {
+			Long parentId = commentService.save(writers[i % 3].getId(), postId, new CommentSaveDto("댓글" + i, null));
+			commentService.save(writers[(i + 1) % 3].getId(), postId, new CommentSaveDto("대댓글" + i, parentId));
+		}
+		clear();
+		Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		//when
+		List<CommentInfoDto> comments = commentService.getComments(postId);
+
+		//then
+		assertThat(comments).hasSize(30);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+	
+	@Test
+	public void 다른_게시글의_댓글에는_대댓글_불가() throws Exception {
+		//given
+		Long otherPostId = postService.save(writers[0].getId(), new PostSaveDto("다른 제목", "내용"));
+		Long otherCommentId = commentService.save(writers[0].getId(), otherPostId, new CommentSaveDto("댓글", null));
+
+		//when, then
+		assertThrows(CommentNotFoundException.class, 
+				() -> commentService.save(writers[0].getId(), postId, new CommentSaveDto("대댓글", otherCommentId)));
+	}
+}
@@ -0,0 +1,168 @@
+package spring.board.domain.member.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import javax.crypto.spec.SecretKeySpec;
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.repository.MemberRepository;
+import spring.board.domain.member.service.LoginService;
+import spring.board.domain.member.service.MemberDetails;
+import spring.board.global.cache.CacheInvalidation;
+import spring.board.global.cache.EncryptingRemoteCache;
+import spring.board.global.cache.InvalidationBus;
+import spring.board.global.cache.RemoteCache;
+
+@Transactional
+@SpringBootTest
+class MemberUserDetailsCacheTest {
+
+	@Autowired LoginService loginService;
+	@Autowired MemberUserDetailsCache memberUserDetailsCache;
+	@Autowired MemberRepository memberRepository;
+	@Autowired InvalidationBus invalidationBus;
+	@Autowired RemoteCache remoteCache;
+	@Autowired ObjectMapper objectMapper;
+	@Autowired EntityManager em;
+	@Value("${login.user-cache.encryption-key}") String encryptionKey;
+
+	private static String USERNAME = "cacheUser";
+
+	private Member member;
+	private Consumer<CacheInvalidation> listener;
+
+	@BeforeEach
+	private void init() {
+		memberUserDetailsCache.evictAll();
+		member = memberRepository.save(Member.builder()
+											 .username(USERNAME)
+											 .password("{noop}1234")
+											 .name("Member1")
+											 .nickName("NickName1")
+											 .role(Role.USER)
+											 .age(22)
+											 .build());
+		em.flush();
+	}
+
+	//싱글톤 bean인 InvalidationBus에 등록한 listener를 다른 테스트에 남기지 않음
+	@AfterEach
+	private void after() {
+		if (listener != null) {
+			invalidationBus.unsubscribe(listener);
+		}
+	}
+
+	@Test
+	public void 로그인_조회시_캐시에_저장() throws Exception {
+		//when
+		loginService.loadUserByUsername(USERNAME);
+
+		//then
+		assertThat(memberUserDetailsCache.get(USERNAME)).isNotNull();
+	}
+
+	@Test
+	public void 캐시된_UserDetails의_비밀번호는_지워지지_않음() throws Exception {
+		//given
+		UserDetails userDetails = loginService.loadUserByUsername(USERNAME);
+
+		//when, ProviderManager가 인증 후 비밀번호를 지우는 것과 같음
+		((User) userDetails).eraseCredentials();
+
+		//then
+		assertThat(loginService.loadUserByUsername(USERNAME).getPassword()).isEqualTo("{noop}1234");
+	}
+
+	@Test
+	public void 회원정보_수정시_캐시_제거() throws Exception {
+		//given
+		loginService.loadUserByUsername(USERNAME);
+
+		//when
+		member.updateNickName("NickName2");
+		em.flush();
+
+		//then
+		assertThat(memberUserDetailsCache.get(USERNAME)).isNull();
+	}
+
+	@Test
+	public void 회원정보_수정시_다른_서버에_무효화_메시지_발행() throws Exception {
+		//given
+		List<CacheInvalidation> received = new CopyOnWriteArrayList<>();
+		listener = received::add;
+		invalidationBus.subscribe(listener);
+		loginService.loadUserByUsername(USERNAME);
+
+		//when
+		member.updateNickName("NickName2");
+		em.flush();
+
+		//then
+		assertThat(received).anySatisfy(invalidation -> {
+			assertThat(invalidation.getCacheName()).isEqualTo("memberUserDetails");
+			assertThat(invalidation.getKey()).isEqualTo(USERNAME);
+		});
+	}
+
+	@Test
+	public void 원격_캐시에는_비밀번호를_암호화해서_저장() throws Exception {
+		//given
+		loginService.loadUserByUsername(USERNAME);
+
+		//when
+		byte[] stored = remoteCache.get("memberUserDetails", USERNAME);
+		byte[] decrypted = new EncryptingRemoteCache(remoteCache, new SecretKeySpec(Base64.getDecoder().decode(encryptionKey), "AES"))
+								.get("memberUserDetails", USERNAME);
+
+		//then : 복호화하면 클래스 정보 없는 JSON
+		assertThat(new String(stored, StandardCharsets.ISO_8859_1)).doesNotContain("{noop}1234", USERNAME);
+		JsonNode json = objectMapper.readTree(decrypted);
+		assertThat(json.get("username").asText()).isEqualTo(USERNAME);
+		assertThat(json.get("role").asText()).isEqualTo("USER");
+		assertThat(json.has("authorities")).isFalse();
+		assertThat(json.has("@class")).isFalse();
+		assertThat(objectMapper.readValue(decrypted, MemberDetails.class).getAuthorities())
+				  .extracting(GrantedAuthority::getAuthority)
+				  .containsExactly("ROLE_USER");
+	}
+
+	@Test
+	public void 조회하는_동안_무효화되면_캐시에_저장하지_않음() throws Exception {
+		//given : 비밀번호 변경이 커밋되기 전에 이전 값을 읽음
+		long version = memberUserDetailsCache.version();
+		MemberDetails stale = MemberDetails.from(member);
+
+		//when : 커밋 후 무효화가 먼저 끝나고 이전 값을 저장
+		memberUserDetailsCache.evict(USERNAME);
+		memberUserDetailsCache.put(stale, version);
+
+		//then
+		assertThat(memberUserDetailsCache.get(USERNAME)).isNull();
+		assertThat(remoteCache.get("memberUserDetails", USERNAME)).isNull();
+	}
+
+}
@@ -0,0 +1,44 @@
+package spring.board.domain.member.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class UsernameBloomFilterTest {
+	
+	//warmUp을 호출하지 않으므로 JdbcTemplate은 사용하지 않음
+	private final UsernameBloomFilter bloomFilter = new UsernameBloomFilter(null, 10_000, 0.01);
+	
+	@Test
+	public void 넣은_아이디는_항상_포함() throws Exception {
+		//when
+		for (int i = 0; i < 10_000; i++) {
+			bloomFilter.put("member" + i);
+		}
+
+		//then
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(bloomFilter.mightContain("member" + i)).isTrue();
+		}
+		assertThat(bloomFilter.mightContain("MEMBER1")).isTrue();
+	}
+	
+	@Test
+	public void 오탐_확률이_설정값_근처() throws Exception {
+		//given
+		for (int i = 0; i < 10_000; i++) {
+			bloomFilter.put("member" + i);
+		}
+
+		//when
+		int falsePositives = 0;
+		for (int i = 0; i < 100_000; i++) {
+			if (bloomFilter.mightContain("other" + i)) {
+				falsePositives++;
+			}
+		}
+
+		//then
+		assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+	}
+}
@@ -0,0 +1,196 @@
+package spring.board.domain.member.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import spring.board.domain.member.cache.MemberUserDetailsCache;
+import spring.board.domain.member.dto.MemberSignUpDto;
+import spring.board.domain.member.repository.MemberRepository;
+import spring.board.domain.member.service.MemberService;
+
+//동시에 가입하는 경우를 확인하기 위해 트랜잭션 없이 테스트하고, 가입한 회원은 직접 지움
+@SpringBootTest(properties = {"password.bcrypt.strength=4", "login.rate-limit.enabled=false"})
+@AutoConfigureMockMvc
+class MemberControllerTest {
+	
+	@Autowired MockMvc mockMvc;
+	@Autowired MemberRepository memberRepository;
+	@Autowired MeterRegistry meterRegistry;
+	@Autowired JdbcTemplate jdbcTemplate;
+	@Autowired MemberUserDetailsCache memberUserDetailsCache;
+	@Autowired MemberService memberService;
+	@Autowired EntityManagerFactory emf;
+	
+	ObjectMapper objectMapper = new ObjectMapper();
+	
+	@AfterEach
+	private void after() {
+		jdbcTemplate.update("delete from MEMBER where username like 'signUp%'");
+		emf.getCache().unwrap(Cache.class).evictAllRegions();
+		memberUserDetailsCache.evictAll();
+	}
+	
+	private int signUp(String username) throws Exception {
+		return mockMvc.perform(MockMvcRequestBuilders.post("/signUp")
+													 .contentType(MediaType.APPLICATION_JSON)
+													 .content(objectMapper.writeValueAsString(new MemberSignUpDto(username, "password1234", "이름", "닉네임", 20))))
+					  .andReturn().getResponse().getStatus();
+	}
+	
+	//access token, "Bearer " 포함
+	private String login(String username) throws Exception {
+		return mockMvc.perform(MockMvcRequestBuilders.post("/login")
+													 .contentType(MediaType.APPLICATION_JSON)
+													 .content("{\"username\":\"" + username + "\",\"password\":\"password1234\"}"))
+					  .andExpect(status().isOk())
+					  .andReturn().getResponse().getHeader("Authorization");
+	}
+	
+	private double checks(String source) {
+		return meterRegistry.counter("signup.username-check", "source", source).count();
+	}
+	
+	@Test
+	public void 회원가입_후_같은_아이디로_가입하면_CONFLICT() throws Exception {
+		assertThat(signUp("signUpUser")).isEqualTo(201);
+		assertThat(signUp("signUpUser")).isEqualTo(409);
+		assertThat(memberRepository.findByUsername("signUpUser")).isPresent();
+	}
+	
+	@Test
+	public void 아이디_중복이_아닌_제약조건_위반은_CONFLICT로_바꾸지_않음() throws Exception {
+		//given : 검증을 거치지 않아 이름이 없는 요청
+		MemberSignUpDto noName = new MemberSignUpDto("signUpNoName", "password1234", null, "닉네임", 20);
+		
+		//when, then
+		assertThatThrownBy(() -> memberService.signUp(noName)).isInstanceOf(DataIntegrityViolationException.class);
+		assertThat(memberRepository.findByUsername("signUpNoName")).isEmpty();
+	}
+	
+	@Test
+	public void 입력값이_잘못되면_BAD_REQUEST() throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.post("/signUp")
+											  .contentType(MediaType.APPLICATION_JSON)
+											  .content(objectMapper.writeValueAsString(new MemberSignUpDto("signUpInvalid", "short", "이름", "닉네임", 20))))
+			   .andExpect(status().isBadRequest());
+	}
+	
+	@Test
+	public void 동시에_같은_아이디로_가입하면_하나만_성공() throws Exception {
+		//given
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Callable<Integer>> tasks = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			tasks.add(() -> signUp("signUpRace"));
+		}
+
+		//when
+		List<Integer> statuses = new ArrayList<>();
+		for (Future<Integer> future : executor.invokeAll(tasks)) {
+			statuses.add(future.get());
+		}
+		executor.shutdown();
+
+		//then
+		assertThat(statuses).containsOnly(201, 409);
+		assertThat(statuses).filteredOn(status -> status == 201).hasSize(1);
+	}
+	
+	@Test
+	public void 없는_아이디는_DB를_조회하지_않고_사용가능() throws Exception {
+		//given
+		double bloomFilterChecks = checks("bloom-filter");
+		double databaseChecks = checks("database");
+
+		//when, then
+		mockMvc.perform(MockMvcRequestBuilders.get("/signUp/available").param("username", "signUpNewUser"))
+			   .andExpect(status().isOk())
+			   .andExpect(jsonPath("$.available").value(true));
+		assertThat(checks("bloom-filter")).isEqualTo(bloomFilterChecks + 1);
+		assertThat(checks("database")).isEqualTo(databaseChecks);
+	}
+	
+	@Test
+	public void 가입한_아이디는_사용불가() throws Exception {
+		//given
+		signUp("signUpTaken");
+
+		//when, then
+		mockMvc.perform(MockMvcRequestBuilders.get("/signUp/available").param("username", "signUpTaken"))
+			   .andExpect(status().isOk())
+			   .andExpect(jsonPath("$.available").value(false));
+	}
+	
+	@Test
+	public void 프로필_수정시_보낸_항목만_수정하고_ETag가_바뀜() throws Exception {
+		//given
+		signUp("signUpProfile");
+		String accessToken = login("signUpProfile");
+		mockMvc.perform(MockMvcRequestBuilders.get("/members/me").header("Authorization", accessToken))
+			   .andExpect(status().isOk())
+			   .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+		//when, then
+		mockMvc.perform(MockMvcRequestBuilders.patch("/members/me")
+											  .header("Authorization", accessToken)
+											  .header(HttpHeaders.IF_MATCH, "\"0\"")
+											  .contentType(MediaType.APPLICATION_JSON)
+											  .content("{\"nickName\":\"새닉네임\"}"))
+			   .andExpect(status().isOk())
+			   .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+			   .andExpect(jsonPath("$.nickName").value("새닉네임"))
+			   .andExpect(jsonPath("$.name").value("이름"))
+			   .andExpect(jsonPath("$.age").value(20));
+	}
+	
+	@Test
+	public void If_Match가_현재_version과_다르면_PRECONDITION_FAILED() throws Exception {
+		//given
+		signUp("signUpProfileStale");
+		String accessToken = login("signUpProfileStale");
+		mockMvc.perform(MockMvcRequestBuilders.patch("/members/me")
+											  .header("Authorization", accessToken)
+											  .contentType(MediaType.APPLICATION_JSON)
+											  .content("{\"age\":21}"))
+			   .andExpect(status().isOk());
+
+		//when, then
+		mockMvc.perform(MockMvcRequestBuilders.patch("/members/me")
+											  .header("Authorization", accessToken)
+											  .header(HttpHeaders.IF_MATCH, "\"0\"")
+											  .contentType(MediaType.APPLICATION_JSON)
+											  .content("{\"age\":30}"))
+			   .andExpect(status().isPreconditionFailed());
+		mockMvc.perform(MockMvcRequestBuilders.get("/members/me").header("Authorization", accessToken))
+			   .andExpect(jsonPath("$.age").value(21));
+	}
+}
@@ -135,9 +135,11 @@ class MemberRepositoryTest {
         //then
         Member findUpdateMember = memberRepository.findById(findMember.getId()).orElseThrow(() -> new Exception());
 
+        //save(merge)는 detached인 findMember의 version을 올리지 않으므로 version은 따로 확인함
         assertThat(findUpdateMember).usingRecursiveComparison()
-        							.ignoringFields("createdDate", "lastModifiedDate")
+        							.ignoringFields("createdDate", "lastModifiedDate", "version")
         							.isEqualTo(findMember);
+        assertThat(findUpdateMember.getVersion()).isEqualTo(findMember.getVersion() + 1);
         
         assertThat(passwordEncoder.matches(updatePassword, findUpdateMember.getPassword())).isTrue();
         assertThat(findUpdateMember.getName()).isEqualTo(updateName);
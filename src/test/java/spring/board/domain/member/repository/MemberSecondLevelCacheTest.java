@@ -0,0 +1,105 @@
+package spring.board.domain.member.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+
+//트랜잭션이 없으면 repository 호출마다 새 영속성 컨텍스트를 사용하므로, 두 번째 조회부터는 2차 캐시에서 가져와야 함
+@SpringBootTest
+class MemberSecondLevelCacheTest {
+	
+	private static final int READS = 100;
+	
+	@Autowired MemberRepository memberRepository;
+	@Autowired EntityManagerFactory emf;
+	@Autowired TransactionTemplate transactionTemplate;
+	@Autowired MeterRegistry meterRegistry;
+	
+	private Statistics statistics;
+	private Member member;
+	
+	@BeforeEach
+	private void init() {
+		statistics = emf.unwrap(SessionFactory.class).getStatistics();
+		member = memberRepository.save(Member.builder()
+											 .username("cachedMember")
+											 .password("1234567890")
+											 .name("Member1")
+											 .nickName("NickName1")
+											 .role(Role.USER)
+											 .age(22)
+											 .build());
+		emf.getCache().unwrap(Cache.class).evictAllRegions();
+		statistics.clear();
+	}
+	
+	@AfterEach
+	private void after() {
+		memberRepository.deleteById(member.getId());
+	}
+	
+	@Test
+	public void id로_반복_조회하면_쿼리는_한번() throws Exception {
+		//when
+		for (int i = 0; i < READS; i++) {
+			memberRepository.findById(member.getId()).get();
+		}
+
+		//then
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getSecondLevelCacheMissCount()).isEqualTo(1);
+		assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(READS - 1);
+	}
+	
+	@Test
+	public void 아이디로_반복_조회하면_natural_id_캐시_사용() throws Exception {
+		//when
+		for (int i = 0; i < READS; i++) {
+			assertThat(memberRepository.findByUsername("cachedMember")).isPresent();
+		}
+
+		//then
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+		assertThat(statistics.getNaturalIdCacheMissCount()).isLessThanOrEqualTo(1);
+		assertThat(statistics.getNaturalIdCacheHitCount()).isGreaterThanOrEqualTo(READS - 1);
+	}
+	
+	@Test
+	public void 수정하면_캐시가_갱신됨() throws Exception {
+		//given
+		memberRepository.findByUsername("cachedMember");
+
+		//when
+		transactionTemplate.executeWithoutResult(status -> memberRepository.findById(member.getId()).get().updateNickName("NickName2"));
+
+		//then
+		assertThat(memberRepository.findByUsername("cachedMember").get().getNickName()).isEqualTo("NickName2");
+	}
+	
+	@Test
+	public void 캐시_통계를_metrics로_노출() throws Exception {
+		//when
+		memberRepository.findById(member.getId());
+		memberRepository.findById(member.getId());
+
+		//then
+		assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+								.tag("region", "member")
+								.tag("result", "hit")
+								.functionCounter()).isNotNull();
+	}
+}
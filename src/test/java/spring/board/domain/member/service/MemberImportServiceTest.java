@@ -0,0 +1,176 @@
+package spring.board.domain.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.bulk.MemberRecordParser;
+import spring.board.domain.member.dto.MemberImportResultDto;
+import spring.board.domain.member.dto.MemberImportResultDto.ImportError;
+import spring.board.domain.member.repository.MemberRepository;
+import spring.board.domain.search.SearchType;
+import spring.board.domain.search.service.SearchService;
+import spring.board.global.jwt.service.JwtService;
+import spring.board.global.password.BoundedPasswordEncoder;
+
+//JDBC batch로 커밋하므로 트랜잭션 없이 테스트하고, 등록한 회원은 직접 지움
+@SpringBootTest(properties = {"member.import.batch-size=100", "password.bcrypt.strength=4"})
+@AutoConfigureMockMvc
+class MemberImportServiceTest {
+	
+	@Autowired MemberImportService memberImportService;
+	@Autowired MemberExportService memberExportService;
+	@Autowired MemberRepository memberRepository;
+	@Autowired PasswordEncoder passwordEncoder;
+	@Autowired SearchService searchService;
+	@Autowired JdbcTemplate jdbcTemplate;
+	@Autowired JwtService jwtService;
+	@Autowired MockMvc mockMvc;
+	@Autowired EntityManagerFactory emf;
+	
+	@AfterEach
+	private void after() {
+		jdbcTemplate.update("delete from MEMBER where username like 'import%'");
+		emf.getCache().unwrap(Cache.class).evictAllRegions();
+	}
+	
+	private MemberImportResultDto importMembers(String content, MediaType contentType) throws Exception {
+		return memberImportService.importMembers(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), contentType);
+	}
+	
+	@Test
+	public void NDJSON_일괄등록() throws Exception {
+		//given
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 250; i++) {
+			content.append("{\"username\":\"import").append(i).append("\",\"password\":\"password").append(i)
+				   .append("\",\"name\":\"이름\",\"nickName\":\"일괄닉네임").append(i).append("\",\"age\":20}\n");
+		}
+		content.append("{\"username\":\"import0\",\"password\":\"1234\",\"name\":\"이름\",\"nickName\":\"닉네임\",\"age\":20}\n"); //252번째 줄, 중복
+		content.append("{\"username\":\"importNoName\",\"password\":\"1234\",\"nickName\":\"닉네임\",\"age\":20}\n");
+		content.append("{\"username\":\n");
+		String hash = passwordEncoder.encode("hashedPassword");
+		content.append("{\"username\":\"importHashed\",\"password\":\"" + hash + "\",\"name\":\"이름\",\"nickName\":\"닉네임\",\"age\":20,\"role\":\"admin\"}\n");
+		content.append("{\"username\":\"importNoop\",\"password\":\"{noop}plain\",\"name\":\"이름\",\"nickName\":\"닉네임\",\"age\":20}\n"); //255번째 줄, 평문
+
+		//when
+		MemberImportResultDto result = importMembers(content.toString(), MemberRecordParser.NDJSON);
+
+		//then
+		assertThat(result.getImported()).isEqualTo(251);
+		assertThat(result.getRejected()).isEqualTo(4);
+		assertThat(result.getErrors()).extracting(ImportError::getLine).containsExactlyInAnyOrder(251L, 252L, 253L, 255L);
+		
+		Member member = memberRepository.findByUsername("import7").get();
+		assertThat(passwordEncoder.matches("password7", member.getPassword())).isTrue();
+		assertThat(member.getRole()).isEqualTo(Role.USER);
+		
+		Member hashed = memberRepository.findByUsername("importHashed").get();
+		assertThat(hashed.getPassword()).isEqualTo(hash);
+		assertThat(passwordEncoder.matches("hashedPassword", hashed.getPassword())).isTrue();
+		assertThat(memberRepository.findByUsername("importNoop")).isEmpty();
+		assertThat(hashed.getRole()).isEqualTo(Role.ADMIN);
+		
+		assertThat(searchService.search(SearchType.MEMBER, "import7", null, 10).getHits()).hasSize(1);
+	}
+	
+	@Test
+	public void 해시_병렬도는_로그인_동시_해시_수의_절반까지() {
+		//given
+		int loginPermits = ((BoundedPasswordEncoder) passwordEncoder).getMaxConcurrent();
+
+		//then
+		assertThat(memberImportService.getHashParallelism()).isBetween(1, Math.max(1, loginPermits / 2));
+	}
+	
+	@Test
+	public void 아이디_unique_key_위반만_중복_아이디로_판단() {
+		//given
+		Object[] row = {"importDuplicate", "{noop}1234", "이름", "닉네임", 20, "USER"};
+		String sql = "insert into MEMBER (username, password, name, nick_name, age, role, created_date, last_modified_date, version) "
+				   + "values (?, ?, ?, ?, ?, ?, now(), now(), 0)";
+		jdbcTemplate.update(sql, row);
+
+		//when
+		DuplicateKeyException e = assertThrows(DuplicateKeyException.class, () -> jdbcTemplate.update(sql, row));
+
+		//then
+		assertThat(MemberService.isUsernameUniqueKey(e.getMostSpecificCause().getMessage())).isTrue();
+		assertThat(MemberService.isUsernameUniqueKey("Duplicate entry '1' for key 'PRIMARY'")).isFalse();
+	}
+	
+	@Test
+	public void CSV_일괄등록() throws Exception {
+		//given
+		String content = "nickName,username,password,name,age\n"
+					   + "\"쉼표, \"\"따옴표\"\"\",importCsv1,pw1,이름,20\n"
+					   + "닉네임2,importCsv2,pw2,이름,스물\n";
+
+		//when
+		MemberImportResultDto result = importMembers(content, MemberRecordParser.CSV);
+
+		//then
+		assertThat(result.getImported()).isEqualTo(1);
+		assertThat(result.getErrors()).extracting(ImportError::getLine).containsExactly(3L);
+		assertThat(memberRepository.findByUsername("importCsv1").get().getNickName()).isEqualTo("쉼표, \"따옴표\"");
+	}
+	
+	@Test
+	public void NDJSON_내보내기() throws Exception {
+		//given
+		importMembers("{\"username\":\"importExport1\",\"password\":\"pw\",\"name\":\"이름\",\"nickName\":\"닉네임\",\"age\":20}\n"
+					+ "{\"username\":\"importExport2\",\"password\":\"pw\",\"name\":\"이름\",\"nickName\":\"닉네임\",\"age\":21}\n",
+					  MemberRecordParser.NDJSON);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		//when
+		long count = memberExportService.export(out);
+
+		//then
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertThat(lines).hasSize((int) count);
+		assertThat(Arrays.stream(lines).filter(line -> line.contains("\"username\":\"importExport"))).hasSize(2);
+		assertThat(out.toString(StandardCharsets.UTF_8)).doesNotContain("password");
+	}
+	
+	@Test
+	public void 형식이_잘못된_Content_Type은_415() throws Exception {
+		//given : 관리자 토큰, 토큰의 권한만으로 인증하므로 회원을 저장하지 않음
+		String accessToken = "Bearer " + jwtService.createAccessToken(1L, "importAdmin", Role.ADMIN);
+		
+		//when, then
+		mockMvc.perform(MockMvcRequestBuilders.post("/admin/members/import")
+											  .header("Authorization", accessToken)
+											  .header(HttpHeaders.CONTENT_TYPE, "not a media type")
+											  .content("{\"username\":\"importInvalid\"}"))
+			   .andExpect(status().isUnsupportedMediaType());
+		mockMvc.perform(MockMvcRequestBuilders.post("/admin/members/import")
+											  .header("Authorization", accessToken)
+											  .contentType(MediaType.APPLICATION_XML)
+											  .content("<member/>"))
+			   .andExpect(status().isUnsupportedMediaType());
+	}
+}
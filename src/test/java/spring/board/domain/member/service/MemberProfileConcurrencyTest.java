@@ -0,0 +1,207 @@
+package spring.board.domain.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.cache.MemberUserDetailsCache;
+import spring.board.domain.member.dto.MemberProfileDto;
+import spring.board.domain.member.dto.MemberProfileUpdateDto;
+import spring.board.domain.member.exception.MemberVersionMismatchException;
+import spring.board.domain.member.repository.MemberRepository;
+
+//여러 스레드가 같은 회원의 서로 다른 항목을 동시에 수정함
+//수정이 하나도 사라지지 않는지(lost update), update가 바뀐 컬럼만 쓰는지 확인하기 위해 실행한 UPDATE 문을 기록함
+@SpringBootTest(properties = {
+		"member.profile.max-retries=1000",
+		"member.profile.retry-backoff=1ms",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector=spring.board.domain.member.service.MemberProfileConcurrencyTest$MemberUpdateRecorder"
+})
+class MemberProfileConcurrencyTest {
+	
+	private static final String USERNAME = "profileUser";
+	private static final int THREADS = 8;
+	private static final int UPDATES_PER_THREAD = 30;
+	
+	@Autowired MemberProfileService memberProfileService;
+	@Autowired MemberRepository memberRepository;
+	@Autowired MemberUserDetailsCache memberUserDetailsCache;
+	@Autowired EntityManagerFactory emf;
+	@Autowired JdbcTemplate jdbcTemplate;
+	
+	private Long memberId;
+	
+	//== MEMBER 테이블의 UPDATE 문을 기록, Hibernate가 클래스 이름으로 생성함 ==//
+	public static class MemberUpdateRecorder implements StatementInspector {
+		
+		private static final long serialVersionUID = 1L;
+		
+		static final Queue<String> UPDATES = new ConcurrentLinkedQueue<>();
+		
+		@Override
+		public String inspect(String sql) {
+			if (sql.trim().toLowerCase().startsWith("update member ")) {
+				UPDATES.add(sql);
+			}
+			return sql;
+		}
+	}
+	
+	//성공한 수정 하나, 어떤 항목을 어떤 값으로 바꿔서 몇 번째 version이 되었는지
+	private static class Applied {
+		
+		private final String field;
+		private final String value;
+		private final long version;
+		
+		private Applied(String field, String value, long version) {
+			this.field = field;
+			this.value = value;
+			this.version = version;
+		}
+	}
+	
+	@BeforeEach
+	private void init() {
+		memberId = memberRepository.save(Member.builder()
+											   .username(USERNAME)
+											   .password("{noop}1234")
+											   .name("Member1")
+											   .nickName("NickName1")
+											   .role(Role.USER)
+											   .age(22)
+											   .build()).getId();
+		MemberUpdateRecorder.UPDATES.clear();
+	}
+	
+	@AfterEach
+	private void after() {
+		jdbcTemplate.update("delete from MEMBER where username = ?", USERNAME);
+		emf.getCache().unwrap(Cache.class).evictAllRegions();
+		memberUserDetailsCache.evict(USERNAME);
+	}
+	
+	//SET 절의 컬럼 수
+	private static int setColumns(String updateSql) {
+		String sql = updateSql.toLowerCase().replaceAll("\\s+", " ");
+		return sql.substring(sql.indexOf(" set ") + 5, sql.indexOf(" where ")).split(",").length;
+	}
+	
+	//@DynamicUpdate가 없을 때 Hibernate가 사용하는 모든 컬럼의 UPDATE 문
+	private String fullRowUpdateSql() {
+		SessionFactoryImplementor sessionFactory = emf.unwrap(SessionFactoryImplementor.class);
+		AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory.getMetamodel().entityPersister(Member.class);
+		return persister.getSQLUpdateStrings()[0];
+	}
+	
+	//스레드마다 이름, 닉네임, 나이를 돌아가며 수정함, 모든 값은 서로 다름
+	private List<Applied> updates(int thread) {
+		List<Applied> applied = new ArrayList<>();
+		for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+			String value = thread + "-" + i;
+			MemberProfileDto profile;
+			switch (i % 3) {
+				case 0:
+					profile = memberProfileService.updateProfile(memberId, null, new MemberProfileUpdateDto("name-" + value, null, null));
+					applied.add(new Applied("name", profile.getName(), profile.getVersion()));
+					break;
+				case 1:
+					profile = memberProfileService.updateProfile(memberId, null, new MemberProfileUpdateDto(null, "nick-" + value, null));
+					applied.add(new Applied("nickName", profile.getNickName(), profile.getVersion()));
+					break;
+				default:
+					profile = memberProfileService.updateProfile(memberId, null, new MemberProfileUpdateDto(null, null, 1000 + thread * UPDATES_PER_THREAD + i));
+					applied.add(new Applied("age", String.valueOf(profile.getAge()), profile.getVersion()));
+			}
+		}
+		return applied;
+	}
+	
+	private static String lastValue(List<Applied> applied, String field) {
+		return applied.stream()
+					  .filter(update -> update.field.equals(field))
+					  .max(Comparator.comparingLong(update -> update.version))
+					  .orElseThrow().value;
+	}
+	
+	@Test
+	public void 동시에_수정해도_잃어버리는_수정이_없음() throws Exception {
+		//given
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Callable<List<Applied>>> tasks = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			int thread = i;
+			tasks.add(() -> updates(thread));
+		}
+		
+		//when
+		List<Applied> applied = new ArrayList<>();
+		for (Future<List<Applied>> future : executor.invokeAll(tasks)) {
+			applied.addAll(future.get());
+		}
+		executor.shutdown();
+		
+		//then : 수정마다 version이 하나씩, 겹치지 않고 증가함
+		Member member = memberRepository.findById(memberId).orElseThrow();
+		assertThat(applied).hasSize(THREADS * UPDATES_PER_THREAD);
+		assertThat(applied.stream().mapToLong(update -> update.version).distinct().count()).isEqualTo(applied.size());
+		assertThat(member.getVersion()).isEqualTo(applied.size());
+		
+		//then : 항목마다 가장 나중에 커밋된 수정이 남아 있음, 다른 항목의 수정이 이전 값으로 덮어쓰지 않음
+		assertThat(member.getName()).isEqualTo(lastValue(applied, "name"));
+		assertThat(member.getNickName()).isEqualTo(lastValue(applied, "nickName"));
+		assertThat(String.valueOf(member.getAge())).isEqualTo(lastValue(applied, "age"));
+	}
+	
+	@Test
+	public void 수정한_컬럼만_update() throws Exception {
+		//when
+		memberProfileService.updateProfile(memberId, null, new MemberProfileUpdateDto(null, "NickName2", null));
+		
+		//then : 닉네임, 수정 시간, version만 씀
+		int fullRow = setColumns(fullRowUpdateSql());
+		assertThat(MemberUpdateRecorder.UPDATES).hasSize(1);
+		assertThat(MemberUpdateRecorder.UPDATES).allSatisfy(sql -> {
+			assertThat(setColumns(sql)).isEqualTo(3);
+			assertThat(setColumns(sql)).isLessThan(fullRow);
+		});
+	}
+	
+	@Test
+	public void If_Match의_version이_다르면_수정하지_않음() throws Exception {
+		//given
+		MemberProfileDto updated = memberProfileService.updateProfile(memberId, null, new MemberProfileUpdateDto("Member2", null, null));
+		
+		//when : 수정 전 version(0)을 기준으로 수정
+		Throwable thrown = catchThrowable(
+				() -> memberProfileService.updateProfile(memberId, updated.getVersion() - 1, new MemberProfileUpdateDto("Member3", null, null)));
+		
+		//then
+		assertThat(thrown).isInstanceOf(MemberVersionMismatchException.class);
+		assertThat(memberProfileService.getProfile(memberId).getName()).isEqualTo("Member2");
+	}
+}
@@ -0,0 +1,96 @@
+package spring.board.domain.post.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.repository.MemberRepository;
+import spring.board.domain.post.Post;
+import spring.board.domain.post.repository.PostRepository;
+
+//압축은 Tomcat(coyote)에서 하므로 MockMvc가 아니라 실제 서버로 요청함
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PostCompressionTest {
+	
+	@LocalServerPort int port;
+	@Autowired MemberRepository memberRepository;
+	@Autowired PostRepository postRepository;
+	
+	HttpClient client = HttpClient.newHttpClient();
+	
+	private Member member;
+	private Long postId;
+	
+	@BeforeEach
+	private void init() {
+		member = memberRepository.save(Member.builder()
+											 .username("compressionUser")
+											 .password("1234567890")
+											 .name("Member1")
+											 .nickName("NickName1")
+											 .role(Role.USER)
+											 .age(22)
+											 .build());
+		postId = postRepository.save(Post.builder().writer(member).title("제목").content("긴 내용 ".repeat(1000)).build()).getId();
+	}
+	
+	@AfterEach
+	private void after() {
+		postRepository.deleteById(postId);
+		memberRepository.delete(member);
+	}
+	
+	private HttpResponse<byte[]> get(String acceptEncoding, String ifNoneMatch) throws Exception {
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/posts/" + postId))
+												 .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+		if (ifNoneMatch != null) {
+			request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+		}
+		return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+	}
+	
+	@Test
+	public void 큰_응답은_gzip으로_압축하고_ETag를_유지() throws Exception {
+		//given, when
+		HttpResponse<byte[]> response = get("gzip", null);
+		
+		//then
+		assertThat(response.statusCode()).isEqualTo(200);
+		assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+		assertThat(response.headers().firstValue(HttpHeaders.ETAG)).hasValueSatisfying(eTag -> assertThat(eTag).startsWith("W/").endsWith("-gzip\""));
+		String body = new String(new GZIPInputStream(new ByteArrayInputStream(response.body())).readAllBytes(), StandardCharsets.UTF_8);
+		assertThat(body).contains("긴 내용");
+	}
+	
+	@Test
+	public void 압축한_응답의_ETag로_조건부_요청() throws Exception {
+		//given
+		String eTag = get("gzip", null).headers().firstValue(HttpHeaders.ETAG).orElseThrow();
+		
+		//when
+		HttpResponse<byte[]> notModified = get("gzip", eTag);
+		HttpResponse<byte[]> identity = get("identity", eTag);
+		
+		//then
+		assertThat(notModified.statusCode()).isEqualTo(304);
+		assertThat(notModified.body()).isEmpty();
+		assertThat(identity.statusCode()).isEqualTo(200);
+		assertThat(identity.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty();
+	}
+}
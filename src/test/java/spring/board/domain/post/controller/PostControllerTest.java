@@ -0,0 +1,193 @@
+package spring.board.domain.post.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.repository.MemberRepository;
+import spring.board.domain.post.Post;
+import spring.board.domain.post.dto.PostSaveDto;
+import spring.board.domain.post.repository.PostRepository;
+import spring.board.domain.post.service.PostService;
+import spring.board.global.jwt.service.JwtService;
+
+@Transactional
+@SpringBootTest
+@AutoConfigureMockMvc
+class PostControllerTest {
+	
+	@Autowired MockMvc mockMvc;
+	@Autowired MemberRepository memberRepository;
+	@Autowired JwtService jwtService;
+	@Autowired PostRepository postRepository;
+	@Autowired PostService postService;
+	@Autowired EntityManager em;
+	
+	ObjectMapper objectMapper = new ObjectMapper();
+	
+	private Member member;
+	private String accessToken;
+	
+	@BeforeEach
+	private void init() {
+		member = memberRepository.save(Member.builder()
+													.username("postControllerUser")
+													.password("1234567890")
+													.name("Member1")
+													.nickName("NickName1")
+													.role(Role.USER)
+													.age(22)
+													.build());
+		em.flush();
+		accessToken = "Bearer " + jwtService.createAccessToken(member.getId(), member.getUsername(), member.getRole());
+	}
+	
+	@Test
+	public void 로그인하면_게시글_작성() throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.post("/posts")
+											  .header("Authorization", accessToken)
+											  .contentType(MediaType.APPLICATION_JSON)
+											  .content(objectMapper.writeValueAsString(new PostSaveDto("제목", "내용"))))
+			   .andExpect(status().isCreated())
+			   .andExpect(header().exists("Location"));
+	}
+	
+	@Test
+	public void 로그인하지_않으면_게시글_작성_FORBIDDEN() throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.post("/posts")
+											  .contentType(MediaType.APPLICATION_JSON)
+											  .content(objectMapper.writeValueAsString(new PostSaveDto("제목", "내용"))))
+			   .andExpect(status().isForbidden());
+	}
+	
+	@Test
+	public void 제목이_없으면_BAD_REQUEST() throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.post("/posts")
+											  .header("Authorization", accessToken)
+											  .contentType(MediaType.APPLICATION_JSON)
+											  .content(objectMapper.writeValueAsString(new PostSaveDto("", "내용"))))
+			   .andExpect(status().isBadRequest());
+	}
+	
+	@Test
+	public void 게시글_목록은_로그인_없이_조회() throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.get("/posts"))
+			   .andExpect(status().isOk())
+			   .andExpect(jsonPath("$.posts").isArray());
+	}
+	
+	@Test
+	public void 없는_게시글은_NOT_FOUND() throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.get("/posts/-1"))
+			   .andExpect(status().isNotFound());
+	}
+	
+	//DB에 저장된 수정 시간으로 ETag를 만들도록 영속성 컨텍스트를 비움
+	private Long savePost(String title) {
+		Long postId = postRepository.save(Post.builder().writer(member).title(title).content("내용").build()).getId();
+		em.flush();
+		em.clear();
+		return postId;
+	}
+	
+	@Test
+	public void 게시글이_바뀌지_않았으면_NOT_MODIFIED() throws Exception {
+		//given
+		Long postId = savePost("제목");
+		String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/posts/" + postId))
+							 .andExpect(status().isOk())
+							 .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+							 .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		
+		//when, then
+		mockMvc.perform(MockMvcRequestBuilders.get("/posts/" + postId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+			   .andExpect(status().isNotModified())
+			   .andExpect(header().string(HttpHeaders.ETAG, eTag))
+			   .andExpect(content().string(""));
+		assertThat(postService.getViews(postId).getViews()).isEqualTo(2);	//304로 응답한 조회도 셈
+	}
+	
+	@Test
+	public void 수정_시간_이후에_바뀌지_않았으면_NOT_MODIFIED() throws Exception {
+		//given
+		Long postId = savePost("제목");
+		String lastModified = mockMvc.perform(MockMvcRequestBuilders.get("/posts/" + postId))
+									 .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+		
+		//when, then
+		mockMvc.perform(MockMvcRequestBuilders.get("/posts/" + postId).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+			   .andExpect(status().isNotModified());
+	}
+	
+	@Test
+	public void 작성자_별명이_바뀌면_ETag가_바뀜() throws Exception {
+		//given
+		Long postId = savePost("제목");
+		String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/posts/" + postId))
+							 .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		
+		//when
+		memberRepository.findById(member.getId()).orElseThrow().updateNickName("NickName2");
+		em.flush();
+		em.clear();
+		
+		//then
+		mockMvc.perform(MockMvcRequestBuilders.get("/posts/" + postId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+			   .andExpect(status().isOk())
+			   .andExpect(jsonPath("$.writerNickName").value("NickName2"));
+	}
+	
+	@Test
+	public void 게시글이_추가되면_목록의_ETag가_바뀜() throws Exception {
+		//given
+		savePost("제목1");
+		String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/posts"))
+							 .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		mockMvc.perform(MockMvcRequestBuilders.get("/posts").header(HttpHeaders.IF_NONE_MATCH, eTag))
+			   .andExpect(status().isNotModified());
+		
+		//when
+		savePost("제목2");
+		
+		//then
+		mockMvc.perform(MockMvcRequestBuilders.get("/posts").header(HttpHeaders.IF_NONE_MATCH, eTag))
+			   .andExpect(status().isOk())
+			   .andExpect(jsonPath("$.posts[0].title").value("제목2"));
+	}
+	
+	@Test
+	public void gzip을_받는_요청은_ETag를_구분() throws Exception {
+		//given
+		Long postId = savePost("제목");
+		String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/posts/" + postId))
+							 .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		
+		//when, then
+		mockMvc.perform(MockMvcRequestBuilders.get("/posts/" + postId)
+											  .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+											  .header(HttpHeaders.IF_NONE_MATCH, eTag))
+			   .andExpect(status().isOk())
+			   .andExpect(header().string(HttpHeaders.ETAG, "W/" + eTag.replaceFirst("\"$", "-gzip\"")))
+			   .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+		assertThat(PostController.acceptsGzip("gzip;q=0, deflate")).isFalse();
+	}
+}
@@ -0,0 +1,83 @@
+package spring.board.domain.post.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import spring.board.domain.post.ranking.DecayedTopK.Scored;
+
+class DecayedTopKTest {
+	
+	private static final long HALF_LIFE = 1_000L;
+	private static final long START = 1_000_000L;
+	
+	DecayedTopK topK = new DecayedTopK(3, Duration.ofMillis(HALF_LIFE), START);
+	
+	@Test
+	public void 점수가_높은_순서로_k개() throws Exception {
+		//given
+		topK.add(1L, 1, START);
+		topK.add(2L, 3, START);
+		topK.add(3L, 2, START);
+		topK.add(1L, 3, START);	//1번은 4점
+		
+		//when
+		List<Scored> top = topK.top(2, START);
+		
+		//then
+		assertThat(top).extracting(Scored::getId).containsExactly(1L, 2L);
+		assertThat(top).extracting(Scored::getScore).containsExactly(4.0, 3.0);
+	}
+	
+	@Test
+	public void 반감기가_지나면_점수가_절반() throws Exception {
+		//given : 1번은 예전에 8점, 2번은 반감기 두 번 후에 3점
+		topK.add(1L, 8, START);
+		topK.add(2L, 3, START + 2 * HALF_LIFE);
+		
+		//when
+		List<Scored> top = topK.top(2, START + 2 * HALF_LIFE);
+		
+		//then : 1번은 2점으로 줄어서 2번보다 아래
+		assertThat(top).extracting(Scored::getId).containsExactly(2L, 1L);
+		assertThat(top.get(1).getScore()).isCloseTo(2.0, within(1e-9));
+	}
+	
+	@Test
+	public void 추적하는_개수를_넘으면_점수가_가장_낮은_항목을_버림() throws Exception {
+		//given
+		topK.add(1L, 5, START);
+		topK.add(2L, 1, START);
+		topK.add(3L, 3, START);
+		
+		//when
+		topK.add(4L, 2, START);
+		
+		//then
+		assertThat(topK.size()).isEqualTo(3);
+		assertThat(topK.contains(2L)).isFalse();
+		assertThat(topK.top(3, START)).extracting(Scored::getId).containsExactly(1L, 3L, 4L);
+	}
+	
+	@Test
+	public void 기준_시간을_옮겨도_순서와_점수가_유지() throws Exception {
+		//given
+		topK.add(1L, 1, START);
+		topK.add(2L, 2, START);
+		
+		//when : 반감기 600번 후, rebase 기준(512번)을 넘음
+		long later = START + 600 * HALF_LIFE;
+		topK.add(3L, 1, later);
+		
+		//then
+		List<Scored> top = topK.top(3, later);
+		assertThat(top).extracting(Scored::getId).containsExactly(3L, 2L, 1L);
+		assertThat(top.get(0).getScore()).isCloseTo(1.0, within(1e-9));
+		assertThat(top.get(1).getScore()).isCloseTo(2 * Math.pow(2, -600), withinPercentage(1e-6));
+	}
+}
@@ -0,0 +1,193 @@
+package spring.board.domain.post.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import spring.board.domain.comment.dto.CommentSaveDto;
+import spring.board.domain.comment.service.CommentService;
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.repository.MemberRepository;
+import spring.board.domain.post.dto.HotPostDto;
+import spring.board.domain.post.dto.PostSaveDto;
+import spring.board.domain.post.ranking.repository.HotPostScoreRepository;
+import spring.board.domain.post.repository.PostRepository;
+import spring.board.domain.post.service.PostService;
+
+//스냅샷은 별도 커넥션에서 JDBC로 저장되므로 트랜잭션 없이 테스트함
+//주기적인 반영과 스냅샷은 테스트에서 직접 호출함
+@SpringBootTest(properties = {
+		"board.hot-posts.apply-interval=3600000",
+		"board.hot-posts.snapshot-interval=3600000",
+		"board.view-count.flush-interval=3600000"
+})
+@AutoConfigureMockMvc
+class HotPostRankingTest {
+	
+	@Autowired HotPostRanking hotPostRanking;
+	@Autowired PostService postService;
+	@Autowired CommentService commentService;
+	@Autowired PostRepository postRepository;
+	@Autowired MemberRepository memberRepository;
+	@Autowired HotPostScoreRepository hotPostScoreRepository;
+	@Autowired JdbcTemplate jdbcTemplate;
+	@Autowired TransactionTemplate transactionTemplate;
+	@Autowired MeterRegistry meterRegistry;
+	@Autowired MockMvc mockMvc;
+	
+	ObjectMapper objectMapper = new ObjectMapper();
+	
+	private Member writer;
+	private Long viewedPostId;
+	private Long commentedPostId;
+	private Long quietPostId;
+	
+	@BeforeEach
+	private void init() {
+		writer = memberRepository.save(Member.builder()
+											 .username("hotPostWriter")
+											 .password("1234567890")
+											 .name("Member1")
+											 .nickName("NickName1")
+											 .role(Role.USER)
+											 .age(22)
+											 .build());
+		viewedPostId = postService.save(writer.getId(), new PostSaveDto("조회가 많은 글", "내용"));
+		commentedPostId = postService.save(writer.getId(), new PostSaveDto("댓글이 많은 글", "내용"));
+		quietPostId = postService.save(writer.getId(), new PostSaveDto("조용한 글", "내용"));
+	}
+	
+	@AfterEach
+	private void after() {
+		jdbcTemplate.update("delete from HOT_POST_SCORE");
+		jdbcTemplate.update("delete from COMMENT where writer_id = ?", writer.getId());
+		jdbcTemplate.update("delete from POST where writer_id = ?", writer.getId());
+		memberRepository.deleteById(writer.getId());
+	}
+	
+	//조회 3번(3점), 댓글 1개(5점), 조회 1번(1점)
+	private void recordEvents() {
+		for (int i = 0; i < 3; i++) {
+			postService.getPost(viewedPostId);
+		}
+		commentService.save(writer.getId(), commentedPostId, new CommentSaveDto("댓글", null));
+		postService.getPost(quietPostId);
+	}
+	
+	//다른 테스트에서 조회한 게시글을 제외한 이 테스트의 게시글 순서
+	private List<Long> ranked(List<Long> postIds) {
+		return postIds.stream()
+					  .filter(List.of(viewedPostId, commentedPostId, quietPostId)::contains)
+					  .collect(Collectors.toList());
+	}
+	
+	private long connectionUsages() {
+		return meterRegistry.find("hikaricp.connections.usage").timers().stream().mapToLong(Timer::count).sum();
+	}
+	
+	@Test
+	public void 조회와_댓글의_가중치로_순위를_정함() throws Exception {
+		//given
+		recordEvents();
+		
+		//when
+		hotPostRanking.apply();
+		List<HotPostDto> hotPosts = hotPostRanking.getHotPosts(50);
+		
+		//then
+		assertThat(ranked(hotPosts.stream().map(HotPostDto::getPostId).collect(Collectors.toList())))
+				  .containsExactly(commentedPostId, viewedPostId, quietPostId);
+		assertThat(hotPosts).filteredOn(post -> post.getPostId().equals(commentedPostId))
+							.singleElement()
+							.satisfies(post -> {
+								assertThat(post.getTitle()).isEqualTo("댓글이 많은 글");
+								assertThat(post.getWriterNickName()).isEqualTo("NickName1");
+							});
+	}
+	
+	@Test
+	public void 인기_게시글_조회는_DB를_사용하지_않음() throws Exception {
+		//given
+		recordEvents();
+		hotPostRanking.apply();
+		long usagesBefore = connectionUsages();
+		assertThat(usagesBefore).isPositive();	//apply에서 게시글 내용을 조회함
+		
+		//when
+		MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/posts/hot").param("size", "50"))
+								  .andExpect(status().isOk())
+								  .andReturn();
+		
+		//then
+		assertThat(connectionUsages()).isEqualTo(usagesBefore);
+		JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+		List<Long> postIds = new ArrayList<>();
+		body.forEach(post -> postIds.add(post.get("postId").asLong()));
+		assertThat(ranked(postIds)).containsExactly(commentedPostId, viewedPostId, quietPostId);
+	}
+	
+	@Test
+	public void 서버를_다시_시작하면_스냅샷에서_복구() throws Exception {
+		//given
+		recordEvents();
+		hotPostRanking.apply();
+		hotPostRanking.snapshot();
+		
+		//when : 메모리가 비어 있는 새 인스턴스
+		HotPostRanking restarted = new HotPostRanking(postRepository, hotPostScoreRepository, jdbcTemplate, transactionTemplate, new SimpleMeterRegistry(),
+													  50, 1000, Duration.ofHours(6), 1, 5);
+		restarted.restore();
+		
+		//then
+		List<HotPostDto> hotPosts = restarted.getHotPosts(50);
+		assertThat(ranked(hotPosts.stream().map(HotPostDto::getPostId).collect(Collectors.toList())))
+				  .containsExactly(commentedPostId, viewedPostId, quietPostId);
+		assertThat(hotPosts).filteredOn(post -> post.getPostId().equals(viewedPostId))
+							.singleElement()
+							.satisfies(post -> assertThat(post.getScore()).isCloseTo(3.0, within(0.01)));
+	}
+	
+	@Test
+	public void 다른_서버가_저장한_더_높은_점수는_덮어쓰지_않음() throws Exception {
+		//given : 다른 서버가 quietPostId에 더 높은 점수를 저장함
+		recordEvents();
+		hotPostRanking.apply();
+		jdbcTemplate.update("insert into HOT_POST_SCORE (post_id, score, scored_at) values (?, ?, ?)",
+							quietPostId, 100.0, Timestamp.from(Instant.now()));
+		
+		//when
+		hotPostRanking.snapshot();
+		
+		//then
+		assertThat(hotPostScoreRepository.findById(quietPostId)).get()
+																 .satisfies(score -> assertThat(score.getScore()).isCloseTo(100.0, within(0.01)));
+		assertThat(hotPostScoreRepository.findById(viewedPostId)).get()
+																  .satisfies(score -> assertThat(score.getScore()).isCloseTo(3.0, within(0.01)));
+	}
+}
@@ -0,0 +1,123 @@
+package spring.board.domain.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.repository.MemberRepository;
+import spring.board.domain.post.dto.PostSummaryDto;
+
+//OFFSET 페이징과 keyset 페이징의 페이지 깊이별 조회 시간을 비교한다.
+//./gradlew benchmarkTest -Dbenchmark.posts=1000000 처럼 게시글 수를 바꿔서 실행할 수 있다.
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostPagingBenchmarkTest {
+
+	private static final int POST_COUNT = Integer.getInteger("benchmark.posts", 200_000);
+	private static final int PAGE_SIZE = 20;
+	private static final int[] PAGES = {0, 100, 1_000, POST_COUNT / PAGE_SIZE - 1};
+	private static final int WARMUP = 3;
+	private static final int ITERATIONS = 20;
+	private static final int BATCH_SIZE = 1_000;
+
+	@Autowired PostRepository postRepository;
+	@Autowired MemberRepository memberRepository;
+	@Autowired JdbcTemplate jdbcTemplate;
+
+	private Member writer;
+
+	@BeforeAll
+	void insertPosts() {
+		writer = memberRepository.save(Member.builder()
+											 .username("benchmarkWriter")
+											 .password("1234567890")
+											 .name("Member1")
+											 .nickName("NickName1")
+											 .role(Role.USER)
+											 .age(22)
+											 .build());
+
+		//JPA로 하나씩 저장하면 오래 걸리므로 JDBC batch로 저장, 작성 시간은 1초씩 차이나게 만듦
+		LocalDateTime start = LocalDateTime.now().minusSeconds(POST_COUNT);
+		List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+		for (int i = 0; i < POST_COUNT; i++) {
+			Timestamp createdDate = Timestamp.valueOf(start.plusSeconds(i));
+			batch.add(new Object[] {writer.getId(), "제목" + i, "내용" + i, createdDate, createdDate});
+			if (batch.size() == BATCH_SIZE) {
+				insert(batch);
+			}
+		}
+		insert(batch);
+	}
+
+	private void insert(List<Object[]> batch) {
+		jdbcTemplate.batchUpdate("insert into POST (writer_id, title, content, views, created_date, last_modified_date) values (?, ?, ?, 0, ?, ?)", batch);
+		batch.clear();
+	}
+
+	@AfterAll
+	void deletePosts() {
+		jdbcTemplate.update("delete from POST where writer_id = ?", writer.getId());
+		memberRepository.deleteById(writer.getId());
+	}
+
+	@Test
+	public void keyset_offset_페이징_비교() throws Exception {
+		System.out.printf("%n게시글 %d개, 페이지 크기 %d%n", POST_COUNT, PAGE_SIZE);
+		System.out.printf("%10s %14s %14s%n", "page", "offset(ms)", "keyset(ms)");
+
+		for (int page : PAGES) {
+			Supplier<List<PostSummaryDto>> offset = () -> postRepository.findSliceByOffset(PageRequest.of(page, PAGE_SIZE)).getContent();
+			Supplier<List<PostSummaryDto>> keyset = keysetPage(page);
+
+			//두 방식이 같은 게시글을 조회하는지 먼저 확인
+			assertThat(ids(keyset.get())).isEqualTo(ids(offset.get()));
+
+			System.out.printf("%10d %14.3f %14.3f%n", page, measure(offset), measure(keyset));
+		}
+	}
+
+	//이전 페이지의 마지막 게시글을 cursor로 사용(측정 시간에는 포함하지 않음)
+	private Supplier<List<PostSummaryDto>> keysetPage(int page) {
+		PageRequest limit = PageRequest.of(0, PAGE_SIZE);
+		if (page == 0) {
+			return () -> postRepository.findFirstPage(limit);
+		}
+		List<PostSummaryDto> previous = postRepository.findSliceByOffset(PageRequest.of(page - 1, PAGE_SIZE)).getContent();
+		PostSummaryDto last = previous.get(previous.size() - 1);
+		return () -> postRepository.findNextPage(last.getCreatedDate(), last.getPostId(), limit);
+	}
+
+	private static double measure(Supplier<List<PostSummaryDto>> query) {
+		for (int i = 0; i < WARMUP; i++) {
+			query.get();
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			query.get();
+		}
+		return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+	}
+
+	private static List<Long> ids(List<PostSummaryDto> posts) {
+		return posts.stream().map(PostSummaryDto::getPostId).collect(Collectors.toList());
+	}
+}
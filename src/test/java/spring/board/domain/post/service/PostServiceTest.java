@@ -0,0 +1,107 @@
+package spring.board.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.repository.MemberRepository;
+import spring.board.domain.post.dto.PostInfoDto;
+import spring.board.domain.post.dto.PostSaveDto;
+import spring.board.domain.post.dto.PostSliceDto;
+import spring.board.domain.post.dto.PostSummaryDto;
+import spring.board.domain.post.exception.InvalidCursorException;
+import spring.board.domain.post.exception.PostNotFoundException;
+
+@Transactional
+@SpringBootTest
+class PostServiceTest {
+	
+	@Autowired PostService postService;
+	@Autowired MemberRepository memberRepository;
+	@Autowired EntityManager em;
+	
+	private Member writer;
+	
+	private void clear() {
+		em.flush();
+		em.clear();
+	}
+	
+	@BeforeEach
+	private void init() {
+		writer = memberRepository.save(Member.builder()
+											 .username("postWriter")
+											 .password("1234567890")
+											 .name("Member1")
+											 .nickName("NickName1")
+											 .role(Role.USER)
+											 .age(22)
+											 .build());
+		clear();
+	}
+	
+	@Test
+	public void 게시글_작성후_조회() throws Exception {
+		//given
+		Long postId = postService.save(writer.getId(), new PostSaveDto("제목", "내용"));
+		clear();
+
+		//when
+		PostInfoDto post = postService.getPost(postId);
+
+		//then
+		assertThat(post.getTitle()).isEqualTo("제목");
+		assertThat(post.getContent()).isEqualTo("내용");
+		assertThat(post.getWriterNickName()).isEqualTo("NickName1");
+	}
+	
+	@Test
+	public void 없는_게시글_조회시_예외() throws Exception {
+		assertThrows(PostNotFoundException.class, () -> postService.getPost(-1L));
+	}
+	
+	@Test
+	public void cursor로_모든_페이지를_중복없이_조회() throws Exception {
+		//given, 작성 시간이 같은 게시글도 id로 구분되는지 확인하기 위해 작성 시간을 모두 같게 만듦
+		List<Long> postIds = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			postIds.add(postService.save(writer.getId(), new PostSaveDto("제목" + i, "내용" + i)));
+		}
+		em.flush();
+		em.createNativeQuery("update POST set created_date = (select max(created_date) from POST)").executeUpdate();
+		em.clear();
+
+		//when
+		List<Long> pagedIds = new ArrayList<>();
+		String cursor = null;
+		PostSliceDto slice;
+		do {
+			slice = postService.getPosts(cursor, 10);
+			pagedIds.addAll(slice.getPosts().stream().map(PostSummaryDto::getPostId).collect(Collectors.toList()));
+			cursor = slice.getNextCursor();
+		} while (slice.isHasNext());
+
+		//then
+		postIds.sort(Comparator.reverseOrder());
+		assertThat(pagedIds).isEqualTo(postIds);
+	}
+	
+	@Test
+	public void 잘못된_cursor는_예외() throws Exception {
+		assertThrows(InvalidCursorException.class, () -> postService.getPosts("not-a-cursor", 10));
+	}
+}
@@ -0,0 +1,121 @@
+package spring.board.domain.post.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.repository.MemberRepository;
+import spring.board.domain.post.dto.PostSaveDto;
+import spring.board.domain.post.repository.PostRepository;
+import spring.board.domain.post.service.PostService;
+
+//flush는 별도 커넥션에서 JDBC로 실행되므로 트랜잭션 없이 저장된 데이터로 테스트함
+@SpringBootTest(properties = "board.view-count.flush-interval=3600000")
+class PostViewCounterTest {
+	
+	@Autowired PostViewCounter postViewCounter;
+	@Autowired PostService postService;
+	@Autowired PostRepository postRepository;
+	@Autowired MemberRepository memberRepository;
+	@Autowired JdbcTemplate jdbcTemplate;
+	
+	private Member writer;
+	private Long postId;
+	
+	@BeforeEach
+	private void init() {
+		writer = memberRepository.save(Member.builder()
+											 .username("viewCountWriter")
+											 .password("1234567890")
+											 .name("Member1")
+											 .nickName("NickName1")
+											 .role(Role.USER)
+											 .age(22)
+											 .build());
+		postId = postService.save(writer.getId(), new PostSaveDto("제목", "내용"));
+	}
+	
+	@AfterEach
+	private void after() {
+		postViewCounter.flush();
+		postRepository.deleteById(postId);
+		memberRepository.deleteById(writer.getId());
+	}
+	
+	@Test
+	public void 동시에_증가시킨_조회수가_한번에_반영() throws Exception {
+		//given
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		for (int i = 0; i < 1000; i++) {
+			executor.execute(() -> postViewCounter.increment(postId));
+		}
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+
+		//when
+		long pendingBeforeFlush = postViewCounter.getPendingViews(postId);
+		postViewCounter.flush();
+
+		//then
+		assertThat(pendingBeforeFlush).isEqualTo(1000);
+		assertThat(postViewCounter.getPendingViews(postId)).isZero();
+		assertThat(findViews()).isEqualTo(1000);
+	}
+	
+	@Test
+	public void flush하는_중에_증가시킨_조회수도_반영() throws Exception {
+		//given
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		for (int i = 0; i < 8; i++) {
+			executor.execute(() -> {
+				for (int j = 0; j < 1000; j++) {
+					postViewCounter.increment(postId);
+					if (j % 100 == 0) {
+						Thread.yield();	//조회가 없는 주기가 생겨서 제거되도록 함
+					}
+				}
+			});
+		}
+		executor.shutdown();
+
+		//when
+		while (!executor.awaitTermination(1, TimeUnit.MILLISECONDS)) {
+			postViewCounter.flush();
+		}
+		postViewCounter.flush();
+
+		//then
+		assertThat(postViewCounter.getPendingViews(postId)).isZero();
+		assertThat(findViews()).isEqualTo(8000);
+	}
+	
+	@Test
+	public void 상세조회시_반영되지_않은_조회수를_합쳐서_응답() throws Exception {
+		//given
+		jdbcTemplate.update("update POST set views = 10 where post_id = ?", postId);
+
+		//when
+		postService.getPost(postId);
+		postService.getPost(postId);
+		long views = postService.getViews(postId).getViews();
+
+		//then
+		assertThat(views).isEqualTo(12);
+		assertThat(findViews()).isEqualTo(10);
+	}
+	
+	private long findViews() {
+		return jdbcTemplate.queryForObject("select views from POST where post_id = ?", Long.class, postId);
+	}
+}
@@ -0,0 +1,97 @@
+package spring.board.domain.search.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import spring.board.domain.search.dto.SearchCursor;
+import spring.board.domain.search.dto.SearchHitDto;
+
+class InvertedIndexTest {
+	
+	private final InvertedIndex index = new InvertedIndex();
+	
+	private void put(long id, String text) {
+		index.put(id, "제목" + id, Tokenizer.tokenize(text));
+	}
+	
+	private List<Long> search(String query, SearchCursor cursor, int limit) {
+		Set<String> terms = Tokenizer.tokenize(query).keySet();
+		return index.search(terms, cursor, limit).stream().map(SearchHitDto::getId).collect(Collectors.toList());
+	}
+	
+	@Test
+	public void 한글은_bigram_영어는_소문자_단어로_색인() throws Exception {
+		//when
+		Set<String> terms = Tokenizer.tokenize("Spring게시판에 글을 씀").keySet();
+
+		//then
+		assertThat(terms).containsExactlyInAnyOrder("spring", "게시", "시판", "판에", "글을", "씀");
+	}
+	
+	@Test
+	public void 검색어가_많이_등장하는_문서가_먼저_조회() throws Exception {
+		//given
+		put(1L, "스프링 게시판 만들기");
+		put(2L, "게시판 게시판 게시판");
+		put(3L, "오늘의 날씨");
+
+		//when
+		List<Long> ids = search("게시판", null, 10);
+
+		//then
+		assertThat(ids).containsExactly(2L, 1L);
+	}
+	
+	@Test
+	public void cursor_다음부터_조회() throws Exception {
+		//given
+		for (long id = 1; id <= 5; id++) {
+			put(id, "게시판");
+		}
+		List<SearchHitDto> first = index.search(Tokenizer.tokenize("게시판").keySet(), null, 2);
+
+		//when
+		List<Long> next = search("게시판", SearchCursor.of(first.get(1)), 10);
+
+		//then
+		assertThat(first).extracting(SearchHitDto::getId).containsExactly(5L, 4L);
+		assertThat(next).containsExactly(3L, 2L, 1L);
+	}
+	
+	@Test
+	public void 수정_삭제된_문서는_색인에서_제거() throws Exception {
+		//given
+		put(1L, "스프링 게시판");
+		put(2L, "스프링 시큐리티");
+
+		//when
+		put(1L, "자바 기초");
+		index.remove(2L);
+
+		//then
+		assertThat(search("스프링", null, 10)).isEmpty();
+		assertThat(search("자바", null, 10)).containsExactly(1L);
+		assertThat(index.size()).isEqualTo(1);
+	}
+	
+	@Test
+	public void 재색인중_변경된_문서는_이전_값으로_덮어쓰지_않음() throws Exception {
+		//given
+		InvertedIndex loading = InvertedIndex.forLoad();
+		loading.put(1L, "제목1", Tokenizer.tokenize("자바 기초"));
+
+		//when
+		loading.load(1L, "제목1", Tokenizer.tokenize("스프링 게시판"));
+		loading.load(2L, "제목2", Tokenizer.tokenize("스프링 게시판"));
+		loading.finishLoad();
+
+		//then
+		List<SearchHitDto> hits = loading.search(Tokenizer.tokenize("스프링").keySet(), null, 10);
+		assertThat(hits).extracting(SearchHitDto::getId).containsExactly(2L);
+	}
+}
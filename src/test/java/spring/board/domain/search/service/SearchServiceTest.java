@@ -0,0 +1,117 @@
+package spring.board.domain.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.repository.MemberRepository;
+import spring.board.domain.post.dto.PostSaveDto;
+import spring.board.domain.post.repository.PostRepository;
+import spring.board.domain.post.service.PostService;
+import spring.board.domain.search.SearchType;
+import spring.board.domain.search.dto.SearchHitDto;
+import spring.board.domain.search.dto.SearchSliceDto;
+
+//커밋된 후에 색인하므로 트랜잭션 없이 저장된 데이터로 테스트함
+@SpringBootTest
+class SearchServiceTest {
+	
+	@Autowired SearchService searchService;
+	@Autowired PostService postService;
+	@Autowired PostRepository postRepository;
+	@Autowired MemberRepository memberRepository;
+	@Autowired TransactionTemplate transactionTemplate;
+	
+	private Member writer;
+	
+	@BeforeEach
+	private void init() {
+		writer = memberRepository.save(Member.builder()
+											 .username("searchWriter")
+											 .password("1234567890")
+											 .name("검색회원")
+											 .nickName("검색닉네임")
+											 .role(Role.USER)
+											 .age(22)
+											 .build());
+	}
+	
+	@AfterEach
+	private void after() {
+		postRepository.findAll().stream()
+					  .filter(post -> post.getWriter().getId().equals(writer.getId()))
+					  .forEach(postRepository::delete);
+		memberRepository.deleteById(writer.getId());
+	}
+	
+	@Test
+	public void 저장한_게시글과_회원을_검색() throws Exception {
+		//given
+		Long postId = postService.save(writer.getId(), new PostSaveDto("스프링 부트 게시판", "게시판을 만들어봅시다"));
+		postService.save(writer.getId(), new PostSaveDto("오늘의 날씨", "맑음"));
+
+		//when
+		SearchSliceDto posts = searchService.search(SearchType.POST, "게시판", null, 10);
+		SearchSliceDto members = searchService.search(SearchType.MEMBER, "searchWriter", null, 10);
+
+		//then
+		assertThat(posts.getHits()).extracting(SearchHitDto::getId).containsExactly(postId);
+		assertThat(posts.getHits().get(0).getTitle()).isEqualTo("스프링 부트 게시판");
+		assertThat(members.getHits()).extracting(SearchHitDto::getTitle).containsExactly("검색닉네임");
+	}
+	
+	@Test
+	public void 수정_삭제하면_색인에_반영() throws Exception {
+		//given
+		Long postId = postService.save(writer.getId(), new PostSaveDto("스프링 부트 게시판", "내용"));
+
+		//when
+		transactionTemplate.executeWithoutResult(status -> postRepository.findById(postId).get().updateTitle("자바 기초"));
+		SearchSliceDto updated = searchService.search(SearchType.POST, "자바", null, 10);
+		postRepository.deleteById(postId);
+		SearchSliceDto deleted = searchService.search(SearchType.POST, "자바", null, 10);
+
+		//then
+		assertThat(updated.getHits()).extracting(SearchHitDto::getId).containsExactly(postId);
+		assertThat(searchService.search(SearchType.POST, "스프링", null, 10).getHits()).isEmpty();
+		assertThat(deleted.getHits()).isEmpty();
+	}
+	
+	@Test
+	public void 롤백된_게시글은_색인하지_않음() throws Exception {
+		//when
+		transactionTemplate.executeWithoutResult(status -> {
+			postService.save(writer.getId(), new PostSaveDto("롤백될 게시글", "내용"));
+			status.setRollbackOnly();
+		});
+
+		//then
+		assertThat(searchService.search(SearchType.POST, "롤백", null, 10).getHits()).isEmpty();
+	}
+	
+	@Test
+	public void 재색인후_cursor로_모든_결과를_조회() throws Exception {
+		//given
+		for (int i = 0; i < 7; i++) {
+			postService.save(writer.getId(), new PostSaveDto("게시판 " + i, "내용"));
+		}
+
+		//when
+		searchService.rebuild();
+		SearchSliceDto first = searchService.search(SearchType.POST, "게시판", null, 5);
+		SearchSliceDto second = searchService.search(SearchType.POST, "게시판", first.getNextCursor(), 5);
+
+		//then
+		assertThat(first.getHits()).hasSize(5);
+		assertThat(first.isHasNext()).isTrue();
+		assertThat(second.getHits()).hasSize(2);
+		assertThat(second.isHasNext()).isFalse();
+	}
+}
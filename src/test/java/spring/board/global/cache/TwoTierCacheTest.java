@@ -0,0 +1,106 @@
+package spring.board.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import spring.board.global.cache.embedded.EmbeddedInvalidationBus;
+import spring.board.global.cache.embedded.EmbeddedRemoteCache;
+
+//원격 캐시와 무효화 메시지 전달을 공유하는 두 서버(nodeA, nodeB)
+class TwoTierCacheTest {
+	
+	EmbeddedRemoteCache remote = new EmbeddedRemoteCache(100);
+	EmbeddedInvalidationBus bus = new EmbeddedInvalidationBus();
+	
+	TwoTierCache<String> nodeA = node(remote);
+	TwoTierCache<String> nodeB = node(remote);
+	
+	private TwoTierCache<String> node(RemoteCache remoteCache) {
+		return new TwoTierCache<>("test", String.class, new ObjectMapper(), remoteCache, bus, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1), Duration.ofMinutes(10));
+	}
+	
+	@Test
+	public void 다른_서버에서_저장한_값을_원격_캐시에서_조회() throws Exception {
+		//given
+		nodeA.put("key", "value");
+		
+		//when, then
+		assertThat(nodeB.get("key")).isEqualTo("value");
+		assertThat(nodeB.get("other")).isNull();
+	}
+	
+	@Test
+	public void 다른_서버에서_제거하면_near_cache도_무효화() throws Exception {
+		//given : 두 서버 모두 near cache에 있음
+		nodeA.put("key", "value");
+		assertThat(nodeB.get("key")).isEqualTo("value");
+		
+		//when
+		nodeA.evict("key");
+		
+		//then
+		assertThat(nodeA.get("key")).isNull();
+		assertThat(nodeB.get("key")).isNull();
+	}
+	
+	@Test
+	public void 전체_제거는_모든_서버에_반영() throws Exception {
+		//given
+		nodeA.put("key1", "value1");
+		nodeA.put("key2", "value2");
+		nodeB.get("key1");
+		nodeB.get("key2");
+		
+		//when
+		nodeB.evictAll();
+		
+		//then
+		assertThat(nodeA.get("key1")).isNull();
+		assertThat(nodeB.get("key2")).isNull();
+	}
+	
+	@Test
+	public void 원격에서_읽는_중에_무효화되면_near_cache에_저장하지_않음() throws Exception {
+		//given : nodeC가 원격에서 값을 읽은 직후 nodeA가 값을 지움
+		nodeA.put("key", "old");
+		RemoteCache racingRemote = new EmbeddedRemoteCache(100) {
+			@Override
+			public byte[] get(String cacheName, String key) {
+				byte[] value = remote.get(cacheName, key);
+				nodeA.evict(key);
+				return value;
+			}
+		};
+		TwoTierCache<String> nodeC = node(racingRemote);
+		
+		//when : 읽은 값은 돌려주지만 near cache에는 남기지 않음
+		String read = nodeC.get("key");
+		
+		//then
+		assertThat(read).isEqualTo("old");
+		assertThat(nodeC.get("key")).isNull();
+	}
+	
+	@Test
+	public void 조회를_시작한_후_무효화되었으면_저장하지_않음() throws Exception {
+		//given : nodeA가 DB에서 읽기 시작한 후 nodeB에서 값이 바뀜
+		long version = nodeA.version();
+		nodeB.evict("key");
+		
+		//when
+		boolean stored = nodeA.put("key", "old", version);
+		
+		//then
+		assertThat(stored).isFalse();
+		assertThat(nodeA.get("key")).isNull();
+		assertThat(nodeB.get("key")).isNull();
+		assertThat(nodeA.put("key", "new", nodeA.version())).isTrue();
+		assertThat(nodeB.get("key")).isEqualTo("new");
+	}
+}
@@ -0,0 +1,55 @@
+package spring.board.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import javax.servlet.Filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.context.WebApplicationContext;
+
+import spring.board.global.jwt.filter.JwtAuthenticationProcessingFilter;
+import spring.board.global.login.filter.JsonUsernamePasswordAuthenticationFilter;
+
+@SpringBootTest
+class SecurityFilterChainTest {
+	
+	@Autowired FilterChainProxy filterChainProxy;
+	@Autowired WebApplicationContext context;
+	
+	@Test
+	public void 로그인없이_사용하는_경로는_인증필터를_거치지_않음() throws Exception {
+		//when
+		List<Filter> filters = filtersFor("GET", "/posts/1");
+		
+		//then
+		assertThat(filters).noneMatch(filter -> filter instanceof JwtAuthenticationProcessingFilter
+											 || filter instanceof JsonUsernamePasswordAuthenticationFilter);
+		assertThat(filters.size()).isLessThan(filtersFor("POST", "/posts").size());
+	}
+	
+	@Test
+	public void 로그인과_API는_인증필터를_거침() throws Exception {
+		for (List<Filter> filters : List.of(filtersFor("POST", "/login"), filtersFor("POST", "/posts"), filtersFor("GET", "/search/members"))) {
+			assertThat(filters).anyMatch(filter -> filter instanceof JsonUsernamePasswordAuthenticationFilter);
+			assertThat(filters).anyMatch(filter -> filter instanceof JwtAuthenticationProcessingFilter);
+		}
+	}
+	
+	//요청과 처음 일치하는 체인의 필터, 정적 자원과 actuator 경로 matcher는 ServletContext에서 ApplicationContext를 찾음
+	private List<Filter> filtersFor(String method, String uri) {
+		MockHttpServletRequest request = new MockHttpServletRequest(context.getServletContext(), method, uri);
+		request.setServletPath(uri);
+		return filterChainProxy.getFilterChains().stream()
+							   .filter(chain -> chain.matches(request))
+							   .findFirst()
+							   .map(SecurityFilterChain::getFilters)
+							   .orElseThrow();
+	}
+}
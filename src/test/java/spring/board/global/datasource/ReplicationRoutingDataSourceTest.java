@@ -0,0 +1,160 @@
+package spring.board.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+//복제 없이 메모리 DB(H2) 두 개를 primary, replica로 사용하고 heartbeat를 직접 복사해서 복제를 흉내냄
+//어느 DB에서 조회했는지는 각 DB에 다른 값을 넣은 ROUTING_MARKER 테이블로 확인함
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"datasource.replica.enabled=true",
+		"datasource.replica.urls=jdbc:h2:mem:routing-replica;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+		"datasource.replica.max-lag=2s",
+		"datasource.replica.lag-check-interval=3600000"})	//테스트에서 직접 check()를 호출함
+class ReplicationRoutingDataSourceTest {
+	
+	private static final String MARKER_SQL = "select name from ROUTING_MARKER";
+	private static final String HEARTBEAT_SQL = "select beat from REPLICATION_HEARTBEAT where id = 1";
+	
+	@Autowired ReplicationRoutingDataSource routingDataSource;
+	@Autowired ReplicaLagMonitor replicaLagMonitor;
+	@Autowired PlatformTransactionManager transactionManager;
+	@Autowired JdbcTemplate jdbcTemplate;
+	@Autowired MeterRegistry meterRegistry;
+	@Autowired EntityManager em;
+	
+	private JdbcTemplate primary;
+	private JdbcTemplate replica;
+	
+	@BeforeEach
+	private void init() {
+		primary = new JdbcTemplate(routingDataSource.getPrimary());
+		replica = new JdbcTemplate(routingDataSource.getReplicas().get(0).getDataSource());
+		
+		for (JdbcTemplate db : new JdbcTemplate[] {primary, replica}) {
+			db.execute("create table if not exists ROUTING_MARKER (name varchar(20))");
+			db.update("delete from ROUTING_MARKER");
+		}
+		primary.update("insert into ROUTING_MARKER values ('primary')");
+		replica.update("insert into ROUTING_MARKER values ('replica')");
+		replica.execute("create table if not exists REPLICATION_HEARTBEAT (id int not null primary key, beat bigint not null)");
+	}
+	
+	@Test
+	public void 읽기전용_트랜잭션만_replica에서_조회() throws Exception {
+		//given
+		replicateHeartbeat();
+		
+		//when
+		String readOnly = query(true);
+		String readWrite = query(false);
+		String noTransaction = jdbcTemplate.queryForObject(MARKER_SQL, String.class);
+		
+		//then
+		assertThat(routingDataSource.getReplicas().get(0).isAvailable()).isTrue();
+		assertThat(readOnly).isEqualTo("replica");
+		assertThat(readWrite).isEqualTo("primary");
+		assertThat(noTransaction).isEqualTo("primary");
+		assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "replica-1").gauge()).isNotNull();
+	}
+	
+	@Test
+	public void 복제가_지연되면_primary에서_조회() throws Exception {
+		//given
+		replicateHeartbeat();
+		long beat = replica.queryForObject(HEARTBEAT_SQL, Long.class);
+		
+		//when : replica가 10초 전의 heartbeat에 멈춰 있음
+		replica.update("update REPLICATION_HEARTBEAT set beat = ? where id = 1", beat - 10_000);
+		replicaLagMonitor.check();
+		
+		//then
+		assertThat(routingDataSource.getReplicas().get(0).isAvailable()).isFalse();
+		assertThat(query(true)).isEqualTo("primary");
+		assertThat(meterRegistry.get("datasource.replica.lag").tag("replica", "replica-1").gauge().value()).isGreaterThanOrEqualTo(10_000);
+	}
+	
+	@Test
+	public void 복제를_따라잡으면_다시_replica에서_조회() throws Exception {
+		//given
+		replica.update("delete from REPLICATION_HEARTBEAT");
+		replicaLagMonitor.check();
+		assertThat(query(true)).isEqualTo("primary");
+		
+		//when
+		replicateHeartbeat();
+		
+		//then
+		assertThat(query(true)).isEqualTo("replica");
+	}
+	
+	@Test
+	public void readFromPrimary는_읽기전용_트랜잭션도_primary에서_조회() throws Exception {
+		//given
+		replicateHeartbeat();
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		
+		//when
+		String name = transactionTemplate.execute(status -> ReplicationRoutingDataSource.readFromPrimary(
+				() -> jdbcTemplate.queryForObject(MARKER_SQL, String.class)));
+		CacheMode cacheMode = transactionTemplate.execute(status -> ReplicationRoutingDataSource.readFromPrimary(() -> {
+			jdbcTemplate.queryForObject(MARKER_SQL, String.class);
+			return em.unwrap(Session.class).getCacheMode();
+		}));
+		
+		//then
+		assertThat(name).isEqualTo("primary");
+		assertThat(cacheMode).isEqualTo(CacheMode.NORMAL);
+	}
+	
+	@Test
+	public void replica에서_읽은_값은_2차_캐시에_저장하지_않음() throws Exception {
+		//given
+		replicateHeartbeat();
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		
+		//when
+		CacheMode cacheMode = transactionTemplate.execute(status -> {
+			jdbcTemplate.queryForObject(MARKER_SQL, String.class);
+			return em.unwrap(Session.class).getCacheMode();
+		});
+		
+		//then
+		assertThat(cacheMode).isEqualTo(CacheMode.GET);
+	}
+	
+	//primary에 기록된 heartbeat를 replica로 복사하고 다시 지연을 측정함
+	private void replicateHeartbeat() {
+		replicaLagMonitor.check();
+		long beat = primary.queryForObject(HEARTBEAT_SQL, Long.class);
+		replica.update("delete from REPLICATION_HEARTBEAT");
+		replica.update("insert into REPLICATION_HEARTBEAT (id, beat) values (1, ?)", beat);
+		replicaLagMonitor.check();
+	}
+	
+	//JPA 트랜잭션 안에서 조회, 트랜잭션이 시작된 후 첫 쿼리에서 DB가 정해짐
+	private String query(boolean readOnly) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(readOnly);
+		return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(MARKER_SQL, String.class));
+	}
+}
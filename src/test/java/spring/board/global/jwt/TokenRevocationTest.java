@@ -0,0 +1,308 @@
+package spring.board.global.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.cache.MemberUserDetailsCache;
+import spring.board.domain.member.repository.MemberRepository;
+import spring.board.global.cache.InvalidationBus;
+import spring.board.global.cache.embedded.EmbeddedInvalidationBus;
+import spring.board.global.jwt.revocation.repository.RevokedTokenRepository;
+import spring.board.global.jwt.revocation.repository.TokenWatermarkRepository;
+import spring.board.global.jwt.service.JwtService;
+import spring.board.global.jwt.service.TokenRevocationService;
+
+//무효화가 커밋된 후에 메모리에 반영되는지 확인하기 위해 테스트 트랜잭션을 사용하지 않음
+@SpringBootTest(properties = {"password.bcrypt.strength=4", "login.rate-limit.enabled=false"})
+@AutoConfigureMockMvc
+class TokenRevocationTest {
+	
+	private static final String USERNAME = "revocationUser";
+	private static final String PASSWORD = "revocationPassword123";
+	private static final String NEW_PASSWORD = "newRevocationPassword123";
+	private static final String ACCESS_HEADER = "Authorization";
+	private static final String REFRESH_HEADER = "Authorization-refresh";
+	
+	@Autowired MockMvc mockMvc;
+	@Autowired MemberRepository memberRepository;
+	@Autowired MemberUserDetailsCache memberUserDetailsCache;
+	@Autowired PasswordEncoder passwordEncoder;
+	@Autowired JdbcTemplate jdbcTemplate;
+	@Autowired JwtService jwtService;
+	@Autowired TokenRevocationService tokenRevocationService;
+	@Autowired RevokedTokenRepository revokedTokenRepository;
+	@Autowired TokenWatermarkRepository tokenWatermarkRepository;
+	@Autowired InvalidationBus invalidationBus;
+	@Autowired EntityManagerFactory emf;
+	
+	@BeforeEach
+	private void init() {
+		memberRepository.save(Member.builder()
+									.username(USERNAME)
+									.password(passwordEncoder.encode(PASSWORD))
+									.name("Member1")
+									.nickName("NickName1")
+									.role(Role.USER)
+									.age(22)
+									.build());
+	}
+	
+	@AfterEach
+	private void after() {
+		jdbcTemplate.update("delete from REVOKED_TOKEN");
+		jdbcTemplate.update("delete from TOKEN_WATERMARK");
+		jdbcTemplate.update("delete from MEMBER where username = ?", USERNAME);
+		emf.getCache().unwrap(Cache.class).evictAllRegions();
+		memberUserDetailsCache.evict(USERNAME);	//JDBC로 지웠으므로 로그인 캐시를 직접 비움
+	}
+	
+	//[access token, refresh token], "Bearer " 포함
+	private String[] login(String password) throws Exception {
+		MvcResult result = mockMvc.perform(MockMvcRequestBuilders.post("/login")
+																 .contentType(MediaType.APPLICATION_JSON)
+																 .content("{\"username\":\"" + USERNAME + "\",\"password\":\"" + password + "\"}"))
+								  .andExpect(status().isOk())
+								  .andReturn();
+		return new String[] {result.getResponse().getHeader(ACCESS_HEADER), result.getResponse().getHeader(REFRESH_HEADER)};
+	}
+	
+	//인증은 통과하고 없는 URL이므로 404, 인증되지 않으면 403
+	private int authenticate(String accessToken) throws Exception {
+		return mockMvc.perform(MockMvcRequestBuilders.get("/jwt-test").header(ACCESS_HEADER, accessToken))
+					  .andReturn().getResponse().getStatus();
+	}
+	
+	private MemberPrincipal principal(String accessToken) {
+		return jwtService.verifyAccessToken(accessToken.substring("Bearer ".length())).orElseThrow();
+	}
+	
+	@Test
+	public void 로그아웃하면_토큰을_사용할_수_없음() throws Exception {
+		//given
+		String[] tokens = login(PASSWORD);
+		assertThat(authenticate(tokens[0])).isEqualTo(404);
+		
+		//when
+		mockMvc.perform(MockMvcRequestBuilders.post("/logout").header(ACCESS_HEADER, tokens[0]).header(REFRESH_HEADER, tokens[1]))
+			   .andExpect(status().isOk());
+		
+		//then
+		assertThat(authenticate(tokens[0])).isEqualTo(403);
+		mockMvc.perform(MockMvcRequestBuilders.post("/token/refresh").header(REFRESH_HEADER, tokens[1]))
+			   .andExpect(status().isUnauthorized());
+		assertThat(revokedTokenRepository.count()).isEqualTo(2);
+	}
+	
+	@Test
+	public void 로그아웃한_토큰만_무효화() throws Exception {
+		//given
+		String[] first = login(PASSWORD);
+		String[] second = login(PASSWORD);
+		
+		//when
+		mockMvc.perform(MockMvcRequestBuilders.post("/logout").header(ACCESS_HEADER, first[0]))
+			   .andExpect(status().isOk());
+		
+		//then
+		assertThat(authenticate(first[0])).isEqualTo(403);
+		assertThat(authenticate(second[0])).isEqualTo(404);
+	}
+	
+	@Test
+	public void 재발급에_사용한_RefreshToken은_다시_사용할_수_없음() throws Exception {
+		//given
+		String[] tokens = login(PASSWORD);
+		mockMvc.perform(MockMvcRequestBuilders.post("/token/refresh").header(REFRESH_HEADER, tokens[1]))
+			   .andExpect(status().isOk());
+		
+		//when, then
+		mockMvc.perform(MockMvcRequestBuilders.post("/token/refresh").header(REFRESH_HEADER, tokens[1]))
+			   .andExpect(status().isUnauthorized());
+	}
+	
+	@Test
+	public void 같은_RefreshToken으로_동시에_재발급하면_하나만_성공() throws Exception {
+		//given
+		String[] tokens = login(PASSWORD);
+		MemberPrincipal refreshToken = jwtService.verifyRefreshToken(tokens[1].substring("Bearer ".length())).orElseThrow();
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+		
+		//when
+		for (int i = 0; i < threads; i++) {
+			results.add(executor.submit(() -> {
+				start.await();
+				return tokenRevocationService.revokeOnce(refreshToken);
+			}));
+		}
+		start.countDown();
+		int succeeded = 0;
+		for (Future<Boolean> result : results) {
+			if (result.get()) {
+				succeeded++;
+			}
+		}
+		executor.shutdown();
+		
+		//then
+		assertThat(succeeded).isEqualTo(1);
+		assertThat(tokenRevocationService.isRevoked(refreshToken)).isTrue();
+		assertThat(revokedTokenRepository.count()).isEqualTo(1);
+	}
+	
+	@Test
+	public void 재발급은_POST_요청만_처리() throws Exception {
+		//given
+		String[] tokens = login(PASSWORD);
+		
+		//when : access token이 없으므로 인증되지 않음
+		MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/token/refresh").header(REFRESH_HEADER, tokens[1]))
+								  .andExpect(status().isForbidden())
+								  .andReturn();
+		
+		//then : 토큰을 발급하지 않고, refresh token도 무효화하지 않음
+		assertThat(result.getResponse().getHeader(ACCESS_HEADER)).isNull();
+		mockMvc.perform(MockMvcRequestBuilders.post("/token/refresh").header(REFRESH_HEADER, tokens[1]))
+			   .andExpect(status().isOk());
+	}
+	
+	@Test
+	public void 비밀번호를_변경하면_이전_토큰을_사용할_수_없음() throws Exception {
+		//given
+		String[] tokens = login(PASSWORD);
+		
+		//when
+		mockMvc.perform(MockMvcRequestBuilders.put("/members/me/password")
+											  .header(ACCESS_HEADER, tokens[0])
+											  .contentType(MediaType.APPLICATION_JSON)
+											  .content("{\"currentPassword\":\"" + PASSWORD + "\",\"newPassword\":\"" + NEW_PASSWORD + "\"}"))
+			   .andExpect(status().isNoContent());
+		
+		//then
+		assertThat(authenticate(tokens[0])).isEqualTo(403);
+		assertThat(authenticate(login(NEW_PASSWORD)[0])).isEqualTo(404);
+		assertThat(tokenWatermarkRepository.findById(principal(tokens[0]).getMemberId())).isPresent();
+	}
+	
+	@Test
+	public void 현재_비밀번호가_틀리면_변경하지_않음() throws Exception {
+		//given
+		String[] tokens = login(PASSWORD);
+		
+		//when
+		mockMvc.perform(MockMvcRequestBuilders.put("/members/me/password")
+											  .header(ACCESS_HEADER, tokens[0])
+											  .contentType(MediaType.APPLICATION_JSON)
+											  .content("{\"currentPassword\":\"wrongPassword\",\"newPassword\":\"" + NEW_PASSWORD + "\"}"))
+			   .andExpect(status().isBadRequest());
+		
+		//then
+		assertThat(authenticate(tokens[0])).isEqualTo(404);
+		assertThat(tokenWatermarkRepository.count()).isZero();
+	}
+	
+	@Test
+	public void watermark_이전에_발급된_토큰은_무효() throws Exception {
+		//given
+		MemberPrincipal token = principal(login(PASSWORD)[0]);
+		long now = token.getIssuedAt();
+		MemberPrincipal before = new MemberPrincipal(token.getMemberId(), USERNAME, Role.USER, "before", now - 10, now + 600);
+		MemberPrincipal after = new MemberPrincipal(token.getMemberId(), USERNAME, Role.USER, "after", now + 10, now + 600);
+		
+		//when
+		tokenRevocationService.revokeAll(token.getMemberId());
+		
+		//then
+		assertThat(tokenRevocationService.isRevoked(before)).isTrue();
+		assertThat(tokenRevocationService.isRevoked(after)).isFalse();
+	}
+	
+	@Test
+	public void 서버를_다시_시작하면_DB에서_복구() throws Exception {
+		//given
+		String[] tokens = login(PASSWORD);
+		MemberPrincipal loggedOut = principal(tokens[0]);
+		MemberPrincipal beforeWatermark = new MemberPrincipal(loggedOut.getMemberId(), USERNAME, Role.USER, "old",
+															  loggedOut.getIssuedAt() - 10, loggedOut.getExpiresAt());
+		mockMvc.perform(MockMvcRequestBuilders.post("/logout").header(ACCESS_HEADER, tokens[0]))
+			   .andExpect(status().isOk());
+		tokenRevocationService.revokeAll(loggedOut.getMemberId());
+		
+		//when : 메모리가 비어 있는 새 인스턴스
+		TokenRevocationService restarted = new TokenRevocationService(revokedTokenRepository, tokenWatermarkRepository, new EmbeddedInvalidationBus(),
+																	  new SimpleMeterRegistry(), Duration.ofDays(14), Duration.ofMinutes(10), 16);
+		restarted.load();
+		
+		//then
+		assertThat(restarted.isRevoked(loggedOut)).isTrue();
+		assertThat(restarted.isRevoked(beforeWatermark)).isTrue();
+		assertThat(restarted.isRevoked(principal(login(PASSWORD)[0]))).isFalse();
+	}
+	
+	@Test
+	public void 다른_서버에서_무효화한_토큰도_사용할_수_없음() throws Exception {
+		//given : 같은 InvalidationBus를 사용하는 다른 서버
+		TokenRevocationService otherNode = new TokenRevocationService(revokedTokenRepository, tokenWatermarkRepository, invalidationBus,
+																	  new SimpleMeterRegistry(), Duration.ofDays(14), Duration.ofMinutes(10), 16);
+		String[] tokens = login(PASSWORD);
+		MemberPrincipal loggedOut = principal(tokens[0]);
+		MemberPrincipal beforeWatermark = new MemberPrincipal(loggedOut.getMemberId(), USERNAME, Role.USER, "old",
+															  loggedOut.getIssuedAt() - 10, loggedOut.getExpiresAt());
+		
+		//when
+		mockMvc.perform(MockMvcRequestBuilders.post("/logout").header(ACCESS_HEADER, tokens[0]))
+			   .andExpect(status().isOk());
+		tokenRevocationService.revokeAll(loggedOut.getMemberId());
+		
+		//then
+		assertThat(otherNode.isRevoked(loggedOut)).isTrue();
+		assertThat(otherNode.isRevoked(beforeWatermark)).isTrue();
+		assertThat(otherNode.isRevoked(principal(login(PASSWORD)[0]))).isFalse();
+	}
+	
+	@Test
+	public void 무효화_메시지를_놓쳐도_DB를_다시_읽으면_반영() throws Exception {
+		//given : 다른 서버가 저장했지만 메시지를 받지 못함
+		MemberPrincipal token = principal(login(PASSWORD)[0]);
+		jdbcTemplate.update("insert into REVOKED_TOKEN (token_id, member_id, expires_at) values (?, ?, ?)",
+							token.getTokenId(), token.getMemberId(), Timestamp.from(Instant.ofEpochSecond(token.getExpiresAt())));
+		assertThat(tokenRevocationService.isRevoked(token)).isFalse();
+		
+		//when
+		tokenRevocationService.refresh();
+		
+		//then
+		assertThat(tokenRevocationService.isRevoked(token)).isTrue();
+	}
+}
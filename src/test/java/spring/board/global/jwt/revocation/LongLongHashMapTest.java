@@ -0,0 +1,79 @@
+package spring.board.global.jwt.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LongLongHashMapTest {
+	
+	@Test
+	public void 저장후_조회() throws Exception {
+		//given
+		LongLongHashMap map = new LongLongHashMap(4);
+		
+		//when
+		map.putIfGreater(1L, 100L);
+		map.putIfGreater(0L, 7L);
+		map.putIfGreater(-5L, 9L);
+		
+		//then
+		assertThat(map.get(1L, -1L)).isEqualTo(100L);
+		assertThat(map.get(0L, -1L)).isEqualTo(7L);
+		assertThat(map.get(-5L, -1L)).isEqualTo(9L);
+		assertThat(map.get(2L, -1L)).isEqualTo(-1L);
+		assertThat(map.size()).isEqualTo(3);
+	}
+	
+	@Test
+	public void 더_큰_값만_저장() throws Exception {
+		//given
+		LongLongHashMap map = new LongLongHashMap(4);
+		map.putIfGreater(1L, 100L);
+		
+		//when
+		map.putIfGreater(1L, 50L);
+		map.putIfGreater(1L, 200L);
+		map.putIfGreater(1L, 150L);
+		
+		//then
+		assertThat(map.get(1L, -1L)).isEqualTo(200L);
+		assertThat(map.size()).isEqualTo(1);
+	}
+	
+	@Test
+	public void 예상보다_많이_저장하면_표를_늘림() throws Exception {
+		//given
+		LongLongHashMap map = new LongLongHashMap(4);
+		
+		//when
+		for (long key = 1; key <= 10_000; key++) {
+			map.putIfGreater(key, key * 10);
+		}
+		
+		//then
+		assertThat(map.size()).isEqualTo(10_000);
+		for (long key = 1; key <= 10_000; key++) {
+			assertThat(map.get(key, -1L)).isEqualTo(key * 10);
+		}
+	}
+	
+	@Test
+	public void 기준보다_작은_값을_삭제() throws Exception {
+		//given
+		LongLongHashMap map = new LongLongHashMap(16);
+		for (long key = 0; key < 100; key++) {
+			map.putIfGreater(key, key);
+		}
+		
+		//when
+		int removed = map.removeValuesBelow(50L);
+		
+		//then
+		assertThat(removed).isEqualTo(50);
+		assertThat(map.size()).isEqualTo(50);
+		assertThat(map.get(0L, -1L)).isEqualTo(-1L);
+		assertThat(map.get(49L, -1L)).isEqualTo(-1L);
+		assertThat(map.get(50L, -1L)).isEqualTo(50L);
+		assertThat(map.get(99L, -1L)).isEqualTo(99L);
+	}
+}
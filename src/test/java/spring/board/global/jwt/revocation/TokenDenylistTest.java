@@ -0,0 +1,42 @@
+package spring.board.global.jwt.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class TokenDenylistTest {
+	
+	TokenDenylist denylist = new TokenDenylist(Duration.ofSeconds(60));
+	
+	@Test
+	public void 무효화한_토큰만_포함() throws Exception {
+		//given
+		denylist.add("token-1", 1_000L);
+		
+		//when, then
+		assertThat(denylist.contains("token-1", 1_000L)).isTrue();
+		assertThat(denylist.contains("token-2", 1_000L)).isFalse();
+		assertThat(denylist.size()).isEqualTo(1);
+	}
+	
+	@Test
+	public void 만료된_구간만_삭제() throws Exception {
+		//given : 구간 [960, 1020), [1020, 1080)
+		denylist.add("token-1", 1_000L);
+		denylist.add("token-2", 1_010L);
+		denylist.add("token-3", 1_030L);
+		
+		//when : 1020초에는 첫 번째 구간의 토큰이 모두 만료됨
+		int notYet = denylist.expire(1_019L);
+		int removed = denylist.expire(1_020L);
+		
+		//then
+		assertThat(notYet).isZero();
+		assertThat(removed).isEqualTo(2);
+		assertThat(denylist.contains("token-1", 1_000L)).isFalse();
+		assertThat(denylist.contains("token-3", 1_030L)).isTrue();
+		assertThat(denylist.size()).isEqualTo(1);
+	}
+}
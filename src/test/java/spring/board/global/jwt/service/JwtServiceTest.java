@@ -0,0 +1,67 @@
+package spring.board.global.jwt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import spring.board.domain.member.Role;
+import spring.board.global.jwt.MemberPrincipal;
+
+class JwtServiceTest {
+
+	private static String SECRET = "jwt-service-test-secret-key-jwt-service-test-secret-key-0123456789";
+	
+	JwtService jwtService = createJwtService(SECRET, Duration.ofMinutes(30));
+	
+	private JwtService createJwtService(String secret, Duration accessExpiration) {
+		return new JwtService(new ObjectMapper(), secret, "Authorization", accessExpiration, "Authorization-refresh", Duration.ofDays(14));
+	}
+
+	@Test
+	public void AccessToken_발급후_검증() throws Exception {
+		//given
+		String accessToken = jwtService.createAccessToken(1L, "username", Role.ADMIN);
+
+		//when
+		MemberPrincipal principal = jwtService.verifyAccessToken(accessToken).orElseThrow();
+
+		//then
+		assertThat(principal.getMemberId()).isEqualTo(1L);
+		assertThat(principal.getUsername()).isEqualTo("username");
+		assertThat(principal.getRole()).isEqualTo(Role.ADMIN);
+	}
+	
+	@Test
+	public void 다른_키로_서명된_토큰은_실패() throws Exception {
+		//given
+		String accessToken = createJwtService(SECRET + "other", Duration.ofMinutes(30)).createAccessToken(1L, "username", Role.USER);
+
+		//when, then
+		assertThat(jwtService.verifyAccessToken(accessToken)).isEmpty();
+	}
+	
+	@Test
+	public void 만료된_토큰은_실패() throws Exception {
+		//given
+		String accessToken = createJwtService(SECRET, Duration.ofMinutes(-1)).createAccessToken(1L, "username", Role.USER);
+
+		//when, then
+		assertThat(jwtService.verifyAccessToken(accessToken)).isEmpty();
+	}
+	
+	@Test
+	public void 토큰_종류가_다르면_실패() throws Exception {
+		//given
+		String refreshToken = jwtService.createRefreshToken(1L, "username", Role.USER);
+		String accessToken = jwtService.createAccessToken(1L, "username", Role.USER);
+
+		//when, then
+		assertThat(jwtService.verifyAccessToken(refreshToken)).isEmpty();
+		assertThat(jwtService.verifyRefreshToken(accessToken)).isEmpty();
+		assertThat(jwtService.verifyRefreshToken(refreshToken)).isPresent();
+	}
+}
@@ -28,12 +28,13 @@ import spring.board.domain.member.Member;
 import spring.board.domain.member.Role;
 import spring.board.domain.member.repository.MemberRepository;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.http.MediaType.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Transactional
-@SpringBootTest
+@SpringBootTest(properties = "login.rate-limit.enabled=false") //시도 횟수 제한은 LoginRateLimitTest에서 확인
 @AutoConfigureMockMvc
 public class LoginTest {
 
@@ -55,6 +56,8 @@ public class LoginTest {
     private static String USERNAME = "username";
     private static String PASSWORD = "123456789";
     private static String LOGIN_URL = "/login";
+    private static String ACCESS_HEADER = "Authorization";
+    private static String REFRESH_HEADER = "Authorization-refresh";
 
     private void clear(){
         em.flush();
@@ -102,6 +105,122 @@ public class LoginTest {
                 .andReturn();
     }
     
+    @Test
+    public void 로그인_성공시_JWT_발급() throws Exception {
+        //given
+        Map<String, String> map = getUsernamePasswordMap(USERNAME, PASSWORD);
+
+        //when
+        MvcResult result = perform(LOGIN_URL, APPLICATION_JSON, map)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //then
+        assertThat(result.getResponse().getHeader(ACCESS_HEADER)).startsWith("Bearer ");
+        assertThat(result.getResponse().getHeader(REFRESH_HEADER)).startsWith("Bearer ");
+    }
+    
+    @Test
+    public void 발급받은_AccessToken으로_인증() throws Exception {
+        //given
+        Map<String, String> map = getUsernamePasswordMap(USERNAME, PASSWORD);
+        String accessToken = perform(LOGIN_URL, APPLICATION_JSON, map)
+                .andReturn().getResponse().getHeader(ACCESS_HEADER);
+
+        //when, then 인증은 통과하고 없는 URL이므로 404
+        mockMvc.perform(MockMvcRequestBuilders.get("/jwt-test").header(ACCESS_HEADER, accessToken))
+                .andExpect(status().isNotFound());
+    }
+    
+    @Test
+    public void AccessToken_없으면_FORBIDDEN() throws Exception {
+        //when, then
+        mockMvc.perform(MockMvcRequestBuilders.get("/jwt-test"))
+                .andExpect(status().isForbidden());
+    }
+    
+    @Test
+    public void RefreshToken으로는_인증되지_않음() throws Exception {
+        //given
+        Map<String, String> map = getUsernamePasswordMap(USERNAME, PASSWORD);
+        String refreshToken = perform(LOGIN_URL, APPLICATION_JSON, map)
+                .andReturn().getResponse().getHeader(REFRESH_HEADER);
+
+        //when, then
+        mockMvc.perform(MockMvcRequestBuilders.get("/jwt-test").header(ACCESS_HEADER, refreshToken))
+                .andExpect(status().isForbidden());
+    }
+    
+    @Test
+    public void RefreshToken으로_토큰_재발급() throws Exception {
+        //given
+        Map<String, String> map = getUsernamePasswordMap(USERNAME, PASSWORD);
+        String refreshToken = perform(LOGIN_URL, APPLICATION_JSON, map)
+                .andReturn().getResponse().getHeader(REFRESH_HEADER);
+
+        //when
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.post("/token/refresh").header(REFRESH_HEADER, refreshToken))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //then
+        assertThat(result.getResponse().getHeader(ACCESS_HEADER)).startsWith("Bearer ");
+    }
+    
+    @Test
+    public void 로그인_ContentType에_charset이_있어도_성공() throws Exception {
+        //given
+        Map<String, String> map = getUsernamePasswordMap(USERNAME, PASSWORD);
+
+        //when
+        MvcResult result = perform(LOGIN_URL, MediaType.valueOf("application/json;charset=UTF-8"), map)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //then
+        assertThat(result.getResponse().getHeader(ACCESS_HEADER)).startsWith("Bearer ");
+    }
+    
+    @Test
+    public void 로그인_필요없는_필드는_무시() throws Exception {
+        //given
+        String body = "{\"extra\":{\"nested\":[1,2,3]},\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}";
+
+        //when
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.post(LOGIN_URL).contentType(APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //then
+        assertThat(result.getResponse().getHeader(ACCESS_HEADER)).startsWith("Bearer ");
+    }
+    
+    @Test
+    public void 로그인_body가_너무_크면_실패() throws Exception {
+        //given
+        Map<String, String> map = getUsernamePasswordMap(USERNAME, PASSWORD);
+        map.put("padding", "x".repeat(10 * 1024));
+
+        //when
+        MvcResult result = perform(LOGIN_URL, APPLICATION_JSON, map)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //then
+        assertThat(result.getResponse().getContentAsString()).isEqualTo("fail");
+    }
+    
+    @Test
+    public void 로그인_JSON형식이_아니면_실패() throws Exception {
+        //when
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.post(LOGIN_URL).contentType(APPLICATION_JSON).content("username=username"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //then
+        assertThat(result.getResponse().getContentAsString()).isEqualTo("fail");
+    }
+    
     @Test
     public void 로그인_실패_아이디불일치() throws Exception {
         //given
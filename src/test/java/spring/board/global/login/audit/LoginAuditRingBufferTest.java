@@ -0,0 +1,97 @@
+package spring.board.global.login.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class LoginAuditRingBufferTest {
+	
+	@Test
+	public void 크기는_2의_거듭제곱으로_올림() throws Exception {
+		assertThat(new LoginAuditRingBuffer<Integer>(1).capacity()).isEqualTo(1);
+		assertThat(new LoginAuditRingBuffer<Integer>(5).capacity()).isEqualTo(8);
+		assertThat(new LoginAuditRingBuffer<Integer>(8).capacity()).isEqualTo(8);
+	}
+	
+	@Test
+	public void 가득_차면_기다리지_않고_false() throws Exception {
+		//given
+		LoginAuditRingBuffer<Integer> buffer = new LoginAuditRingBuffer<>(4);
+		for (int i = 0; i < 4; i++) {
+			assertThat(buffer.offer(i)).isTrue();
+		}
+
+		//when, then
+		assertThat(buffer.offer(4)).isFalse();
+		assertThat(buffer.size()).isEqualTo(4);
+	}
+	
+	@Test
+	public void 넣은_순서대로_꺼내고_꺼낸_자리는_다시_사용() throws Exception {
+		//given
+		LoginAuditRingBuffer<Integer> buffer = new LoginAuditRingBuffer<>(4);
+		List<Integer> drained = new ArrayList<>();
+
+		//when : 여러 바퀴를 돌면서 넣고 꺼냄
+		for (int i = 0; i < 10; i++) {
+			buffer.offer(i * 2);
+			buffer.offer(i * 2 + 1);
+			buffer.drainTo(drained, 3);
+		}
+		buffer.drainTo(drained, Integer.MAX_VALUE);
+
+		//then
+		assertThat(drained).hasSize(20);
+		for (int i = 0; i < 20; i++) {
+			assertThat(drained.get(i)).isEqualTo(i);
+		}
+		assertThat(buffer.size()).isZero();
+	}
+	
+	@Test
+	public void 여러_스레드가_넣어도_빠지거나_중복되지_않음() throws Exception {
+		//given
+		int producers = 4;
+		int perProducer = 50_000;
+		LoginAuditRingBuffer<Integer> buffer = new LoginAuditRingBuffer<>(1024);
+		ExecutorService executor = Executors.newFixedThreadPool(producers);
+		CountDownLatch done = new CountDownLatch(producers);
+
+		//when : 가득 차면 소비자가 꺼낼 때까지 다시 시도함
+		for (int p = 0; p < producers; p++) {
+			int base = p * perProducer;
+			executor.submit(() -> {
+				for (int i = 0; i < perProducer; i++) {
+					while (!buffer.offer(base + i)) {
+						Thread.onSpinWait();
+					}
+				}
+				done.countDown();
+			});
+		}
+		Set<Integer> drained = new HashSet<>();
+		List<Integer> batch = new ArrayList<>();
+		while (drained.size() < producers * perProducer) {
+			batch.clear();
+			buffer.drainTo(batch, 256);
+			for (Integer value : batch) {
+				assertThat(drained.add(value)).isTrue();
+			}
+		}
+		executor.shutdown();
+
+		//then
+		assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(drained).hasSize(producers * perProducer);
+		assertThat(buffer.size()).isZero();
+	}
+}
@@ -0,0 +1,136 @@
+package spring.board.global.login.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.repository.MemberRepository;
+
+//감사 기록은 다른 스레드에서 저장되므로 트랜잭션 없이 테스트하고, 저장될 때까지 기다림
+@SpringBootTest(properties = {"password.bcrypt.strength=4", "login.rate-limit.enabled=false", "login.audit.flush-interval=20ms"})
+@AutoConfigureMockMvc
+class LoginAuditorTest {
+	
+	private static final String USERNAME = "auditUser";
+	private static final String PASSWORD = "auditPassword123";
+	private static final String USER_AGENT = "audit-test-agent";
+	
+	@Autowired MockMvc mockMvc;
+	@Autowired MemberRepository memberRepository;
+	@Autowired PasswordEncoder passwordEncoder;
+	@Autowired JdbcTemplate jdbcTemplate;
+	@Autowired EntityManagerFactory emf;
+	
+	@BeforeEach
+	private void init() {
+		memberRepository.save(Member.builder()
+									.username(USERNAME)
+									.password(passwordEncoder.encode(PASSWORD))
+									.name("Member1")
+									.nickName("NickName1")
+									.role(Role.USER)
+									.age(22)
+									.build());
+	}
+	
+	@AfterEach
+	private void after() {
+		jdbcTemplate.update("delete from MEMBER where username = ?", USERNAME);
+		jdbcTemplate.update("delete from LOGIN_AUDIT where username like 'audit%'");
+		emf.getCache().unwrap(Cache.class).evictAllRegions();
+	}
+	
+	private void login(String username, String password) throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.post("/login")
+											  .header(HttpHeaders.USER_AGENT, USER_AGENT)
+											  .contentType(MediaType.APPLICATION_JSON)
+											  .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"));
+	}
+	
+	private List<Map<String, Object>> awaitAudits(String username, int count) throws InterruptedException {
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		List<Map<String, Object>> audits;
+		do {
+			Thread.sleep(20);
+			audits = jdbcTemplate.queryForList("select * from LOGIN_AUDIT where username = ? order by login_audit_id", username);
+		} while (audits.size() < count && System.nanoTime() < deadline);
+		return audits;
+	}
+	
+	@Test
+	public void 로그인_성공과_실패를_저장() throws Exception {
+		//when
+		login(USERNAME, PASSWORD);
+		login(USERNAME, "wrongPassword");
+		login("auditUnknown", PASSWORD);
+
+		//then
+		List<Map<String, Object>> audits = awaitAudits(USERNAME, 2);
+		assertThat(audits).extracting(audit -> audit.get("OUTCOME")).containsExactly("SUCCESS", "BAD_CREDENTIALS");
+		assertThat(audits).allSatisfy(audit -> {
+			assertThat(audit.get("IP")).isEqualTo("127.0.0.1");
+			assertThat(audit.get("USER_AGENT")).isEqualTo(USER_AGENT);
+			assertThat(audit.get("OCCURRED_AT")).isNotNull();
+			assertThat(((Number) audit.get("LATENCY_MILLIS")).longValue()).isNotNegative();
+		});
+		assertThat(awaitAudits("auditUnknown", 1)).extracting(audit -> audit.get("OUTCOME")).containsExactly("BAD_CREDENTIALS");
+	}
+	
+	@Test
+	public void JSON이_아니면_INVALID_REQUEST() throws Exception {
+		//when
+		mockMvc.perform(MockMvcRequestBuilders.post("/login")
+											  .header(HttpHeaders.USER_AGENT, "audit-invalid")
+											  .contentType(MediaType.TEXT_PLAIN)
+											  .content("username"));
+
+		//then
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		List<String> outcomes;
+		do {
+			Thread.sleep(20);
+			outcomes = jdbcTemplate.queryForList("select outcome from LOGIN_AUDIT where user_agent = 'audit-invalid'", String.class);
+		} while (outcomes.isEmpty() && System.nanoTime() < deadline);
+		jdbcTemplate.update("delete from LOGIN_AUDIT where user_agent = 'audit-invalid'");
+		assertThat(outcomes).containsExactly("INVALID_REQUEST");
+	}
+	
+	@Test
+	public void 큐가_가득_차면_버리고_개수를_기록() throws Exception {
+		//given : writer를 시작하지 않아서 큐가 비워지지 않음
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		LoginAuditor loginAuditor = new LoginAuditor(jdbcTemplate, meterRegistry, 4, 500, Duration.ofMillis(200), 3);
+
+		//when
+		for (int i = 0; i < 10; i++) {
+			loginAuditor.record(new LoginAuditEvent("audit" + i, "127.0.0.1", null, LoginOutcome.SUCCESS, 0, LocalDateTime.now()));
+		}
+
+		//then
+		assertThat(meterRegistry.counter("login.audit.dropped", "reason", "queue-full").count()).isEqualTo(6);
+		assertThat(meterRegistry.get("login.audit.queue.size").gauge().value()).isEqualTo(4);
+	}
+}
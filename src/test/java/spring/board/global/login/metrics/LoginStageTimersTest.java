@@ -0,0 +1,117 @@
+package spring.board.global.login.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.repository.MemberRepository;
+
+@SpringBootTest(properties = {"password.bcrypt.strength=4", "login.rate-limit.enabled=false"})
+@AutoConfigureMockMvc
+class LoginStageTimersTest {
+	
+	private static final String USERNAME = "stageTimerUser";
+	private static final String PASSWORD = "stageTimerPassword123";
+	
+	@Autowired MockMvc mockMvc;
+	@Autowired MeterRegistry meterRegistry;
+	@Autowired LoginStageTimersEndpoint loginStageTimersEndpoint;
+	@Autowired MemberRepository memberRepository;
+	@Autowired PasswordEncoder passwordEncoder;
+	@Autowired JdbcTemplate jdbcTemplate;
+	@Autowired EntityManagerFactory emf;
+	
+	@BeforeEach
+	private void init() {
+		memberRepository.save(Member.builder()
+									.username(USERNAME)
+									.password(passwordEncoder.encode(PASSWORD))
+									.name("Member1")
+									.nickName("NickName1")
+									.role(Role.USER)
+									.age(22)
+									.build());
+	}
+	
+	@AfterEach
+	private void after() {
+		loginStageTimersEndpoint.update(true);
+		jdbcTemplate.update("delete from MEMBER where username = ?", USERNAME);
+		emf.getCache().unwrap(Cache.class).evictAllRegions();
+	}
+	
+	private void login(String password) throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.post("/login")
+											  .contentType(MediaType.APPLICATION_JSON)
+											  .content("{\"username\":\"" + USERNAME + "\",\"password\":\"" + password + "\"}"))
+			   .andExpect(status().isOk());
+	}
+	
+	//stage 태그별 기록 횟수
+	private Map<LoginStage, Long> counts() {
+		return Arrays.stream(LoginStage.values())
+					 .collect(Collectors.toMap(stage -> stage,
+											   stage -> meterRegistry.get("login.stage").tag("stage", stage.getTag()).timer().count()));
+	}
+	
+	@Test
+	public void 로그인_단계별_시간을_기록() throws Exception {
+		//given
+		Map<LoginStage, Long> before = counts();
+		
+		//when
+		login(PASSWORD);
+		login("wrongPassword");
+		
+		//then
+		Map<LoginStage, Long> after = counts();
+		assertThat(after.get(LoginStage.PARSE) - before.get(LoginStage.PARSE)).isEqualTo(2);
+		assertThat(after.get(LoginStage.USER_LOOKUP) - before.get(LoginStage.USER_LOOKUP)).isEqualTo(2);
+		assertThat(after.get(LoginStage.PASSWORD) - before.get(LoginStage.PASSWORD)).isEqualTo(2);
+		assertThat(after.get(LoginStage.SUCCESS_HANDLER) - before.get(LoginStage.SUCCESS_HANDLER)).isEqualTo(1);
+		assertThat(after.get(LoginStage.FAILURE_HANDLER) - before.get(LoginStage.FAILURE_HANDLER)).isEqualTo(1);
+		
+		//application.yml의 백분위수 설정(0.5, 0.95, 0.99)이 적용됨
+		assertThat(meterRegistry.get("login.stage").tag("stage", "password").timer().takeSnapshot().percentileValues()).hasSize(3);
+	}
+	
+	@Test
+	public void 끄면_기록하지_않음() throws Exception {
+		//given
+		loginStageTimersEndpoint.update(false);
+		Map<LoginStage, Long> before = counts();
+		
+		//when
+		login(PASSWORD);
+		
+		//then
+		assertThat(counts()).isEqualTo(before);
+		assertThat(loginStageTimersEndpoint.status()).containsEntry("enabled", false);
+	}
+	
+	@Test
+	public void endpoint는_관리자만_사용() throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.get("/actuator/logintimers")).andExpect(status().isForbidden());
+	}
+}
@@ -0,0 +1,66 @@
+package spring.board.global.login.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class KeyedRateLimiterTest {
+	
+	private static long INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	public void capacity까지_허용후_거절() throws Exception {
+		//given
+		KeyedRateLimiter limiter = new KeyedRateLimiter(3, INTERVAL, 100);
+		long now = 0;
+
+		//when, then
+		assertThat(limiter.tryAcquire("key", now)).isZero();
+		assertThat(limiter.tryAcquire("key", now)).isZero();
+		assertThat(limiter.tryAcquire("key", now)).isZero();
+		assertThat(limiter.tryAcquire("key", now)).isEqualTo(INTERVAL);
+		assertThat(limiter.tryAcquire("other", now)).isZero();
+	}
+	
+	@Test
+	public void 시간이_지나면_다시_허용() throws Exception {
+		//given
+		KeyedRateLimiter limiter = new KeyedRateLimiter(1, INTERVAL, 100);
+		limiter.tryAcquire("key", 0);
+
+		//when, then
+		assertThat(limiter.tryAcquire("key", INTERVAL / 2)).isEqualTo(INTERVAL / 2);
+		assertThat(limiter.tryAcquire("key", INTERVAL)).isZero();
+	}
+	
+	@Test
+	public void 가득찬_bucket은_삭제() throws Exception {
+		//given
+		AtomicLong nanos = new AtomicLong();
+		KeyedRateLimiter limiter = new KeyedRateLimiter(5, INTERVAL, 100, nanos::get);
+		limiter.tryAcquire("key", 0);
+
+		//when
+		nanos.set(INTERVAL);
+		int beforeExpired = limiter.size();
+		nanos.set(INTERVAL * 5);
+
+		//then
+		assertThat(beforeExpired).isEqualTo(1);
+		assertThat(limiter.size()).isZero();
+	}
+	
+	@Test
+	public void 최대_key_수를_넘어도_새_key를_거절하지_않음() throws Exception {
+		//given
+		KeyedRateLimiter limiter = new KeyedRateLimiter(1, INTERVAL, 1);
+		limiter.tryAcquire("key", 0);
+
+		//when, then
+		assertThat(limiter.tryAcquire("other", 0)).isZero();
+		assertThat(limiter.size()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,39 @@
+package spring.board.global.login.ratelimit;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+@SpringBootTest(properties = {"login.rate-limit.username.capacity=2", "login.rate-limit.username.refill-interval=1h"})
+@AutoConfigureMockMvc
+class LoginRateLimitTest {
+	
+	@Autowired
+	MockMvc mockMvc;
+	
+	private ResultActions login(String username) throws Exception {
+		return mockMvc.perform(MockMvcRequestBuilders.post("/login")
+													 .contentType(MediaType.APPLICATION_JSON)
+													 .content("{\"username\":\"" + username + "\",\"password\":\"wrong\"}"));
+	}
+
+	@Test
+	public void 시도_횟수를_넘으면_429() throws Exception {
+		//given
+		login("limitedUser").andExpect(status().isOk());
+		login("limitedUser").andExpect(status().isOk());
+
+		//when, then
+		login("limitedUser").andExpect(status().isTooManyRequests())
+							.andExpect(header().exists("Retry-After"));
+		login("anotherUser").andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,55 @@
+package spring.board.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import spring.board.domain.member.repository.MemberRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MetricsTest {
+	
+	@Autowired MeterRegistry meterRegistry;
+	@Autowired MemberRepository memberRepository;
+	@Autowired MockMvc mockMvc;
+	
+	@Test
+	public void 커넥션풀_지표_등록() throws Exception {
+		//when
+		memberRepository.count();
+
+		//then
+		assertThat(meterRegistry.find("hikaricp.connections.active").gauge()).isNotNull();
+		assertThat(meterRegistry.find("hikaricp.connections.pending").gauge()).isNotNull();
+		assertThat(meterRegistry.find("hikaricp.connections.acquire").timer()).isNotNull();
+	}
+	
+	@Test
+	public void repository_메서드별_쿼리시간_기록() throws Exception {
+		//when
+		memberRepository.findByUsername("metricsUser");
+
+		//then
+		Timer timer = meterRegistry.find("spring.data.repository.invocations")
+								   .tag("repository", "MemberRepository")
+								   .tag("method", "findByUsername")
+								   .timer();
+		assertThat(timer).isNotNull();
+		assertThat(timer.count()).isPositive();
+	}
+	
+	@Test
+	public void health는_로그인없이_조회_나머지는_관리자만() throws Exception {
+		mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+		mockMvc.perform(get("/actuator/metrics")).andExpect(status().isForbidden());
+	}
+}
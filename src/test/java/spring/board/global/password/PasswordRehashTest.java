@@ -0,0 +1,114 @@
+package spring.board.global.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import spring.board.domain.member.Member;
+import spring.board.domain.member.Role;
+import spring.board.domain.member.repository.MemberRepository;
+
+@SpringBootTest(properties = "password.bcrypt.strength=5")
+class PasswordRehashTest {
+	
+	@Autowired AuthenticationManager authenticationManager;
+	@Autowired MemberRepository memberRepository;
+	@Autowired PasswordEncoder passwordEncoder;
+	@Autowired ApplicationContext applicationContext;
+	
+	private static String USERNAME = "rehashUser";
+	private static String PASSWORD = "123456789";
+	
+	@AfterEach
+	private void after() {
+		memberRepository.findByUsername(USERNAME).ifPresent(memberRepository::delete);
+	}
+	
+	@Test
+	public void cost가_다르면_upgradeEncoding() throws Exception {
+		//given
+		CostAwareBCryptPasswordEncoder encoder = new CostAwareBCryptPasswordEncoder(5);
+
+		//when, then
+		assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode(PASSWORD))).isTrue();
+		assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode(PASSWORD))).isTrue();
+		assertThat(encoder.upgradeEncoding(encoder.encode(PASSWORD))).isFalse();
+	}
+	
+	@Test
+	public void 로그인_성공시_다른_cost의_비밀번호를_다시_해시() throws Exception {
+		//given
+		memberRepository.save(Member.builder()
+									.username(USERNAME)
+									.password("{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD))
+									.name("Member1")
+									.nickName("NickName1")
+									.role(Role.USER)
+									.age(22)
+									.build());
+
+		//when
+		authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(USERNAME, PASSWORD));
+
+		//then
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		while (passwordEncoder.upgradeEncoding(findPassword()) && System.nanoTime() < deadline) {
+			Thread.sleep(50);
+		}
+		assertThat(findPassword()).startsWith("{bcrypt}$2a$05$");
+		assertThat(passwordEncoder.matches(PASSWORD, findPassword())).isTrue();
+	}
+	
+	@Test
+	public void 재해시_스레드_풀이_기본_TaskExecutor를_대신하지_않음() throws Exception {
+		//when, then : Executor 빈이 있으면 Spring Boot가 applicationTaskExecutor를 만들지 않고 MVC 비동기 요청이 SimpleAsyncTaskExecutor를 사용함
+		assertThat(applicationContext.getBeanNamesForType(Executor.class)).contains("applicationTaskExecutor");
+	}
+	
+	@Test
+	public void 동시_해시_개수를_넘으면_실패() throws Exception {
+		//given
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordEncoder slowEncoder = new BCryptPasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				started.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return super.encode(rawPassword);
+			}
+		};
+		BoundedPasswordEncoder boundedPasswordEncoder = new BoundedPasswordEncoder(slowEncoder, 1, Duration.ofMillis(50));
+		Thread holder = new Thread(() -> boundedPasswordEncoder.encode(PASSWORD));
+		holder.start();
+		started.await(5, TimeUnit.SECONDS);
+
+		//when, then
+		assertThrows(AuthenticationServiceException.class, () -> boundedPasswordEncoder.encode(PASSWORD));
+		release.countDown();
+		holder.join();
+	}
+	
+	private String findPassword() {
+		return memberRepository.findByUsername(USERNAME).orElseThrow().getPassword();
+	}
+}